@@ -1,23 +1,46 @@
 package tools.vitruv.applications.asemsysml.java.sysml2asem;
 
 import java.util.Collections;
+import java.util.Set;
 
+import org.eclipse.emf.ecore.EClass;
 import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EStructuralFeature;
+import org.eclipse.emf.ecore.resource.Resource;
 import org.eclipse.emf.ecore.util.EcoreUtil;
 
 import edu.kit.ipd.sdq.ASEM.base.Named;
 import tools.vitruv.applications.asemsysml.ASEMSysMLConstants;
 import tools.vitruv.applications.asemsysml.ASEMSysMLHelper;
+import tools.vitruv.applications.asemsysml.java.sysml2asem.global.TuidUpdateMode;
+import tools.vitruv.applications.asemsysml.java.sysml2asem.util.PersistenceBatch;
 import tools.vitruv.applications.asemsysml.java.sysml2asem.util.TransformationExecutionState;
+import tools.vitruv.applications.asemsysml.java.sysml2asem.util.TuidUpdateBatch;
+import tools.vitruv.applications.asemsysml.logging.TransformationEvent;
+import tools.vitruv.applications.asemsysml.logging.TransformationEventLog;
+import tools.vitruv.applications.asemsysml.metrics.TransformationMetrics;
+import tools.vitruv.applications.asemsysml.metrics.TransformationMetricsRegistry;
+import tools.vitruv.applications.asemsysml.metrics.TransformationTimer;
 import tools.vitruv.framework.change.echange.EChange;
 import tools.vitruv.framework.correspondence.CorrespondenceModel;
-import tools.vitruv.framework.tuid.TuidManager;
 import tools.vitruv.framework.userinteraction.UserInteracting;
 import tools.vitruv.framework.util.command.ChangePropagationResult;
 import tools.vitruv.framework.util.datatypes.VURI;
 
 /**
- * Abstract class for the java transformation implementations.
+ * Abstract class for the java transformation implementations. <br>
+ * <br>
+ * 
+ * The transformations do not store any state of a transformation execution. The state is created
+ * for each {@link #applyChange(EChange, CorrespondenceModel, PersistenceBatch, TuidUpdateBatch) application} of a
+ * change and passed to the executing methods, so that a transformation instance can be used by
+ * the change propagations of several virtual models. <br>
+ * <br>
+ * 
+ * Each application of a change, each change which is rejected by the preconditions and each
+ * element which is registered for persistence is recorded in the {@link TransformationMetrics} of
+ * the transformation class. The steps of a transformation are reported as events to the
+ * {@link TransformationEventLog} under the same name.
  * 
  * @author Benjamin Rupp
  * 
@@ -27,32 +50,40 @@ import tools.vitruv.framework.util.datatypes.VURI;
  */
 public abstract class AbstractTransformationRealization<T extends EChange> implements JavaTransformationRealization {
 
+    /** The transformation direction which is part of the metrics names. */
+    private static final String METRICS_DIRECTION = "sysml2asem.";
+
     protected final UserInteracting userInteracting;
-    protected TransformationExecutionState executionState;
+
+    private final TransformationMetrics metrics;
 
     public AbstractTransformationRealization(final UserInteracting userInteracting) {
         this.userInteracting = userInteracting;
+        this.metrics = TransformationMetricsRegistry
+                .getMetrics(TransformationMetricsRegistry.JAVA_PREFIX + METRICS_DIRECTION + getClass().getSimpleName());
     }
 
     /**
-     * Execute the transformation for the given change. Use the {@link #executionState} variable to
-     * store the transformation result. This information will be used in the
-     * {@link #applyChange(EChange, CorrespondenceModel)} method. <br>
+     * Execute the transformation for the given change. Use the given execution state to store the
+     * transformation result. This information will be used in the
+     * {@link #applyChange(EChange, CorrespondenceModel, PersistenceBatch, TuidUpdateBatch)} method. <br>
      * <br>
      * 
      * Here is an usage example: <br>
      * <code>
-     * this.executionState.getTransformationResult().addRootEObjectToSave(eObjectToSave, eObjectVURI);
-     * this.executionState.getTransformationResult().addVuriToDeleteIfNotNull(oldVURI);
+     * executionState.getTransformationResult().addRootEObjectToSave(eObjectToSave, eObjectVURI);
+     * executionState.getTransformationResult().addVuriToDeleteIfNotNull(oldVURI);
      * </code>
      * 
      * @param change
      *            The change which have to be applied.
+     * @param executionState
+     *            The state of this transformation execution.
      * 
      * @see TransformationExecutionState
      * @see ChangePropagationResult
      */
-    protected abstract void executeTransformation(final T change);
+    protected abstract void executeTransformation(final T change, final TransformationExecutionState executionState);
 
     /**
      * Check if the java transformation fulfills the preconditions for the given change. This method
@@ -65,6 +96,30 @@ public abstract class AbstractTransformationRealization<T extends EChange> imple
      */
     protected abstract boolean checkPreconditions(final T change);
 
+    /**
+     * {@inheritDoc} <br>
+     * <br>
+     * 
+     * Override this method to restrict the transformation to changes of specific features. By
+     * default the transformation listens to changes of all features.
+     */
+    @Override
+    public Set<EStructuralFeature> getExpectedFeatures() {
+        return Collections.emptySet();
+    }
+
+    /**
+     * {@inheritDoc} <br>
+     * <br>
+     * 
+     * Override this method to restrict the transformation to changes of specific objects. By
+     * default the transformation listens to changes of all objects.
+     */
+    @Override
+    public Set<EClass> getExpectedAffectedEClasses() {
+        return Collections.emptySet();
+    }
+
     @Override
     public boolean doesHandleChange(final EChange change) {
 
@@ -74,7 +129,13 @@ public abstract class AbstractTransformationRealization<T extends EChange> imple
 
         @SuppressWarnings("unchecked")
         T typedChange = (T) change;
-        return checkPreconditions(typedChange);
+        final boolean preconditionsFulfilled = checkPreconditions(typedChange);
+
+        if (!preconditionsFulfilled) {
+            this.metrics.recordPreconditionRejection();
+        }
+
+        return preconditionsFulfilled;
     }
 
     private boolean isValidChangeType(final Class<? extends EChange> changeType) {
@@ -82,23 +143,33 @@ public abstract class AbstractTransformationRealization<T extends EChange> imple
     }
 
     @Override
-    public ChangePropagationResult applyChange(EChange change, CorrespondenceModel correspondenceModel) {
+    public ChangePropagationResult applyChange(EChange change, CorrespondenceModel correspondenceModel,
+            PersistenceBatch persistenceBatch, TuidUpdateBatch tuidUpdateBatch) {
 
-        this.executionState = new TransformationExecutionState(userInteracting, correspondenceModel,
-                new ChangePropagationResult());
+        final TuidUpdateBatch executionTuidUpdateBatch = (tuidUpdateBatch != null) ? tuidUpdateBatch
+                : new TuidUpdateBatch(TuidUpdateMode.IMMEDIATE);
+        final TransformationExecutionState executionState = new TransformationExecutionState(userInteracting,
+                correspondenceModel, new ChangePropagationResult(), persistenceBatch, executionTuidUpdateBatch);
 
-        if (doesHandleChange(change)) {
+        // The preconditions were already checked by the caller (see doesHandleChange(EChange)).
+        if (isValidChangeType(change.getClass())) {
+            final TransformationTimer timer = this.metrics.startExecution();
+            boolean successful = false;
             try {
                 @SuppressWarnings("unchecked")
                 T typedChange = (T) change;
-                executeTransformation(typedChange);
+                executeTransformation(typedChange, executionState);
+                successful = true;
+                timer.succeeded();
             } finally {
+                timer.stop();
+
                 /*
                  * The transformation was completely executed, so remove all objects registered for
                  * modification as they are no longer under modification even if there was an
-                 * exception!
+                 * exception! In per batch mode this is done at the end of the batch.
                  */
-                TuidManager.getInstance().flushRegisteredObjectsUnderModification();
+                executionTuidUpdateBatch.transformationFinished(successful);
             }
 
         }
@@ -107,8 +178,19 @@ public abstract class AbstractTransformationRealization<T extends EChange> imple
     }
 
     /**
-     * Persist an ASEM element.
+     * Persist an ASEM element. <br>
+     * <br>
+     * 
+     * If the transformation is executed as part of a batch, the root element of the ASEM element is
+     * registered for persistence only once at the end of the batch. <br>
+     * <br>
+     * 
+     * The modifications of each ASEM model resource are tracked after it was persisted the first
+     * time. If the root element is still contained in the resource it shall be persisted in and the
+     * resource was not modified since it was saved the last time, the request is skipped.
      * 
+     * @param executionState
+     *            The state of the current transformation execution.
      * @param alreadyPersistedObject
      *            An object that already exists. This is needed to get the correct URI (test project
      *            name, etc.).
@@ -118,36 +200,105 @@ public abstract class AbstractTransformationRealization<T extends EChange> imple
      *            The project model path which starts with
      *            {@link ASEMSysMLConstants#MODEL_DIR_NAME}.
      */
-    protected void persistASEMElement(final EObject alreadyPersistedObject, final Named element,
-            final String asemProjectModelPath) {
+    protected void persistASEMElement(final TransformationExecutionState executionState,
+            final EObject alreadyPersistedObject, final Named element, final String asemProjectModelPath) {
 
         // The element has to be the root element of the resource. Therefore check if this is true.
         final EObject rootElement = EcoreUtil.getRootContainer(element);
 
         VURI asemElementVURI = ASEMSysMLHelper.getModelVURI(alreadyPersistedObject, asemProjectModelPath);
 
+        final Resource currentResource = rootElement.eResource();
+        final boolean persistedInSameResource = (currentResource != null
+                && currentResource.getURI().equals(asemElementVURI.getEMFUri()));
+
+        if (persistedInSameResource && currentResource.isTrackingModification() && !currentResource.isModified()) {
+            // The model file already contains the current state of the element.
+            this.metrics.recordSkippedPersistence();
+            return;
+        }
+
+        this.metrics.recordPersistedElement();
+
+        if (currentResource != null && !currentResource.isTrackingModification()) {
+            // Tracking starts unmodified. The resource is saved with the current request anyway.
+            currentResource.setTrackingModification(true);
+        }
+
         EcoreUtil.remove(rootElement);
 
-        executionState.getTransformationResult().registerForEstablishPersistence(rootElement, asemElementVURI);
+        if (executionState.isBatchExecution()) {
+            executionState.getPersistenceBatch().registerForEstablishPersistence(rootElement, asemElementVURI);
+        } else {
+            executionState.getTransformationResult().registerForEstablishPersistence(rootElement, asemElementVURI);
+        }
 
     }
 
+    /**
+     * Log an event of this transformation.
+     * 
+     * @param event
+     *            The event type.
+     * @param subject
+     *            The subject of the event, e.g. the name of the changed element.
+     * 
+     * @see TransformationEventLog#log(String, TransformationEvent, Object)
+     */
+    protected void logEvent(final TransformationEvent event, final Object subject) {
+        TransformationEventLog.log(this.metrics.getTransformationName(), event, subject);
+    }
+
+    /**
+     * Log an event of this transformation.
+     * 
+     * @param event
+     *            The event type.
+     * @param subject
+     *            The subject of the event, e.g. the name of the changed element.
+     * @param detail
+     *            The detail of the event.
+     * 
+     * @see TransformationEventLog#log(String, TransformationEvent, Object, Object)
+     */
+    protected void logEvent(final TransformationEvent event, final Object subject, final Object detail) {
+        TransformationEventLog.log(this.metrics.getTransformationName(), event, subject, detail);
+    }
+
     /**
      * Add correspondence between a SysML and an ASEM element.
      * 
+     * @param executionState
+     *            The state of the current transformation execution.
      * @param sysmlElement
      *            The SysML element which corresponds to the ASEM element.
      * @param asemElement
      *            The ASEM element which corresponds to the SysML element.
      */
-    protected void addCorrespondence(final EObject sysmlElement, final Named asemElement) {
+    protected void addCorrespondence(final TransformationExecutionState executionState, final EObject sysmlElement,
+            final Named asemElement) {
 
-        TuidManager.getInstance().registerObjectUnderModification(sysmlElement);
-        TuidManager.getInstance().registerObjectUnderModification(asemElement);
+        registerObjectUnderModification(executionState, sysmlElement);
+        registerObjectUnderModification(executionState, asemElement);
 
-        executionState.getCorrespondenceModel().createAndAddCorrespondence(Collections.singletonList(sysmlElement),
-                Collections.singletonList(asemElement));
+        ASEMSysMLHelper.addCorrespondence(executionState.getCorrespondenceModel(), sysmlElement, asemElement);
 
-        TuidManager.getInstance().updateTuidsOfRegisteredObjects();
+        executionState.getTuidUpdateBatch().objectsModified();
+    }
+
+    /**
+     * Register an object which is going to be modified by the transformation, so that its TUID can
+     * be updated afterwards.
+     * 
+     * @param executionState
+     *            The state of the current transformation execution.
+     * @param objectUnderModification
+     *            The object which is going to be modified.
+     * 
+     * @see TuidUpdateBatch
+     */
+    protected void registerObjectUnderModification(final TransformationExecutionState executionState,
+            final EObject objectUnderModification) {
+        executionState.getTuidUpdateBatch().registerObjectUnderModification(objectUnderModification);
     }
 }
@@ -1,5 +1,12 @@
 package tools.vitruv.applications.asemsysml.java.sysml2asem;
 
+import java.util.Set;
+
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EStructuralFeature;
+
+import tools.vitruv.applications.asemsysml.java.sysml2asem.util.PersistenceBatch;
+import tools.vitruv.applications.asemsysml.java.sysml2asem.util.TuidUpdateBatch;
 import tools.vitruv.framework.change.echange.EChange;
 import tools.vitruv.framework.correspondence.CorrespondenceModel;
 import tools.vitruv.framework.util.command.ChangePropagationResult;
@@ -24,6 +31,36 @@ public interface JavaTransformationRealization {
      */
     public abstract Class<? extends EChange> getExpectedChangeType();
 
+    /**
+     * Get the features to which the transformation listens to. <br>
+     * <br>
+     * 
+     * The features are used to route feature changes to the transformation. If a set of features
+     * is returned, the transformation will only be asked to handle changes of one of these
+     * features.
+     * 
+     * @return The expected features or an empty set if the transformation listens to changes of
+     *         all features.
+     * 
+     * @see EStructuralFeature
+     */
+    public abstract Set<EStructuralFeature> getExpectedFeatures();
+
+    /**
+     * Get the classes of the affected objects to which the transformation listens to. <br>
+     * <br>
+     * 
+     * The classes are used to route feature changes to the transformation. If a set of classes is
+     * returned, the transformation will only be asked to handle changes whose affected object is
+     * an instance of one of these classes.
+     * 
+     * @return The expected classes of the affected objects or an empty set if the transformation
+     *         listens to changes of all objects.
+     * 
+     * @see EClass
+     */
+    public abstract Set<EClass> getExpectedAffectedEClasses();
+
     /**
      * Check if the transformation handles the given change.
      * 
@@ -35,15 +72,28 @@ public interface JavaTransformationRealization {
     public boolean doesHandleChange(final EChange change);
 
     /**
-     * Apply a change to the java transformation to get a change propagation result.
+     * Apply a change to the java transformation as part of a batch. The elements which have to be
+     * persisted are collected in the given persistence batch and the objects under modification are
+     * registered in the given TUID update batch, which decides when their TUIDs are updated. <br>
+     * <br>
+     * 
+     * The preconditions of the transformation are not checked again. Therefore only apply changes
+     * for which {@link #doesHandleChange(EChange)} returned <code>true</code>.
      * 
      * @param change
      *            Change which has to be applied.
      * @param correspondenceModel
      *            The given correspondence model.
+     * @param persistenceBatch
+     *            The batch in which the elements to persist are collected or <code>null</code> if
+     *            the elements shall be registered in the returned change propagation result.
+     * @param tuidUpdateBatch
+     *            The batch which updates the TUIDs of the modified objects or <code>null</code> to
+     *            update them immediately.
      * @return The change propagation result of the java transformation.
      */
     public abstract ChangePropagationResult applyChange(final EChange change,
-            final CorrespondenceModel correspondenceModel);
+            final CorrespondenceModel correspondenceModel, final PersistenceBatch persistenceBatch,
+            final TuidUpdateBatch tuidUpdateBatch);
 
 }
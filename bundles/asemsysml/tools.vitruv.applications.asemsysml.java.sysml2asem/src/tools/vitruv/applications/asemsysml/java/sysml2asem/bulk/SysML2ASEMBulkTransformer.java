@@ -0,0 +1,531 @@
+package tools.vitruv.applications.asemsysml.java.sysml2asem.bulk;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.apache.log4j.Logger;
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.papyrus.sysml14.blocks.Block;
+import org.eclipse.papyrus.sysml14.portsandflows.FlowDirection;
+import org.eclipse.papyrus.sysml14.portsandflows.FlowProperty;
+import org.eclipse.uml2.uml.Element;
+import org.eclipse.uml2.uml.Model;
+import org.eclipse.uml2.uml.Package;
+import org.eclipse.uml2.uml.PackageableElement;
+import org.eclipse.uml2.uml.Port;
+import org.eclipse.uml2.uml.Property;
+import org.eclipse.uml2.uml.Type;
+
+import edu.kit.ipd.sdq.ASEM.classifiers.Classifier;
+import edu.kit.ipd.sdq.ASEM.classifiers.Component;
+import edu.kit.ipd.sdq.ASEM.classifiers.Module;
+import edu.kit.ipd.sdq.ASEM.dataexchange.Constant;
+import edu.kit.ipd.sdq.ASEM.dataexchange.Message;
+import edu.kit.ipd.sdq.ASEM.dataexchange.Method;
+import edu.kit.ipd.sdq.ASEM.dataexchange.Parameter;
+import edu.kit.ipd.sdq.ASEM.dataexchange.ReturnType;
+import edu.kit.ipd.sdq.ASEM.dataexchange.Variable;
+import edu.kit.ipd.sdq.ASEM.primitivetypes.PrimitiveTypeRepository;
+import tools.vitruv.applications.asemsysml.ASEMSysMLCorrespondenceIndex;
+import tools.vitruv.applications.asemsysml.ASEMSysMLHelper;
+import tools.vitruv.applications.asemsysml.ASEMSysMLPrimitiveTypeHelper;
+import tools.vitruv.applications.asemsysml.ASEMSysMLProjectInitializer;
+import tools.vitruv.applications.asemsysml.ASEMSysMLUserInteractionHelper;
+import tools.vitruv.applications.asemsysml.java.sysml2asem.util.ASEMElementFactory;
+import tools.vitruv.framework.correspondence.CorrespondenceModel;
+
+/**
+ * Transforms a whole SysML model to ASEM models in one pass. <br>
+ * <br>
+ * 
+ * The java transformations map a SysML model change by change, which includes a user interaction
+ * for each block. To import an existing SysML model, the bulk transformer walks the model once
+ * instead and creates the ASEM components of all encapsulated blocks, the messages, methods,
+ * parameters, return types, variables and constants of their ports and properties and the
+ * correspondences between the SysML and the ASEM elements. The elements are created by the
+ * {@link ASEMElementFactory} and selected by the preconditions of the java transformations, so
+ * they are mapped in the same way as by the java transformations. The decisions of the user are
+ * made by a {@link SysML2ASEMDecisionPolicy}. <br>
+ * <br>
+ * 
+ * All components and their features are created in memory first, so the ports and parts can be
+ * typed by components of the same transformation. Afterwards each ASEM model is created and
+ * synchronized once through the virtual model by a {@link ASEMSysMLProjectInitializer.ModelCreator
+ * model creator}. The correspondences of a model are added as soon as its component is contained
+ * in its resource and are persisted by the virtual model with the next synchronization. Blocks
+ * which already correspond to an ASEM component are skipped, so a model can be transformed again
+ * after new blocks were added.
+ * 
+ * @author Benjamin Rupp
+ * 
+ */
+public final class SysML2ASEMBulkTransformer {
+
+    private static Logger logger = Logger.getLogger(SysML2ASEMBulkTransformer.class);
+
+    private final CorrespondenceModel correspondenceModel;
+    private final SysML2ASEMDecisionPolicy decisionPolicy;
+    private final ASEMSysMLProjectInitializer.ModelCreator modelCreator;
+
+    /**
+     * Create a new bulk transformer.
+     * 
+     * @param correspondenceModel
+     *            The correspondence model of the virtual model.
+     * @param decisionPolicy
+     *            The policy which makes the decisions of the transformation.
+     * @param modelCreator
+     *            Creates and saves the ASEM models through the virtual model.
+     */
+    public SysML2ASEMBulkTransformer(final CorrespondenceModel correspondenceModel,
+            final SysML2ASEMDecisionPolicy decisionPolicy,
+            final ASEMSysMLProjectInitializer.ModelCreator modelCreator) {
+
+        if (correspondenceModel == null || decisionPolicy == null || modelCreator == null) {
+            throw new IllegalArgumentException(
+                    "Correspondence model, decision policy and model creator must not be null.");
+        }
+
+        this.correspondenceModel = correspondenceModel;
+        this.decisionPolicy = decisionPolicy;
+        this.modelCreator = modelCreator;
+    }
+
+    /**
+     * The result of a {@link SysML2ASEMBulkTransformer bulk transformation}.
+     * 
+     * @author Benjamin Rupp
+     * 
+     */
+    public static final class Result {
+
+        private final List<Component> createdComponents;
+        private final int numberOfCreatedElements;
+        private final int numberOfSkippedBlocks;
+
+        private Result(final List<Component> createdComponents, final int numberOfCreatedElements,
+                final int numberOfSkippedBlocks) {
+            this.createdComponents = Collections.unmodifiableList(createdComponents);
+            this.numberOfCreatedElements = numberOfCreatedElements;
+            this.numberOfSkippedBlocks = numberOfSkippedBlocks;
+        }
+
+        /**
+         * @return The ASEM components which were created for the blocks of the SysML model.
+         */
+        public List<Component> getCreatedComponents() {
+            return this.createdComponents;
+        }
+
+        /**
+         * @return The number of ASEM elements which correspond to a SysML element, including the
+         *         components.
+         */
+        public int getNumberOfCreatedElements() {
+            return this.numberOfCreatedElements;
+        }
+
+        /**
+         * @return The number of blocks which already corresponded to an ASEM component or which
+         *         were not mapped according to the decision policy.
+         */
+        public int getNumberOfSkippedBlocks() {
+            return this.numberOfSkippedBlocks;
+        }
+    }
+
+    /**
+     * Transform the given SysML model to ASEM models.
+     * 
+     * @param sysmlModel
+     *            The SysML model. It must be contained in the resource set of the correspondence
+     *            model.
+     * @return The result of the transformation.
+     */
+    public Result transform(final Model sysmlModel) {
+
+        if (sysmlModel == null) {
+            throw new IllegalArgumentException("SysML model must not be null.");
+        }
+
+        final ResourceSet resourceSet = this.correspondenceModel.getResource().getResourceSet();
+
+        if (sysmlModel.eResource() == null || sysmlModel.eResource().getResourceSet() != resourceSet) {
+            throw new IllegalArgumentException(
+                    "The SysML model must be contained in the resource set of the correspondence model.");
+        }
+
+        final long start = System.nanoTime();
+        final BulkTransformation transformation = new BulkTransformation(sysmlModel, resourceSet);
+
+        ASEMSysMLCorrespondenceIndex.activate(this.correspondenceModel);
+
+        try {
+            transformation.transformPrimitiveTypes();
+            transformation.transformBlocks();
+        } finally {
+            ASEMSysMLCorrespondenceIndex.deactivate(this.correspondenceModel);
+        }
+
+        final Result result = new Result(transformation.createdComponents, transformation.numberOfCreatedElements,
+                transformation.numberOfSkippedBlocks);
+
+        logger.debug("[ASEMSysML] Transformed " + result.getCreatedComponents().size() + " blocks with "
+                + result.getNumberOfCreatedElements() + " elements in " + ((System.nanoTime() - start) / 1000000)
+                + " ms.");
+
+        return result;
+    }
+
+    /**
+     * The state of a single bulk transformation.
+     */
+    private final class BulkTransformation {
+
+        private final Model sysmlModel;
+        private final ResourceSet resourceSet;
+        private final Map<Block, Component> createdBlockComponents;
+        private final Map<Component, List<PendingCorrespondence>> pendingCorrespondences;
+        private final Set<String> projectModelPaths;
+        private final List<Component> createdComponents;
+        private int numberOfCreatedElements;
+        private int numberOfSkippedBlocks;
+
+        private BulkTransformation(final Model sysmlModel, final ResourceSet resourceSet) {
+            this.sysmlModel = sysmlModel;
+            this.resourceSet = resourceSet;
+            this.createdBlockComponents = new LinkedHashMap<Block, Component>();
+            this.pendingCorrespondences = new LinkedHashMap<Component, List<PendingCorrespondence>>();
+            this.projectModelPaths = new HashSet<String>();
+            this.createdComponents = new ArrayList<Component>();
+            this.numberOfCreatedElements = 0;
+            this.numberOfSkippedBlocks = 0;
+        }
+
+        /**
+         * Create the ASEM primitive type repository, if it does not exist yet.
+         */
+        private void transformPrimitiveTypes() {
+
+            if (!ASEMSysMLPrimitiveTypeHelper.claimPrimitiveTypeModelInitialization(this.sysmlModel)) {
+                return;
+            }
+
+            try {
+
+                final String projectModelPath = ASEMSysMLPrimitiveTypeHelper.getPrimitiveTypeProjectModelPath();
+                final PrimitiveTypeRepository repository = ASEMSysMLPrimitiveTypeHelper
+                        .createPrimitiveTypeRepository();
+
+                this.checkModelDoesNotExist(projectModelPath);
+                modelCreator.createAndSynchronizeModel(projectModelPath, repository);
+
+            } catch (RuntimeException e) {
+                // Enable a new initialization attempt.
+                ASEMSysMLPrimitiveTypeHelper.resetRepoInitializationFlag(this.resourceSet);
+                throw e;
+            }
+        }
+
+        private void transformBlocks() {
+
+            final List<Block> blocks = new ArrayList<Block>();
+            collectBlocks(this.sysmlModel, blocks);
+
+            // All components have to exist before the ports and parts can be typed by them.
+            for (Block block : blocks) {
+                this.transformBlock(block);
+            }
+
+            for (Map.Entry<Block, Component> blockComponent : this.createdBlockComponents.entrySet()) {
+                this.transformBlockFeatures(blockComponent.getKey(), blockComponent.getValue());
+            }
+
+            for (Map.Entry<Block, Component> blockComponent : this.createdBlockComponents.entrySet()) {
+
+                final Component component = blockComponent.getValue();
+                final String blockName = blockComponent.getKey().getBase_Class().getName();
+
+                modelCreator.createAndSynchronizeModel(ASEMSysMLHelper.getASEMProjectModelPath(blockName), component);
+
+                // The elements have to be contained in their resource to get their TUIDs.
+                for (PendingCorrespondence correspondence : this.pendingCorrespondences.get(component)) {
+                    ASEMSysMLHelper.addCorrespondence(correspondenceModel, correspondence.sysmlElement,
+                            correspondence.asemElement);
+                    this.numberOfCreatedElements++;
+                }
+            }
+        }
+
+        private void transformBlock(final Block block) {
+
+            if (ASEMSysMLHelper.getFirstCorrespondingASEMElement(correspondenceModel, block,
+                    Component.class) != null) {
+                // The block is kept consistent by the change propagation.
+                this.numberOfSkippedBlocks++;
+                return;
+            }
+
+            final Class<? extends Component> componentType = decisionPolicy.selectComponentType(block);
+
+            if (componentType == null) {
+                this.numberOfSkippedBlocks++;
+                return;
+            }
+
+            final String blockName = block.getBase_Class().getName();
+            final Component component = ASEMElementFactory.createComponent(componentType, blockName);
+
+            if (component == null) {
+                throw new IllegalArgumentException("Unhandled ASEM component type " + componentType.getName()
+                        + " for the SysML block " + blockName);
+            }
+
+            final String projectModelPath = ASEMSysMLHelper.getASEMProjectModelPath(blockName);
+
+            this.checkModelDoesNotExist(projectModelPath);
+
+            if (!this.projectModelPaths.add(projectModelPath)) {
+                throw new IllegalArgumentException("The model " + projectModelPath
+                        + " is created for more than one block.");
+            }
+
+            this.createdBlockComponents.put(block, component);
+            this.pendingCorrespondences.put(component, new ArrayList<PendingCorrespondence>());
+            this.createdComponents.add(component);
+
+            this.addCorrespondence(block, component, component);
+        }
+
+        private void transformBlockFeatures(final Block block, final Component component) {
+
+            for (Property property : block.getBase_Class().getOwnedAttributes()) {
+
+                if (property.getName() == null) {
+                    // The java transformations map the elements as soon as their name is set.
+                    continue;
+                }
+
+                if (property instanceof Port) {
+                    this.transformPort((Port) property, component);
+                    continue;
+                }
+
+                // The preconditions of the part and the property transformation are independent.
+                if (ASEMSysMLHelper.isPartProperty(property)) {
+                    this.transformPart(property, component);
+                }
+                if (!ASEMSysMLHelper.isPartReference(property)) {
+                    this.transformProperty(property, component);
+                }
+            }
+        }
+
+        private void transformPort(final Port port, final Component component) {
+
+            final FlowProperty flowProperty = ASEMSysMLHelper.getFlowProperty(port);
+            final FlowDirection direction = (flowProperty != null) ? flowProperty.getDirection() : null;
+            Classifier type = this.getCreatedComponent(port.getType());
+
+            if (type == null) {
+                type = ASEMSysMLHelper.getClassifierForASEMVariable(port.getType(), correspondenceModel);
+            }
+
+            if (component instanceof Module) {
+
+                final Message message = ASEMElementFactory.createMessage(port.getName());
+                ASEMElementFactory.setMessageAccess(message, direction);
+                message.setType(type);
+
+                component.getTypedElements().add(message);
+                this.addCorrespondence(component, port, message);
+
+            } else if (direction == FlowDirection.IN || direction == FlowDirection.OUT) {
+
+                final Method method = this.getMethod(port, (edu.kit.ipd.sdq.ASEM.classifiers.Class) component,
+                        direction);
+
+                if (direction == FlowDirection.IN) {
+
+                    final Parameter parameter = ASEMElementFactory.createParameter(port.getName(), type);
+                    method.getParameters().add(parameter);
+
+                    this.addCorrespondence(component, port, parameter);
+
+                } else {
+
+                    final ReturnType returnType = ASEMElementFactory.createReturnType(port.getName(), type);
+                    method.setReturnType(returnType);
+
+                    this.addCorrespondence(component, port, returnType);
+                }
+
+            } else if (direction == FlowDirection.INOUT) {
+                logger.warn("[ASEMSysML] INOUT ports are not mapped to ASEM classes, port " + port.getName()
+                        + " is skipped.");
+            }
+        }
+
+        private Method getMethod(final Port port, final edu.kit.ipd.sdq.ASEM.classifiers.Class asemClass,
+                final FlowDirection direction) {
+
+            final List<Method> availableMethods = new ArrayList<Method>(asemClass.getMethods().size());
+
+            for (Method method : asemClass.getMethods()) {
+                if (direction != FlowDirection.OUT || method.getReturnType() == null) {
+                    availableMethods.add(method);
+                }
+            }
+
+            if (!availableMethods.isEmpty()) {
+
+                final Method selectedMethod = decisionPolicy.selectMethod(port,
+                        Collections.unmodifiableList(availableMethods));
+
+                if (selectedMethod != null) {
+
+                    if (!availableMethods.contains(selectedMethod)) {
+                        throw new IllegalArgumentException("The selected method " + selectedMethod.getName()
+                                + " is not available for the port " + port.getName());
+                    }
+
+                    return selectedMethod;
+                }
+            }
+
+            final Method method = ASEMElementFactory.createMethod(decisionPolicy.getMethodName(port));
+            asemClass.getMethods().add(method);
+
+            return method;
+        }
+
+        private void transformPart(final Property partProperty, final Component component) {
+
+            final Block partBlock = ASEMSysMLHelper.getStereotypeApplication(partProperty.getType(), Block.class);
+            Component partComponent = this.getCreatedComponent(partProperty.getType());
+
+            if (partComponent == null) {
+                partComponent = ASEMSysMLHelper.getFirstCorrespondingASEMElement(correspondenceModel, partBlock,
+                        Component.class);
+            }
+
+            if (partComponent == null) {
+                logger.warn("[ASEMSysML] No ASEM component corresponds to the type of the part "
+                        + partProperty.getName() + ", the part is skipped.");
+                return;
+            }
+
+            // ASEM modules cannot be used as subcomponents in ASEM components.
+            if (partComponent instanceof Module) {
+                logger.warn("[ASEMSysML] " + ASEMSysMLUserInteractionHelper.MSG_WARN_MODULE_AS_SUBCOMPONENT);
+                return;
+            }
+
+            final Constant constant = ASEMElementFactory.createConstant(partProperty.getName(), partComponent);
+
+            component.getTypedElements().add(constant);
+            this.addCorrespondence(component, partProperty, constant);
+        }
+
+        private void transformProperty(final Property property, final Component component) {
+
+            final Variable variable = ASEMElementFactory.createVariable(property.getName());
+
+            if (property.getType() != null) {
+
+                Classifier type = this.getCreatedComponent(property.getType());
+
+                if (type == null) {
+                    type = ASEMSysMLHelper.getFirstCorrespondingASEMElement(correspondenceModel, property.getType(),
+                            Classifier.class);
+                }
+
+                variable.setType(type);
+            }
+
+            // The java transformations only set the access if the property is changed to read only.
+            if (property.isReadOnly()) {
+                ASEMElementFactory.setVariableAccess(variable, true);
+            }
+
+            component.getTypedElements().add(variable);
+            this.addCorrespondence(component, property, variable);
+        }
+
+        /**
+         * Get the component which is created by this transformation for the block of the given
+         * type.
+         * 
+         * @return The created component or <code>null</code> if the type is no block or its
+         *         component was not created by this transformation.
+         */
+        private Component getCreatedComponent(final Type type) {
+
+            if (!(type instanceof org.eclipse.uml2.uml.Class)) {
+                return null;
+            }
+
+            final Block block = ASEMSysMLHelper.getStereotypeApplication(type, Block.class);
+
+            return (block != null) ? this.createdBlockComponents.get(block) : null;
+        }
+
+        private void addCorrespondence(final Component component, final Element sysmlElement,
+                final EObject asemElement) {
+
+            // The correspondence is added after the model of the component was created.
+            this.pendingCorrespondences.get(component).add(new PendingCorrespondence(sysmlElement, asemElement));
+        }
+
+        private void checkModelDoesNotExist(final String projectModelPath) {
+
+            final URI uri = ASEMSysMLHelper.getModelVURI(this.sysmlModel, projectModelPath).getEMFUri();
+            final Resource existingResource = this.resourceSet.getResource(uri, false);
+
+            if (existingResource != null && !existingResource.getContents().isEmpty()) {
+                throw new IllegalArgumentException("The model " + uri + " already exists.");
+            }
+        }
+    }
+
+    /**
+     * A correspondence between a SysML and an ASEM element which is added after the ASEM model
+     * was created.
+     */
+    private static final class PendingCorrespondence {
+
+        private final Element sysmlElement;
+        private final EObject asemElement;
+
+        private PendingCorrespondence(final Element sysmlElement, final EObject asemElement) {
+            this.sysmlElement = sysmlElement;
+            this.asemElement = asemElement;
+        }
+    }
+
+    private static void collectBlocks(final Package sysmlPackage, final List<Block> blocks) {
+
+        for (PackageableElement element : sysmlPackage.getPackagedElements()) {
+
+            if (element instanceof Package) {
+                collectBlocks((Package) element, blocks);
+            } else if (element instanceof org.eclipse.uml2.uml.Class && ASEMSysMLHelper.isBlock(element)) {
+
+                final Block block = ASEMSysMLHelper.getStereotypeApplication(element, Block.class);
+
+                // The java transformations map a block as soon as it is encapsulated.
+                if (block.isEncapsulated()) {
+                    blocks.add(block);
+                }
+            }
+        }
+    }
+}
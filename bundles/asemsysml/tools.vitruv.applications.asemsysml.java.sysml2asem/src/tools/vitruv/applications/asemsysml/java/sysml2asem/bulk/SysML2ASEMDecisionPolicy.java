@@ -0,0 +1,58 @@
+package tools.vitruv.applications.asemsysml.java.sysml2asem.bulk;
+
+import java.util.List;
+
+import org.eclipse.papyrus.sysml14.blocks.Block;
+import org.eclipse.uml2.uml.Port;
+
+import edu.kit.ipd.sdq.ASEM.classifiers.Component;
+import edu.kit.ipd.sdq.ASEM.dataexchange.Method;
+
+/**
+ * The decisions of a {@link SysML2ASEMBulkTransformer bulk transformation}. <br>
+ * <br>
+ * 
+ * During the change propagation these decisions are made by the user (see
+ * {@link tools.vitruv.applications.asemsysml.ASEMSysMLUserInteractionHelper
+ * ASEMSysMLUserInteractionHelper}). A bulk transformation is not interactive, so the decisions are
+ * made by a policy instead.
+ * 
+ * @author Benjamin Rupp
+ * 
+ * @see SysML2ASEMDefaultDecisionPolicy
+ */
+public interface SysML2ASEMDecisionPolicy {
+
+    /**
+     * Select the type of the ASEM component a SysML block is mapped to.
+     * 
+     * @param block
+     *            The SysML block.
+     * @return The ASEM component type, i.e. {@link edu.kit.ipd.sdq.ASEM.classifiers.Module Module}
+     *         or {@link edu.kit.ipd.sdq.ASEM.classifiers.Class Class}, or <code>null</code> if the
+     *         block shall not be mapped.
+     */
+    Class<? extends Component> selectComponentType(Block block);
+
+    /**
+     * Select the method of an ASEM class a port of the corresponding block is mapped to. The port
+     * is mapped to a parameter or, if it is an outgoing port, to the return type of the method.
+     * 
+     * @param port
+     *            The SysML port.
+     * @param availableMethods
+     *            The methods of the ASEM class the port can be added to. For outgoing ports these
+     *            are the methods without return type.
+     * @return One of the available methods or <code>null</code> if a new method shall be created.
+     */
+    Method selectMethod(Port port, List<Method> availableMethods);
+
+    /**
+     * Get the name of a new ASEM method a port is mapped to.
+     * 
+     * @param port
+     *            The SysML port.
+     * @return The method name.
+     */
+    String getMethodName(Port port);
+}
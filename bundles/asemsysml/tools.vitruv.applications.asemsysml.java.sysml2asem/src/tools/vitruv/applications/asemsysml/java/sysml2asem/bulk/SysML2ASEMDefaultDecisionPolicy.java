@@ -0,0 +1,60 @@
+package tools.vitruv.applications.asemsysml.java.sysml2asem.bulk;
+
+import java.util.List;
+
+import org.eclipse.papyrus.sysml14.blocks.Block;
+import org.eclipse.uml2.uml.Port;
+
+import edu.kit.ipd.sdq.ASEM.classifiers.Component;
+import edu.kit.ipd.sdq.ASEM.classifiers.Module;
+import edu.kit.ipd.sdq.ASEM.dataexchange.Method;
+
+/**
+ * A decision policy which maps all blocks to the same ASEM component type and each port of an
+ * ASEM class to a new method with the name of the port.
+ * 
+ * @author Benjamin Rupp
+ * 
+ */
+public class SysML2ASEMDefaultDecisionPolicy implements SysML2ASEMDecisionPolicy {
+
+    private final Class<? extends Component> componentType;
+
+    /**
+     * Create a policy which maps all blocks to ASEM modules.
+     */
+    public SysML2ASEMDefaultDecisionPolicy() {
+        this(Module.class);
+    }
+
+    /**
+     * Create a policy which maps all blocks to the given ASEM component type.
+     * 
+     * @param componentType
+     *            The ASEM component type, i.e. {@link Module} or
+     *            {@link edu.kit.ipd.sdq.ASEM.classifiers.Class Class}.
+     */
+    public SysML2ASEMDefaultDecisionPolicy(final Class<? extends Component> componentType) {
+
+        if (componentType == null) {
+            throw new IllegalArgumentException("Component type must not be null.");
+        }
+
+        this.componentType = componentType;
+    }
+
+    @Override
+    public Class<? extends Component> selectComponentType(final Block block) {
+        return this.componentType;
+    }
+
+    @Override
+    public Method selectMethod(final Port port, final List<Method> availableMethods) {
+        return null;
+    }
+
+    @Override
+    public String getMethodName(final Port port) {
+        return port.getName();
+    }
+}
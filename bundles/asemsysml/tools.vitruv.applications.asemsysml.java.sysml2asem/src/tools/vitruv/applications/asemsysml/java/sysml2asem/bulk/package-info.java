@@ -0,0 +1,7 @@
+/**
+ * Package contains the bulk transformation of a whole SysML model to ASEM models.
+ * 
+ * @author Benjamin Rupp
+ * 
+ */
+package tools.vitruv.applications.asemsysml.java.sysml2asem.bulk;
\ No newline at end of file
@@ -1,8 +1,16 @@
 package tools.vitruv.applications.asemsysml.java.sysml2asem.global;
 
-import java.util.HashSet;
-import java.util.Set;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
 
+import org.apache.log4j.Logger;
+
+import tools.vitruv.applications.asemsysml.ASEMModelResourceCache;
+import tools.vitruv.applications.asemsysml.ASEMSysMLCorrespondenceIndex;
+import tools.vitruv.applications.asemsysml.ASEMSysMLResourceFormat;
 import tools.vitruv.applications.asemsysml.java.sysml2asem.JavaTransformationRealization;
 import tools.vitruv.applications.asemsysml.java.sysml2asem.transformations.BlockDeletionTransformation;
 import tools.vitruv.applications.asemsysml.java.sysml2asem.transformations.BlockNameTransformation;
@@ -21,27 +29,66 @@ import tools.vitruv.applications.asemsysml.java.sysml2asem.transformations.Prope
 import tools.vitruv.applications.asemsysml.java.sysml2asem.transformations.PropertyTransformation;
 import tools.vitruv.applications.asemsysml.java.sysml2asem.transformations.PropertyTypeTransformation;
 import tools.vitruv.applications.asemsysml.java.sysml2asem.util.Change2TransformationMap;
+import tools.vitruv.applications.asemsysml.java.sysml2asem.util.PersistenceBatch;
+import tools.vitruv.applications.asemsysml.java.sysml2asem.util.TuidUpdateBatch;
 import tools.vitruv.domains.asem.AsemDomainProvider;
 import tools.vitruv.domains.sysml.SysMlDomainProvider;
+import tools.vitruv.framework.change.description.TransactionalChange;
 import tools.vitruv.framework.change.echange.AtomicEChange;
 import tools.vitruv.framework.change.echange.EChange;
 import tools.vitruv.framework.change.echange.compound.CompoundEChange;
 import tools.vitruv.framework.change.processing.impl.AbstractEChangePropagationSpecification;
 import tools.vitruv.framework.correspondence.CorrespondenceModel;
+import tools.vitruv.framework.tuid.TuidManager;
 import tools.vitruv.framework.userinteraction.UserInteracting;
 import tools.vitruv.framework.util.command.ChangePropagationResult;
 
 /**
  * Change propagation specification for the SysML2ASEM transformation using java transformations.
  * This class is responsible for the mapping of a change and the java transformation which reacts to
- * this change.
+ * this change. <br>
+ * <br>
+ * 
+ * The state of a propagation (the relevant transformations of the changes, the persistence batch
+ * and the TUID update batch) is held per thread. The propagations themselves are serialized: The
+ * TUIDs of the modified objects are registered at and updated by the {@link TuidManager}, which is
+ * shared by the whole JVM. Concurrent propagations would update or flush the registered objects of
+ * each other. Therefore the java transformations propagate only one change at a time, even if
+ * several virtual models propagate their changes on different threads. <br>
+ * <br>
+ * 
+ * The TUIDs of the modified objects are updated according to the {@link TuidUpdateMode}. The
+ * initial mode can be set with the system property {@value #PROPERTY_TUID_UPDATE_MODE}. The
+ * {@link ASEMSysMLResourceFormat format} of the models is read once when the specification is
+ * created and installed into the resource set of the virtual model when a change is propagated. If
+ * the ASEM models are {@link ASEMModelResourceCache loaded lazily}, the least recently used ones
+ * are unloaded at the end of each propagation.
  * 
  * @author Benjamin Rupp
  * 
  */
 public class SysML2ASEMJavaChangePropagationSpecification extends AbstractEChangePropagationSpecification {
 
-    private Change2TransformationMap change2TransformationMap;
+    /** System property which defines the initial {@link TuidUpdateMode}. */
+    public static final String PROPERTY_TUID_UPDATE_MODE = "asemsysml.tuid.updateMode";
+
+    private static final TuidUpdateMode DEFAULT_TUID_UPDATE_MODE = TuidUpdateMode.IMMEDIATE;
+
+    /**
+     * Serializes the propagations of all specifications, since the {@link TuidManager} is a JVM-wide
+     * singleton.
+     */
+    private static final Object PROPAGATION_LOCK = new Object();
+
+    private static Logger logger = Logger.getLogger(SysML2ASEMJavaChangePropagationSpecification.class);
+
+    private volatile Change2TransformationMap change2TransformationMap;
+    private final ThreadLocal<PropagationContext> propagationContext;
+    private volatile boolean batchPropagationEnabled;
+    private volatile TuidUpdateMode tuidUpdateMode;
+    private final ASEMSysMLResourceFormat resourceFormat;
+    private final LongAdder immediateTuidUpdates;
+    private final LongAdder deferredTuidUpdates;
 
     /**
      * Create a new change executor with the given user interactor.
@@ -49,36 +96,176 @@ public class SysML2ASEMJavaChangePropagationSpecification extends AbstractEChang
      */
     public SysML2ASEMJavaChangePropagationSpecification() {
         super(new SysMlDomainProvider().getDomain(), new AsemDomainProvider().getDomain());
-        this.change2TransformationMap = new Change2TransformationMap();
+        this.propagationContext = new ThreadLocal<PropagationContext>() {
+            @Override
+            protected PropagationContext initialValue() {
+                return new PropagationContext();
+            }
+        };
+        this.batchPropagationEnabled = true;
+        this.tuidUpdateMode = readTuidUpdateMode();
+        this.immediateTuidUpdates = new LongAdder();
+        this.deferredTuidUpdates = new LongAdder();
+        this.resourceFormat = ASEMSysMLResourceFormat.getConfiguredFormat();
         this.setup();
     }
 
     private void setup() {
 
+        final Change2TransformationMap transformationMap = new Change2TransformationMap();
+
         // Add the available java transformations.
-        this.addTransformation(new DebugTransformation(this.getUserInteracting()));
-        this.addTransformation(new BlockTransformation(this.getUserInteracting()));
-        this.addTransformation(new BlockNameTransformation(this.getUserInteracting()));
-        this.addTransformation(new BlockDeletionTransformation(this.getUserInteracting()));
-        this.addTransformation(new PortTransformation(this.getUserInteracting()));
-        this.addTransformation(new PortDirectionTransformation(this.getUserInteracting()));
-        this.addTransformation(new PortTypeTransformation(this.getUserInteracting()));
-        this.addTransformation(new PortDeletionTransformation(this.getUserInteracting()));
-        this.addTransformation(new PrimitiveTypeTransformation(this.getUserInteracting()));
-        this.addTransformation(new PartTransformation(this.getUserInteracting()));
-        this.addTransformation(new PartDeletionTransformation(this.getUserInteracting()));
-        this.addTransformation(new NamedElementNameTransformation(this.getUserInteracting()));
-        this.addTransformation(new PropertyTransformation(this.getUserInteracting()));
-        this.addTransformation(new PropertyTypeTransformation(this.getUserInteracting()));
-        this.addTransformation(new PropertyAccessTransformation(this.getUserInteracting()));
-        this.addTransformation(new PropertyDeletionTransformation(this.getUserInteracting()));
+        this.addTransformation(transformationMap, new DebugTransformation(this.getUserInteracting()));
+        this.addTransformation(transformationMap, new BlockTransformation(this.getUserInteracting()));
+        this.addTransformation(transformationMap, new BlockNameTransformation(this.getUserInteracting()));
+        this.addTransformation(transformationMap, new BlockDeletionTransformation(this.getUserInteracting()));
+        this.addTransformation(transformationMap, new PortTransformation(this.getUserInteracting()));
+        this.addTransformation(transformationMap, new PortDirectionTransformation(this.getUserInteracting()));
+        this.addTransformation(transformationMap, new PortTypeTransformation(this.getUserInteracting()));
+        this.addTransformation(transformationMap, new PortDeletionTransformation(this.getUserInteracting()));
+        this.addTransformation(transformationMap, new PrimitiveTypeTransformation(this.getUserInteracting()));
+        this.addTransformation(transformationMap, new PartTransformation(this.getUserInteracting()));
+        this.addTransformation(transformationMap, new PartDeletionTransformation(this.getUserInteracting()));
+        this.addTransformation(transformationMap, new NamedElementNameTransformation(this.getUserInteracting()));
+        this.addTransformation(transformationMap, new PropertyTransformation(this.getUserInteracting()));
+        this.addTransformation(transformationMap, new PropertyTypeTransformation(this.getUserInteracting()));
+        this.addTransformation(transformationMap, new PropertyAccessTransformation(this.getUserInteracting()));
+        this.addTransformation(transformationMap, new PropertyDeletionTransformation(this.getUserInteracting()));
 
+        this.change2TransformationMap = transformationMap;
+    }
+
+    @Override
+    public boolean doesHandleChange(TransactionalChange change, CorrespondenceModel correspondenceModel) {
+
+        // A new propagation starts with this check, so forget the results of former propagations.
+        this.propagationContext.get().relevantTransformationsCache.clear();
+
+        return super.doesHandleChange(change, correspondenceModel);
+    }
+
+    @Override
+    public ChangePropagationResult propagateChange(TransactionalChange change,
+            CorrespondenceModel correspondenceModel) {
+
+        synchronized (PROPAGATION_LOCK) {
+            return this.propagateChangeExclusively(change, correspondenceModel);
+        }
+    }
+
+    private ChangePropagationResult propagateChangeExclusively(final TransactionalChange change,
+            final CorrespondenceModel correspondenceModel) {
+
+        final PropagationContext context = this.propagationContext.get();
+
+        // The ASEM models which are created by the transformations are saved in the configured format.
+        this.resourceFormat.install(correspondenceModel.getResource().getResourceSet());
+
+        if (this.batchPropagationEnabled) {
+            context.persistenceBatch = new PersistenceBatch();
+        }
+
+        context.tuidUpdateBatch = new TuidUpdateBatch(this.tuidUpdateMode);
+        boolean successful = false;
+
+        // The correspondences do not change unnoticed while the Java transformations are executed,
+        // so their lookups can be indexed.
+        ASEMSysMLCorrespondenceIndex.activate(correspondenceModel);
+
+        try {
+
+            final ChangePropagationResult propagationResult = super.propagateChange(change, correspondenceModel);
+
+            if (context.persistenceBatch != null) {
+                // Each root element is registered only once for the whole change.
+                context.persistenceBatch.establishPersistence(propagationResult);
+            }
+
+            successful = true;
+            return propagationResult;
+
+        } finally {
+            context.tuidUpdateBatch.batchFinished(successful);
+            this.immediateTuidUpdates.add(context.tuidUpdateBatch.getNumberOfImmediateUpdates());
+            this.deferredTuidUpdates.add(context.tuidUpdateBatch.getNumberOfDeferredUpdates());
+            context.tuidUpdateBatch = null;
+
+            if (ASEMModelResourceCache.isLazyLoadingEnabled()) {
+                // The transformations do not hold any ASEM elements anymore and the modified models
+                // are registered for persistence, so the unmodified models can be unloaded.
+                ASEMModelResourceCache.getInstance(correspondenceModel.getResource().getResourceSet())
+                        .evict(correspondenceModel);
+            }
+
+            ASEMSysMLCorrespondenceIndex.deactivate(correspondenceModel);
+            context.persistenceBatch = null;
+            context.relevantTransformationsCache.clear();
+        }
+    }
+
+    /**
+     * Enable or disable the batch propagation mode. <br>
+     * <br>
+     * 
+     * In batch propagation mode all transformations which are executed for a change (including the
+     * atomic changes of a compound change) are executed as one batch. The ASEM elements the
+     * transformations want to persist are collected and each affected ASEM model is registered for
+     * persistence only once at the end of the batch. The batch propagation mode is enabled by
+     * default.
+     * 
+     * @param batchPropagationEnabled
+     *            <code>True</code> to enable the batch propagation mode, <code>false</code> to
+     *            register each persistence request of a transformation separately.
+     */
+    public void setBatchPropagationEnabled(final boolean batchPropagationEnabled) {
+        this.batchPropagationEnabled = batchPropagationEnabled;
+    }
+
+    public boolean isBatchPropagationEnabled() {
+        return this.batchPropagationEnabled;
+    }
+
+    /**
+     * Set the mode which defines when the TUIDs of the objects modified by the transformations are
+     * updated. The mode is used for all changes which are propagated afterwards.
+     * 
+     * @param tuidUpdateMode
+     *            The TUID update mode.
+     */
+    public void setTuidUpdateMode(final TuidUpdateMode tuidUpdateMode) {
+
+        if (tuidUpdateMode == null) {
+            throw new IllegalArgumentException("TUID update mode must not be null.");
+        }
+
+        this.tuidUpdateMode = tuidUpdateMode;
+    }
+
+    public TuidUpdateMode getTuidUpdateMode() {
+        return this.tuidUpdateMode;
+    }
+
+    /**
+     * @return The number of TUID updates which were applied as soon as the transformations
+     *         modified the objects, see {@link TuidUpdateMode#IMMEDIATE}.
+     */
+    public long getNumberOfImmediateTuidUpdates() {
+        return this.immediateTuidUpdates.sum();
+    }
+
+    /**
+     * @return The number of TUID updates which were deferred to the end of a transformation
+     *         execution or of a propagated change, see {@link TuidUpdateMode#PER_TRANSFORMATION} and
+     *         {@link TuidUpdateMode#PER_BATCH}.
+     */
+    public long getNumberOfDeferredTuidUpdates() {
+        return this.deferredTuidUpdates.sum();
     }
 
     @Override
     protected boolean doesHandleChange(EChange change, CorrespondenceModel correspondenceModel) {
 
-        final Set<JavaTransformationRealization> relevantTransformations = this.getRelevantTransformations(change);
+        final List<JavaTransformationRealization> relevantTransformations = this.getRelevantTransformations(change);
         final Boolean handleChange = !relevantTransformations.isEmpty();
 
         return handleChange;
@@ -95,13 +282,15 @@ public class SysML2ASEMJavaChangePropagationSpecification extends AbstractEChang
             }
         }
 
-        final Set<JavaTransformationRealization> relevantTransformations = this.getRelevantTransformations(change);
+        final List<JavaTransformationRealization> relevantTransformations = this.getRelevantTransformations(change);
+        final PropagationContext context = this.propagationContext.get();
 
         ChangePropagationResult currentResult;
 
         for (JavaTransformationRealization transformation : relevantTransformations) {
 
-            currentResult = transformation.applyChange(change, correspondenceModel);
+            currentResult = transformation.applyChange(change, correspondenceModel, context.persistenceBatch,
+                    context.tuidUpdateBatch);
 
             // Add the result of each transformation to the overall propagation result.
             propagationResult.integrateResult(currentResult);
@@ -118,14 +307,39 @@ public class SysML2ASEMJavaChangePropagationSpecification extends AbstractEChang
          */
         super.setUserInteracting(userInteracting);
 
-        this.change2TransformationMap = new Change2TransformationMap();
+        this.propagationContext.get().relevantTransformationsCache.clear();
         this.setup();
     }
 
-    private Set<JavaTransformationRealization> getRelevantTransformations(final EChange change) {
+    /**
+     * Get the transformations which handle the given change. <br>
+     * <br>
+     * 
+     * The relevant transformations of a change are determined only once per propagation, so the
+     * preconditions of the transformations are not checked again when the change is propagated.
+     * 
+     * @param change
+     *            The change for which the relevant transformations are searched.
+     * @return The transformations whose preconditions are fulfilled for the given change.
+     */
+    private List<JavaTransformationRealization> getRelevantTransformations(final EChange change) {
+
+        final Map<EChange, List<JavaTransformationRealization>> relevantTransformationsCache = this.propagationContext
+                .get().relevantTransformationsCache;
+        List<JavaTransformationRealization> relevantTransformations = relevantTransformationsCache.get(change);
+
+        if (relevantTransformations == null) {
+            relevantTransformations = this.determineRelevantTransformations(change);
+            relevantTransformationsCache.put(change, relevantTransformations);
+        }
+
+        return relevantTransformations;
+    }
+
+    private List<JavaTransformationRealization> determineRelevantTransformations(final EChange change) {
 
-        Set<JavaTransformationRealization> relevantTransformations = new HashSet<JavaTransformationRealization>();
-        final Set<JavaTransformationRealization> transformations = this.change2TransformationMap
+        List<JavaTransformationRealization> relevantTransformations = new ArrayList<JavaTransformationRealization>();
+        final List<JavaTransformationRealization> transformations = this.change2TransformationMap
                 .getJavaTransformations(change);
 
         for (JavaTransformationRealization transformation : transformations) {
@@ -138,10 +352,37 @@ public class SysML2ASEMJavaChangePropagationSpecification extends AbstractEChang
         return relevantTransformations;
     }
 
-    private void addTransformation(final JavaTransformationRealization transformation) {
+    private static TuidUpdateMode readTuidUpdateMode() {
+
+        final String configuredMode = System.getProperty(PROPERTY_TUID_UPDATE_MODE);
+
+        if (configuredMode == null) {
+            return DEFAULT_TUID_UPDATE_MODE;
+        }
+
+        try {
+            return TuidUpdateMode.valueOf(configuredMode.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            logger.warn("[ASEMSysML] Unknown TUID update mode " + configuredMode + ", use " + DEFAULT_TUID_UPDATE_MODE);
+            return DEFAULT_TUID_UPDATE_MODE;
+        }
+    }
+
+    private void addTransformation(final Change2TransformationMap transformationMap,
+            final JavaTransformationRealization transformation) {
 
-        this.change2TransformationMap.addJavaTransformation(transformation.getExpectedChangeType(), transformation);
+        transformationMap.addJavaTransformation(transformation.getExpectedChangeType(), transformation);
+
+    }
+
+    /**
+     * The state of the change propagation of the current thread.
+     */
+    private static final class PropagationContext {
 
+        private final Map<EChange, List<JavaTransformationRealization>> relevantTransformationsCache = new IdentityHashMap<EChange, List<JavaTransformationRealization>>();
+        private PersistenceBatch persistenceBatch;
+        private TuidUpdateBatch tuidUpdateBatch;
     }
 
 }
@@ -0,0 +1,28 @@
+package tools.vitruv.applications.asemsysml.java.sysml2asem.global;
+
+/**
+ * Defines when the TUIDs of the objects which were modified by the java transformations are
+ * updated.
+ * 
+ * @author Benjamin Rupp
+ * 
+ * @see tools.vitruv.applications.asemsysml.java.sysml2asem.util.TuidUpdateBatch TuidUpdateBatch
+ * 
+ */
+public enum TuidUpdateMode {
+
+    /**
+     * The TUIDs are updated immediately after each added correspondence or renamed element. This
+     * is the default mode.
+     */
+    IMMEDIATE,
+
+    /** The TUIDs are updated once at the end of each transformation execution. */
+    PER_TRANSFORMATION,
+
+    /**
+     * The TUIDs are updated once at the end of the propagation of a change, including all atomic
+     * changes of a compound change.
+     */
+    PER_BATCH
+}
@@ -1,7 +1,6 @@
 package tools.vitruv.applications.asemsysml.java.sysml2asem.transformations;
 
 import java.io.IOException;
-import java.util.Collections;
 
 import org.apache.log4j.Logger;
 import org.eclipse.papyrus.sysml14.blocks.Block;
@@ -9,6 +8,8 @@ import org.eclipse.papyrus.sysml14.blocks.Block;
 import edu.kit.ipd.sdq.ASEM.classifiers.Component;
 import tools.vitruv.applications.asemsysml.ASEMSysMLHelper;
 import tools.vitruv.applications.asemsysml.java.sysml2asem.AbstractTransformationRealization;
+import tools.vitruv.applications.asemsysml.java.sysml2asem.util.TransformationExecutionState;
+import tools.vitruv.applications.asemsysml.logging.TransformationEvent;
 import tools.vitruv.framework.change.echange.EChange;
 import tools.vitruv.framework.change.echange.compound.RemoveAndDeleteRoot;
 import tools.vitruv.framework.userinteraction.UserInteracting;
@@ -36,19 +37,19 @@ public class BlockDeletionTransformation extends AbstractTransformationRealizati
     }
 
     @Override
-    protected void executeTransformation(RemoveAndDeleteRoot<Block> change) {
+    protected void executeTransformation(RemoveAndDeleteRoot<Block> change,
+            TransformationExecutionState executionState) {
 
         final Block block = change.getRemoveChange().getOldValue();
         final org.eclipse.uml2.uml.Class baseClass = block.getBase_Class();
 
-        logger.info("[ASEMSysML][Java] Delete ASEM component which corresponds to the SysML block "
-                + baseClass.getName() + " ...");
+        logEvent(TransformationEvent.ELEMENT_DELETED, baseClass.getName());
 
         final Component component = ASEMSysMLHelper
-                .getFirstCorrespondingASEMElement(this.executionState.getCorrespondenceModel(), block, Component.class);
+                .getFirstCorrespondingASEMElement(executionState.getCorrespondenceModel(), block, Component.class);
 
         if (component == null) {
-            logger.info("[ASEMSysML][Java] No corresponding element for block " + baseClass.getName() + "found.");
+            logEvent(TransformationEvent.NO_CORRESPONDENCE, baseClass.getName());
             return;
         }
 
@@ -60,8 +61,7 @@ public class BlockDeletionTransformation extends AbstractTransformationRealizati
             logger.warn("Could not delete ASEM model resource for " + component.getName() + "!");
         }
 
-        this.executionState.getCorrespondenceModel()
-                .removeCorrespondencesThatInvolveAtLeastAndDependend(Collections.singleton(block));
+        ASEMSysMLHelper.removeCorrespondences(executionState.getCorrespondenceModel(), block);
 
     }
 
@@ -1,18 +1,22 @@
 package tools.vitruv.applications.asemsysml.java.sysml2asem.transformations;
 
-import org.apache.log4j.Logger;
+import java.util.Collections;
+import java.util.Set;
+
+import org.eclipse.emf.ecore.EClass;
 import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EStructuralFeature;
 import org.eclipse.papyrus.sysml14.blocks.Block;
-import org.eclipse.uml2.uml.util.UMLUtil;
+import org.eclipse.uml2.uml.UMLPackage;
 
 import edu.kit.ipd.sdq.ASEM.classifiers.Component;
-import tools.vitruv.applications.asemsysml.ASEMSysMLConstants;
 import tools.vitruv.applications.asemsysml.ASEMSysMLHelper;
 import tools.vitruv.applications.asemsysml.java.sysml2asem.AbstractTransformationRealization;
+import tools.vitruv.applications.asemsysml.java.sysml2asem.util.TransformationExecutionState;
+import tools.vitruv.applications.asemsysml.logging.TransformationEvent;
 import tools.vitruv.domains.asem.AsemNamespace;
 import tools.vitruv.framework.change.echange.EChange;
 import tools.vitruv.framework.change.echange.feature.attribute.ReplaceSingleValuedEAttribute;
-import tools.vitruv.framework.tuid.TuidManager;
 import tools.vitruv.framework.userinteraction.UserInteracting;
 
 /**
@@ -29,8 +33,6 @@ import tools.vitruv.framework.userinteraction.UserInteracting;
 public class BlockNameTransformation
         extends AbstractTransformationRealization<ReplaceSingleValuedEAttribute<EObject, Object>> {
 
-    private static Logger logger = Logger.getLogger(BlockNameTransformation.class);
-
     public BlockNameTransformation(UserInteracting userInteracting) {
         super(userInteracting);
     }
@@ -41,15 +43,25 @@ public class BlockNameTransformation
     }
 
     @Override
-    protected void executeTransformation(ReplaceSingleValuedEAttribute<EObject, Object> change) {
+    public Set<EStructuralFeature> getExpectedFeatures() {
+        return Collections.<EStructuralFeature> singleton(UMLPackage.Literals.NAMED_ELEMENT__NAME);
+    }
+
+    @Override
+    public Set<EClass> getExpectedAffectedEClasses() {
+        return Collections.singleton(UMLPackage.Literals.CLASS);
+    }
+
+    @Override
+    protected void executeTransformation(ReplaceSingleValuedEAttribute<EObject, Object> change,
+            TransformationExecutionState executionState) {
 
         org.eclipse.uml2.uml.Class baseClass = (org.eclipse.uml2.uml.Class) change.getAffectedEObject();
-        Block block = UMLUtil.getStereotypeApplication(baseClass, Block.class);
+        Block block = ASEMSysMLHelper.getStereotypeApplication(baseClass, Block.class);
 
-        logger.info(
-                "[ASEMSysML][Java] Transform a block name change of block " + block.getBase_Class().getName() + " ...");
+        logEvent(TransformationEvent.ELEMENT_RENAMED, change.getOldValue(), change.getNewValue());
 
-        changeNameOfCorrespondingASEMElement(block, (String) change.getNewValue());
+        changeNameOfCorrespondingASEMElement(block, (String) change.getNewValue(), executionState);
 
     }
 
@@ -72,7 +84,7 @@ public class BlockNameTransformation
         if (change.getAffectedEObject() instanceof org.eclipse.uml2.uml.Class) {
             org.eclipse.uml2.uml.Class baseClass = (org.eclipse.uml2.uml.Class) change.getAffectedEObject();
 
-            if (baseClass.getAppliedStereotype(ASEMSysMLConstants.QUALIFIED_BLOCK_NAME) != null) {
+            if (ASEMSysMLHelper.isBlock(baseClass)) {
                 isBlock = true;
             }
         }
@@ -92,21 +104,21 @@ public class BlockNameTransformation
         return isName;
     }
 
-    private void changeNameOfCorrespondingASEMElement(final Block block, final String newName) {
+    private void changeNameOfCorrespondingASEMElement(final Block block, final String newName,
+            final TransformationExecutionState executionState) {
 
         Component asemComponent = ASEMSysMLHelper
-                .getFirstCorrespondingASEMElement(this.executionState.getCorrespondenceModel(), block, Component.class);
+                .getFirstCorrespondingASEMElement(executionState.getCorrespondenceModel(), block, Component.class);
 
-        TuidManager.getInstance().registerObjectUnderModification(asemComponent);
+        registerObjectUnderModification(executionState, asemComponent);
 
         asemComponent.setName(newName);
 
         final String asemModelName = ASEMSysMLHelper.getASEMModelName(newName);
-        persistASEMElement(block, asemComponent,
+        persistASEMElement(executionState, block, asemComponent,
                 ASEMSysMLHelper.getProjectModelPath(asemModelName, AsemNamespace.FILE_EXTENSION));
 
-        TuidManager.getInstance().updateTuidsOfRegisteredObjects();
-        TuidManager.getInstance().flushRegisteredObjectsUnderModification();
+        executionState.getTuidUpdateBatch().objectsModified();
 
     }
 }
@@ -1,16 +1,21 @@
 package tools.vitruv.applications.asemsysml.java.sysml2asem.transformations;
 
-import org.apache.log4j.Logger;
+import java.util.Collections;
+import java.util.Set;
+
+import org.eclipse.emf.ecore.EClass;
 import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EStructuralFeature;
 import org.eclipse.papyrus.sysml14.blocks.Block;
 import org.eclipse.papyrus.sysml14.blocks.BlocksPackage;
 
-import edu.kit.ipd.sdq.ASEM.classifiers.ClassifiersFactory;
 import edu.kit.ipd.sdq.ASEM.classifiers.Component;
-import edu.kit.ipd.sdq.ASEM.classifiers.Module;
 import tools.vitruv.applications.asemsysml.ASEMSysMLHelper;
 import tools.vitruv.applications.asemsysml.ASEMSysMLUserInteractionHelper;
 import tools.vitruv.applications.asemsysml.java.sysml2asem.AbstractTransformationRealization;
+import tools.vitruv.applications.asemsysml.java.sysml2asem.util.ASEMElementFactory;
+import tools.vitruv.applications.asemsysml.java.sysml2asem.util.TransformationExecutionState;
+import tools.vitruv.applications.asemsysml.logging.TransformationEvent;
 import tools.vitruv.domains.asem.AsemNamespace;
 import tools.vitruv.framework.change.echange.EChange;
 import tools.vitruv.framework.change.echange.feature.attribute.ReplaceSingleValuedEAttribute;
@@ -36,8 +41,6 @@ import tools.vitruv.framework.userinteraction.UserInteracting;
 public class BlockTransformation
         extends AbstractTransformationRealization<ReplaceSingleValuedEAttribute<EObject, Object>> {
 
-    private static Logger logger = Logger.getLogger(BlockTransformation.class);
-
     public BlockTransformation(UserInteracting userInteracting) {
         super(userInteracting);
     }
@@ -47,6 +50,16 @@ public class BlockTransformation
         return ReplaceSingleValuedEAttribute.class;
     }
 
+    @Override
+    public Set<EStructuralFeature> getExpectedFeatures() {
+        return Collections.<EStructuralFeature> singleton(BlocksPackage.Literals.BLOCK__IS_ENCAPSULATED);
+    }
+
+    @Override
+    public Set<EClass> getExpectedAffectedEClasses() {
+        return Collections.singleton(BlocksPackage.Literals.BLOCK);
+    }
+
     @Override
     public boolean checkPreconditions(ReplaceSingleValuedEAttribute<EObject, Object> change) {
 
@@ -58,11 +71,10 @@ public class BlockTransformation
     }
 
     @Override
-    protected void executeTransformation(ReplaceSingleValuedEAttribute<EObject, Object> change) {
-
-        logger.info("[ASEMSysML][Java] Transforming a SysML Block ...");
+    protected void executeTransformation(ReplaceSingleValuedEAttribute<EObject, Object> change,
+            TransformationExecutionState executionState) {
 
-        createASEMComponent(change);
+        createASEMComponent(change, executionState);
 
     }
 
@@ -72,35 +84,27 @@ public class BlockTransformation
                 && (Boolean) change.getNewValue());
     }
 
-    private void createASEMComponent(ReplaceSingleValuedEAttribute<EObject, Object> change) {
+    private void createASEMComponent(ReplaceSingleValuedEAttribute<EObject, Object> change,
+            final TransformationExecutionState executionState) {
 
         Block block = (Block) change.getAffectedEObject();
 
         Class<?> asemComponentType = ASEMSysMLUserInteractionHelper.selectASEMComponentType(this.userInteracting);
 
-        Component asemComponent;
-
-        if (Module.class.isAssignableFrom(asemComponentType)) {
-
-            Module asemModule = ClassifiersFactory.eINSTANCE.createModule();
-            asemModule.setName(block.getBase_Class().getName());
-            asemComponent = asemModule;
+        Component asemComponent = ASEMElementFactory.createComponent(asemComponentType,
+                block.getBase_Class().getName());
 
-        } else if (edu.kit.ipd.sdq.ASEM.classifiers.Class.class.isAssignableFrom(asemComponentType)) {
-
-            edu.kit.ipd.sdq.ASEM.classifiers.Class asemClass = ClassifiersFactory.eINSTANCE.createClass();
-            asemClass.setName(block.getBase_Class().getName());
-            asemComponent = asemClass;
-
-        } else {
+        if (asemComponent == null) {
             return;
         }
 
         String asemModelName = ASEMSysMLHelper.getASEMModelName(block.getBase_Class().getName());
         String asemProjectModelPath = ASEMSysMLHelper.getProjectModelPath(asemModelName, AsemNamespace.FILE_EXTENSION);
 
-        persistASEMElement(block, asemComponent, asemProjectModelPath);
-        addCorrespondence(block, asemComponent);
+        persistASEMElement(executionState, block, asemComponent, asemProjectModelPath);
+        addCorrespondence(executionState, block, asemComponent);
+
+        logEvent(TransformationEvent.ELEMENT_CREATED, asemComponent.getName(), asemComponentType.getSimpleName());
 
     }
 }
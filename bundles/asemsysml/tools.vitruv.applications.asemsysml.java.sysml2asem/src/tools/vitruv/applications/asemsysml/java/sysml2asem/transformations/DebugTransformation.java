@@ -4,6 +4,7 @@ import org.apache.log4j.Level;
 import org.apache.log4j.Logger;
 
 import tools.vitruv.applications.asemsysml.java.sysml2asem.AbstractTransformationRealization;
+import tools.vitruv.applications.asemsysml.java.sysml2asem.util.TransformationExecutionState;
 import tools.vitruv.framework.change.echange.EChange;
 import tools.vitruv.framework.userinteraction.UserInteracting;
 
@@ -37,7 +38,7 @@ public class DebugTransformation extends AbstractTransformationRealization<EChan
     }
 
     @Override
-    protected void executeTransformation(EChange change) {
+    protected void executeTransformation(EChange change, TransformationExecutionState executionState) {
         if (debug) {
             logger.debug("[ASEMSysML][Java][Change] " + change);
         }
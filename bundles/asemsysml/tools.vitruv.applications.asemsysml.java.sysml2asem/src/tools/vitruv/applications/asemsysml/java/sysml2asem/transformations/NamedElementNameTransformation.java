@@ -1,7 +1,11 @@
 package tools.vitruv.applications.asemsysml.java.sysml2asem.transformations;
 
-import org.apache.log4j.Logger;
+import java.util.Collections;
+import java.util.Set;
+
+import org.eclipse.emf.ecore.EClass;
 import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EStructuralFeature;
 import org.eclipse.emf.ecore.util.EcoreUtil;
 import org.eclipse.uml2.uml.NamedElement;
 import org.eclipse.uml2.uml.UMLPackage;
@@ -10,6 +14,8 @@ import edu.kit.ipd.sdq.ASEM.base.Named;
 import edu.kit.ipd.sdq.ASEM.classifiers.Component;
 import tools.vitruv.applications.asemsysml.ASEMSysMLHelper;
 import tools.vitruv.applications.asemsysml.java.sysml2asem.AbstractTransformationRealization;
+import tools.vitruv.applications.asemsysml.java.sysml2asem.util.TransformationExecutionState;
+import tools.vitruv.applications.asemsysml.logging.TransformationEvent;
 import tools.vitruv.framework.change.echange.EChange;
 import tools.vitruv.framework.change.echange.feature.attribute.ReplaceSingleValuedEAttribute;
 import tools.vitruv.framework.userinteraction.UserInteracting;
@@ -27,8 +33,6 @@ import tools.vitruv.framework.userinteraction.UserInteracting;
 public class NamedElementNameTransformation
         extends AbstractTransformationRealization<ReplaceSingleValuedEAttribute<EObject, Object>> {
 
-    private static Logger logger = Logger.getLogger(NamedElementNameTransformation.class);
-
     public NamedElementNameTransformation(UserInteracting userInteracting) {
         super(userInteracting);
     }
@@ -39,16 +43,26 @@ public class NamedElementNameTransformation
     }
 
     @Override
-    protected void executeTransformation(ReplaceSingleValuedEAttribute<EObject, Object> change) {
+    public Set<EStructuralFeature> getExpectedFeatures() {
+        return Collections.<EStructuralFeature> singleton(UMLPackage.Literals.NAMED_ELEMENT__NAME);
+    }
+
+    @Override
+    public Set<EClass> getExpectedAffectedEClasses() {
+        return Collections.singleton(UMLPackage.Literals.NAMED_ELEMENT);
+    }
+
+    @Override
+    protected void executeTransformation(ReplaceSingleValuedEAttribute<EObject, Object> change,
+            TransformationExecutionState executionState) {
 
         NamedElement namedElement = (NamedElement) change.getAffectedEObject();
 
         Named correspondingElement = ASEMSysMLHelper.getFirstCorrespondingASEMElement(
-                this.executionState.getCorrespondenceModel(), namedElement, Named.class);
+                executionState.getCorrespondenceModel(), namedElement, Named.class);
 
         if (correspondingElement == null) {
-            logger.info("[ASEMSysML][Java] No corresponding elmement for NamedElement " + namedElement.getName()
-                    + " found.");
+            logEvent(TransformationEvent.NO_CORRESPONDENCE, namedElement.getName());
             return;
         }
 
@@ -62,19 +76,17 @@ public class NamedElementNameTransformation
         final EObject rootElement = EcoreUtil.getRootContainer(correspondingElement);
 
         if (!(rootElement instanceof Component)) {
-            logger.info("[ASEMSysML][Java] Corresponding element of NamedElement " + namedElement.getName()
-                    + " is not contained in a ASEM component.");
+            logEvent(TransformationEvent.NO_CORRESPONDENCE, namedElement.getName());
             return;
         }
 
-        logger.info(
-                "[ASEMSysML][Java] Rename corresponding element of NamedElement " + namedElement.getName() + " ...");
+        logEvent(TransformationEvent.ELEMENT_RENAMED, change.getOldValue(), change.getNewValue());
 
         correspondingElement.setName(change.getNewValue().toString());
 
         final Component component = (Component) rootElement;
         final String asemProjectModelPath = ASEMSysMLHelper.getASEMProjectModelPath(component.getName());
-        persistASEMElement(namedElement, correspondingElement, asemProjectModelPath);
+        persistASEMElement(executionState, namedElement, correspondingElement, asemProjectModelPath);
 
     }
 
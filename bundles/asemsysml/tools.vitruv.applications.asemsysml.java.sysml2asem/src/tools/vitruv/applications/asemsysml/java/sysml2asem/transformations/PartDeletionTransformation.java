@@ -1,19 +1,21 @@
 package tools.vitruv.applications.asemsysml.java.sysml2asem.transformations;
 
 import java.util.Collections;
+import java.util.Set;
 
-import org.apache.log4j.Logger;
+import org.eclipse.emf.ecore.EClass;
 import org.eclipse.emf.ecore.EObject;
 import org.eclipse.emf.ecore.util.EcoreUtil;
 import org.eclipse.papyrus.sysml14.blocks.Block;
 import org.eclipse.uml2.uml.AggregationKind;
 import org.eclipse.uml2.uml.Property;
-import org.eclipse.uml2.uml.util.UMLUtil;
+import org.eclipse.uml2.uml.UMLPackage;
 
 import edu.kit.ipd.sdq.ASEM.dataexchange.Constant;
-import tools.vitruv.applications.asemsysml.ASEMSysMLConstants;
 import tools.vitruv.applications.asemsysml.ASEMSysMLHelper;
 import tools.vitruv.applications.asemsysml.java.sysml2asem.AbstractTransformationRealization;
+import tools.vitruv.applications.asemsysml.java.sysml2asem.util.TransformationExecutionState;
+import tools.vitruv.applications.asemsysml.logging.TransformationEvent;
 import tools.vitruv.framework.change.echange.EChange;
 import tools.vitruv.framework.change.echange.feature.reference.RemoveEReference;
 import tools.vitruv.framework.userinteraction.UserInteracting;
@@ -29,8 +31,6 @@ import tools.vitruv.framework.userinteraction.UserInteracting;
  */
 public class PartDeletionTransformation extends AbstractTransformationRealization<RemoveEReference<EObject, EObject>> {
 
-    private static Logger logger = Logger.getLogger(PartDeletionTransformation.class);
-
     public PartDeletionTransformation(UserInteracting userInteracting) {
         super(userInteracting);
     }
@@ -41,25 +41,29 @@ public class PartDeletionTransformation extends AbstractTransformationRealizatio
     }
 
     @Override
-    protected void executeTransformation(RemoveEReference<EObject, EObject> change) {
+    public Set<EClass> getExpectedAffectedEClasses() {
+        return Collections.singleton(UMLPackage.Literals.CLASS);
+    }
+
+    @Override
+    protected void executeTransformation(RemoveEReference<EObject, EObject> change,
+            TransformationExecutionState executionState) {
 
         Property partProperty = (Property) change.getOldValue();
 
-        logger.info("[ASEMSysML][Java] Delete part reference to " + partProperty.getType().getName() + "...");
+        logEvent(TransformationEvent.ELEMENT_DELETED, partProperty.getName());
 
         Constant constant = ASEMSysMLHelper.getFirstCorrespondingASEMElement(
-                this.executionState.getCorrespondenceModel(), partProperty, Constant.class);
+                executionState.getCorrespondenceModel(), partProperty, Constant.class);
 
         if (constant == null) {
-            logger.info("[ASEMSysML][Java] No corresponding element for part property " + partProperty.getName()
-                    + " found.");
+            logEvent(TransformationEvent.NO_CORRESPONDENCE, partProperty.getName());
             return;
         }
 
         EcoreUtil.delete(constant);
 
-        this.executionState.getCorrespondenceModel()
-                .removeCorrespondencesThatInvolveAtLeastAndDependend(Collections.singleton(partProperty));
+        ASEMSysMLHelper.removeCorrespondences(executionState.getCorrespondenceModel(), partProperty);
 
     }
 
@@ -76,7 +80,7 @@ public class PartDeletionTransformation extends AbstractTransformationRealizatio
         }
         org.eclipse.uml2.uml.Class baseClass = (org.eclipse.uml2.uml.Class) change.getAffectedEObject();
 
-        return (UMLUtil.getStereotypeApplication(baseClass, Block.class) != null);
+        return (ASEMSysMLHelper.getStereotypeApplication(baseClass, Block.class) != null);
     }
 
     private boolean isOldValueAProperty(RemoveEReference<EObject, EObject> change) {
@@ -86,7 +90,7 @@ public class PartDeletionTransformation extends AbstractTransformationRealizatio
     private boolean isPropertyTypeABlock(RemoveEReference<EObject, EObject> change) {
         Property prop = (Property) change.getOldValue();
         return (prop.getType() != null
-                && prop.getType().getAppliedStereotype(ASEMSysMLConstants.QUALIFIED_BLOCK_NAME) != null);
+                && ASEMSysMLHelper.isBlock(prop.getType()));
     }
 
     private boolean isPropertyAPartProperty(RemoveEReference<EObject, EObject> change) {
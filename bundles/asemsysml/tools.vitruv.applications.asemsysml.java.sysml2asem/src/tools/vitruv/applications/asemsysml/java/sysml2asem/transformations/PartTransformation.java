@@ -1,25 +1,28 @@
 package tools.vitruv.applications.asemsysml.java.sysml2asem.transformations;
 
-import org.apache.log4j.Logger;
+import java.util.Collections;
+import java.util.Set;
+
+import org.eclipse.emf.ecore.EClass;
 import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EStructuralFeature;
 import org.eclipse.papyrus.sysml14.blocks.Block;
-import org.eclipse.uml2.uml.AggregationKind;
 import org.eclipse.uml2.uml.Port;
 import org.eclipse.uml2.uml.Property;
-import org.eclipse.uml2.uml.util.UMLUtil;
+import org.eclipse.uml2.uml.UMLPackage;
 
 import edu.kit.ipd.sdq.ASEM.classifiers.Component;
 import edu.kit.ipd.sdq.ASEM.classifiers.Module;
 import edu.kit.ipd.sdq.ASEM.dataexchange.Constant;
-import edu.kit.ipd.sdq.ASEM.dataexchange.DataexchangeFactory;
-import tools.vitruv.applications.asemsysml.ASEMSysMLConstants;
 import tools.vitruv.applications.asemsysml.ASEMSysMLHelper;
 import tools.vitruv.applications.asemsysml.ASEMSysMLUserInteractionHelper;
 import tools.vitruv.applications.asemsysml.java.sysml2asem.AbstractTransformationRealization;
+import tools.vitruv.applications.asemsysml.java.sysml2asem.util.ASEMElementFactory;
+import tools.vitruv.applications.asemsysml.java.sysml2asem.util.TransformationExecutionState;
+import tools.vitruv.applications.asemsysml.logging.TransformationEvent;
 import tools.vitruv.domains.asem.AsemNamespace;
 import tools.vitruv.framework.change.echange.EChange;
 import tools.vitruv.framework.change.echange.feature.attribute.ReplaceSingleValuedEAttribute;
-import tools.vitruv.framework.tuid.TuidManager;
 import tools.vitruv.framework.userinteraction.UserInteracting;
 import tools.vitruv.framework.userinteraction.UserInteractionType;
 
@@ -52,8 +55,6 @@ import tools.vitruv.framework.userinteraction.UserInteractionType;
 public class PartTransformation
         extends AbstractTransformationRealization<ReplaceSingleValuedEAttribute<EObject, Object>> {
 
-    private static Logger logger = Logger.getLogger(PortDirectionTransformation.class);
-
     public PartTransformation(UserInteracting userInteracting) {
         super(userInteracting);
     }
@@ -64,9 +65,18 @@ public class PartTransformation
     }
 
     @Override
-    protected void executeTransformation(ReplaceSingleValuedEAttribute<EObject, Object> change) {
+    public Set<EStructuralFeature> getExpectedFeatures() {
+        return Collections.<EStructuralFeature> singleton(UMLPackage.Literals.PROPERTY__AGGREGATION);
+    }
+
+    @Override
+    public Set<EClass> getExpectedAffectedEClasses() {
+        return Collections.singleton(UMLPackage.Literals.PROPERTY);
+    }
 
-        logger.info("[ASEMSysML][Java] Transform part of a SysML block ...");
+    @Override
+    protected void executeTransformation(ReplaceSingleValuedEAttribute<EObject, Object> change,
+            TransformationExecutionState executionState) {
 
         EObject container = change.getAffectedEObject().eContainer();
 
@@ -78,14 +88,14 @@ public class PartTransformation
         org.eclipse.uml2.uml.Class blockBaseClass = (org.eclipse.uml2.uml.Class) container;
         Property partProperty = (Property) change.getAffectedEObject();
 
-        createASEMPartReference(blockBaseClass, partProperty);
+        createASEMPartReference(blockBaseClass, partProperty, executionState);
     }
 
     @Override
     protected boolean checkPreconditions(ReplaceSingleValuedEAttribute<EObject, Object> change) {
 
         return (isProperty(change) && isNotAPort(change) && isPropertyTypeSet(change)
-                && isPartProperty((Property) change.getAffectedEObject()));
+                && ASEMSysMLHelper.isPartProperty((Property) change.getAffectedEObject()));
     }
 
     private boolean isProperty(final ReplaceSingleValuedEAttribute<EObject, Object> change) {
@@ -101,15 +111,16 @@ public class PartTransformation
         return (property.getType() != null);
     }
 
-    private void createASEMPartReference(final org.eclipse.uml2.uml.Class blockBaseClass, final Property partProperty) {
+    private void createASEMPartReference(final org.eclipse.uml2.uml.Class blockBaseClass, final Property partProperty,
+            final TransformationExecutionState executionState) {
 
-        Block parentBlock = UMLUtil.getStereotypeApplication(blockBaseClass, Block.class);
-        Block partBlock = UMLUtil.getStereotypeApplication(partProperty.getType(), Block.class);
+        Block parentBlock = ASEMSysMLHelper.getStereotypeApplication(blockBaseClass, Block.class);
+        Block partBlock = ASEMSysMLHelper.getStereotypeApplication(partProperty.getType(), Block.class);
 
         Component correspondingASEMBlockComponent = ASEMSysMLHelper.getFirstCorrespondingASEMElement(
-                this.executionState.getCorrespondenceModel(), parentBlock, Component.class);
+                executionState.getCorrespondenceModel(), parentBlock, Component.class);
         Component correspondingASEMPartComponent = ASEMSysMLHelper.getFirstCorrespondingASEMElement(
-                this.executionState.getCorrespondenceModel(), partBlock, Component.class);
+                executionState.getCorrespondenceModel(), partBlock, Component.class);
 
         // ASEM modules cannot be used as subcomponents in ASEM components.
         if (correspondingASEMPartComponent instanceof Module) {
@@ -118,11 +129,10 @@ public class PartTransformation
             return;
         }
 
-        Constant asemConstant = DataexchangeFactory.eINSTANCE.createConstant();
-        asemConstant.setName(partProperty.getName());
-        asemConstant.setType(correspondingASEMPartComponent);
+        Constant asemConstant = ASEMElementFactory.createConstant(partProperty.getName(),
+                correspondingASEMPartComponent);
         
-        TuidManager.getInstance().registerObjectUnderModification(correspondingASEMBlockComponent);
+        registerObjectUnderModification(executionState, correspondingASEMBlockComponent);
         correspondingASEMBlockComponent.getTypedElements().add(asemConstant);
 
         // Persist component which corresponds to the SysML block and add correspondence between
@@ -130,37 +140,10 @@ public class PartTransformation
         String asemModelName = ASEMSysMLHelper.getASEMModelName(blockBaseClass.getName());
         String asemProjectModelPath = ASEMSysMLHelper.getProjectModelPath(asemModelName, AsemNamespace.FILE_EXTENSION);
 
-        persistASEMElement(blockBaseClass, correspondingASEMBlockComponent, asemProjectModelPath);
-        addCorrespondence(partProperty, asemConstant);
-
-    }
-
-    private boolean isPartProperty(final Property property) {
-
-        boolean isContainingElementABlock = false;
-        boolean isPropertyTypeABlock = false;
-        boolean isAggregationKindSetToComposite = false;
-
-        if (property.eContainer() instanceof org.eclipse.uml2.uml.Class) {
-            org.eclipse.uml2.uml.Class baseClass = (org.eclipse.uml2.uml.Class) property.eContainer();
-
-            if (baseClass.getAppliedStereotype(ASEMSysMLConstants.QUALIFIED_BLOCK_NAME) != null) {
-                isContainingElementABlock = true;
-            }
-        }
-
-        isPropertyTypeABlock = (property.getType()
-                .getAppliedStereotype(ASEMSysMLConstants.QUALIFIED_BLOCK_NAME) != null);
+        persistASEMElement(executionState, blockBaseClass, correspondingASEMBlockComponent, asemProjectModelPath);
+        addCorrespondence(executionState, partProperty, asemConstant);
 
-        /*
-         * Check the aggregation kind of the property because the aggregation kind must be set for
-         * the getParts() method of a SysML block. Furthermore this check prevents the handling of a
-         * port property.
-         */
-        final AggregationKind aggregationKind = property.getAggregation();
-        isAggregationKindSetToComposite = (aggregationKind != null
-                && aggregationKind.equals(AggregationKind.COMPOSITE_LITERAL));
+        logEvent(TransformationEvent.ELEMENT_CREATED, partProperty.getName(), blockBaseClass.getName());
 
-        return (isContainingElementABlock && isPropertyTypeABlock && isAggregationKindSetToComposite);
     }
 }
@@ -1,8 +1,5 @@
 package tools.vitruv.applications.asemsysml.java.sysml2asem.transformations;
 
-import java.util.Collections;
-
-import org.apache.log4j.Logger;
 import org.eclipse.emf.ecore.EObject;
 import org.eclipse.emf.ecore.util.EcoreUtil;
 import org.eclipse.uml2.uml.Port;
@@ -10,6 +7,8 @@ import org.eclipse.uml2.uml.Port;
 import edu.kit.ipd.sdq.ASEM.base.TypedElement;
 import tools.vitruv.applications.asemsysml.ASEMSysMLHelper;
 import tools.vitruv.applications.asemsysml.java.sysml2asem.AbstractTransformationRealization;
+import tools.vitruv.applications.asemsysml.java.sysml2asem.util.TransformationExecutionState;
+import tools.vitruv.applications.asemsysml.logging.TransformationEvent;
 import tools.vitruv.framework.change.echange.EChange;
 import tools.vitruv.framework.change.echange.feature.reference.RemoveEReference;
 import tools.vitruv.framework.userinteraction.UserInteracting;
@@ -25,8 +24,6 @@ import tools.vitruv.framework.userinteraction.UserInteracting;
  */
 public class PortDeletionTransformation extends AbstractTransformationRealization<RemoveEReference<EObject, EObject>> {
 
-    private static Logger logger = Logger.getLogger(PortDeletionTransformation.class);
-
     public PortDeletionTransformation(UserInteracting userInteracting) {
         super(userInteracting);
     }
@@ -37,23 +34,23 @@ public class PortDeletionTransformation extends AbstractTransformationRealizatio
     }
 
     @Override
-    protected void executeTransformation(RemoveEReference<EObject, EObject> change) {
+    protected void executeTransformation(RemoveEReference<EObject, EObject> change,
+            TransformationExecutionState executionState) {
 
         final Port port = (Port) change.getOldValue();
 
-        logger.info("[ASEMSysML][Java] Delete port reference for port " + port.getName() + " ...");
+        logEvent(TransformationEvent.ELEMENT_DELETED, port.getName());
 
         final TypedElement correspondingElement = ASEMSysMLHelper.getFirstCorrespondingASEMElement(
-                this.executionState.getCorrespondenceModel(), port, TypedElement.class);
+                executionState.getCorrespondenceModel(), port, TypedElement.class);
 
         if (correspondingElement == null) {
-            logger.info("[ASEMSysML][Java] No corresponding element for port " + port.getName() + " found.");
+            logEvent(TransformationEvent.NO_CORRESPONDENCE, port.getName());
             return;
         }
 
         EcoreUtil.delete(correspondingElement);
-        this.executionState.getCorrespondenceModel()
-                .removeCorrespondencesThatInvolveAtLeastAndDependend(Collections.singleton(port));
+        ASEMSysMLHelper.removeCorrespondences(executionState.getCorrespondenceModel(), port);
 
     }
 
@@ -1,17 +1,22 @@
 package tools.vitruv.applications.asemsysml.java.sysml2asem.transformations;
 
+import java.util.Collections;
+import java.util.Set;
+
 import org.apache.log4j.Logger;
+import org.eclipse.emf.ecore.EClass;
 import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EStructuralFeature;
 import org.eclipse.emf.ecore.resource.Resource;
 import org.eclipse.papyrus.sysml14.blocks.Block;
 import org.eclipse.papyrus.sysml14.portsandflows.FlowDirection;
 import org.eclipse.papyrus.sysml14.portsandflows.FlowProperty;
+import org.eclipse.papyrus.sysml14.portsandflows.PortsandflowsPackage;
 import org.eclipse.uml2.uml.Port;
 
 import edu.kit.ipd.sdq.ASEM.classifiers.Classifier;
 import edu.kit.ipd.sdq.ASEM.classifiers.Component;
 import edu.kit.ipd.sdq.ASEM.classifiers.Module;
-import edu.kit.ipd.sdq.ASEM.dataexchange.DataexchangeFactory;
 import edu.kit.ipd.sdq.ASEM.dataexchange.Message;
 import edu.kit.ipd.sdq.ASEM.dataexchange.Method;
 import edu.kit.ipd.sdq.ASEM.dataexchange.Parameter;
@@ -20,10 +25,12 @@ import tools.vitruv.applications.asemsysml.ASEMSysMLHelper;
 import tools.vitruv.applications.asemsysml.ASEMSysMLUserInteractionHelper;
 import tools.vitruv.applications.asemsysml.ASEMSysMLUserInteractionHelper.ASEMMethodMode;
 import tools.vitruv.applications.asemsysml.java.sysml2asem.AbstractTransformationRealization;
+import tools.vitruv.applications.asemsysml.java.sysml2asem.util.ASEMElementFactory;
+import tools.vitruv.applications.asemsysml.java.sysml2asem.util.TransformationExecutionState;
+import tools.vitruv.applications.asemsysml.logging.TransformationEvent;
 import tools.vitruv.domains.asem.AsemNamespace;
 import tools.vitruv.framework.change.echange.EChange;
 import tools.vitruv.framework.change.echange.feature.attribute.ReplaceSingleValuedEAttribute;
-import tools.vitruv.framework.tuid.TuidManager;
 import tools.vitruv.framework.userinteraction.UserInteracting;
 
 /**
@@ -54,11 +61,20 @@ public class PortDirectionTransformation
     }
 
     @Override
-    protected void executeTransformation(ReplaceSingleValuedEAttribute<EObject, Object> change) {
+    public Set<EStructuralFeature> getExpectedFeatures() {
+        return Collections.<EStructuralFeature> singleton(PortsandflowsPackage.Literals.FLOW_PROPERTY__DIRECTION);
+    }
+
+    @Override
+    public Set<EClass> getExpectedAffectedEClasses() {
+        return Collections.singleton(PortsandflowsPackage.Literals.FLOW_PROPERTY);
+    }
 
-        logger.info("[ASEMSysML][Java] Transform direction of a SysML port ...");
+    @Override
+    protected void executeTransformation(ReplaceSingleValuedEAttribute<EObject, Object> change,
+            TransformationExecutionState executionState) {
 
-        transformPortDirection(change);
+        transformPortDirection(change, executionState);
     }
 
     @Override
@@ -66,7 +82,8 @@ public class PortDirectionTransformation
         return (isFlowProperty(change) && isFlowPropertyOfAPort(change));
     }
 
-    private void transformPortDirection(ReplaceSingleValuedEAttribute<EObject, Object> change) {
+    private void transformPortDirection(ReplaceSingleValuedEAttribute<EObject, Object> change,
+            final TransformationExecutionState executionState) {
 
         FlowProperty flowProperty = (FlowProperty) change.getAffectedEObject();
         Port port = (Port) flowProperty.getBase_Property();
@@ -83,16 +100,18 @@ public class PortDirectionTransformation
                 AsemNamespace.FILE_EXTENSION);
 
         final Component correspondingComponent = ASEMSysMLHelper
-                .getFirstCorrespondingASEMElement(this.executionState.getCorrespondenceModel(), block, Component.class);
+                .getFirstCorrespondingASEMElement(executionState.getCorrespondenceModel(), block, Component.class);
+
+        logEvent(TransformationEvent.DIRECTION_CHANGED, port.getName(), change.getNewValue());
 
         if (correspondingComponent instanceof Module) {
 
-            setMessageAccessParameters(port, asemProjectModelPath);
+            setMessageAccessParameters(port, asemProjectModelPath, executionState);
 
         } else if (correspondingComponent instanceof edu.kit.ipd.sdq.ASEM.classifiers.Class) {
 
             edu.kit.ipd.sdq.ASEM.classifiers.Class asemClass = (edu.kit.ipd.sdq.ASEM.classifiers.Class) correspondingComponent;
-            createASEMMethodAndSetName(port, asemClass, asemProjectModelPath);
+            createASEMMethodAndSetName(port, asemClass, asemProjectModelPath, executionState);
 
         }
 
@@ -109,9 +128,10 @@ public class PortDirectionTransformation
         return (flowProperty.getBase_Property() instanceof Port);
     }
 
-    private void setMessageAccessParameters(final Port port, final String asemProjectModelPath) {
+    private void setMessageAccessParameters(final Port port, final String asemProjectModelPath,
+            final TransformationExecutionState executionState) {
 
-        Message message = ASEMSysMLHelper.getFirstCorrespondingASEMElement(this.executionState.getCorrespondenceModel(),
+        Message message = ASEMSysMLHelper.getFirstCorrespondingASEMElement(executionState.getCorrespondenceModel(),
                 port, Message.class);
 
         if (message == null) {
@@ -125,26 +145,9 @@ public class PortDirectionTransformation
             logger.warn("[ASEMSysML][Java] There is no flow property for port " + port.getName() + " available.");
             return;
         }
-        final FlowDirection flowDirection = flowProperty.getDirection();
 
         // Set access parameters of ASEM message.
-        switch (flowDirection) {
-        case IN:
-            message.setReadable(true);
-            message.setWritable(false);
-            break;
-        case OUT:
-            message.setReadable(false);
-            message.setWritable(true);
-            break;
-        case INOUT:
-            message.setReadable(true);
-            message.setWritable(true);
-            break;
-
-        default:
-            break;
-        }
+        ASEMElementFactory.setMessageAccess(message, flowProperty.getDirection());
 
         // Persist message.
         EObject messageContainer = message.eContainer();
@@ -155,20 +158,21 @@ public class PortDirectionTransformation
 
         final Module module = (Module) messageContainer;
 
-        persistASEMElement(port, module, asemProjectModelPath);
+        persistASEMElement(executionState, port, module, asemProjectModelPath);
     }
 
     private void createASEMMethodAndSetName(final Port port,
-            final edu.kit.ipd.sdq.ASEM.classifiers.Class correspondingASEMClass, final String asemProjectModelPath) {
+            final edu.kit.ipd.sdq.ASEM.classifiers.Class correspondingASEMClass, final String asemProjectModelPath,
+            final TransformationExecutionState executionState) {
 
         Method method;
         ASEMMethodMode mode = ASEMMethodMode.CREATE_NEW;
-        Resource asemResource = ASEMSysMLHelper.getModelResource(this.executionState.getCorrespondenceModel(), port,
+        Resource asemResource = ASEMSysMLHelper.getModelResource(executionState.getCorrespondenceModel(), port,
                 asemProjectModelPath);
         FlowProperty flowProp = ASEMSysMLHelper.getFlowProperty(port);
         FlowDirection direction = flowProp != null ? flowProp.getDirection() : null;
         Classifier type = ASEMSysMLHelper.getClassifierForASEMVariable(port.getType(),
-                this.executionState.getCorrespondenceModel());
+                executionState.getCorrespondenceModel());
 
         if (direction.equals(FlowDirection.OUT) && ASEMSysMLHelper.areMethodsWithoutReturnTypeAvailable(asemResource)) {
 
@@ -184,37 +188,33 @@ public class PortDirectionTransformation
 
         }
 
-        logger.info("[ASEMSysML][Java] Selected ASEM parameter mode: " + mode);
+        logEvent(TransformationEvent.USER_DECISION, port.getName(), mode);
 
-        method = this.getMethodDependingOnParamterMode(mode, port, asemProjectModelPath);
+        method = this.getMethodDependingOnParamterMode(mode, port, asemProjectModelPath, executionState);
 
         switch (direction) {
         case IN:
 
-            Parameter parameter = DataexchangeFactory.eINSTANCE.createParameter();
-            parameter.setName(port.getName());
-            parameter.setType(type);
+            Parameter parameter = ASEMElementFactory.createParameter(port.getName(), type);
             method.getParameters().add(parameter);
 
-            TuidManager.getInstance().registerObjectUnderModification(correspondingASEMClass);
+            registerObjectUnderModification(executionState, correspondingASEMClass);
             correspondingASEMClass.getMethods().add(method);
 
-            persistASEMElement(port, correspondingASEMClass, asemProjectModelPath);
-            addCorrespondence(port, parameter);
+            persistASEMElement(executionState, port, correspondingASEMClass, asemProjectModelPath);
+            addCorrespondence(executionState, port, parameter);
             break;
 
         case OUT:
 
-            ReturnType returnType = DataexchangeFactory.eINSTANCE.createReturnType();
-            returnType.setType(type);
-            returnType.setName(port.getName());
+            ReturnType returnType = ASEMElementFactory.createReturnType(port.getName(), type);
             method.setReturnType(returnType);
 
-            TuidManager.getInstance().registerObjectUnderModification(correspondingASEMClass);
+            registerObjectUnderModification(executionState, correspondingASEMClass);
             correspondingASEMClass.getMethods().add(method);
-            persistASEMElement(port, correspondingASEMClass, asemProjectModelPath);
+            persistASEMElement(executionState, port, correspondingASEMClass, asemProjectModelPath);
 
-            addCorrespondence(port, returnType);
+            addCorrespondence(executionState, port, returnType);
             break;
 
         case INOUT:
@@ -228,23 +228,24 @@ public class PortDirectionTransformation
     }
 
     private Method getMethodDependingOnParamterMode(final ASEMMethodMode mode, final Port port,
-            final String asemProjectModelPath) {
+            final String asemProjectModelPath, final TransformationExecutionState executionState) {
         switch (mode) {
 
         case CREATE_NEW:
             return this.createNewMethod();
 
         case USE_EXISTING:
-            return this.selectMethod(port, asemProjectModelPath);
+            return this.selectMethod(port, asemProjectModelPath, executionState);
 
         default:
             return null;
         }
     }
 
-    private Method selectMethod(final Port port, final String asemProjectModelPath) {
+    private Method selectMethod(final Port port, final String asemProjectModelPath,
+            final TransformationExecutionState executionState) {
 
-        Resource asemResource = ASEMSysMLHelper.getModelResource(this.executionState.getCorrespondenceModel(), port,
+        Resource asemResource = ASEMSysMLHelper.getModelResource(executionState.getCorrespondenceModel(), port,
                 asemProjectModelPath);
         final FlowDirection portDirection = ASEMSysMLHelper.getFlowProperty(port).getDirection();
 
@@ -269,14 +270,7 @@ public class PortDirectionTransformation
 
         String methodName = this.userInteracting.getTextInput(ASEMSysMLUserInteractionHelper.MSG_INSERT_METHOD_NAME);
 
-        if (methodName.isEmpty()) {
-            methodName = "SampleMethodName";
-        }
-
-        Method method = DataexchangeFactory.eINSTANCE.createMethod();
-        method.setName(methodName);
-
-        return method;
+        return ASEMElementFactory.createMethod(methodName);
     }
 
 }
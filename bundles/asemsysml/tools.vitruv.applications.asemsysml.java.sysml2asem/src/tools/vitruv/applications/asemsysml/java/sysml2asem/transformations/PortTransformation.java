@@ -1,22 +1,26 @@
 package tools.vitruv.applications.asemsysml.java.sysml2asem.transformations;
 
-import org.apache.log4j.Logger;
+import java.util.Collections;
+import java.util.Set;
+
+import org.eclipse.emf.ecore.EClass;
 import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EStructuralFeature;
 import org.eclipse.papyrus.sysml14.blocks.Block;
 import org.eclipse.uml2.uml.Port;
 import org.eclipse.uml2.uml.UMLPackage;
 
 import edu.kit.ipd.sdq.ASEM.classifiers.Component;
 import edu.kit.ipd.sdq.ASEM.classifiers.Module;
-import edu.kit.ipd.sdq.ASEM.dataexchange.DataexchangeFactory;
 import edu.kit.ipd.sdq.ASEM.dataexchange.Message;
-import tools.vitruv.applications.asemsysml.ASEMSysMLConstants;
 import tools.vitruv.applications.asemsysml.ASEMSysMLHelper;
 import tools.vitruv.applications.asemsysml.java.sysml2asem.AbstractTransformationRealization;
+import tools.vitruv.applications.asemsysml.java.sysml2asem.util.ASEMElementFactory;
+import tools.vitruv.applications.asemsysml.java.sysml2asem.util.TransformationExecutionState;
+import tools.vitruv.applications.asemsysml.logging.TransformationEvent;
 import tools.vitruv.domains.asem.AsemNamespace;
 import tools.vitruv.framework.change.echange.EChange;
 import tools.vitruv.framework.change.echange.feature.attribute.ReplaceSingleValuedEAttribute;
-import tools.vitruv.framework.tuid.TuidManager;
 import tools.vitruv.framework.userinteraction.UserInteracting;
 
 /**
@@ -38,8 +42,6 @@ import tools.vitruv.framework.userinteraction.UserInteracting;
 public class PortTransformation
         extends AbstractTransformationRealization<ReplaceSingleValuedEAttribute<EObject, Object>> {
 
-    private static Logger logger = Logger.getLogger(PortTransformation.class);
-
     public PortTransformation(UserInteracting userInteracting) {
         super(userInteracting);
     }
@@ -50,11 +52,20 @@ public class PortTransformation
     }
 
     @Override
-    protected void executeTransformation(ReplaceSingleValuedEAttribute<EObject, Object> change) {
+    public Set<EStructuralFeature> getExpectedFeatures() {
+        return Collections.<EStructuralFeature> singleton(UMLPackage.Literals.NAMED_ELEMENT__NAME);
+    }
 
-        final Port port = (Port) change.getAffectedEObject();
+    @Override
+    public Set<EClass> getExpectedAffectedEClasses() {
+        return Collections.singleton(UMLPackage.Literals.PORT);
+    }
 
-        logger.info("[ASEMSysML][Java] Transforming the SysML port " + port.getName() + "...");
+    @Override
+    protected void executeTransformation(ReplaceSingleValuedEAttribute<EObject, Object> change,
+            TransformationExecutionState executionState) {
+
+        final Port port = (Port) change.getAffectedEObject();
 
         final Block block = ASEMSysMLHelper.getPortsBlock(port);
         final String blockName = block.getBase_Class().getName();
@@ -63,12 +74,12 @@ public class PortTransformation
                 AsemNamespace.FILE_EXTENSION);
 
         Component correspondingASEMComponent = ASEMSysMLHelper
-                .getFirstCorrespondingASEMElement(this.executionState.getCorrespondenceModel(), block, Component.class);
+                .getFirstCorrespondingASEMElement(executionState.getCorrespondenceModel(), block, Component.class);
 
         if (correspondingASEMComponent instanceof Module) {
 
             Module asemModule = (Module) correspondingASEMComponent;
-            createASEMMessageAndSetName(port, asemModule, asemProjectModelPath);
+            createASEMMessageAndSetName(port, asemModule, asemProjectModelPath, executionState);
 
         } else if (correspondingASEMComponent instanceof edu.kit.ipd.sdq.ASEM.classifiers.Class) {
 
@@ -98,7 +109,7 @@ public class PortTransformation
         Port port = (Port) change.getAffectedEObject();
 
         if (!(port.getOwner() instanceof org.eclipse.uml2.uml.Class
-                || port.getOwner().getAppliedStereotype(ASEMSysMLConstants.QUALIFIED_BLOCK_NAME) == null)) {
+                || !ASEMSysMLHelper.isBlock(port.getOwner()))) {
             return false;
         }
 
@@ -112,20 +123,17 @@ public class PortTransformation
     }
 
     private void createASEMMessageAndSetName(final Port port, final Module correspondingASEMModule,
-            final String asemProjectModelPath) {
+            final String asemProjectModelPath, final TransformationExecutionState executionState) {
 
-        Message message = DataexchangeFactory.eINSTANCE.createMessage();
-        message.setName(port.getName());
-        
-        // Set default values for access properties.
-        message.setReadable(true);
-        message.setWritable(true);
+        Message message = ASEMElementFactory.createMessage(port.getName());
 
-        TuidManager.getInstance().registerObjectUnderModification(correspondingASEMModule);
+        registerObjectUnderModification(executionState, correspondingASEMModule);
         correspondingASEMModule.getTypedElements().add(message);
 
-        persistASEMElement(port, correspondingASEMModule, asemProjectModelPath);
-        addCorrespondence(port, message);
+        persistASEMElement(executionState, port, correspondingASEMModule, asemProjectModelPath);
+        addCorrespondence(executionState, port, message);
+
+        logEvent(TransformationEvent.ELEMENT_CREATED, port.getName(), correspondingASEMModule.getName());
     }
 
 }
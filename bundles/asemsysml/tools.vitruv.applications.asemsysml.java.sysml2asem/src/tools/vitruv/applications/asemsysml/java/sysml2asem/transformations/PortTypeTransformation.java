@@ -1,7 +1,11 @@
 package tools.vitruv.applications.asemsysml.java.sysml2asem.transformations;
 
-import org.apache.log4j.Logger;
+import java.util.Collections;
+import java.util.Set;
+
+import org.eclipse.emf.ecore.EClass;
 import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EStructuralFeature;
 import org.eclipse.papyrus.sysml14.blocks.Block;
 import org.eclipse.uml2.uml.Port;
 import org.eclipse.uml2.uml.Type;
@@ -13,6 +17,8 @@ import edu.kit.ipd.sdq.ASEM.classifiers.Component;
 import edu.kit.ipd.sdq.ASEM.dataexchange.Variable;
 import tools.vitruv.applications.asemsysml.ASEMSysMLHelper;
 import tools.vitruv.applications.asemsysml.java.sysml2asem.AbstractTransformationRealization;
+import tools.vitruv.applications.asemsysml.java.sysml2asem.util.TransformationExecutionState;
+import tools.vitruv.applications.asemsysml.logging.TransformationEvent;
 import tools.vitruv.domains.asem.AsemNamespace;
 import tools.vitruv.framework.change.echange.EChange;
 import tools.vitruv.framework.change.echange.feature.reference.ReplaceSingleValuedEReference;
@@ -34,8 +40,6 @@ import tools.vitruv.framework.userinteraction.UserInteracting;
 public class PortTypeTransformation
         extends AbstractTransformationRealization<ReplaceSingleValuedEReference<EObject, EObject>> {
 
-    private static Logger logger = Logger.getLogger(PortTypeTransformation.class);
-
     public PortTypeTransformation(UserInteracting userInteracting) {
         super(userInteracting);
     }
@@ -46,16 +50,25 @@ public class PortTypeTransformation
     }
 
     @Override
-    protected void executeTransformation(ReplaceSingleValuedEReference<EObject, EObject> change) {
+    public Set<EStructuralFeature> getExpectedFeatures() {
+        return Collections.<EStructuralFeature> singleton(UMLPackage.Literals.TYPED_ELEMENT__TYPE);
+    }
 
-        logger.info("[ASEMSysML][JAVA] Transforming port type ...");
+    @Override
+    public Set<EClass> getExpectedAffectedEClasses() {
+        return Collections.singleton(UMLPackage.Literals.PORT);
+    }
+
+    @Override
+    protected void executeTransformation(ReplaceSingleValuedEReference<EObject, EObject> change,
+            TransformationExecutionState executionState) {
 
         Port port = (Port) change.getAffectedEObject();
         Type portType = port.getType();
 
         final Block block = ASEMSysMLHelper.getPortsBlock(port);
         final Component correspondingASEMComponent = ASEMSysMLHelper
-                .getFirstCorrespondingASEMElement(this.executionState.getCorrespondenceModel(), block, Component.class);
+                .getFirstCorrespondingASEMElement(executionState.getCorrespondenceModel(), block, Component.class);
 
         if (correspondingASEMComponent instanceof edu.kit.ipd.sdq.ASEM.classifiers.Class) {
             // In this case, the mapping of the port is direction specific. Therefore the
@@ -64,11 +77,11 @@ public class PortTypeTransformation
         }
 
         Classifier variableType = ASEMSysMLHelper.getClassifierForASEMVariable(portType,
-                this.executionState.getCorrespondenceModel());
+                executionState.getCorrespondenceModel());
 
         // Set variable type.
         Variable variable = ASEMSysMLHelper
-                .getFirstCorrespondingASEMElement(this.executionState.getCorrespondenceModel(), port, Variable.class);
+                .getFirstCorrespondingASEMElement(executionState.getCorrespondenceModel(), port, Variable.class);
         variable.setType(variableType);
 
         // Persist variable.
@@ -85,8 +98,10 @@ public class PortTypeTransformation
         final String asemProjectModelPath = ASEMSysMLHelper.getProjectModelPath(asemModelName,
                 AsemNamespace.FILE_EXTENSION);
 
-        persistASEMElement(port, container, asemProjectModelPath);
+        persistASEMElement(executionState, port, container, asemProjectModelPath);
 
+        logEvent(TransformationEvent.TYPE_CHANGED, port.getName(),
+                (variableType != null) ? variableType.getName() : null);
     }
 
     @Override
@@ -1,18 +1,20 @@
 package tools.vitruv.applications.asemsysml.java.sysml2asem.transformations;
 
-import org.apache.log4j.Logger;
+import java.util.Collections;
+import java.util.Set;
+
+import org.eclipse.emf.ecore.EClass;
 import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EStructuralFeature;
 import org.eclipse.uml2.uml.Model;
 import org.eclipse.uml2.uml.PrimitiveType;
+import org.eclipse.uml2.uml.UMLPackage;
 
-import edu.kit.ipd.sdq.ASEM.primitivetypes.BooleanType;
-import edu.kit.ipd.sdq.ASEM.primitivetypes.ContinuousType;
 import edu.kit.ipd.sdq.ASEM.primitivetypes.PrimitiveTypeRepository;
-import edu.kit.ipd.sdq.ASEM.primitivetypes.PrimitivetypesFactory;
-import edu.kit.ipd.sdq.ASEM.primitivetypes.SignedDiscreteType;
-import edu.kit.ipd.sdq.ASEM.primitivetypes.UnsignedDiscreteType;
 import tools.vitruv.applications.asemsysml.ASEMSysMLPrimitiveTypeHelper;
 import tools.vitruv.applications.asemsysml.java.sysml2asem.AbstractTransformationRealization;
+import tools.vitruv.applications.asemsysml.java.sysml2asem.util.TransformationExecutionState;
+import tools.vitruv.applications.asemsysml.logging.TransformationEvent;
 import tools.vitruv.framework.change.echange.EChange;
 import tools.vitruv.framework.change.echange.feature.reference.InsertEReference;
 import tools.vitruv.framework.userinteraction.UserInteracting;
@@ -30,8 +32,6 @@ import tools.vitruv.framework.userinteraction.UserInteracting;
  */
 public class PrimitiveTypeTransformation extends AbstractTransformationRealization<InsertEReference<EObject, EObject>> {
 
-    private static Logger logger = Logger.getLogger(PrimitiveTypeTransformation.class);
-
     public PrimitiveTypeTransformation(UserInteracting userInteracting) {
         super(userInteracting);
     }
@@ -42,11 +42,31 @@ public class PrimitiveTypeTransformation extends AbstractTransformationRealizati
     }
 
     @Override
-    protected void executeTransformation(InsertEReference<EObject, EObject> change) {
+    public Set<EStructuralFeature> getExpectedFeatures() {
+        return Collections.<EStructuralFeature> singleton(UMLPackage.Literals.PACKAGE__PACKAGED_ELEMENT);
+    }
+
+    @Override
+    public Set<EClass> getExpectedAffectedEClasses() {
+        return Collections.singleton(UMLPackage.Literals.MODEL);
+    }
+
+    @Override
+    protected void executeTransformation(InsertEReference<EObject, EObject> change,
+            TransformationExecutionState executionState) {
+
+        final EObject sysmlModel = change.getAffectedEObject();
 
-        if (!ASEMSysMLPrimitiveTypeHelper.isPrimitiveTypeModelInitialized(change.getAffectedEObject())) {
-            logger.info("[ASEMSysML][Java] Initialize ASEM primitive types.");
-            initializeASEMPrimitveTypeRepo(change.getAffectedEObject());
+        if (ASEMSysMLPrimitiveTypeHelper.claimPrimitiveTypeModelInitialization(sysmlModel)) {
+            logEvent(TransformationEvent.MODEL_INITIALIZED, sysmlModel.getName());
+
+            try {
+                initializeASEMPrimitveTypeRepo(sysmlModel, executionState);
+            } catch (RuntimeException e) {
+                // Enable a new initialization attempt.
+                ASEMSysMLPrimitiveTypeHelper.resetRepoInitializationFlag(sysmlModel.eResource().getResourceSet());
+                throw e;
+            }
         }
     }
 
@@ -63,28 +83,12 @@ public class PrimitiveTypeTransformation extends AbstractTransformationRealizati
         return (change.getNewValue() instanceof PrimitiveType);
     }
 
-    private void initializeASEMPrimitveTypeRepo(final EObject alreadyPersistedObject) {
-
-        PrimitiveTypeRepository primitiveTypeRepo = PrimitivetypesFactory.eINSTANCE.createPrimitiveTypeRepository();
-        primitiveTypeRepo.setName("PrimitiveTypeRepo");
-
-        BooleanType pBoolean = PrimitivetypesFactory.eINSTANCE.createBooleanType();
-        pBoolean.setName("Boolean");
-        primitiveTypeRepo.getPrimitiveTypes().add(pBoolean);
-
-        ContinuousType pContinuous = PrimitivetypesFactory.eINSTANCE.createContinuousType();
-        pContinuous.setName("Continuous");
-        primitiveTypeRepo.getPrimitiveTypes().add(pContinuous);
-
-        UnsignedDiscreteType pUnsignedDiscrete = PrimitivetypesFactory.eINSTANCE.createUnsignedDiscreteType();
-        pUnsignedDiscrete.setName("UnsignedDiscrete");
-        primitiveTypeRepo.getPrimitiveTypes().add(pUnsignedDiscrete);
+    private void initializeASEMPrimitveTypeRepo(final EObject alreadyPersistedObject,
+            final TransformationExecutionState executionState) {
 
-        SignedDiscreteType pSignedDiscrete = PrimitivetypesFactory.eINSTANCE.createSignedDiscreteType();
-        pSignedDiscrete.setName("SignedDiscrete");
-        primitiveTypeRepo.getPrimitiveTypes().add(pSignedDiscrete);
+        PrimitiveTypeRepository primitiveTypeRepo = ASEMSysMLPrimitiveTypeHelper.createPrimitiveTypeRepository();
 
-        persistASEMElement(alreadyPersistedObject, primitiveTypeRepo,
+        persistASEMElement(executionState, alreadyPersistedObject, primitiveTypeRepo,
                 ASEMSysMLPrimitiveTypeHelper.getPrimitiveTypeProjectModelPath());
 
     }
@@ -1,7 +1,11 @@
 package tools.vitruv.applications.asemsysml.java.sysml2asem.transformations;
 
-import org.apache.log4j.Logger;
+import java.util.Collections;
+import java.util.Set;
+
+import org.eclipse.emf.ecore.EClass;
 import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EStructuralFeature;
 import org.eclipse.uml2.uml.Port;
 import org.eclipse.uml2.uml.Property;
 import org.eclipse.uml2.uml.UMLPackage;
@@ -9,6 +13,9 @@ import org.eclipse.uml2.uml.UMLPackage;
 import edu.kit.ipd.sdq.ASEM.dataexchange.Variable;
 import tools.vitruv.applications.asemsysml.ASEMSysMLHelper;
 import tools.vitruv.applications.asemsysml.java.sysml2asem.AbstractTransformationRealization;
+import tools.vitruv.applications.asemsysml.java.sysml2asem.util.ASEMElementFactory;
+import tools.vitruv.applications.asemsysml.java.sysml2asem.util.TransformationExecutionState;
+import tools.vitruv.applications.asemsysml.logging.TransformationEvent;
 import tools.vitruv.domains.asem.AsemNamespace;
 import tools.vitruv.framework.change.echange.EChange;
 import tools.vitruv.framework.change.echange.feature.attribute.ReplaceSingleValuedEAttribute;
@@ -29,8 +36,6 @@ import tools.vitruv.framework.userinteraction.UserInteracting;
 public class PropertyAccessTransformation
         extends AbstractTransformationRealization<ReplaceSingleValuedEAttribute<EObject, Object>> {
 
-    private static Logger logger = Logger.getLogger(PropertyAccessTransformation.class);
-
     public PropertyAccessTransformation(UserInteracting userInteracting) {
         super(userInteracting);
     }
@@ -41,25 +46,34 @@ public class PropertyAccessTransformation
     }
 
     @Override
-    protected void executeTransformation(ReplaceSingleValuedEAttribute<EObject, Object> change) {
+    public Set<EStructuralFeature> getExpectedFeatures() {
+        return Collections.<EStructuralFeature> singleton(UMLPackage.Literals.STRUCTURAL_FEATURE__IS_READ_ONLY);
+    }
+
+    @Override
+    public Set<EClass> getExpectedAffectedEClasses() {
+        return Collections.singleton(UMLPackage.Literals.PROPERTY);
+    }
+
+    @Override
+    protected void executeTransformation(ReplaceSingleValuedEAttribute<EObject, Object> change,
+            TransformationExecutionState executionState) {
 
         final Property property = (Property) change.getAffectedEObject();
         final org.eclipse.uml2.uml.Class propertyContainer = property.getClass_();
         final Variable variable = ASEMSysMLHelper.getFirstCorrespondingASEMElement(
-                this.executionState.getCorrespondenceModel(), property, Variable.class);
+                executionState.getCorrespondenceModel(), property, Variable.class);
 
-        logger.info("[ASEMSysML][Java] Set the access parameters of the variable corresponding to the SysML property "
-                + property.getName() + "...");
+        logEvent(TransformationEvent.ACCESS_CHANGED, property.getName(), property.isReadOnly());
 
-        variable.setReadable(true);
-        variable.setWritable(!property.isReadOnly());
+        ASEMElementFactory.setVariableAccess(variable, property.isReadOnly());
 
         final String asemModelName = ASEMSysMLHelper.getASEMModelName(propertyContainer.getName());
         final String asemProjectModelPath = ASEMSysMLHelper.getProjectModelPath(asemModelName,
                 AsemNamespace.FILE_EXTENSION);
 
-        persistASEMElement(property, variable, asemProjectModelPath);
-        addCorrespondence(property, variable);
+        persistASEMElement(executionState, property, variable, asemProjectModelPath);
+        addCorrespondence(executionState, property, variable);
     }
 
     @Override
@@ -76,11 +90,7 @@ public class PropertyAccessTransformation
     }
 
     private boolean isNotAPartReference(ReplaceSingleValuedEAttribute<EObject, Object> change) {
-        Property property = (Property) change.getAffectedEObject();
-        // TODO [BR] Use the aggregation kind 'COMPOSITE' to check, whether its a part reference or
-        // not. But this information is not set at this moment in time.
-        // return !(property.getAggregation().equals(AggregationKind.COMPOSITE));
-        return !property.getName().contains("part");
+        return !ASEMSysMLHelper.isPartReference((Property) change.getAffectedEObject());
     }
 
 }
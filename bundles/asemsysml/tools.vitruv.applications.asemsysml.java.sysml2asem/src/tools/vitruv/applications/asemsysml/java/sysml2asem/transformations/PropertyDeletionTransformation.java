@@ -1,9 +1,11 @@
 package tools.vitruv.applications.asemsysml.java.sysml2asem.transformations;
 
 import java.util.Collections;
+import java.util.Set;
 
-import org.apache.log4j.Logger;
+import org.eclipse.emf.ecore.EClass;
 import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EStructuralFeature;
 import org.eclipse.emf.ecore.util.EcoreUtil;
 import org.eclipse.uml2.uml.Port;
 import org.eclipse.uml2.uml.Property;
@@ -12,6 +14,8 @@ import org.eclipse.uml2.uml.UMLPackage;
 import edu.kit.ipd.sdq.ASEM.dataexchange.Variable;
 import tools.vitruv.applications.asemsysml.ASEMSysMLHelper;
 import tools.vitruv.applications.asemsysml.java.sysml2asem.AbstractTransformationRealization;
+import tools.vitruv.applications.asemsysml.java.sysml2asem.util.TransformationExecutionState;
+import tools.vitruv.applications.asemsysml.logging.TransformationEvent;
 import tools.vitruv.framework.change.echange.EChange;
 import tools.vitruv.framework.change.echange.feature.reference.RemoveEReference;
 import tools.vitruv.framework.userinteraction.UserInteracting;
@@ -28,8 +32,6 @@ import tools.vitruv.framework.userinteraction.UserInteracting;
 public class PropertyDeletionTransformation
         extends AbstractTransformationRealization<RemoveEReference<EObject, EObject>> {
 
-    private static Logger logger = Logger.getLogger(PropertyAccessTransformation.class);
-
     public PropertyDeletionTransformation(UserInteracting userInteracting) {
         super(userInteracting);
     }
@@ -40,18 +42,27 @@ public class PropertyDeletionTransformation
     }
 
     @Override
-    protected void executeTransformation(RemoveEReference<EObject, EObject> change) {
+    public Set<EStructuralFeature> getExpectedFeatures() {
+        return Collections.<EStructuralFeature> singleton(UMLPackage.Literals.STRUCTURED_CLASSIFIER__OWNED_ATTRIBUTE);
+    }
+
+    @Override
+    public Set<EClass> getExpectedAffectedEClasses() {
+        return Collections.singleton(UMLPackage.Literals.CLASS);
+    }
+
+    @Override
+    protected void executeTransformation(RemoveEReference<EObject, EObject> change,
+            TransformationExecutionState executionState) {
 
         final Property property = (Property) change.getOldValue();
         final Variable variable = ASEMSysMLHelper.getFirstCorrespondingASEMElement(
-                this.executionState.getCorrespondenceModel(), property, Variable.class);
+                executionState.getCorrespondenceModel(), property, Variable.class);
 
-        logger.info(
-                "[ASEMSysML][Java] Delete variable corresponding to the SysML property " + property.getName() + "...");
+        logEvent(TransformationEvent.ELEMENT_DELETED, property.getName());
 
         EcoreUtil.delete(variable);
-        this.executionState.getCorrespondenceModel()
-                .removeCorrespondencesThatInvolveAtLeastAndDependend(Collections.singleton(property));
+        ASEMSysMLHelper.removeCorrespondences(executionState.getCorrespondenceModel(), property);
 
     }
 
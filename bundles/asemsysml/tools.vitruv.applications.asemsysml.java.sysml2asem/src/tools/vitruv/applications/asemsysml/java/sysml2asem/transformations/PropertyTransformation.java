@@ -1,16 +1,22 @@
 package tools.vitruv.applications.asemsysml.java.sysml2asem.transformations;
 
-import org.apache.log4j.Logger;
+import java.util.Collections;
+import java.util.Set;
+
+import org.eclipse.emf.ecore.EClass;
 import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EStructuralFeature;
 import org.eclipse.uml2.uml.Port;
 import org.eclipse.uml2.uml.Property;
 import org.eclipse.uml2.uml.UMLPackage;
 
 import edu.kit.ipd.sdq.ASEM.classifiers.Component;
-import edu.kit.ipd.sdq.ASEM.dataexchange.DataexchangeFactory;
 import edu.kit.ipd.sdq.ASEM.dataexchange.Variable;
 import tools.vitruv.applications.asemsysml.ASEMSysMLHelper;
 import tools.vitruv.applications.asemsysml.java.sysml2asem.AbstractTransformationRealization;
+import tools.vitruv.applications.asemsysml.java.sysml2asem.util.ASEMElementFactory;
+import tools.vitruv.applications.asemsysml.java.sysml2asem.util.TransformationExecutionState;
+import tools.vitruv.applications.asemsysml.logging.TransformationEvent;
 import tools.vitruv.domains.asem.AsemNamespace;
 import tools.vitruv.framework.change.echange.EChange;
 import tools.vitruv.framework.change.echange.feature.attribute.ReplaceSingleValuedEAttribute;
@@ -30,8 +36,6 @@ import tools.vitruv.framework.userinteraction.UserInteracting;
 public class PropertyTransformation
         extends AbstractTransformationRealization<ReplaceSingleValuedEAttribute<EObject, Object>> {
 
-    private static Logger logger = Logger.getLogger(PropertyTransformation.class);
-
     public PropertyTransformation(UserInteracting userInteracting) {
         super(userInteracting);
     }
@@ -42,19 +46,26 @@ public class PropertyTransformation
     }
 
     @Override
-    protected void executeTransformation(ReplaceSingleValuedEAttribute<EObject, Object> change) {
+    public Set<EStructuralFeature> getExpectedFeatures() {
+        return Collections.<EStructuralFeature> singleton(UMLPackage.Literals.NAMED_ELEMENT__NAME);
+    }
+
+    @Override
+    public Set<EClass> getExpectedAffectedEClasses() {
+        return Collections.singleton(UMLPackage.Literals.PROPERTY);
+    }
+
+    @Override
+    protected void executeTransformation(ReplaceSingleValuedEAttribute<EObject, Object> change,
+            TransformationExecutionState executionState) {
 
         final Property property = (Property) change.getAffectedEObject();
         final org.eclipse.uml2.uml.Class propertyContainer = property.getClass_();
 
-        logger.info("[ASEMSysML][Java] Transforming the SysML property " + property.getName() + "...");
-        logger.info("[ASEMSysML][Java] Aggregation kind: " + property.getAggregation());
-
         Component correspondingContainer = ASEMSysMLHelper.getFirstCorrespondingASEMElement(
-                this.executionState.getCorrespondenceModel(), propertyContainer, Component.class);
+                executionState.getCorrespondenceModel(), propertyContainer, Component.class);
 
-        Variable variable = DataexchangeFactory.eINSTANCE.createVariable();
-        variable.setName(property.getName());
+        Variable variable = ASEMElementFactory.createVariable(property.getName());
 
         correspondingContainer.getTypedElements().add(variable);
 
@@ -62,8 +73,10 @@ public class PropertyTransformation
         final String asemProjectModelPath = ASEMSysMLHelper.getProjectModelPath(asemModelName,
                 AsemNamespace.FILE_EXTENSION);
 
-        persistASEMElement(property, correspondingContainer, asemProjectModelPath);
-        addCorrespondence(property, variable);
+        persistASEMElement(executionState, property, correspondingContainer, asemProjectModelPath);
+        addCorrespondence(executionState, property, variable);
+
+        logEvent(TransformationEvent.ELEMENT_CREATED, property.getName(), propertyContainer.getName());
     }
 
     @Override
@@ -80,11 +93,7 @@ public class PropertyTransformation
     }
 
     private boolean isNotAPartReference(ReplaceSingleValuedEAttribute<EObject, Object> change) {
-        Property property = (Property) change.getAffectedEObject();
-        // TODO [BR] Use the aggregation kind 'COMPOSITE' to check, whether its a part reference or
-        // not. But this information is not set at this moment in time.
-        // return !(property.getAggregation().equals(AggregationKind.COMPOSITE));
-        return !property.getName().contains("part");
+        return !ASEMSysMLHelper.isPartReference((Property) change.getAffectedEObject());
     }
 
     private boolean nameHasChanged(ReplaceSingleValuedEAttribute<EObject, Object> change) {
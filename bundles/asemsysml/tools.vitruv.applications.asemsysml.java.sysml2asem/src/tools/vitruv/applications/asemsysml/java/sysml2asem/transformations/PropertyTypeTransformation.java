@@ -1,7 +1,12 @@
 package tools.vitruv.applications.asemsysml.java.sysml2asem.transformations;
 
+import java.util.Collections;
+import java.util.Set;
+
 import org.apache.log4j.Logger;
+import org.eclipse.emf.ecore.EClass;
 import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EStructuralFeature;
 import org.eclipse.uml2.uml.Port;
 import org.eclipse.uml2.uml.Property;
 import org.eclipse.uml2.uml.UMLPackage;
@@ -10,6 +15,8 @@ import edu.kit.ipd.sdq.ASEM.classifiers.Classifier;
 import edu.kit.ipd.sdq.ASEM.dataexchange.Variable;
 import tools.vitruv.applications.asemsysml.ASEMSysMLHelper;
 import tools.vitruv.applications.asemsysml.java.sysml2asem.AbstractTransformationRealization;
+import tools.vitruv.applications.asemsysml.java.sysml2asem.util.TransformationExecutionState;
+import tools.vitruv.applications.asemsysml.logging.TransformationEvent;
 import tools.vitruv.domains.asem.AsemNamespace;
 import tools.vitruv.framework.change.echange.EChange;
 import tools.vitruv.framework.change.echange.feature.reference.ReplaceSingleValuedEReference;
@@ -42,22 +49,33 @@ public class PropertyTypeTransformation
     }
 
     @Override
-    protected void executeTransformation(ReplaceSingleValuedEReference<EObject, EObject> change) {
+    public Set<EStructuralFeature> getExpectedFeatures() {
+        return Collections.<EStructuralFeature> singleton(UMLPackage.Literals.TYPED_ELEMENT__TYPE);
+    }
+
+    @Override
+    public Set<EClass> getExpectedAffectedEClasses() {
+        return Collections.singleton(UMLPackage.Literals.PROPERTY);
+    }
+
+    @Override
+    protected void executeTransformation(ReplaceSingleValuedEReference<EObject, EObject> change,
+            TransformationExecutionState executionState) {
 
         final Property property = (Property) change.getAffectedEObject();
         final org.eclipse.uml2.uml.Class propertyContainer = property.getClass_();
         final Variable variable = ASEMSysMLHelper.getFirstCorrespondingASEMElement(
-                this.executionState.getCorrespondenceModel(), property, Variable.class);
+                executionState.getCorrespondenceModel(), property, Variable.class);
         final Classifier correspondingType = ASEMSysMLHelper.getFirstCorrespondingASEMElement(
-                this.executionState.getCorrespondenceModel(), property.getType(), Classifier.class);
+                executionState.getCorrespondenceModel(), property.getType(), Classifier.class);
 
         if (variable == null) {
             logger.warn("[ASEMSysML][Java] No corresponding variable was found!");
             return;
         }
 
-        logger.info("[ASEMSysML][Java] Set the type of the ASEM variable corresponding to the SysML property "
-                + property.getName() + "...");
+        logEvent(TransformationEvent.TYPE_CHANGED, property.getName(),
+                (correspondingType != null) ? correspondingType.getName() : null);
 
         variable.setType(correspondingType);
 
@@ -65,8 +83,8 @@ public class PropertyTypeTransformation
         final String asemProjectModelPath = ASEMSysMLHelper.getProjectModelPath(asemModelName,
                 AsemNamespace.FILE_EXTENSION);
 
-        persistASEMElement(property, variable, asemProjectModelPath);
-        addCorrespondence(property, variable);
+        persistASEMElement(executionState, property, variable, asemProjectModelPath);
+        addCorrespondence(executionState, property, variable);
     }
 
     @Override
@@ -79,11 +97,7 @@ public class PropertyTypeTransformation
     }
 
     private boolean isNotAPartReference(ReplaceSingleValuedEReference<EObject, EObject> change) {
-        Property property = (Property) change.getAffectedEObject();
-        // TODO [BR] Use the aggregation kind 'COMPOSITE' to check, whether its a part reference or
-        // not. But this information is not set at this moment in time.
-        // return !(property.getAggregation().equals(AggregationKind.COMPOSITE));
-        return !property.getName().contains("part");
+        return !ASEMSysMLHelper.isPartReference((Property) change.getAffectedEObject());
     }
 
     private boolean typeWasChanged(ReplaceSingleValuedEReference<EObject, EObject> change) {
@@ -0,0 +1,218 @@
+package tools.vitruv.applications.asemsysml.java.sysml2asem.util;
+
+import org.eclipse.papyrus.sysml14.portsandflows.FlowDirection;
+
+import edu.kit.ipd.sdq.ASEM.classifiers.Classifier;
+import edu.kit.ipd.sdq.ASEM.classifiers.ClassifiersFactory;
+import edu.kit.ipd.sdq.ASEM.classifiers.Component;
+import edu.kit.ipd.sdq.ASEM.classifiers.Module;
+import edu.kit.ipd.sdq.ASEM.dataexchange.Constant;
+import edu.kit.ipd.sdq.ASEM.dataexchange.DataexchangeFactory;
+import edu.kit.ipd.sdq.ASEM.dataexchange.Message;
+import edu.kit.ipd.sdq.ASEM.dataexchange.Method;
+import edu.kit.ipd.sdq.ASEM.dataexchange.Parameter;
+import edu.kit.ipd.sdq.ASEM.dataexchange.ReturnType;
+import edu.kit.ipd.sdq.ASEM.dataexchange.Variable;
+
+/**
+ * Creates the ASEM elements which correspond to SysML elements. <br>
+ * <br>
+ * 
+ * The java transformations and the bulk transformation create the ASEM elements with this factory,
+ * so that a SysML element is mapped to the same ASEM element regardless of whether it is
+ * transformed change by change or as part of a whole model.
+ * 
+ * @author Benjamin Rupp
+ * 
+ */
+public final class ASEMElementFactory {
+
+    /** The method name which is used if no method name was entered. */
+    public static final String DEFAULT_METHOD_NAME = "SampleMethodName";
+
+    /** Utility classes should not have a public or default constructor. */
+    private ASEMElementFactory() {
+    }
+
+    /**
+     * Create the ASEM component which corresponds to a SysML block.
+     * 
+     * @param componentType
+     *            The type of the ASEM component, i.e. {@link Module} or
+     *            {@link edu.kit.ipd.sdq.ASEM.classifiers.Class Class}.
+     * @param name
+     *            The name of the block.
+     * @return The new component or <code>null</code> if the component type is not supported.
+     */
+    public static Component createComponent(final Class<?> componentType, final String name) {
+
+        final Component component;
+
+        if (Module.class.isAssignableFrom(componentType)) {
+            component = ClassifiersFactory.eINSTANCE.createModule();
+        } else if (edu.kit.ipd.sdq.ASEM.classifiers.Class.class.isAssignableFrom(componentType)) {
+            component = ClassifiersFactory.eINSTANCE.createClass();
+        } else {
+            return null;
+        }
+
+        component.setName(name);
+
+        return component;
+    }
+
+    /**
+     * Create the ASEM message which corresponds to a port of a block which is mapped to an ASEM
+     * module. The message is readable and writable until its access is
+     * {@link #setMessageAccess(Message, FlowDirection) set by the flow direction of the port}.
+     * 
+     * @param name
+     *            The name of the port.
+     * @return The new message.
+     */
+    public static Message createMessage(final String name) {
+
+        final Message message = DataexchangeFactory.eINSTANCE.createMessage();
+        message.setName(name);
+
+        // Set default values for access properties.
+        message.setReadable(true);
+        message.setWritable(true);
+
+        return message;
+    }
+
+    /**
+     * Set the access properties of an ASEM message according to the flow direction of its port.
+     * 
+     * @param message
+     *            The message of the port.
+     * @param flowDirection
+     *            The flow direction of the port. If it is <code>null</code>, the access properties
+     *            are not changed.
+     */
+    public static void setMessageAccess(final Message message, final FlowDirection flowDirection) {
+
+        if (flowDirection == null) {
+            return;
+        }
+
+        switch (flowDirection) {
+        case IN:
+            message.setReadable(true);
+            message.setWritable(false);
+            break;
+        case OUT:
+            message.setReadable(false);
+            message.setWritable(true);
+            break;
+        case INOUT:
+            message.setReadable(true);
+            message.setWritable(true);
+            break;
+
+        default:
+            break;
+        }
+    }
+
+    /**
+     * Create an ASEM method for the ports of a block which is mapped to an ASEM class.
+     * 
+     * @param name
+     *            The name of the method. If it is <code>null</code> or empty, the
+     *            {@value #DEFAULT_METHOD_NAME default name} is used.
+     * @return The new method.
+     */
+    public static Method createMethod(final String name) {
+
+        final Method method = DataexchangeFactory.eINSTANCE.createMethod();
+        method.setName((name == null || name.isEmpty()) ? DEFAULT_METHOD_NAME : name);
+
+        return method;
+    }
+
+    /**
+     * Create the ASEM parameter which corresponds to an incoming port of a block which is mapped to
+     * an ASEM class.
+     * 
+     * @param name
+     *            The name of the port.
+     * @param type
+     *            The ASEM type of the port.
+     * @return The new parameter.
+     */
+    public static Parameter createParameter(final String name, final Classifier type) {
+
+        final Parameter parameter = DataexchangeFactory.eINSTANCE.createParameter();
+        parameter.setName(name);
+        parameter.setType(type);
+
+        return parameter;
+    }
+
+    /**
+     * Create the ASEM return type which corresponds to an outgoing port of a block which is mapped
+     * to an ASEM class.
+     * 
+     * @param name
+     *            The name of the port.
+     * @param type
+     *            The ASEM type of the port.
+     * @return The new return type.
+     */
+    public static ReturnType createReturnType(final String name, final Classifier type) {
+
+        final ReturnType returnType = DataexchangeFactory.eINSTANCE.createReturnType();
+        returnType.setName(name);
+        returnType.setType(type);
+
+        return returnType;
+    }
+
+    /**
+     * Create the ASEM constant which corresponds to a part property.
+     * 
+     * @param name
+     *            The name of the part property.
+     * @param partComponent
+     *            The ASEM component which corresponds to the type of the part property.
+     * @return The new constant.
+     */
+    public static Constant createConstant(final String name, final Component partComponent) {
+
+        final Constant constant = DataexchangeFactory.eINSTANCE.createConstant();
+        constant.setName(name);
+        constant.setType(partComponent);
+
+        return constant;
+    }
+
+    /**
+     * Create the ASEM variable which corresponds to a property of a block.
+     * 
+     * @param name
+     *            The name of the property.
+     * @return The new variable.
+     */
+    public static Variable createVariable(final String name) {
+
+        final Variable variable = DataexchangeFactory.eINSTANCE.createVariable();
+        variable.setName(name);
+
+        return variable;
+    }
+
+    /**
+     * Set the access properties of an ASEM variable according to its property.
+     * 
+     * @param variable
+     *            The variable of the property.
+     * @param readOnly
+     *            Whether the property is read only.
+     */
+    public static void setVariableAccess(final Variable variable, final boolean readOnly) {
+        variable.setReadable(true);
+        variable.setWritable(!readOnly);
+    }
+}
@@ -2,30 +2,47 @@ package tools.vitruv.applications.asemsysml.java.sysml2asem.util;
 
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.HashMap;
-import java.util.HashSet;
-import java.util.LinkedList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EStructuralFeature;
 
 import tools.vitruv.applications.asemsysml.java.sysml2asem.AbstractTransformationRealization;
 import tools.vitruv.applications.asemsysml.java.sysml2asem.JavaTransformationRealization;
 import tools.vitruv.framework.change.echange.EChange;
+import tools.vitruv.framework.change.echange.feature.FeatureEChange;
 
 /**
  * This class provides a map which stores the available java transformations the change types they
- * react to.
+ * react to. <br>
+ * <br>
+ * 
+ * The transformations which are available for a concrete change class are resolved only once and
+ * stored in a dispatch table. For feature changes the dispatch table is additionally keyed by the
+ * affected feature and the class of the affected object, so that only transformations which listen
+ * to this feature and class are returned. The dispatch table is invalidated each time a new
+ * transformation is added.
+ * 
+ * @see JavaTransformationRealization#getExpectedFeatures()
+ * @see JavaTransformationRealization#getExpectedAffectedEClasses()
  * 
  * @author Benjamin Rupp
  *
  */
 public class Change2TransformationMap {
 
-    private Map<Class<? extends EChange>, List<JavaTransformationRealization>> change2transformationMap;
+    private final List<TransformationRegistration> registrations;
+    private final Map<DispatchKey, List<JavaTransformationRealization>> dispatchTable;
 
     public Change2TransformationMap() {
-        this.change2transformationMap = new HashMap<Class<? extends EChange>, List<JavaTransformationRealization>>();
+        this.registrations = new ArrayList<TransformationRegistration>();
+        this.dispatchTable = new ConcurrentHashMap<DispatchKey, List<JavaTransformationRealization>>();
     }
 
     /**
@@ -39,64 +56,163 @@ public class Change2TransformationMap {
     public void addJavaTransformation(final Class<? extends EChange> changeType,
             final JavaTransformationRealization transformation) {
 
-        if (!this.change2transformationMap.containsKey(changeType)) {
-            this.change2transformationMap.put(changeType, new ArrayList<JavaTransformationRealization>());
-        }
+        this.registrations.add(new TransformationRegistration(changeType, transformation));
 
-        this.change2transformationMap.get(changeType).add(transformation);
+        // The already resolved transformation lists may be incomplete now.
+        this.dispatchTable.clear();
 
     }
 
     /**
-     * Get the available java transformations for the given change.
+     * Get the available java transformations for the given change. <br>
+     * <br>
+     * 
+     * The transformations are returned in the order they were added to this map. A transformation
+     * which was added for several super types of the change is contained only once.
      * 
      * @param change
      *            The change for which the available transformations are searched.
      * 
-     * @return A set of {@link AbstractTransformationRealization java transformations} or
-     *         <code>null</code> if no transformation is available.
+     * @return An unmodifiable list of {@link AbstractTransformationRealization java
+     *         transformations}. The list is empty if no transformation is available.
      */
-    public Set<JavaTransformationRealization> getJavaTransformations(final EChange change) {
+    public List<JavaTransformationRealization> getJavaTransformations(final EChange change) {
 
-        Set<JavaTransformationRealization> availableTransformations = new HashSet<JavaTransformationRealization>();
+        final DispatchKey dispatchKey = DispatchKey.of(change);
+        List<JavaTransformationRealization> availableTransformations = this.dispatchTable.get(dispatchKey);
 
-        Class<?> clazz = (Class<?>) change.getClass();
-        LinkedList<Class<?>> dependantInterfaces = new LinkedList<Class<?>>();
-        dependantInterfaces.addAll(Arrays.asList(change.getClass().getInterfaces()));
+        if (availableTransformations == null) {
+            availableTransformations = resolveJavaTransformations(dispatchKey);
+            this.dispatchTable.put(dispatchKey, availableTransformations);
+        }
 
-        // Get all transformations for the change class and its super classes.
-        while (clazz != null) {
+        return availableTransformations;
 
-            List<JavaTransformationRealization> currentTransformations = this.change2transformationMap.get(clazz);
+    }
+
+    private List<JavaTransformationRealization> resolveJavaTransformations(final DispatchKey dispatchKey) {
+
+        // A transformation is available if it was added for the change class, one of its super
+        // classes or one of the implemented interfaces and if it listens to the affected feature
+        // and object.
+        Set<JavaTransformationRealization> availableTransformations = new LinkedHashSet<JavaTransformationRealization>();
 
-            if (currentTransformations != null) {
-                availableTransformations.addAll(currentTransformations);
+        for (TransformationRegistration registration : this.registrations) {
+            if (registration.changeType.isAssignableFrom(dispatchKey.changeClass)
+                    && isFeatureExpected(registration.transformation, dispatchKey.affectedFeature)
+                    && isAffectedEClassExpected(registration.transformation, dispatchKey.affectedEClass)) {
+                availableTransformations.add(registration.transformation);
             }
+        }
+
+        if (availableTransformations.isEmpty()) {
+            return Collections.emptyList();
+        }
 
-            clazz = clazz.getSuperclass();
+        final JavaTransformationRealization[] resolvedTransformations = availableTransformations
+                .toArray(new JavaTransformationRealization[availableTransformations.size()]);
+
+        return Collections.unmodifiableList(Arrays.asList(resolvedTransformations));
+    }
+
+    private static boolean isFeatureExpected(final JavaTransformationRealization transformation,
+            final EStructuralFeature affectedFeature) {
+
+        final Set<EStructuralFeature> expectedFeatures = transformation.getExpectedFeatures();
+
+        return (expectedFeatures.isEmpty() || expectedFeatures.contains(affectedFeature));
+    }
+
+    private static boolean isAffectedEClassExpected(final JavaTransformationRealization transformation,
+            final EClass affectedEClass) {
+
+        final Set<EClass> expectedEClasses = transformation.getExpectedAffectedEClasses();
+
+        if (expectedEClasses.isEmpty()) {
+            return true;
+        }
+
+        if (affectedEClass == null) {
+            return false;
+        }
 
-            if (clazz != null) {
-                // Collect the interfaces of the current class to check them later for available
-                // transformations.
-                dependantInterfaces.addAll(Arrays.asList(clazz.getInterfaces()));
+        for (EClass expectedEClass : expectedEClasses) {
+            if (expectedEClass.isSuperTypeOf(affectedEClass)) {
+                return true;
             }
         }
 
-        // Get all transformations for the interfaces of the change class and its super classes.
-        while (!dependantInterfaces.isEmpty()) {
+        return false;
+    }
+
+    /**
+     * A java transformation and the change type it was added for.
+     */
+    private static final class TransformationRegistration {
+
+        private final Class<? extends EChange> changeType;
+        private final JavaTransformationRealization transformation;
+
+        private TransformationRegistration(final Class<? extends EChange> changeType,
+                final JavaTransformationRealization transformation) {
+            this.changeType = changeType;
+            this.transformation = transformation;
+        }
+    }
+
+    /**
+     * The key of the dispatch table. It consists of the concrete change class and, for feature
+     * changes, of the affected feature and the class of the affected object.
+     */
+    private static final class DispatchKey {
+
+        private final Class<?> changeClass;
+        private final EStructuralFeature affectedFeature;
+        private final EClass affectedEClass;
 
-            final Class<?> currentInterface = dependantInterfaces.remove(0);
-            List<JavaTransformationRealization> currentTransformations = this.change2transformationMap
-                    .get(currentInterface);
+        private DispatchKey(final Class<?> changeClass, final EStructuralFeature affectedFeature,
+                final EClass affectedEClass) {
+            this.changeClass = changeClass;
+            this.affectedFeature = affectedFeature;
+            this.affectedEClass = affectedEClass;
+        }
+
+        private static DispatchKey of(final EChange change) {
 
-            if (currentTransformations != null) {
-                availableTransformations.addAll(currentTransformations);
+            if (!(change instanceof FeatureEChange)) {
+                return new DispatchKey(change.getClass(), null, null);
             }
 
-            dependantInterfaces.addAll(Arrays.asList(currentInterface.getInterfaces()));
+            final FeatureEChange<?, ?> featureChange = (FeatureEChange<?, ?>) change;
+            final EObject affectedEObject = featureChange.getAffectedEObject();
+
+            return new DispatchKey(change.getClass(), featureChange.getAffectedFeature(),
+                    affectedEObject != null ? affectedEObject.eClass() : null);
         }
 
-        return availableTransformations;
+        @Override
+        public int hashCode() {
+            int hash = this.changeClass.hashCode();
+            hash = 31 * hash + (this.affectedFeature != null ? this.affectedFeature.hashCode() : 0);
+            hash = 31 * hash + (this.affectedEClass != null ? this.affectedEClass.hashCode() : 0);
+            return hash;
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
 
+            if (this == obj) {
+                return true;
+            }
+
+            if (!(obj instanceof DispatchKey)) {
+                return false;
+            }
+
+            final DispatchKey other = (DispatchKey) obj;
+
+            return (this.changeClass == other.changeClass && this.affectedFeature == other.affectedFeature
+                    && this.affectedEClass == other.affectedEClass);
+        }
     }
 }
@@ -0,0 +1,69 @@
+package tools.vitruv.applications.asemsysml.java.sysml2asem.util;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.eclipse.emf.ecore.EObject;
+
+import tools.vitruv.framework.util.command.ChangePropagationResult;
+import tools.vitruv.framework.util.datatypes.VURI;
+
+/**
+ * Collects the root elements which have to be persisted during a batch of transformation
+ * executions. <br>
+ * <br>
+ * 
+ * Each root element is registered for persistence only once per batch, even if several
+ * transformations of the batch requested its persistence. If a root element was requested to be
+ * persisted with different VURIs (e.g. after renaming an ASEM component), the last requested VURI
+ * is used.
+ * 
+ * @author Benjamin Rupp
+ * 
+ */
+public class PersistenceBatch {
+
+    private final Map<EObject, VURI> rootElementsToPersist;
+
+    public PersistenceBatch() {
+        this.rootElementsToPersist = new LinkedHashMap<EObject, VURI>();
+    }
+
+    /**
+     * Request the persistence of a root element.
+     * 
+     * @param rootElement
+     *            The root element which has to be persisted.
+     * @param vuri
+     *            The VURI of the resource the root element has to be persisted in.
+     */
+    public void registerForEstablishPersistence(final EObject rootElement, final VURI vuri) {
+        this.rootElementsToPersist.put(rootElement, vuri);
+    }
+
+    /**
+     * Register all requested root elements for persistence in the given change propagation result
+     * and clear the batch afterwards.
+     * 
+     * @param propagationResult
+     *            The change propagation result in which the root elements are registered.
+     */
+    public void establishPersistence(final ChangePropagationResult propagationResult) {
+
+        for (Map.Entry<EObject, VURI> rootElementToPersist : this.rootElementsToPersist.entrySet()) {
+            propagationResult.registerForEstablishPersistence(rootElementToPersist.getKey(),
+                    rootElementToPersist.getValue());
+        }
+
+        this.rootElementsToPersist.clear();
+    }
+
+    /**
+     * @return <code>True</code> if no root element was requested to be persisted, otherwise
+     *         <code>false</code>.
+     */
+    public boolean isEmpty() {
+        return this.rootElementsToPersist.isEmpty();
+    }
+
+}
@@ -1,5 +1,6 @@
 package tools.vitruv.applications.asemsysml.java.sysml2asem.util;
 
+import tools.vitruv.applications.asemsysml.java.sysml2asem.global.TuidUpdateMode;
 import tools.vitruv.framework.correspondence.CorrespondenceModel;
 import tools.vitruv.framework.userinteraction.UserInteracting;
 import tools.vitruv.framework.util.command.ChangePropagationResult;
@@ -15,12 +16,29 @@ public class TransformationExecutionState {
     private final UserInteracting userInteracting;
     private final CorrespondenceModel correspondenceModel;
     private final ChangePropagationResult transformationResult;
+    private final PersistenceBatch persistenceBatch;
+    private final TuidUpdateBatch tuidUpdateBatch;
 
     public TransformationExecutionState(final UserInteracting userInteracting,
             final CorrespondenceModel correspondenceModel, final ChangePropagationResult transformationResult) {
+        this(userInteracting, correspondenceModel, transformationResult, null);
+    }
+
+    public TransformationExecutionState(final UserInteracting userInteracting,
+            final CorrespondenceModel correspondenceModel, final ChangePropagationResult transformationResult,
+            final PersistenceBatch persistenceBatch) {
+        this(userInteracting, correspondenceModel, transformationResult, persistenceBatch,
+                new TuidUpdateBatch(TuidUpdateMode.IMMEDIATE));
+    }
+
+    public TransformationExecutionState(final UserInteracting userInteracting,
+            final CorrespondenceModel correspondenceModel, final ChangePropagationResult transformationResult,
+            final PersistenceBatch persistenceBatch, final TuidUpdateBatch tuidUpdateBatch) {
         this.userInteracting = userInteracting;
         this.correspondenceModel = correspondenceModel;
         this.transformationResult = transformationResult;
+        this.persistenceBatch = persistenceBatch;
+        this.tuidUpdateBatch = tuidUpdateBatch;
     }
 
     public UserInteracting getUserInteracting() {
@@ -35,4 +53,24 @@ public class TransformationExecutionState {
         return this.transformationResult;
     }
 
+    /**
+     * @return The batch in which the elements to persist are collected or <code>null</code> if the
+     *         transformation is not executed as part of a batch.
+     */
+    public PersistenceBatch getPersistenceBatch() {
+        return this.persistenceBatch;
+    }
+
+    /**
+     * @return The batch in which the objects under modification are registered and which updates
+     *         their TUIDs.
+     */
+    public TuidUpdateBatch getTuidUpdateBatch() {
+        return this.tuidUpdateBatch;
+    }
+
+    public boolean isBatchExecution() {
+        return (this.persistenceBatch != null);
+    }
+
 }
@@ -0,0 +1,158 @@
+package tools.vitruv.applications.asemsysml.java.sysml2asem.util;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+
+import org.eclipse.emf.ecore.EObject;
+
+import tools.vitruv.applications.asemsysml.java.sysml2asem.global.TuidUpdateMode;
+import tools.vitruv.framework.tuid.TuidManager;
+
+/**
+ * Collects the objects which are modified by the java transformations and updates their TUIDs
+ * depending on the {@link TuidUpdateMode}. <br>
+ * <br>
+ * 
+ * The {@link TuidManager} remembers the TUID of an object at the time the object is registered.
+ * Therefore an object is registered only once until the next update of the TUIDs. Otherwise a
+ * second registration of an object which was already modified would overwrite its old TUID and the
+ * TUID could not be updated anymore. This way the deferred modes update the same TUIDs as the
+ * {@link TuidUpdateMode#IMMEDIATE immediate} mode. <br>
+ * <br>
+ * 
+ * The {@link TuidManager} is a singleton of the JVM. A batch must therefore only be used while no
+ * other change is propagated, see
+ * {@link tools.vitruv.applications.asemsysml.java.sysml2asem.global.SysML2ASEMJavaChangePropagationSpecification
+ * SysML2ASEMJavaChangePropagationSpecification}.
+ * 
+ * @author Benjamin Rupp
+ * 
+ */
+public class TuidUpdateBatch {
+
+    private final TuidUpdateMode mode;
+    private final Set<EObject> registeredObjects;
+    private boolean updatePending;
+    private int immediateUpdates;
+    private int deferredUpdates;
+
+    /**
+     * Create a new TUID update batch.
+     * 
+     * @param mode
+     *            The mode which defines when the TUIDs are updated.
+     */
+    public TuidUpdateBatch(final TuidUpdateMode mode) {
+
+        if (mode == null) {
+            throw new IllegalArgumentException("TUID update mode must not be null.");
+        }
+
+        this.mode = mode;
+        this.registeredObjects = Collections.newSetFromMap(new IdentityHashMap<EObject, Boolean>());
+        this.updatePending = false;
+    }
+
+    /**
+     * Register an object which is going to be modified, if it was not registered since the last
+     * update of the TUIDs.
+     * 
+     * @param objectUnderModification
+     *            The object which is going to be modified.
+     */
+    public void registerObjectUnderModification(final EObject objectUnderModification) {
+
+        if (objectUnderModification != null && this.registeredObjects.add(objectUnderModification)) {
+            TuidManager.getInstance().registerObjectUnderModification(objectUnderModification);
+        }
+    }
+
+    /**
+     * Notify the batch that the registered objects were modified and their TUIDs have to be
+     * updated. The TUIDs are updated immediately in {@link TuidUpdateMode#IMMEDIATE immediate}
+     * mode only.
+     */
+    public void objectsModified() {
+
+        this.updatePending = true;
+
+        if (this.mode == TuidUpdateMode.IMMEDIATE && this.updateTuids()) {
+            this.immediateUpdates++;
+        }
+    }
+
+    /**
+     * Notify the batch that a transformation execution has finished. Pending TUID updates are
+     * applied and the registered objects are flushed, unless the mode is
+     * {@link TuidUpdateMode#PER_BATCH per batch}.
+     * 
+     * @param successful
+     *            <code>True</code> if the transformation was executed successfully. If the
+     *            transformation failed, pending updates are dropped.
+     */
+    public void transformationFinished(final boolean successful) {
+
+        if (this.mode != TuidUpdateMode.PER_BATCH) {
+            this.finish(successful);
+        }
+    }
+
+    /**
+     * Notify the batch that the propagation of the change has finished. Pending TUID updates are
+     * applied and the registered objects are flushed.
+     * 
+     * @param successful
+     *            <code>True</code> if the change was propagated successfully. If the propagation
+     *            failed, pending updates are dropped.
+     */
+    public void batchFinished(final boolean successful) {
+        this.finish(successful);
+    }
+
+    public TuidUpdateMode getMode() {
+        return this.mode;
+    }
+
+    /**
+     * @return The number of TUID updates which were applied as soon as the objects were modified.
+     */
+    public int getNumberOfImmediateUpdates() {
+        return this.immediateUpdates;
+    }
+
+    /**
+     * @return The number of TUID updates which were deferred to the end of a transformation
+     *         execution or of the batch.
+     */
+    public int getNumberOfDeferredUpdates() {
+        return this.deferredUpdates;
+    }
+
+    private void finish(final boolean successful) {
+
+        try {
+            if (successful && this.updateTuids()) {
+                this.deferredUpdates++;
+            }
+        } finally {
+            // The objects are no longer under modification, even if there was an exception.
+            TuidManager.getInstance().flushRegisteredObjectsUnderModification();
+            this.registeredObjects.clear();
+            this.updatePending = false;
+        }
+    }
+
+    private boolean updateTuids() {
+
+        if (!this.updatePending) {
+            return false;
+        }
+
+        TuidManager.getInstance().updateTuidsOfRegisteredObjects();
+        this.registeredObjects.clear();
+        this.updatePending = false;
+
+        return true;
+    }
+}
@@ -0,0 +1,77 @@
+package tools.vitruv.applications.asemsysml.reactions.asem2sysml;
+
+import tools.vitruv.applications.asemsysml.metrics.TransformationMetricsRegistry;
+
+/**
+ * The names of the reactions from <b>ASEM to SysML</b>. The names identify the
+ * {@link TransformationMetricsRegistry#getMetrics(String) metrics} and the logged events of a
+ * reaction.
+ *
+ * @author Benjamin Rupp
+ *
+ */
+public final class ASEM2SysMLReactionNames {
+
+    private static final String PREFIX = TransformationMetricsRegistry.REACTIONS_PREFIX + "asem2sysml.";
+
+    /** The name of the reaction <i>Initialization</i>. */
+    public static final String INITIALIZATION = PREFIX + "Initialization";
+
+    /** The name of the reaction <i>ComponentTransformation</i>. */
+    public static final String COMPONENT_TRANSFORMATION = PREFIX + "ComponentTransformation";
+
+    /** The name of the reaction <i>ComponentDeletionTransformation</i>. */
+    public static final String COMPONENT_DELETION_TRANSFORMATION = PREFIX + "ComponentDeletionTransformation";
+
+    /** The name of the reaction <i>ConstantTransformation</i>. */
+    public static final String CONSTANT_TRANSFORMATION = PREFIX + "ConstantTransformation";
+
+    /** The name of the reaction <i>ConstantDeletionTransformation</i>. */
+    public static final String CONSTANT_DELETION_TRANSFORMATION = PREFIX + "ConstantDeletionTransformation";
+
+    /** The name of the reaction <i>ConstantTypeChangeTransformation</i>. */
+    public static final String CONSTANT_TYPE_CHANGE_TRANSFORMATION = PREFIX + "ConstantTypeChangeTransformation";
+
+    /** The name of the reaction <i>MessageTransformation</i>. */
+    public static final String MESSAGE_TRANSFORMATION = PREFIX + "MessageTransformation";
+
+    /** The name of the reaction <i>MessageDeletionTransformation</i>. */
+    public static final String MESSAGE_DELETION_TRANSFORMATION = PREFIX + "MessageDeletionTransformation";
+
+    /** The name of the reaction <i>ParameterTransformation</i>. */
+    public static final String PARAMETER_TRANSFORMATION = PREFIX + "ParameterTransformation";
+
+    /** The name of the reaction <i>ParameterDeletionTransformation</i>. */
+    public static final String PARAMETER_DELETION_TRANSFORMATION = PREFIX + "ParameterDeletionTransformation";
+
+    /** The name of the reaction <i>ReturnTypeTransformation</i>. */
+    public static final String RETURN_TYPE_TRANSFORMATION = PREFIX + "ReturnTypeTransformation";
+
+    /** The name of the reaction <i>ReturnTypeDeletionTransformation</i>. */
+    public static final String RETURN_TYPE_DELETION_TRANSFORMATION = PREFIX + "ReturnTypeDeletionTransformation";
+
+    /** The name of the reaction <i>ReadableChangeTransformation</i>. */
+    public static final String READABLE_CHANGE_TRANSFORMATION = PREFIX + "ReadableChangeTransformation";
+
+    /** The name of the reaction <i>WritableChangeTransformation</i>. */
+    public static final String WRITABLE_CHANGE_TRANSFORMATION = PREFIX + "WritableChangeTransformation";
+
+    /** The name of the reaction <i>PrimitiveTypeChangeTransformation</i>. */
+    public static final String PRIMITIVE_TYPE_CHANGE_TRANSFORMATION = PREFIX + "PrimitiveTypeChangeTransformation";
+
+    /** The name of the reaction <i>ComponentTypeChangeTransformation</i>. */
+    public static final String COMPONENT_TYPE_CHANGE_TRANSFORMATION = PREFIX + "ComponentTypeChangeTransformation";
+
+    /** The name of the reaction <i>RenamingNamedElement</i>. */
+    public static final String RENAMING_NAMED_ELEMENT = PREFIX + "RenamingNamedElement";
+
+    /** The name of the reaction <i>VariableTransformation</i>. */
+    public static final String VARIABLE_TRANSFORMATION = PREFIX + "VariableTransformation";
+
+    /** The name of the reaction <i>VariableTypeTransformation</i>. */
+    public static final String VARIABLE_TYPE_TRANSFORMATION = PREFIX + "VariableTypeTransformation";
+
+    /** Utility classes should not have a public or default constructor. */
+    private ASEM2SysMLReactionNames() {
+    }
+}
@@ -1,13 +1,36 @@
 package tools.vitruv.applications.asemsysml.reactions.asem2sysml.global;
 
 import mir.reactions.AbstractChangePropagationSpecificationAsemToSysML;
+import tools.vitruv.applications.asemsysml.ASEMSysMLResourceFormat;
+import tools.vitruv.framework.change.description.TransactionalChange;
+import tools.vitruv.framework.correspondence.CorrespondenceModel;
+import tools.vitruv.framework.util.command.ChangePropagationResult;
 
+/**
+ * The change propagation specification of the ASEM2SysML reactions. The configured
+ * {@link ASEMSysMLResourceFormat format} is installed into the resource set of the virtual model
+ * before each propagation, so the SysML model which is created by the initialization reaction is
+ * saved in this format.
+ * 
+ * @author Benjamin Rupp
+ */
 public class ASEM2SysMLChangePropagationSpecification
         extends AbstractChangePropagationSpecificationAsemToSysML {
 
+    private final ASEMSysMLResourceFormat resourceFormat = ASEMSysMLResourceFormat.getConfiguredFormat();
+
     @Override
     protected void setup() {
         super.setup();
     }
 
+    @Override
+    public ChangePropagationResult propagateChange(final TransactionalChange change,
+            final CorrespondenceModel correspondenceModel) {
+
+        this.resourceFormat.install(correspondenceModel.getResource().getResourceSet());
+
+        return super.propagateChange(change, correspondenceModel);
+    }
+
 }
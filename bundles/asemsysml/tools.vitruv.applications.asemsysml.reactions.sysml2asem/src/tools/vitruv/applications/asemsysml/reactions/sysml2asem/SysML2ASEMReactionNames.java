@@ -0,0 +1,65 @@
+package tools.vitruv.applications.asemsysml.reactions.sysml2asem;
+
+import tools.vitruv.applications.asemsysml.metrics.TransformationMetricsRegistry;
+
+/**
+ * The names of the reactions from <b>SysML to ASEM</b>. The names identify the
+ * {@link TransformationMetricsRegistry#getMetrics(String) metrics} and the logged events of a
+ * reaction.
+ *
+ * @author Benjamin Rupp
+ *
+ */
+public final class SysML2ASEMReactionNames {
+
+    private static final String PREFIX = TransformationMetricsRegistry.REACTIONS_PREFIX + "sysml2asem.";
+
+    /** The name of the reaction <i>SysMLBlockIsEncapsulatedChanged</i>. */
+    public static final String SYSML_BLOCK_IS_ENCAPSULATED_CHANGED = PREFIX + "SysMLBlockIsEncapsulatedChanged";
+
+    /** The name of the reaction <i>ChangeNameOfSysMLBlock</i>. */
+    public static final String CHANGE_NAME_OF_SYSML_BLOCK = PREFIX + "ChangeNameOfSysMLBlock";
+
+    /** The name of the reaction <i>BlockDeletionTransformation</i>. */
+    public static final String BLOCK_DELETION_TRANSFORMATION = PREFIX + "BlockDeletionTransformation";
+
+    /** The name of the reaction <i>RenameNamedElement</i>. */
+    public static final String RENAME_NAMED_ELEMENT = PREFIX + "RenameNamedElement";
+
+    /** The name of the reaction <i>PartTransformation</i>. */
+    public static final String PART_TRANSFORMATION = PREFIX + "PartTransformation";
+
+    /** The name of the reaction <i>PartDeletionTransformation</i>. */
+    public static final String PART_DELETION_TRANSFORMATION = PREFIX + "PartDeletionTransformation";
+
+    /** The name of the reaction <i>PortTransformation</i>. */
+    public static final String PORT_TRANSFORMATION = PREFIX + "PortTransformation";
+
+    /** The name of the reaction <i>PortDirectionTransformation</i>. */
+    public static final String PORT_DIRECTION_TRANSFORMATION = PREFIX + "PortDirectionTransformation";
+
+    /** The name of the reaction <i>PortTypeTransformation</i>. */
+    public static final String PORT_TYPE_TRANSFORMATION = PREFIX + "PortTypeTransformation";
+
+    /** The name of the reaction <i>PortDeletionTransformation</i>. */
+    public static final String PORT_DELETION_TRANSFORMATION = PREFIX + "PortDeletionTransformation";
+
+    /** The name of the reaction <i>PrimitiveTypeTransformation</i>. */
+    public static final String PRIMITIVE_TYPE_TRANSFORMATION = PREFIX + "PrimitiveTypeTransformation";
+
+    /** The name of the reaction <i>PropertyTransformation</i>. */
+    public static final String PROPERTY_TRANSFORMATION = PREFIX + "PropertyTransformation";
+
+    /** The name of the reaction <i>PropertyTypeTransformation</i>. */
+    public static final String PROPERTY_TYPE_TRANSFORMATION = PREFIX + "PropertyTypeTransformation";
+
+    /** The name of the reaction <i>PropertyAccessTransformation</i>. */
+    public static final String PROPERTY_ACCESS_TRANSFORMATION = PREFIX + "PropertyAccessTransformation";
+
+    /** The name of the reaction <i>PropertyDeletionTransformation</i>. */
+    public static final String PROPERTY_DELETION_TRANSFORMATION = PREFIX + "PropertyDeletionTransformation";
+
+    /** Utility classes should not have a public or default constructor. */
+    private SysML2ASEMReactionNames() {
+    }
+}
@@ -1,13 +1,35 @@
 package tools.vitruv.applications.asemsysml.reactions.sysml2asem.global;
 
 import mir.reactions.AbstractChangePropagationSpecificationSysMLToAsem;
+import tools.vitruv.applications.asemsysml.ASEMSysMLResourceFormat;
+import tools.vitruv.framework.change.description.TransactionalChange;
+import tools.vitruv.framework.correspondence.CorrespondenceModel;
+import tools.vitruv.framework.util.command.ChangePropagationResult;
 
+/**
+ * The change propagation specification of the SysML2ASEM reactions. The configured
+ * {@link ASEMSysMLResourceFormat format} is installed into the resource set of the virtual model
+ * before each propagation, so the ASEM models created by the reactions are saved in this format.
+ * 
+ * @author Benjamin Rupp
+ */
 public class SysML2ASEMChangePropagationSpecification
 		extends AbstractChangePropagationSpecificationSysMLToAsem {
 
+	private final ASEMSysMLResourceFormat resourceFormat = ASEMSysMLResourceFormat.getConfiguredFormat();
+
 	@Override
 	protected void setup() {
 		super.setup();
 	}
 
+	@Override
+	public ChangePropagationResult propagateChange(final TransactionalChange change,
+			final CorrespondenceModel correspondenceModel) {
+
+		this.resourceFormat.install(correspondenceModel.getResource().getResourceSet());
+
+		return super.propagateChange(change, correspondenceModel);
+	}
+
 }
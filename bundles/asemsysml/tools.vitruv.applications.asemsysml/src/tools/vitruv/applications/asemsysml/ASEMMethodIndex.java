@@ -0,0 +1,309 @@
+package tools.vitruv.applications.asemsysml;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import org.eclipse.emf.common.notify.Notification;
+import org.eclipse.emf.common.notify.impl.AdapterImpl;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EStructuralFeature;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+
+import edu.kit.ipd.sdq.ASEM.classifiers.Component;
+import edu.kit.ipd.sdq.ASEM.dataexchange.Method;
+
+/**
+ * An index of the ASEM methods of the root components of an ASEM model resource. <br>
+ * <br>
+ * 
+ * The index is attached as an adapter to the resource, to its root components and to their methods.
+ * The number of methods and the number of methods without return type are updated incrementally
+ * with each added or removed method and each changed return type, so that the availability checks
+ * do not scan the resource. The ordered method lists which are shown in the user interactions are
+ * built on demand and kept until the methods of the resource change. Their order is the order of
+ * the root components in the resource and of the methods in their component.
+ * 
+ * @author Benjamin Rupp
+ * 
+ */
+public final class ASEMMethodIndex extends AdapterImpl {
+
+    private static final String FEATURE_METHODS = "methods";
+    private static final String FEATURE_RETURN_TYPE = "returnType";
+
+    private final Resource resource;
+    private int numberOfMethods;
+    private int numberOfMethodsWithoutReturnType;
+    private List<Method> methods;
+    private List<Method> methodsWithoutReturnType;
+
+    private ASEMMethodIndex(final Resource resource) {
+        this.resource = resource;
+        this.numberOfMethods = 0;
+        this.numberOfMethodsWithoutReturnType = 0;
+    }
+
+    /**
+     * Get the index of the given ASEM model resource. The index is created with the first call.
+     * 
+     * @param asemResource
+     *            The ASEM model resource.
+     * @return The method index of the resource.
+     */
+    public static ASEMMethodIndex getIndex(final Resource asemResource) {
+
+        if (asemResource == null) {
+            throw new IllegalArgumentException("ASEM resource must not be null.");
+        }
+
+        synchronized (asemResource) {
+
+            ASEMMethodIndex index = (ASEMMethodIndex) EcoreUtil.getExistingAdapter(asemResource,
+                    ASEMMethodIndex.class);
+
+            if (index == null) {
+                index = new ASEMMethodIndex(asemResource);
+                asemResource.eAdapters().add(index);
+                index.addRootElements(asemResource.getContents());
+            }
+
+            return index;
+        }
+    }
+
+    /**
+     * @return All methods of the root components of the resource. The list is unmodifiable and is
+     *         not updated when the methods of the resource change.
+     */
+    public synchronized List<Method> getMethods() {
+
+        if (this.methods == null) {
+            this.buildMethodLists();
+        }
+
+        return this.methods;
+    }
+
+    /**
+     * @return All methods of the root components of the resource which have no return type. The
+     *         list is unmodifiable and is not updated when the methods of the resource change.
+     */
+    public synchronized List<Method> getMethodsWithoutReturnType() {
+
+        if (this.methodsWithoutReturnType == null) {
+            this.buildMethodLists();
+        }
+
+        return this.methodsWithoutReturnType;
+    }
+
+    /**
+     * @return <code>True</code> if the resource contains at least one method, otherwise
+     *         <code>false</code>.
+     */
+    public synchronized boolean hasMethods() {
+        return (this.numberOfMethods > 0);
+    }
+
+    /**
+     * @return <code>True</code> if the resource contains at least one method which has no return
+     *         type, otherwise <code>false</code>.
+     */
+    public synchronized boolean hasMethodsWithoutReturnType() {
+        return (this.numberOfMethodsWithoutReturnType > 0);
+    }
+
+    @Override
+    public boolean isAdapterForType(final Object type) {
+        return (type == ASEMMethodIndex.class);
+    }
+
+    @Override
+    public synchronized void notifyChanged(final Notification notification) {
+
+        if (notification.isTouch()) {
+            return;
+        }
+
+        final Object notifier = notification.getNotifier();
+
+        if (notifier == this.resource) {
+
+            switch (notification.getFeatureID(Resource.class)) {
+            case Resource.RESOURCE__CONTENTS:
+                this.removeRootElements(getOldValues(notification));
+                this.addRootElements(getNewValues(notification));
+                break;
+            case Resource.RESOURCE__IS_LOADED:
+                // Loading and unloading do not notify about each root element.
+                this.countMethods();
+                break;
+            default:
+                // Other resource features (e.g. the modification state) do not affect the methods.
+                return;
+            }
+
+        } else if (notifier instanceof Component && isFeature(notification, FEATURE_METHODS)) {
+
+            this.removeMethods(getOldValues(notification));
+            this.addMethods(getNewValues(notification));
+
+        } else if (notifier instanceof Method && isFeature(notification, FEATURE_RETURN_TYPE)) {
+
+            final boolean hadReturnType = (notification.getOldValue() != null);
+            final boolean hasReturnType = (((Method) notifier).getReturnType() != null);
+
+            if (hadReturnType == hasReturnType) {
+                return;
+            }
+
+            this.numberOfMethodsWithoutReturnType += hasReturnType ? -1 : 1;
+
+        } else {
+            return;
+        }
+
+        this.methods = null;
+        this.methodsWithoutReturnType = null;
+    }
+
+    @Override
+    public void setTarget(final Object newTarget) {
+        // The index observes several notifiers, but it belongs to its resource only.
+    }
+
+    @Override
+    public void unsetTarget(final Object oldTarget) {
+        // The index observes several notifiers, but it belongs to its resource only.
+    }
+
+    private void buildMethodLists() {
+
+        final List<Method> allMethods = new ArrayList<Method>(this.numberOfMethods);
+        final List<Method> allMethodsWithoutReturnType = new ArrayList<Method>(
+                this.numberOfMethodsWithoutReturnType);
+
+        for (EObject rootElement : this.resource.getContents()) {
+            if (rootElement instanceof Component) {
+                for (Method method : ((Component) rootElement).getMethods()) {
+
+                    allMethods.add(method);
+
+                    if (method.getReturnType() == null) {
+                        allMethodsWithoutReturnType.add(method);
+                    }
+                }
+            }
+        }
+
+        this.methods = Collections.unmodifiableList(allMethods);
+        this.methodsWithoutReturnType = Collections.unmodifiableList(allMethodsWithoutReturnType);
+    }
+
+    private void countMethods() {
+
+        this.numberOfMethods = 0;
+        this.numberOfMethodsWithoutReturnType = 0;
+
+        for (EObject rootElement : this.resource.getContents()) {
+            if (rootElement instanceof Component) {
+
+                if (!rootElement.eAdapters().contains(this)) {
+                    rootElement.eAdapters().add(this);
+                }
+
+                for (Method method : ((Component) rootElement).getMethods()) {
+
+                    if (!method.eAdapters().contains(this)) {
+                        method.eAdapters().add(this);
+                    }
+
+                    this.numberOfMethods++;
+
+                    if (method.getReturnType() == null) {
+                        this.numberOfMethodsWithoutReturnType++;
+                    }
+                }
+            }
+        }
+    }
+
+    private void addRootElements(final Collection<?> rootElements) {
+        for (Object rootElement : rootElements) {
+            if (rootElement instanceof Component && !((Component) rootElement).eAdapters().contains(this)) {
+                ((Component) rootElement).eAdapters().add(this);
+                this.addMethods(((Component) rootElement).getMethods());
+            }
+        }
+    }
+
+    private void removeRootElements(final Collection<?> rootElements) {
+        for (Object rootElement : rootElements) {
+            if (rootElement instanceof Component && ((Component) rootElement).eAdapters().remove(this)) {
+                this.removeMethods(((Component) rootElement).getMethods());
+            }
+        }
+    }
+
+    private void addMethods(final Collection<?> addedMethods) {
+        for (Object method : addedMethods) {
+            if (method instanceof Method && !((Method) method).eAdapters().contains(this)) {
+                ((Method) method).eAdapters().add(this);
+                this.numberOfMethods++;
+
+                if (((Method) method).getReturnType() == null) {
+                    this.numberOfMethodsWithoutReturnType++;
+                }
+            }
+        }
+    }
+
+    private void removeMethods(final Collection<?> removedMethods) {
+        for (Object method : removedMethods) {
+            if (method instanceof Method && ((Method) method).eAdapters().remove(this)) {
+                this.numberOfMethods--;
+
+                if (((Method) method).getReturnType() == null) {
+                    this.numberOfMethodsWithoutReturnType--;
+                }
+            }
+        }
+    }
+
+    private static boolean isFeature(final Notification notification, final String featureName) {
+
+        final Object feature = notification.getFeature();
+
+        return (feature instanceof EStructuralFeature && ((EStructuralFeature) feature).getName().equals(featureName));
+    }
+
+    private static Collection<?> getOldValues(final Notification notification) {
+
+        switch (notification.getEventType()) {
+        case Notification.SET:
+        case Notification.UNSET:
+        case Notification.REMOVE:
+            return Collections.singletonList(notification.getOldValue());
+        case Notification.REMOVE_MANY:
+            return (Collection<?>) notification.getOldValue();
+        default:
+            return Collections.emptyList();
+        }
+    }
+
+    private static Collection<?> getNewValues(final Notification notification) {
+
+        switch (notification.getEventType()) {
+        case Notification.SET:
+        case Notification.ADD:
+            return Collections.singletonList(notification.getNewValue());
+        case Notification.ADD_MANY:
+            return (Collection<?>) notification.getNewValue();
+        default:
+            return Collections.emptyList();
+        }
+    }
+}
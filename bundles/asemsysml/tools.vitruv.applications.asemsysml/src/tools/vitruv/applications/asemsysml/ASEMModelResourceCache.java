@@ -0,0 +1,322 @@
+package tools.vitruv.applications.asemsysml;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+
+import org.apache.log4j.Logger;
+import org.eclipse.emf.common.notify.Notification;
+import org.eclipse.emf.common.notify.impl.AdapterImpl;
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+
+import tools.vitruv.domains.asem.AsemNamespace;
+import tools.vitruv.framework.correspondence.CorrespondenceModel;
+
+/**
+ * Loads the ASEM component models of a resource set lazily and limits the number of loaded
+ * component models. <br>
+ * <br>
+ * 
+ * If lazy loading is enabled (see {@value #PROPERTY_LAZY_LOADING}), an ASEM component model is
+ * loaded on its first access by {@link ASEMSysMLHelper#getModelResource(CorrespondenceModel, EObject, String)
+ * getModelResource} or by a correspondence lookup. The cache keeps the accessed component models
+ * in least recently used order. The lookups never unload a model, since the transformation which
+ * accesses a model may still hold elements of the previously accessed ones. Instead, the least
+ * recently used component models beyond the configured maximum (see
+ * {@value #PROPERTY_MAX_LOADED_MODELS}) are unloaded by {@link #evict(CorrespondenceModel) evict}
+ * once the propagation of a change is finished. The unloaded resources stay in the resource set and
+ * their elements become proxies, so references to them (e.g. of the correspondence model) load the
+ * resource again when they are resolved. <br>
+ * <br>
+ * 
+ * Only resources which are unmodified since they were loaded or saved are unloaded. Modified
+ * resources stay loaded until they are persisted. Other ASEM models, e.g. the primitive type
+ * repository, are never unloaded. <br>
+ * <br>
+ * 
+ * The cache is an adapter of its resource set, since it references the resource set and its
+ * resources. Resources which are removed from the resource set are removed from the cache, too.
+ * 
+ * @author Benjamin Rupp
+ * 
+ */
+public final class ASEMModelResourceCache extends AdapterImpl {
+
+    /** System property which enables the lazy loading of the ASEM component models. */
+    public static final String PROPERTY_LAZY_LOADING = "asemsysml.asem.lazyLoading";
+
+    /** System property which defines the maximum number of loaded ASEM component models. */
+    public static final String PROPERTY_MAX_LOADED_MODELS = "asemsysml.asem.maxLoadedModels";
+
+    private static final int DEFAULT_MAX_LOADED_MODELS = 100;
+
+    private static final String COMPONENT_MODEL_NAME_PREFIX = ASEMSysMLConstants.TEST_ASEM_MODEL_NAME_PREFIX
+            + ASEMSysMLConstants.TEST_ASEM_MODEL_NAME_SEPARATOR;
+
+    private static Logger logger = Logger.getLogger(ASEMModelResourceCache.class);
+
+    private final ResourceSet resourceSet;
+    private final int maxLoadedModels;
+    private final LinkedHashMap<Resource, Boolean> loadedModels;
+    private long loads;
+    private long evictions;
+
+    private ASEMModelResourceCache(final ResourceSet resourceSet, final int maxLoadedModels) {
+        this.resourceSet = resourceSet;
+        this.maxLoadedModels = maxLoadedModels;
+        // Access order: The first entry is the least recently used component model.
+        this.loadedModels = new LinkedHashMap<Resource, Boolean>(16, 0.75f, true);
+        this.loads = 0;
+        this.evictions = 0;
+    }
+
+    /**
+     * @return <code>True</code> if the ASEM component models are loaded lazily, otherwise
+     *         <code>false</code>.
+     */
+    public static boolean isLazyLoadingEnabled() {
+        return Boolean.getBoolean(PROPERTY_LAZY_LOADING);
+    }
+
+    /**
+     * @return The maximum number of loaded ASEM component models which is configured by the system
+     *         property {@value #PROPERTY_MAX_LOADED_MODELS}. If the property is not set or invalid,
+     *         {@value #DEFAULT_MAX_LOADED_MODELS} models are kept loaded.
+     */
+    public static int getConfiguredMaxLoadedModels() {
+
+        final Integer maxLoadedModels = Integer.getInteger(PROPERTY_MAX_LOADED_MODELS);
+
+        if (maxLoadedModels == null) {
+            return DEFAULT_MAX_LOADED_MODELS;
+        }
+
+        if (maxLoadedModels < 1) {
+            logger.warn("[ASEMSysML] Invalid maximum number of loaded ASEM models " + maxLoadedModels + ", use "
+                    + DEFAULT_MAX_LOADED_MODELS);
+            return DEFAULT_MAX_LOADED_MODELS;
+        }
+
+        return maxLoadedModels;
+    }
+
+    /**
+     * Get the ASEM model resource cache of the given resource set. The cache is created with the
+     * {@link #getConfiguredMaxLoadedModels() configured maximum number of loaded models} if it does
+     * not exist yet.
+     * 
+     * @param resourceSet
+     *            The resource set which contains the ASEM models.
+     * @return The ASEM model resource cache of the resource set.
+     */
+    public static ASEMModelResourceCache getInstance(final ResourceSet resourceSet) {
+
+        if (resourceSet == null) {
+            throw new IllegalArgumentException("Resource set must not be null.");
+        }
+
+        synchronized (resourceSet) {
+
+            ASEMModelResourceCache cache = (ASEMModelResourceCache) EcoreUtil.getExistingAdapter(resourceSet,
+                    ASEMModelResourceCache.class);
+
+            if (cache == null) {
+                cache = new ASEMModelResourceCache(resourceSet, getConfiguredMaxLoadedModels());
+                resourceSet.eAdapters().add(cache);
+            }
+
+            return cache;
+        }
+    }
+
+    @Override
+    public boolean isAdapterForType(final Object type) {
+        return (type == ASEMModelResourceCache.class);
+    }
+
+    @Override
+    public synchronized void notifyChanged(final Notification notification) {
+
+        if (notification.getFeatureID(ResourceSet.class) != ResourceSet.RESOURCE_SET__RESOURCES) {
+            return;
+        }
+
+        switch (notification.getEventType()) {
+        case Notification.REMOVE:
+            this.loadedModels.remove(notification.getOldValue());
+            break;
+        case Notification.REMOVE_MANY:
+            for (Object resource : (Collection<?>) notification.getOldValue()) {
+                this.loadedModels.remove(resource);
+            }
+            break;
+        default:
+            break;
+        }
+    }
+
+    /**
+     * Get the model resource with the given URI. If the resource is not loaded yet and the model
+     * file exists, the resource is loaded. If the resource is an ASEM component model, it becomes
+     * the most recently used one.
+     * 
+     * @param uri
+     *            The URI of the model resource.
+     * @return The model resource or <code>null</code> if the resource neither exists in the
+     *         resource set nor as file.
+     */
+    public Resource getResource(final URI uri) {
+
+        if (uri == null) {
+            throw new IllegalArgumentException("URI must not be null.");
+        }
+
+        Resource resource = this.resourceSet.getResource(uri, false);
+
+        if (resource == null || (!resource.isLoaded() && resource.getContents().isEmpty())) {
+
+            // A new resource which has not been saved yet cannot be loaded.
+            if (!this.resourceSet.getURIConverter().exists(uri, null)) {
+                return resource;
+            }
+
+            if (resource == null) {
+                resource = this.resourceSet.createResource(uri);
+            }
+
+            this.load(resource);
+        }
+
+        this.access(resource);
+
+        return resource;
+    }
+
+    /**
+     * Mark the ASEM component models which contain the given elements as most recently used.
+     * 
+     * @param elements
+     *            The accessed ASEM elements, e.g. the result of a correspondence lookup.
+     */
+    public void accessElements(final Collection<? extends EObject> elements) {
+
+        final Collection<Resource> resources = new LinkedHashSet<Resource>(elements.size());
+
+        for (EObject element : elements) {
+            if (element.eResource() != null) {
+                resources.add(element.eResource());
+            }
+        }
+
+        for (Resource resource : resources) {
+            this.access(resource);
+        }
+    }
+
+    /**
+     * Unload the least recently used ASEM component models, until no more than the configured
+     * maximum number of component models is loaded. Modified component models are skipped. <br>
+     * <br>
+     * 
+     * This method must only be called when no transformation holds elements of the component
+     * models anymore, i.e. after the propagation of a change and the registration of its
+     * persistence.
+     * 
+     * @param correspondenceModel
+     *            The correspondence model whose correspondence index is invalidated if component
+     *            models are unloaded.
+     */
+    public void evict(final CorrespondenceModel correspondenceModel) {
+
+        boolean evicted = false;
+
+        synchronized (this) {
+
+            final Iterator<Resource> leastRecentlyUsed = this.loadedModels.keySet().iterator();
+
+            while (leastRecentlyUsed.hasNext() && this.loadedModels.size() > this.maxLoadedModels) {
+
+                final Resource resource = leastRecentlyUsed.next();
+
+                if (!resource.isLoaded()) {
+                    // The resource was unloaded by someone else.
+                    leastRecentlyUsed.remove();
+                } else if (isUnmodified(resource)) {
+                    leastRecentlyUsed.remove();
+                    resource.unload();
+                    this.evictions++;
+                    evicted = true;
+                    logger.debug("[ASEMSysML] Unloaded ASEM model " + resource.getURI() + ".");
+                }
+            }
+        }
+
+        if (evicted && correspondenceModel != null) {
+            // The index may contain elements of the unloaded models, which are proxies now.
+            ASEMSysMLCorrespondenceIndex.invalidateAll(correspondenceModel);
+        }
+    }
+
+    /**
+     * @return The number of ASEM component models which are currently loaded by the cache.
+     */
+    public synchronized int getNumberOfLoadedModels() {
+        return this.loadedModels.size();
+    }
+
+    /**
+     * @return The number of ASEM models which were loaded by the cache.
+     */
+    public synchronized long getNumberOfLoads() {
+        return this.loads;
+    }
+
+    /**
+     * @return The number of ASEM component models which were unloaded by the cache.
+     */
+    public synchronized long getNumberOfEvictions() {
+        return this.evictions;
+    }
+
+    private void load(final Resource resource) {
+
+        try {
+            resource.load(this.resourceSet.getLoadOptions());
+        } catch (IOException e) {
+            logger.error("[ASEMSysML] Could not load ASEM model " + resource.getURI() + "!");
+            throw new IllegalStateException("Could not load ASEM model " + resource.getURI() + ".", e);
+        }
+
+        // The modification state decides whether the resource can be unloaded again.
+        resource.setTrackingModification(true);
+
+        synchronized (this) {
+            this.loads++;
+        }
+    }
+
+    private synchronized void access(final Resource resource) {
+        if (resource != null && isComponentModel(resource)) {
+            this.loadedModels.put(resource, Boolean.TRUE);
+        }
+    }
+
+    private static boolean isComponentModel(final Resource resource) {
+
+        final URI uri = resource.getURI();
+
+        return (uri != null && AsemNamespace.FILE_EXTENSION.equals(uri.fileExtension())
+                && URI.decode(uri.lastSegment()).startsWith(COMPONENT_MODEL_NAME_PREFIX));
+    }
+
+    private static boolean isUnmodified(final Resource resource) {
+        // Without modification tracking it is unknown whether the resource has unsaved changes.
+        return (resource.isTrackingModification() && !resource.isModified());
+    }
+}
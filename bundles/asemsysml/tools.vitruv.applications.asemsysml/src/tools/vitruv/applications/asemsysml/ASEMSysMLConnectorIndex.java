@@ -0,0 +1,195 @@
+package tools.vitruv.applications.asemsysml;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.emf.common.notify.Notification;
+import org.eclipse.emf.common.notify.Notifier;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.util.EContentAdapter;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.uml2.uml.ConnectableElement;
+import org.eclipse.uml2.uml.Connector;
+import org.eclipse.uml2.uml.ConnectorEnd;
+import org.eclipse.uml2.uml.StructuredClassifier;
+import org.eclipse.uml2.uml.UMLPackage;
+
+/**
+ * An adjacency index of the connector ends of the connectable elements (e.g. ports and properties)
+ * of the SysML models of a resource set. <br>
+ * <br>
+ * 
+ * UML computes the connector ends of an element by searching the inverse references of the
+ * element. The index instead is attached as a content adapter to the resource set and updated with
+ * each added or removed connector end and each changed role of a connector end. Since the index
+ * covers all resources of the resource set, the connector ends are found even if the SysML model
+ * is partitioned into several resources. <br>
+ * <br>
+ * 
+ * Connector ends can only be contained in connectors, which are owned by structured classifiers in
+ * packages. Therefore the index observes only packages, structured classifiers, connectors and
+ * connector ends, but not the other elements, e.g. the ports and properties.
+ * 
+ * @author Benjamin Rupp
+ * 
+ */
+public final class ASEMSysMLConnectorIndex extends EContentAdapter {
+
+    private final Map<ConnectableElement, List<ConnectorEnd>> connectorEnds;
+
+    private ASEMSysMLConnectorIndex() {
+        this.connectorEnds = new HashMap<ConnectableElement, List<ConnectorEnd>>();
+    }
+
+    /**
+     * Get the connector ends whose role is the given element.
+     * 
+     * @param element
+     *            The connectable element, e.g. a port or a property.
+     * @return The connector ends of the element in the order they were added to the model. The
+     *         list must not be modified.
+     * 
+     * @see ConnectableElement#getEnds()
+     */
+    public static List<ConnectorEnd> getConnectorEnds(final ConnectableElement element) {
+
+        if (element == null) {
+            throw new IllegalArgumentException("Connectable element must not be null.");
+        }
+
+        final Resource elementResource = element.eResource();
+
+        if (elementResource == null || elementResource.getResourceSet() == null) {
+            return Collections.unmodifiableList(element.getEnds());
+        }
+
+        return getIndex(elementResource.getResourceSet()).lookUp(element);
+    }
+
+    private static ASEMSysMLConnectorIndex getIndex(final ResourceSet resourceSet) {
+
+        synchronized (resourceSet) {
+
+            ASEMSysMLConnectorIndex index = (ASEMSysMLConnectorIndex) EcoreUtil.getExistingAdapter(resourceSet,
+                    ASEMSysMLConnectorIndex.class);
+
+            if (index == null) {
+                index = new ASEMSysMLConnectorIndex();
+                synchronized (index) {
+                    // Adding the adapter visits and indexes all resources of the resource set.
+                    resourceSet.eAdapters().add(index);
+                }
+            }
+
+            return index;
+        }
+    }
+
+    @Override
+    public boolean isAdapterForType(final Object type) {
+        return (type == ASEMSysMLConnectorIndex.class);
+    }
+
+    @Override
+    public synchronized void notifyChanged(final Notification notification) {
+
+        // Observe added and removed contents.
+        super.notifyChanged(notification);
+
+        if (!notification.isTouch() && notification.getNotifier() instanceof ConnectorEnd
+                && notification.getFeature() == UMLPackage.Literals.CONNECTOR_END__ROLE) {
+
+            final ConnectorEnd connectorEnd = (ConnectorEnd) notification.getNotifier();
+            this.removeConnectorEnd(connectorEnd, notification.getOldValue());
+            this.addConnectorEnd(connectorEnd, notification.getNewValue());
+        }
+    }
+
+    @Override
+    protected void setTarget(final EObject target) {
+
+        super.setTarget(target);
+
+        if (target instanceof ConnectorEnd) {
+            this.addConnectorEnd((ConnectorEnd) target, ((ConnectorEnd) target).getRole());
+        }
+    }
+
+    @Override
+    protected void unsetTarget(final EObject target) {
+
+        super.unsetTarget(target);
+
+        if (target instanceof ConnectorEnd) {
+            this.removeConnectorEnd((ConnectorEnd) target, ((ConnectorEnd) target).getRole());
+        }
+    }
+
+    @Override
+    protected void addAdapter(final Notifier notifier) {
+
+        // Only the containers of connector ends have to be observed.
+        if (notifier instanceof Resource || notifier instanceof org.eclipse.uml2.uml.Package
+                || notifier instanceof StructuredClassifier || notifier instanceof Connector
+                || notifier instanceof ConnectorEnd) {
+            super.addAdapter(notifier);
+        }
+    }
+
+    @Override
+    protected boolean resolve() {
+        // Do not resolve proxies while the index observes the contents of the resource set.
+        return false;
+    }
+
+    private synchronized List<ConnectorEnd> lookUp(final ConnectableElement element) {
+
+        final List<ConnectorEnd> ends = this.connectorEnds.get(element);
+
+        if (ends == null) {
+            return Collections.emptyList();
+        }
+
+        return Collections.unmodifiableList(new ArrayList<ConnectorEnd>(ends));
+    }
+
+    private void addConnectorEnd(final ConnectorEnd connectorEnd, final Object role) {
+
+        if (!(role instanceof ConnectableElement)) {
+            return;
+        }
+
+        List<ConnectorEnd> ends = this.connectorEnds.get(role);
+
+        if (ends == null) {
+            ends = new ArrayList<ConnectorEnd>(1);
+            this.connectorEnds.put((ConnectableElement) role, ends);
+        }
+
+        if (!ends.contains(connectorEnd)) {
+            ends.add(connectorEnd);
+        }
+    }
+
+    private void removeConnectorEnd(final ConnectorEnd connectorEnd, final Object role) {
+
+        if (!(role instanceof ConnectableElement)) {
+            return;
+        }
+
+        final List<ConnectorEnd> ends = this.connectorEnds.get(role);
+
+        if (ends != null) {
+            ends.remove(connectorEnd);
+
+            if (ends.isEmpty()) {
+                this.connectorEnds.remove(role);
+            }
+        }
+    }
+}
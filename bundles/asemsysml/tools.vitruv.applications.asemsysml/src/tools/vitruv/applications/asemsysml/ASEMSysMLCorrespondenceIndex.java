@@ -0,0 +1,224 @@
+package tools.vitruv.applications.asemsysml;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+import org.eclipse.emf.ecore.EObject;
+
+import tools.vitruv.framework.correspondence.CorrespondenceModel;
+
+/**
+ * An index of correspondence lookups which is layered over a correspondence model. <br>
+ * <br>
+ * 
+ * The index stores the results of the correspondence lookups of the {@link ASEMSysMLHelper} for
+ * an element, the metamodel namespace of the corresponding elements and the requested type of the
+ * corresponding elements. It is only used while it is {@link #activate(CorrespondenceModel)
+ * activated} for a correspondence model, e.g. during the propagation of a change. All
+ * correspondences which are added or removed while the index is active have to be added or
+ * removed using the {@link ASEMSysMLHelper#addCorrespondence(CorrespondenceModel, EObject, EObject)
+ * addCorrespondence} and
+ * {@link ASEMSysMLHelper#removeCorrespondences(CorrespondenceModel, EObject) removeCorrespondences}
+ * methods, so that the affected index entries are invalidated.
+ * 
+ * @author Benjamin Rupp
+ * 
+ */
+public final class ASEMSysMLCorrespondenceIndex {
+
+    /**
+     * Marks the absence of an index entry. This is needed because <code>null</code> is a valid
+     * lookup result.
+     */
+    static final Object NOT_INDEXED = new Object();
+
+    private static final Object NULL_RESULT = new Object();
+
+    private static final Map<CorrespondenceModel, ASEMSysMLCorrespondenceIndex> ACTIVE_INDICES = new WeakHashMap<CorrespondenceModel, ASEMSysMLCorrespondenceIndex>();
+
+    private final Map<EObject, Map<String, Collection<EObject>>> correspondingElements;
+    private final Map<EObject, Map<String, Map<Class<?>, Object>>> firstCorrespondingElements;
+    private int activations;
+
+    private ASEMSysMLCorrespondenceIndex() {
+        this.correspondingElements = new HashMap<EObject, Map<String, Collection<EObject>>>();
+        this.firstCorrespondingElements = new HashMap<EObject, Map<String, Map<Class<?>, Object>>>();
+        this.activations = 0;
+    }
+
+    /**
+     * Activate the correspondence index for the given correspondence model. The index will be used
+     * until it is {@link #deactivate(CorrespondenceModel) deactivated} again. Activations can be
+     * nested.
+     * 
+     * @param correspondenceModel
+     *            The correspondence model for which the index is activated.
+     */
+    public static void activate(final CorrespondenceModel correspondenceModel) {
+
+        synchronized (ACTIVE_INDICES) {
+
+            ASEMSysMLCorrespondenceIndex index = ACTIVE_INDICES.get(correspondenceModel);
+
+            if (index == null) {
+                index = new ASEMSysMLCorrespondenceIndex();
+                ACTIVE_INDICES.put(correspondenceModel, index);
+            }
+
+            index.activations++;
+        }
+    }
+
+    /**
+     * Deactivate the correspondence index for the given correspondence model. If all activations
+     * are deactivated, the index is discarded.
+     * 
+     * @param correspondenceModel
+     *            The correspondence model for which the index is deactivated.
+     */
+    public static void deactivate(final CorrespondenceModel correspondenceModel) {
+
+        synchronized (ACTIVE_INDICES) {
+
+            final ASEMSysMLCorrespondenceIndex index = ACTIVE_INDICES.get(correspondenceModel);
+
+            if (index != null && --index.activations <= 0) {
+                ACTIVE_INDICES.remove(correspondenceModel);
+            }
+        }
+    }
+
+    /**
+     * Check if the correspondence index is activated for the given correspondence model.
+     * 
+     * @param correspondenceModel
+     *            The correspondence model.
+     * @return <code>True</code> if the index is activated and not yet deactivated as often as it
+     *         was activated. Otherwise <code>false</code>.
+     */
+    public static boolean isActive(final CorrespondenceModel correspondenceModel) {
+        return getActiveIndex(correspondenceModel) != null;
+    }
+
+    /**
+     * Invalidate the index entries of the given elements.
+     * 
+     * @param correspondenceModel
+     *            The correspondence model whose correspondences of the elements have changed.
+     * @param elements
+     *            The elements whose correspondences have changed.
+     */
+    public static void invalidate(final CorrespondenceModel correspondenceModel, final EObject... elements) {
+
+        final ASEMSysMLCorrespondenceIndex index = getActiveIndex(correspondenceModel);
+
+        if (index != null) {
+            index.invalidateElements(elements);
+        }
+    }
+
+    /**
+     * Invalidate all index entries of the given correspondence model.
+     * 
+     * @param correspondenceModel
+     *            The correspondence model whose correspondences have changed.
+     */
+    public static void invalidateAll(final CorrespondenceModel correspondenceModel) {
+
+        final ASEMSysMLCorrespondenceIndex index = getActiveIndex(correspondenceModel);
+
+        if (index != null) {
+            index.clear();
+        }
+    }
+
+    static ASEMSysMLCorrespondenceIndex getActiveIndex(final CorrespondenceModel correspondenceModel) {
+        synchronized (ACTIVE_INDICES) {
+            return ACTIVE_INDICES.get(correspondenceModel);
+        }
+    }
+
+    synchronized Collection<EObject> getCorrespondingElements(final EObject element, final String metamodelNamespace) {
+
+        final Map<String, Collection<EObject>> elementsPerNamespace = this.correspondingElements.get(element);
+
+        return (elementsPerNamespace != null ? elementsPerNamespace.get(metamodelNamespace) : null);
+    }
+
+    synchronized void putCorrespondingElements(final EObject element, final String metamodelNamespace,
+            final Collection<EObject> elements) {
+
+        Map<String, Collection<EObject>> elementsPerNamespace = this.correspondingElements.get(element);
+
+        if (elementsPerNamespace == null) {
+            elementsPerNamespace = new HashMap<String, Collection<EObject>>();
+            this.correspondingElements.put(element, elementsPerNamespace);
+        }
+
+        elementsPerNamespace.put(metamodelNamespace, elements);
+    }
+
+    /**
+     * @return The indexed first corresponding element (which may be <code>null</code>) or
+     *         {@link #NOT_INDEXED} if no entry exists.
+     */
+    synchronized Object getFirstCorrespondingElement(final EObject element, final String metamodelNamespace,
+            final Class<?> elementType) {
+
+        final Map<String, Map<Class<?>, Object>> elementsPerNamespace = this.firstCorrespondingElements.get(element);
+
+        if (elementsPerNamespace == null) {
+            return NOT_INDEXED;
+        }
+
+        final Map<Class<?>, Object> elementsPerType = elementsPerNamespace.get(metamodelNamespace);
+
+        if (elementsPerType == null) {
+            return NOT_INDEXED;
+        }
+
+        final Object firstCorrespondingElement = elementsPerType.get(elementType);
+
+        if (firstCorrespondingElement == null) {
+            return NOT_INDEXED;
+        }
+
+        return (firstCorrespondingElement != NULL_RESULT ? firstCorrespondingElement : null);
+    }
+
+    synchronized void putFirstCorrespondingElement(final EObject element, final String metamodelNamespace,
+            final Class<?> elementType, final Object firstCorrespondingElement) {
+
+        Map<String, Map<Class<?>, Object>> elementsPerNamespace = this.firstCorrespondingElements.get(element);
+
+        if (elementsPerNamespace == null) {
+            elementsPerNamespace = new HashMap<String, Map<Class<?>, Object>>();
+            this.firstCorrespondingElements.put(element, elementsPerNamespace);
+        }
+
+        Map<Class<?>, Object> elementsPerType = elementsPerNamespace.get(metamodelNamespace);
+
+        if (elementsPerType == null) {
+            elementsPerType = new HashMap<Class<?>, Object>();
+            elementsPerNamespace.put(metamodelNamespace, elementsPerType);
+        }
+
+        elementsPerType.put(elementType, firstCorrespondingElement != null ? firstCorrespondingElement : NULL_RESULT);
+    }
+
+    private synchronized void invalidateElements(final EObject... elements) {
+
+        for (EObject element : elements) {
+            this.correspondingElements.remove(element);
+            this.firstCorrespondingElements.remove(element);
+        }
+    }
+
+    private synchronized void clear() {
+        this.correspondingElements.clear();
+        this.firstCorrespondingElements.clear();
+    }
+
+}
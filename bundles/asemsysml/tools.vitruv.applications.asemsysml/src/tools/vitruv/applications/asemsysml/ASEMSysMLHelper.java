@@ -4,16 +4,19 @@ import java.io.File;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 
 import org.eclipse.emf.common.util.URI;
 import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.InternalEObject;
 import org.eclipse.emf.ecore.resource.Resource;
 import org.eclipse.emf.ecore.resource.ResourceSet;
 import org.eclipse.papyrus.sysml14.blocks.Block;
+import org.eclipse.papyrus.sysml14.blocks.BlocksPackage;
 import org.eclipse.papyrus.sysml14.portsandflows.FlowProperty;
+import org.eclipse.uml2.uml.AggregationKind;
+import org.eclipse.uml2.uml.ConnectableElement;
 import org.eclipse.uml2.uml.Connector;
 import org.eclipse.uml2.uml.ConnectorEnd;
 import org.eclipse.uml2.uml.Element;
@@ -22,7 +25,6 @@ import org.eclipse.uml2.uml.Port;
 import org.eclipse.uml2.uml.PrimitiveType;
 import org.eclipse.uml2.uml.Property;
 import org.eclipse.uml2.uml.Type;
-import org.eclipse.uml2.uml.util.UMLUtil;
 
 import edu.kit.ipd.sdq.ASEM.classifiers.Classifier;
 import edu.kit.ipd.sdq.ASEM.classifiers.Component;
@@ -85,7 +87,73 @@ public class ASEMSysMLHelper {
     }
 
     /**
-     * Get the VURI of a model with the given project model path.
+     * Get the name of the SysML model resource of a block, if the SysML model is
+     * {@link ASEMSysMLModelPartitioning#BLOCK partitioned per block}. The name is composed of the
+     * {@link ASEMSysMLConstants#TEST_SYSML_MODEL_NAME SysML model name}, a
+     * {@link ASEMSysMLConstants#TEST_ASEM_MODEL_NAME_SEPARATOR separator} and the block name.
+     * 
+     * @param blockName
+     *            Name of the SysML block.
+     * @return The name of the SysML model resource of the block.
+     */
+    public static String getSysMLModelFragmentName(final String blockName) {
+        return ASEMSysMLConstants.TEST_SYSML_MODEL_NAME + ASEMSysMLConstants.TEST_ASEM_MODEL_NAME_SEPARATOR
+                + blockName;
+    }
+
+    /**
+     * Get the project model path of the SysML model resource in which a new block with the given
+     * name has to be persisted. This is the path of the resource of the block, if the SysML model
+     * is {@link ASEMSysMLModelPartitioning partitioned} per block, otherwise the path of the SysML
+     * model.
+     * 
+     * @param blockName
+     *            Name of the new SysML block.
+     * @return Project model path of the SysML model resource.
+     */
+    public static String getSysMLProjectModelPath(final String blockName) {
+
+        if (ASEMSysMLModelPartitioning.getPartitioning() == ASEMSysMLModelPartitioning.BLOCK) {
+            return getProjectModelPath(getSysMLModelFragmentName(blockName), SysMlNamspace.FILE_EXTENSION);
+        }
+
+        return getProjectModelPath(ASEMSysMLConstants.TEST_SYSML_MODEL_NAME, SysMlNamspace.FILE_EXTENSION);
+    }
+
+    /**
+     * Get the project model path of the SysML model resource in which the given element and its
+     * stereotype applications have to be persisted. This is the resource of the nearest container
+     * of the element (or the element itself) which is persisted in its own resource, e.g. the base
+     * class of a block if the SysML model is {@link ASEMSysMLModelPartitioning partitioned} per
+     * block. Otherwise it is the path of the SysML model.
+     * 
+     * @param element
+     *            The SysML element, e.g. a port.
+     * @return Project model path of the SysML model resource.
+     */
+    public static String getSysMLProjectModelPath(final Element element) {
+
+        for (EObject container = element; container != null; container = container.eContainer()) {
+
+            final Resource directResource = ((InternalEObject) container).eDirectResource();
+
+            if (directResource != null && container.eContainer() != null) {
+                // The container is persisted in a resource of its own.
+                return ASEMSysMLConstants.MODEL_DIR_NAME + File.separatorChar
+                        + URI.decode(directResource.getURI().lastSegment());
+            }
+        }
+
+        return getProjectModelPath(ASEMSysMLConstants.TEST_SYSML_MODEL_NAME, SysMlNamspace.FILE_EXTENSION);
+    }
+
+    /**
+     * Get the VURI of a model with the given project model path. <br>
+     * <br>
+     * 
+     * The project root of the resource of the already persisted object and the resulting VURIs are
+     * cached per resource set, so that repeated lookups do not have to parse the resource URI
+     * again.
      * 
      * @param alreadyPersistedObject
      *            An object that already exists. This is needed to get the correct URI (test project
@@ -96,13 +164,7 @@ public class ASEMSysMLHelper {
      * @return The VURI of the model.
      */
     public static VURI getModelVURI(final EObject alreadyPersistedObject, final String projectModelPath) {
-
-        String existingElementURI = VURI.getInstance(alreadyPersistedObject.eResource()).getEMFUri().toFileString();
-        String uriPrefix = existingElementURI.substring(0,
-                existingElementURI.lastIndexOf(ASEMSysMLConstants.MODEL_DIR_NAME + java.io.File.separatorChar));
-        String uriString = uriPrefix + projectModelPath;
-        VURI modelVURI = VURI.getInstance(URI.createFileURI(uriString));
-        return modelVURI;
+        return ASEMSysMLModelURICache.getModelVURI(alreadyPersistedObject.eResource(), projectModelPath);
     }
 
     /**
@@ -118,6 +180,8 @@ public class ASEMSysMLHelper {
      *            The project model path which starts with
      *            {@link ASEMSysMLConstants#MODEL_DIR_NAME}.
      * @return The model resource.
+     * 
+     * @see ASEMModelResourceCache
      */
     public static Resource getModelResource(final CorrespondenceModel correspondenceModel,
             final EObject alreadyPersistedObject, final String projectModelPath) {
@@ -125,6 +189,11 @@ public class ASEMSysMLHelper {
         ResourceSet rs = correspondenceModel.getResource().getResourceSet();
         VURI modelVURI = ASEMSysMLHelper.getModelVURI(alreadyPersistedObject, projectModelPath);
 
+        if (ASEMModelResourceCache.isLazyLoadingEnabled()) {
+            // Loads the model on its first access.
+            return ASEMModelResourceCache.getInstance(rs).getResource(modelVURI.getEMFUri());
+        }
+
         return rs.getResource(modelVURI.getEMFUri(), false);
     }
 
@@ -169,17 +238,7 @@ public class ASEMSysMLHelper {
      */
     public static Collection<EObject> getCorrespondingASEMElements(final CorrespondenceModel correspondenceModel,
             final EObject sysmlElement) {
-
-        Collection<EObject> correspondingASEMElements = Collections.emptyList();
-        Set<Correspondence> correspondences = Collections.emptySet();
-
-        correspondences = correspondenceModel.getCorrespondences(Collections.singletonList(sysmlElement));
-
-        for (Correspondence correspondence : correspondences) {
-            correspondingASEMElements = correspondence.getElementsForMetamodel(AsemNamespace.METAMODEL_NAMESPACE);
-        }
-
-        return correspondingASEMElements;
+        return getCorrespondingElements(correspondenceModel, sysmlElement, AsemNamespace.METAMODEL_NAMESPACE);
     }
 
     /**
@@ -194,17 +253,62 @@ public class ASEMSysMLHelper {
      */
     public static Collection<EObject> getCorrespondingSysMLElements(final CorrespondenceModel correspondenceModel,
             final EObject asemElement) {
+        return getCorrespondingElements(correspondenceModel, asemElement, SysMlNamspace.METAMODEL_NAMESPACE);
+    }
+
+    private static Collection<EObject> getCorrespondingElements(final CorrespondenceModel correspondenceModel,
+            final EObject element, final String metamodelNamespace) {
+
+        final Collection<EObject> correspondingElements = lookUpCorrespondingElements(correspondenceModel, element,
+                metamodelNamespace);
+
+        if (AsemNamespace.METAMODEL_NAMESPACE.equals(metamodelNamespace)) {
+            accessASEMElements(correspondenceModel, correspondingElements);
+        }
 
-        Collection<EObject> correspondingSysMLElements = Collections.emptyList();
+        return correspondingElements;
+    }
+
+    /**
+     * Mark the ASEM component models of the given elements as most recently used, if the ASEM
+     * models are {@link ASEMModelResourceCache loaded lazily}.
+     */
+    private static void accessASEMElements(final CorrespondenceModel correspondenceModel,
+            final Collection<EObject> asemElements) {
+
+        if (ASEMModelResourceCache.isLazyLoadingEnabled()) {
+            ASEMModelResourceCache.getInstance(correspondenceModel.getResource().getResourceSet())
+                    .accessElements(asemElements);
+        }
+    }
+
+    private static Collection<EObject> lookUpCorrespondingElements(final CorrespondenceModel correspondenceModel,
+            final EObject element, final String metamodelNamespace) {
+
+        final ASEMSysMLCorrespondenceIndex index = getCorrespondenceIndex(correspondenceModel, element);
+
+        if (index != null) {
+            final Collection<EObject> indexedElements = index.getCorrespondingElements(element, metamodelNamespace);
+            if (indexedElements != null) {
+                return indexedElements;
+            }
+        }
+
+        Collection<EObject> correspondingElements = Collections.emptyList();
         Set<Correspondence> correspondences = Collections.emptySet();
 
-        correspondences = correspondenceModel.getCorrespondences(Collections.singletonList(asemElement));
+        correspondences = correspondenceModel.getCorrespondences(Collections.singletonList(element));
 
         for (Correspondence correspondence : correspondences) {
-            correspondingSysMLElements = correspondence.getElementsForMetamodel(SysMlNamspace.METAMODEL_NAMESPACE);
+            correspondingElements = correspondence.getElementsForMetamodel(metamodelNamespace);
+        }
+
+        if (index != null) {
+            correspondingElements = Collections.unmodifiableCollection(correspondingElements);
+            index.putCorrespondingElements(element, metamodelNamespace, correspondingElements);
         }
 
-        return correspondingSysMLElements;
+        return correspondingElements;
     }
 
     /**
@@ -223,13 +327,34 @@ public class ASEMSysMLHelper {
      * @return The first element of the corresponding ASEM elements or <code>null</code> if no
      *         corresponding element of the given type was found.
      */
+    @SuppressWarnings("unchecked")
     public static <T> T getFirstCorrespondingASEMElement(final CorrespondenceModel correspondenceModel,
             final EObject sysmlElement, final Class<T> asemElementType) {
 
+        final ASEMSysMLCorrespondenceIndex index = getCorrespondenceIndex(correspondenceModel, sysmlElement);
+
+        if (index != null) {
+            final Object indexedElement = index.getFirstCorrespondingElement(sysmlElement,
+                    AsemNamespace.METAMODEL_NAMESPACE, asemElementType);
+            if (indexedElement != ASEMSysMLCorrespondenceIndex.NOT_INDEXED) {
+                if (indexedElement instanceof EObject) {
+                    accessASEMElements(correspondenceModel, Collections.singletonList((EObject) indexedElement));
+                }
+                return (T) indexedElement;
+            }
+        }
+
         Collection<EObject> correspondingASEMElements = ASEMSysMLHelper
                 .getCorrespondingASEMElements(correspondenceModel, sysmlElement);
 
-        return getFirstCorrespondingElement(correspondingASEMElements, asemElementType);
+        final T firstCorrespondingElement = getFirstCorrespondingElement(correspondingASEMElements, asemElementType);
+
+        if (index != null) {
+            index.putFirstCorrespondingElement(sysmlElement, AsemNamespace.METAMODEL_NAMESPACE, asemElementType,
+                    firstCorrespondingElement);
+        }
+
+        return firstCorrespondingElement;
     }
 
     /**
@@ -252,27 +377,46 @@ public class ASEMSysMLHelper {
     public static <T> T getFirstCorrespondingSysMLElement(final CorrespondenceModel correspondenceModel,
             final EObject asemElement, final Class<T> sysmlElementType) {
 
+        final ASEMSysMLCorrespondenceIndex index = getCorrespondenceIndex(correspondenceModel, asemElement);
+
+        if (index != null) {
+            final Object indexedElement = index.getFirstCorrespondingElement(asemElement,
+                    SysMlNamspace.METAMODEL_NAMESPACE, sysmlElementType);
+            if (indexedElement != ASEMSysMLCorrespondenceIndex.NOT_INDEXED) {
+                return (T) indexedElement;
+            }
+        }
+
         Collection<EObject> correspondingSysMLElements = ASEMSysMLHelper
                 .getCorrespondingSysMLElements(correspondenceModel, asemElement);
 
+        T firstCorrespondingElement;
+
         if (sysmlElementType.isAssignableFrom(Block.class)) {
 
             org.eclipse.uml2.uml.Class baseClass = getFirstCorrespondingElement(correspondingSysMLElements,
                     org.eclipse.uml2.uml.Class.class);
 
             if (baseClass == null) {
-                return null;
+                firstCorrespondingElement = null;
+            } else {
+                Block block = getStereotypeApplication(baseClass, Block.class);
+                firstCorrespondingElement = (T) block;
             }
 
-            Block block = UMLUtil.getStereotypeApplication(baseClass, Block.class);
-            return (T) block;
-
         } else {
 
-            return getFirstCorrespondingElement(correspondingSysMLElements, sysmlElementType);
+            firstCorrespondingElement = getFirstCorrespondingElement(correspondingSysMLElements, sysmlElementType);
 
         }
 
+        if (index != null) {
+            index.putFirstCorrespondingElement(asemElement, SysMlNamspace.METAMODEL_NAMESPACE, sysmlElementType,
+                    firstCorrespondingElement);
+        }
+
+        return firstCorrespondingElement;
+
     }
 
     @SuppressWarnings("unchecked")
@@ -291,6 +435,56 @@ public class ASEMSysMLHelper {
         return null;
     }
 
+    private static ASEMSysMLCorrespondenceIndex getCorrespondenceIndex(final CorrespondenceModel correspondenceModel,
+            final EObject element) {
+
+        if (element == null) {
+            return null;
+        }
+
+        return ASEMSysMLCorrespondenceIndex.getActiveIndex(correspondenceModel);
+    }
+
+    /**
+     * Add a correspondence between a SysML and an ASEM element. Use this method instead of adding
+     * the correspondence to the correspondence model directly, so that an active
+     * {@link ASEMSysMLCorrespondenceIndex correspondence index} is kept up to date.
+     * 
+     * @param correspondenceModel
+     *            The correspondence model.
+     * @param sysmlElement
+     *            The SysML element which corresponds to the ASEM element.
+     * @param asemElement
+     *            The ASEM element which corresponds to the SysML element.
+     */
+    public static void addCorrespondence(final CorrespondenceModel correspondenceModel, final EObject sysmlElement,
+            final EObject asemElement) {
+
+        correspondenceModel.createAndAddCorrespondence(Collections.singletonList(sysmlElement),
+                Collections.singletonList(asemElement));
+
+        ASEMSysMLCorrespondenceIndex.invalidate(correspondenceModel, sysmlElement, asemElement);
+    }
+
+    /**
+     * Remove all correspondences which involve the given element and all correspondences which
+     * depend on them. Use this method instead of removing the correspondences from the
+     * correspondence model directly, so that an active {@link ASEMSysMLCorrespondenceIndex
+     * correspondence index} is kept up to date.
+     * 
+     * @param correspondenceModel
+     *            The correspondence model.
+     * @param element
+     *            The element whose correspondences have to be removed.
+     */
+    public static void removeCorrespondences(final CorrespondenceModel correspondenceModel, final EObject element) {
+
+        correspondenceModel.removeCorrespondencesThatInvolveAtLeastAndDependend(Collections.singleton(element));
+
+        // The dependent correspondences are unknown, so the whole index has to be invalidated.
+        ASEMSysMLCorrespondenceIndex.invalidateAll(correspondenceModel);
+    }
+
     /**
      * Get the block a given port belongs to.
      * 
@@ -308,7 +502,7 @@ public class ASEMSysMLHelper {
         }
 
         org.eclipse.uml2.uml.Class baseClass = (org.eclipse.uml2.uml.Class) portOwner;
-        return (Block) UMLUtil.getStereotypeApplication(baseClass, Block.class);
+        return getStereotypeApplication(baseClass, Block.class);
 
     }
 
@@ -322,19 +516,74 @@ public class ASEMSysMLHelper {
      *         <code>false</code>.
      */
     public static boolean isPropertyAPortProperty(final Property property) {
+        return isConnectedToPort(property);
+    }
 
-        boolean isPort = false;
+    /**
+     * Check if the given property is a part property, i.e. a composite property of a block which
+     * is typed by a block. Part properties are mapped to ASEM constants.
+     * 
+     * @param property
+     *            The property to check.
+     * @return <code>True</code> if the property is a part property, otherwise <code>false</code>.
+     */
+    public static boolean isPartProperty(final Property property) {
+
+        final boolean isContainingElementABlock = (property.eContainer() instanceof org.eclipse.uml2.uml.Class
+                && isBlock((org.eclipse.uml2.uml.Class) property.eContainer()));
+        final boolean isPropertyTypeABlock = (property.getType() != null && isBlock(property.getType()));
+
+        /*
+         * Check the aggregation kind of the property because the aggregation kind must be set for
+         * the getParts() method of a SysML block. Furthermore this check prevents the handling of a
+         * port property.
+         */
+        final AggregationKind aggregationKind = property.getAggregation();
+        final boolean isAggregationKindSetToComposite = (aggregationKind != null
+                && aggregationKind.equals(AggregationKind.COMPOSITE_LITERAL));
+
+        return (isContainingElementABlock && isPropertyTypeABlock && isAggregationKindSetToComposite);
+    }
 
-        for (ConnectorEnd propertyEnd : property.getEnds()) {
-            final Connector connector = getConnector(propertyEnd);
+    /**
+     * Check if the given property is a part reference by its name. Properties which are part
+     * references are not mapped to ASEM variables.
+     * 
+     * @param property
+     *            The property to check.
+     * @return <code>True</code> if the name of the property marks it as part reference, otherwise
+     *         <code>false</code>.
+     */
+    public static boolean isPartReference(final Property property) {
+        // TODO [BR] Use the aggregation kind 'COMPOSITE' to check, whether its a part reference or
+        // not. But this information is not set at this moment in time.
+        // return property.getAggregation().equals(AggregationKind.COMPOSITE);
+        return (property.getName() != null && property.getName().contains("part"));
+    }
+
+    /**
+     * Check if the given element is connected to a port, i.e. if one of the connectors of the
+     * element has a port as role of a connector end.
+     * 
+     * @param element
+     *            The connectable element to check, e.g. a property.
+     * @return <code>True</code> if the element is connected to a port, otherwise
+     *         <code>false</code>.
+     * 
+     * @see ASEMSysMLConnectorIndex
+     */
+    public static boolean isConnectedToPort(final ConnectableElement element) {
+
+        for (ConnectorEnd elementEnd : ASEMSysMLConnectorIndex.getConnectorEnds(element)) {
+            final Connector connector = getConnector(elementEnd);
             for (ConnectorEnd connectorEnd : connector.getEnds()) {
                 if (connectorEnd.getRole() instanceof Port) {
-                    isPort = true;
+                    return true;
                 }
             }
         }
 
-        return isPort;
+        return false;
     }
 
     /**
@@ -351,7 +600,7 @@ public class ASEMSysMLHelper {
 
         if (portType instanceof org.eclipse.uml2.uml.Class) {
             org.eclipse.uml2.uml.Class baseClass = (org.eclipse.uml2.uml.Class) portType;
-            Block portTypeBlock = UMLUtil.getStereotypeApplication(baseClass, Block.class);
+            Block portTypeBlock = getStereotypeApplication(baseClass, Block.class);
 
             Component correspondingComponent = ASEMSysMLHelper.getFirstCorrespondingASEMElement(correspondenceModel,
                     portTypeBlock, Component.class);
@@ -375,6 +624,42 @@ public class ASEMSysMLHelper {
         return null;
     }
 
+    /**
+     * Get the stereotype application of the given type which is applied to the given element. The
+     * stereotype applications are cached per resource.
+     * 
+     * @param <T>
+     *            Type of the stereotype application.
+     * @param element
+     *            The UML element to which the stereotype is applied.
+     * @param stereotypeType
+     *            The type of the stereotype application, e.g. {@code Block.class}.
+     * @return The stereotype application or <code>null</code> if no stereotype of this type is
+     *         applied to the element.
+     * 
+     * @see ASEMSysMLStereotypeCache
+     */
+    public static <T extends EObject> T getStereotypeApplication(final Element element,
+            final Class<T> stereotypeType) {
+        return ASEMSysMLStereotypeCache.getStereotypeApplication(element, stereotypeType);
+    }
+
+    /**
+     * Check if the SysML block stereotype is applied to the given element.
+     * 
+     * @param element
+     *            The UML element.
+     * @return <code>True</code> if the given element is the base class of a SysML block, otherwise
+     *         <code>false</code>.
+     */
+    public static boolean isBlock(final Element element) {
+
+        final Block block = getStereotypeApplication(element, Block.class);
+
+        // Sub stereotypes of the block (e.g. a constraint block) are not treated as blocks.
+        return (block != null && block.eClass() == BlocksPackage.Literals.BLOCK);
+    }
+
     /**
      * Get the flow property of a given port.
      * 
@@ -385,7 +670,7 @@ public class ASEMSysMLHelper {
     public static FlowProperty getFlowProperty(final Port port) {
 
         FlowProperty flowProperty = null;
-        flowProperty = UMLUtil.getStereotypeApplication(port, FlowProperty.class);
+        flowProperty = getStereotypeApplication(port, FlowProperty.class);
 
         return flowProperty;
 
@@ -393,19 +678,57 @@ public class ASEMSysMLHelper {
 
     /**
      * Get the connector end of a port. If there exists more than on connector end the first one
-     * will be returned at the moment.
+     * will be returned. Use {@link #getConnectorEnds(ConnectableElement)} to get all connector
+     * ends of the port.
      * 
      * @param port
      *            The port which must have at least on connector end specified.
      * @return The first connector end of the given port.
      */
     public static ConnectorEnd getConnectorEnd(final Port port) {
-        if (port.getEnds().isEmpty()) {
+
+        final List<ConnectorEnd> portEnds = getConnectorEnds(port);
+
+        if (portEnds.isEmpty()) {
             throw new IllegalArgumentException("The given port has no connector ends.");
         }
-        // TODO [BR] A port can have multiple connector ends. If this this is necessary, this method
-        // must be reworked.
-        return port.getEnds().get(0);
+
+        return portEnds.get(0);
+    }
+
+    /**
+     * Get all connector ends of a connectable element, e.g. of a port or a property.
+     * 
+     * @param element
+     *            The connectable element.
+     * @return The connector ends whose role is the given element. The list must not be modified.
+     * 
+     * @see ASEMSysMLConnectorIndex
+     */
+    public static List<ConnectorEnd> getConnectorEnds(final ConnectableElement element) {
+        return ASEMSysMLConnectorIndex.getConnectorEnds(element);
+    }
+
+    /**
+     * Get the elements which are connected to the given element by a connector.
+     * 
+     * @param element
+     *            The connectable element, e.g. a port or a property.
+     * @return The roles of the other ends of all connectors of the element.
+     */
+    public static List<ConnectableElement> getConnectedElements(final ConnectableElement element) {
+
+        final List<ConnectableElement> connectedElements = new ArrayList<ConnectableElement>();
+
+        for (ConnectorEnd elementEnd : getConnectorEnds(element)) {
+            for (ConnectorEnd connectorEnd : getConnector(elementEnd).getEnds()) {
+                if (connectorEnd != elementEnd && connectorEnd.getRole() != null) {
+                    connectedElements.add(connectorEnd.getRole());
+                }
+            }
+        }
+
+        return connectedElements;
     }
 
     /**
@@ -431,20 +754,12 @@ public class ASEMSysMLHelper {
      * 
      * @param asemResource
      *            The ASEM model resource.
-     * @return All available ASEM methods in this model resource.
+     * @return All available ASEM methods in this model resource. The list is unmodifiable.
+     * 
+     * @see ASEMMethodIndex
      */
     public static List<Method> getAllASEMMethods(final Resource asemResource) {
-
-        List<Method> methods = new ArrayList<Method>();
-
-        for (EObject object : asemResource.getContents()) {
-            if (object instanceof Component) {
-                Component component = (Component) object;
-                methods.addAll(component.getMethods());
-            }
-        }
-
-        return methods;
+        return ASEMMethodIndex.getIndex(asemResource).getMethods();
     }
 
     /**
@@ -452,22 +767,13 @@ public class ASEMSysMLHelper {
      * 
      * @param asemResource
      *            The ASEM model resource.
-     * @return All available ASEM methods in this model resource which have no return type.
+     * @return All available ASEM methods in this model resource which have no return type. The list
+     *         is unmodifiable.
+     * 
+     * @see ASEMMethodIndex
      */
     public static List<Method> getAllASEMMethodsWithoutReturnType(final Resource asemResource) {
-
-        List<Method> methods = getAllASEMMethods(asemResource);
-        Collection<Method> methodsToRemove = new HashSet<>();
-
-        for (Method method : methods) {
-            if (method.getReturnType() != null) {
-                methodsToRemove.add(method);
-            }
-        }
-
-        methods.removeAll(methodsToRemove);
-
-        return methods;
+        return ASEMMethodIndex.getIndex(asemResource).getMethodsWithoutReturnType();
     }
 
     /**
@@ -479,7 +785,7 @@ public class ASEMSysMLHelper {
      *         element, otherwise <code>false</code>.
      */
     public static boolean areMethodsAvailable(final Resource asemResource) {
-        return !(getAllASEMMethods(asemResource).isEmpty());
+        return ASEMMethodIndex.getIndex(asemResource).hasMethods();
     }
 
     /**
@@ -492,6 +798,6 @@ public class ASEMSysMLHelper {
      *         element which has no return type, otherwise <code>false</code>.
      */
     public static boolean areMethodsWithoutReturnTypeAvailable(final Resource asemResource) {
-        return !(getAllASEMMethodsWithoutReturnType(asemResource).isEmpty());
+        return ASEMMethodIndex.getIndex(asemResource).hasMethodsWithoutReturnType();
     }
 }
@@ -0,0 +1,95 @@
+package tools.vitruv.applications.asemsysml;
+
+import org.apache.log4j.Logger;
+
+/**
+ * Defines how the SysML model is partitioned into model resources. <br>
+ * <br>
+ * 
+ * Without partitioning, all SysML elements are persisted in the single SysML model resource. If
+ * the model is partitioned per block, the base class of each block which is created by the
+ * transformations is persisted in its own model resource together with its stereotype application,
+ * its ports and their stereotype applications. The base class stays contained in the SysML model
+ * (cross-resource containment), so a change of a block only changes the resource of the block.
+ * <br>
+ * <br>
+ * 
+ * The initial partitioning is read once from the system property {@value #PROPERTY_PARTITIONING}
+ * and can be changed with {@link #setPartitioning(ASEMSysMLModelPartitioning)}.
+ * 
+ * @author Benjamin Rupp
+ * 
+ * @see ASEMSysMLHelper#getSysMLProjectModelPath(String)
+ * @see ASEMSysMLHelper#getSysMLProjectModelPath(org.eclipse.uml2.uml.Element)
+ * 
+ */
+public enum ASEMSysMLModelPartitioning {
+
+    /** All SysML elements are persisted in the SysML model resource. This is the default. */
+    NONE,
+
+    /** Each block is persisted in its own model resource. */
+    BLOCK;
+
+    /** System property which defines the partitioning of the SysML model. */
+    public static final String PROPERTY_PARTITIONING = "asemsysml.sysml.partitioning";
+
+    private static final ASEMSysMLModelPartitioning DEFAULT_PARTITIONING = NONE;
+
+    private static Logger logger = Logger.getLogger(ASEMSysMLModelPartitioning.class);
+
+    private static volatile ASEMSysMLModelPartitioning partitioning = getConfiguredPartitioning();
+
+    /**
+     * @return The current partitioning of the SysML model.
+     */
+    public static ASEMSysMLModelPartitioning getPartitioning() {
+        return partitioning;
+    }
+
+    /**
+     * Change the partitioning of the SysML model. The partitioning only affects the blocks which
+     * are created afterwards.
+     * 
+     * @param newPartitioning
+     *            The new partitioning.
+     */
+    public static void setPartitioning(final ASEMSysMLModelPartitioning newPartitioning) {
+
+        if (newPartitioning == null) {
+            throw new IllegalArgumentException("The partitioning must not be null.");
+        }
+
+        partitioning = newPartitioning;
+    }
+
+    /**
+     * @return The partitioning which is configured by the system property
+     *         {@value #PROPERTY_PARTITIONING}. If the property is not set or invalid, the SysML
+     *         model is {@link #NONE not partitioned}.
+     */
+    public static ASEMSysMLModelPartitioning getConfiguredPartitioning() {
+
+        final String configuredPartitioning = System.getProperty(PROPERTY_PARTITIONING);
+
+        if (configuredPartitioning == null) {
+            return DEFAULT_PARTITIONING;
+        }
+
+        try {
+            return ASEMSysMLModelPartitioning.valueOf(configuredPartitioning.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            logger.warn("[ASEMSysML] Unknown SysML model partitioning " + configuredPartitioning + ", use "
+                    + DEFAULT_PARTITIONING);
+            return DEFAULT_PARTITIONING;
+        }
+    }
+
+    /**
+     * @return <code>True</code> if the SysML model is partitioned according to the current
+     *         partitioning, otherwise <code>false</code>.
+     */
+    public static boolean isSysMLModelPartitioned() {
+        return (partitioning != NONE);
+    }
+}
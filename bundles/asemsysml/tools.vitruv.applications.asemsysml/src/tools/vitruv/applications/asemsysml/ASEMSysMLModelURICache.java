@@ -0,0 +1,121 @@
+package tools.vitruv.applications.asemsysml;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.eclipse.emf.common.notify.impl.AdapterImpl;
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+
+import tools.vitruv.framework.util.datatypes.VURI;
+
+/**
+ * A cache of the project root prefixes and model VURIs of a resource set. <br>
+ * <br>
+ *
+ * The cache is attached as an adapter to its resource set, so it is discarded together with the
+ * resource set and the entries of different projects or virtual models do not accumulate.
+ *
+ * @author Benjamin Rupp
+ *
+ * @see ASEMSysMLHelper#getModelVURI(org.eclipse.emf.ecore.EObject, String)
+ */
+final class ASEMSysMLModelURICache extends AdapterImpl {
+
+    private final Map<URI, String> projectRootPrefixes;
+    private final Map<String, Map<String, VURI>> modelVURIs;
+
+    private ASEMSysMLModelURICache() {
+        this.projectRootPrefixes = new HashMap<URI, String>();
+        this.modelVURIs = new HashMap<String, Map<String, VURI>>();
+    }
+
+    /**
+     * Get the model VURI of the given project model path. If the resource is contained in a
+     * resource set, the project root prefix of the resource and the model VURI are cached for this
+     * resource set.
+     *
+     * @param resource
+     *            A resource which is located in the model directory of the project.
+     * @param projectModelPath
+     *            The project model path which starts with
+     *            {@link ASEMSysMLConstants#MODEL_DIR_NAME}.
+     * @return The VURI of the model.
+     */
+    static VURI getModelVURI(final Resource resource, final String projectModelPath) {
+
+        final ResourceSet resourceSet = resource.getResourceSet();
+
+        if (resourceSet == null) {
+            return createModelVURI(getProjectRootPrefix(resource), projectModelPath);
+        }
+
+        return getCache(resourceSet).lookUp(resource, projectModelPath);
+    }
+
+    private static ASEMSysMLModelURICache getCache(final ResourceSet resourceSet) {
+
+        synchronized (resourceSet) {
+
+            ASEMSysMLModelURICache cache = (ASEMSysMLModelURICache) EcoreUtil.getExistingAdapter(resourceSet,
+                    ASEMSysMLModelURICache.class);
+
+            if (cache == null) {
+                cache = new ASEMSysMLModelURICache();
+                resourceSet.eAdapters().add(cache);
+            }
+
+            return cache;
+        }
+    }
+
+    @Override
+    public boolean isAdapterForType(final Object type) {
+        return (type == ASEMSysMLModelURICache.class);
+    }
+
+    private synchronized VURI lookUp(final Resource resource, final String projectModelPath) {
+
+        final URI resourceURI = resource.getURI();
+        String uriPrefix = this.projectRootPrefixes.get(resourceURI);
+
+        if (uriPrefix == null) {
+            uriPrefix = getProjectRootPrefix(resource);
+            this.projectRootPrefixes.put(resourceURI, uriPrefix);
+        }
+
+        Map<String, VURI> modelVURIsOfProject = this.modelVURIs.get(uriPrefix);
+
+        if (modelVURIsOfProject == null) {
+            modelVURIsOfProject = new HashMap<String, VURI>();
+            this.modelVURIs.put(uriPrefix, modelVURIsOfProject);
+        }
+
+        VURI modelVURI = modelVURIsOfProject.get(projectModelPath);
+
+        if (modelVURI == null) {
+            modelVURI = createModelVURI(uriPrefix, projectModelPath);
+            modelVURIsOfProject.put(projectModelPath, modelVURI);
+        }
+
+        return modelVURI;
+    }
+
+    private static VURI createModelVURI(final String uriPrefix, final String projectModelPath) {
+        return VURI.getInstance(URI.createFileURI(uriPrefix + projectModelPath));
+    }
+
+    /**
+     * Get the file path prefix of the project which contains the given resource. The prefix ends
+     * in front of the {@link ASEMSysMLConstants#MODEL_DIR_NAME model directory}.
+     */
+    private static String getProjectRootPrefix(final Resource resource) {
+
+        final String existingElementURI = VURI.getInstance(resource).getEMFUri().toFileString();
+
+        return existingElementURI.substring(0,
+                existingElementURI.lastIndexOf(ASEMSysMLConstants.MODEL_DIR_NAME + java.io.File.separatorChar));
+    }
+}
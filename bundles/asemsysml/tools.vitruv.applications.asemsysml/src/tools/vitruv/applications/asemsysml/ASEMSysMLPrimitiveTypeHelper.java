@@ -1,9 +1,9 @@
 package tools.vitruv.applications.asemsysml;
 
-import java.io.File;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.eclipse.emf.common.util.URI;
 import org.eclipse.emf.ecore.EObject;
@@ -20,10 +20,11 @@ import org.eclipse.uml2.uml.UMLPackage;
 import edu.kit.ipd.sdq.ASEM.primitivetypes.BooleanType;
 import edu.kit.ipd.sdq.ASEM.primitivetypes.ContinuousType;
 import edu.kit.ipd.sdq.ASEM.primitivetypes.PrimitiveTypeRepository;
+import edu.kit.ipd.sdq.ASEM.primitivetypes.PrimitivetypesFactory;
 import edu.kit.ipd.sdq.ASEM.primitivetypes.SignedDiscreteType;
+import edu.kit.ipd.sdq.ASEM.primitivetypes.UnsignedDiscreteType;
 import tools.vitruv.domains.sysml.SysMlNamspace;
 import tools.vitruv.framework.correspondence.CorrespondenceModel;
-import tools.vitruv.framework.util.datatypes.VURI;
 
 /**
  * A helper class containing methods which are useful for the transformation of primitive types.
@@ -35,7 +36,8 @@ public final class ASEMSysMLPrimitiveTypeHelper {
 
     private static final String PRIMITIVE_TYPE_MODEL_NAME = "PrimitiveTypes";
 
-    private static boolean repoIsInitialized = false;
+    /** The name of the ASEM primitive type repository. */
+    public static final String PRIMITIVE_TYPE_REPOSITORY_NAME = "PrimitiveTypeRepo";
 
     /*
      * Add constants for UML primitive types, because I found no possibility to get a UML Type of
@@ -72,6 +74,12 @@ public final class ASEMSysMLPrimitiveTypeHelper {
         PRIMITIVE_TYPE_MAP.put(PRIMITIVE_TYPE_UNLIMITED_NATURAL, null);
     }
 
+    /**
+     * Caches the SysML primitive types which are mapped to the concrete ASEM primitive type
+     * classes.
+     */
+    private static final Map<Class<?>, PrimitiveType> SYSML_TYPES_BY_ASEM_TYPE = new ConcurrentHashMap<Class<?>, PrimitiveType>();
+
     /**
      * Get the SysML primitive type which is mapped to the given ASEM primitive type.
      * 
@@ -81,19 +89,58 @@ public final class ASEMSysMLPrimitiveTypeHelper {
      */
     public static final PrimitiveType getSysMLTypeByASEMType(
             final Class<? extends edu.kit.ipd.sdq.ASEM.primitivetypes.PrimitiveType> asemType) {
-        for (Entry<PrimitiveType, Class<? extends edu.kit.ipd.sdq.ASEM.primitivetypes.PrimitiveType>> entry : PRIMITIVE_TYPE_MAP
-                .entrySet()) {
-            if (entry.getValue() != null && entry.getValue().isAssignableFrom(asemType)) {
-                return entry.getKey();
+
+        PrimitiveType sysmlType = SYSML_TYPES_BY_ASEM_TYPE.get(asemType);
+
+        if (sysmlType == null) {
+            for (Entry<PrimitiveType, Class<? extends edu.kit.ipd.sdq.ASEM.primitivetypes.PrimitiveType>> entry : PRIMITIVE_TYPE_MAP
+                    .entrySet()) {
+                if (entry.getValue() != null && entry.getValue().isAssignableFrom(asemType)) {
+                    sysmlType = entry.getKey();
+                    SYSML_TYPES_BY_ASEM_TYPE.put(asemType, sysmlType);
+                    break;
+                }
             }
         }
-        return null;
+
+        return sysmlType;
     }
 
     /** Utility classes should not have a public or default constructor. */
     private ASEMSysMLPrimitiveTypeHelper() {
     }
 
+    /**
+     * Create the ASEM primitive type repository with an instance of each ASEM primitive type. The
+     * repository is not contained in a resource yet.
+     * 
+     * @return The new primitive type repository.
+     */
+    public static PrimitiveTypeRepository createPrimitiveTypeRepository() {
+
+        final PrimitiveTypeRepository primitiveTypeRepo = PrimitivetypesFactory.eINSTANCE
+                .createPrimitiveTypeRepository();
+        primitiveTypeRepo.setName(PRIMITIVE_TYPE_REPOSITORY_NAME);
+
+        final BooleanType pBoolean = PrimitivetypesFactory.eINSTANCE.createBooleanType();
+        pBoolean.setName("Boolean");
+        primitiveTypeRepo.getPrimitiveTypes().add(pBoolean);
+
+        final ContinuousType pContinuous = PrimitivetypesFactory.eINSTANCE.createContinuousType();
+        pContinuous.setName("Continuous");
+        primitiveTypeRepo.getPrimitiveTypes().add(pContinuous);
+
+        final UnsignedDiscreteType pUnsignedDiscrete = PrimitivetypesFactory.eINSTANCE.createUnsignedDiscreteType();
+        pUnsignedDiscrete.setName("UnsignedDiscrete");
+        primitiveTypeRepo.getPrimitiveTypes().add(pUnsignedDiscrete);
+
+        final SignedDiscreteType pSignedDiscrete = PrimitivetypesFactory.eINSTANCE.createSignedDiscreteType();
+        pSignedDiscrete.setName("SignedDiscrete");
+        primitiveTypeRepo.getPrimitiveTypes().add(pSignedDiscrete);
+
+        return primitiveTypeRepo;
+    }
+
     /**
      * Get the project model path for the primitive types model.
      * 
@@ -118,13 +165,9 @@ public final class ASEMSysMLPrimitiveTypeHelper {
     public static <T extends edu.kit.ipd.sdq.ASEM.primitivetypes.PrimitiveType> edu.kit.ipd.sdq.ASEM.primitivetypes.PrimitiveType getASEMPrimitiveTypeFromRepository(
             final Class<T> type, final EObject alreadyPersistedObject) {
 
-        edu.kit.ipd.sdq.ASEM.primitivetypes.PrimitiveType primitiveType = null;
-
-        getASEMPrimitiveTypeFromRepository(type, alreadyPersistedObject,
+        return getASEMPrimitiveTypeFromRepository(type, alreadyPersistedObject,
                 alreadyPersistedObject.eResource().getResourceSet());
 
-        return primitiveType;
-
     }
 
     /**
@@ -141,22 +184,17 @@ public final class ASEMSysMLPrimitiveTypeHelper {
      *            The resource set which must contain the primitive type repository.
      * @return The primitive type instance or <code>null</code> if no instance of this type exists.
      */
-    @SuppressWarnings("unchecked")
     public static <T extends edu.kit.ipd.sdq.ASEM.primitivetypes.PrimitiveType> edu.kit.ipd.sdq.ASEM.primitivetypes.PrimitiveType getASEMPrimitiveTypeFromRepository(
             final Class<T> type, final EObject alreadyPersistedObject, final ResourceSet resourceSet) {
 
-        edu.kit.ipd.sdq.ASEM.primitivetypes.PrimitiveType primitiveType = null;
-
-        Resource resource = getPrimitiveTypesResource(alreadyPersistedObject, resourceSet);
-        PrimitiveTypeRepository pRepo = (PrimitiveTypeRepository) resource.getContents().get(0);
+        final ASEMSysMLPrimitiveTypeRegistry registry = ASEMSysMLPrimitiveTypeRegistry.getInstance(resourceSet);
 
-        for (edu.kit.ipd.sdq.ASEM.primitivetypes.PrimitiveType pType : pRepo.getPrimitiveTypes()) {
-            if (type.isAssignableFrom(pType.getClass())) {
-                primitiveType = (T) pType;
-            }
+        if (registry.getRepository() == null) {
+            Resource resource = getPrimitiveTypesResource(alreadyPersistedObject, resourceSet);
+            registry.setRepository((PrimitiveTypeRepository) resource.getContents().get(0));
         }
 
-        return primitiveType;
+        return registry.getRepositoryPrimitiveType(type);
 
     }
 
@@ -200,6 +238,24 @@ public final class ASEMSysMLPrimitiveTypeHelper {
             throw new IllegalArgumentException("No SysML model resource exists.");
         }
 
+        final ResourceSet resourceSet = sysmlResource.getResourceSet();
+
+        if (resourceSet == null) {
+            return findSysMLPrimitiveType(sysmlResource, type);
+        }
+
+        final ASEMSysMLPrimitiveTypeRegistry registry = ASEMSysMLPrimitiveTypeRegistry.getInstance(resourceSet);
+        final Model sysmlModel = registry.getSysMLModel(sysmlResource);
+
+        if (sysmlModel == null) {
+            throw new IllegalArgumentException("SysML model does not contain a UML model element.");
+        }
+
+        return registry.getSysMLPrimitiveType(sysmlModel, type.getName());
+    }
+
+    private static PrimitiveType findSysMLPrimitiveType(final Resource sysmlResource, final PrimitiveType type) {
+
         Model sysmlModel = (Model) EcoreUtil.getObjectByType(sysmlResource.getContents(),
                 UMLPackage.eINSTANCE.getModel());
 
@@ -208,9 +264,8 @@ public final class ASEMSysMLPrimitiveTypeHelper {
         }
 
         for (PackageableElement modelType : sysmlModel.getPackagedElements()) {
-            PrimitiveType pType = (PrimitiveType) modelType;
-            if (pType.getName().equals(type.getName())) {
-                return pType;
+            if (modelType instanceof PrimitiveType && modelType.getName().equals(type.getName())) {
+                return (PrimitiveType) modelType;
             }
         }
 
@@ -218,7 +273,8 @@ public final class ASEMSysMLPrimitiveTypeHelper {
     }
 
     /**
-     * Check if the primitive types resource is already initialized.
+     * Check if the primitive types resource is already initialized. The initialization state is
+     * stored per resource set in the {@link ASEMSysMLPrimitiveTypeRegistry}.
      * 
      * @param alreadyPersistedObject
      *            An object that already exists. This is needed to get the correct URI (test project
@@ -228,47 +284,66 @@ public final class ASEMSysMLPrimitiveTypeHelper {
      */
     public static boolean isPrimitiveTypeModelInitialized(final EObject alreadyPersistedObject) {
 
-        if (repoIsInitialized) {
+        final ResourceSet resourceSet = alreadyPersistedObject.eResource().getResourceSet();
+        final ASEMSysMLPrimitiveTypeRegistry registry = ASEMSysMLPrimitiveTypeRegistry.getInstance(resourceSet);
+
+        if (registry.isRepositoryInitialized()) {
             return true;
         }
 
         Resource resource = null;
         try {
-            resource = getPrimitiveTypesResource(alreadyPersistedObject,
-                    alreadyPersistedObject.eResource().getResourceSet());
+            resource = getPrimitiveTypesResource(alreadyPersistedObject, resourceSet);
         } catch (Exception e) {
             return false;
         }
 
         if (resource != null) {
-            repoIsInitialized = true;
+            registry.markRepositoryInitialized();
+        }
+
+        return registry.isRepositoryInitialized();
+    }
+
+    /**
+     * Claim the initialization of the primitive types resource. If this method returns
+     * <code>true</code>, the caller has to initialize the primitive types resource. All other
+     * callers of the same resource set will get <code>false</code> afterwards, even if the
+     * initialization is still in progress.
+     * 
+     * @param alreadyPersistedObject
+     *            An object that already exists. This is needed to get the correct URI (test project
+     *            name, etc.).
+     * @return <code>True</code> if the caller has to initialize the primitive types resource,
+     *         otherwise <code>false</code>.
+     */
+    public static boolean claimPrimitiveTypeModelInitialization(final EObject alreadyPersistedObject) {
+
+        if (isPrimitiveTypeModelInitialized(alreadyPersistedObject)) {
+            return false;
         }
 
-        return repoIsInitialized;
+        final ResourceSet resourceSet = alreadyPersistedObject.eResource().getResourceSet();
+        return ASEMSysMLPrimitiveTypeRegistry.getInstance(resourceSet).claimRepositoryInitialization();
     }
 
     /**
-     * Reset the {@link #repoIsInitialized} flag to enable a new {@link PrimitiveTypeRepository}
-     * initialization. Please call this method before each test case. <br>
-     * <br>
+     * Reset the initialization state of the primitive types resource of the given resource set to
+     * enable a new {@link PrimitiveTypeRepository} initialization.
      * 
-     * TODO [BR] This mechanism should be reworked. Currently, it is used to initialize the
-     * {@link PrimitiveTypeRepository} only once per test case.
+     * @param resourceSet
+     *            The resource set which contains the primitive types resource.
      * 
-     * @see #isPrimitiveTypeModelInitialized(EObject, CorrespondenceModel)
+     * @see #isPrimitiveTypeModelInitialized(EObject)
      */
-    public static void resetRepoInitializationFlag() {
-        repoIsInitialized = false;
+    public static void resetRepoInitializationFlag(final ResourceSet resourceSet) {
+        ASEMSysMLPrimitiveTypeRegistry.getInstance(resourceSet).resetRepositoryInitialization();
     }
 
     private static Resource getPrimitiveTypesResource(final EObject alreadyPersistedObject, ResourceSet resourceSet) {
 
-        String existingElementURI = VURI.getInstance(alreadyPersistedObject.eResource()).getEMFUri().toFileString();
-        String uriPrefix = existingElementURI.substring(0,
-                existingElementURI.lastIndexOf(ASEMSysMLConstants.MODEL_DIR_NAME + File.separatorChar));
-        String asemURIString = uriPrefix + getPrimitiveTypeProjectModelPath();
-
-        URI uri = URI.createFileURI(asemURIString);
+        URI uri = ASEMSysMLHelper.getModelVURI(alreadyPersistedObject, getPrimitiveTypeProjectModelPath())
+                .getEMFUri();
         Resource primitiveTypesResource = resourceSet.getResource(uri, true);
 
         return primitiveTypesResource;
@@ -0,0 +1,360 @@
+package tools.vitruv.applications.asemsysml;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.eclipse.emf.common.notify.Adapter;
+import org.eclipse.emf.common.notify.Notification;
+import org.eclipse.emf.common.notify.impl.AdapterImpl;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.uml2.uml.Model;
+import org.eclipse.uml2.uml.PackageableElement;
+import org.eclipse.uml2.uml.PrimitiveType;
+import org.eclipse.uml2.uml.UMLPackage;
+
+import edu.kit.ipd.sdq.ASEM.primitivetypes.PrimitiveTypeRepository;
+
+/**
+ * A registry of the primitive type instances which exist in the models of a resource set. <br>
+ * <br>
+ * 
+ * The registry stores the instances of the ASEM primitive type repository per ASEM primitive type
+ * class and the primitive type instances of the SysML model per name. Both indices are built once
+ * on the first lookup and invalidated by adapters as soon as the primitive types of the repository,
+ * the packaged elements of the SysML model or the names of its primitive types change. <br>
+ * <br>
+ * 
+ * Additionally, the registry holds the initialization state of the ASEM primitive type repository
+ * of the resource set. Since each resource set has its own registry, several virtual models can
+ * initialize their primitive types independently of each other. The registry is an adapter of its
+ * resource set. It references the repository and the SysML model of the resource set and is
+ * therefore only reachable as long as the resource set itself.
+ * 
+ * @author Benjamin Rupp
+ * 
+ */
+public final class ASEMSysMLPrimitiveTypeRegistry extends AdapterImpl {
+
+    private final AtomicBoolean repositoryInitialized;
+
+    private PrimitiveTypeRepository repository;
+    private final Map<Class<?>, edu.kit.ipd.sdq.ASEM.primitivetypes.PrimitiveType> repositoryTypes;
+    private final Adapter repositoryAdapter;
+
+    private Model sysmlModel;
+    private Map<String, PrimitiveType> sysmlModelTypes;
+    private final List<PrimitiveType> observedSysMLModelTypes;
+    private final Adapter sysmlModelAdapter;
+    private final Adapter sysmlModelTypeAdapter;
+
+    private ASEMSysMLPrimitiveTypeRegistry() {
+
+        this.repositoryInitialized = new AtomicBoolean(false);
+        this.repositoryTypes = new HashMap<Class<?>, edu.kit.ipd.sdq.ASEM.primitivetypes.PrimitiveType>();
+        this.repositoryAdapter = new AdapterImpl() {
+            @Override
+            public void notifyChanged(final Notification notification) {
+                if (!notification.isTouch()) {
+                    invalidateRepositoryTypes();
+                }
+            }
+        };
+
+        this.sysmlModelAdapter = new AdapterImpl() {
+            @Override
+            public void notifyChanged(final Notification notification) {
+                // Added or removed blocks and classes do not change the primitive types.
+                if (!notification.isTouch()
+                        && notification.getFeature() == UMLPackage.Literals.PACKAGE__PACKAGED_ELEMENT
+                        && (isPrimitiveType(notification.getOldValue())
+                                || isPrimitiveType(notification.getNewValue()))) {
+                    invalidateSysMLModelTypes();
+                }
+            }
+        };
+
+        this.observedSysMLModelTypes = new ArrayList<PrimitiveType>();
+        this.sysmlModelTypeAdapter = new AdapterImpl() {
+            @Override
+            public void notifyChanged(final Notification notification) {
+                // A renamed primitive type does not change the packaged elements of the model.
+                if (!notification.isTouch()
+                        && notification.getFeature() == UMLPackage.Literals.NAMED_ELEMENT__NAME) {
+                    invalidateSysMLModelTypes();
+                }
+            }
+        };
+    }
+
+    /**
+     * @return <code>True</code> if the notification value is a primitive type or a collection which
+     *         contains a primitive type, otherwise <code>false</code>.
+     */
+    private static boolean isPrimitiveType(final Object value) {
+
+        if (value instanceof Collection<?>) {
+            for (Object element : (Collection<?>) value) {
+                if (element instanceof PrimitiveType) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        return (value instanceof PrimitiveType);
+    }
+
+    /**
+     * Get the primitive type registry of the given resource set. The registry is created if it does
+     * not exist yet.
+     * 
+     * @param resourceSet
+     *            The resource set which contains the ASEM primitive type repository and the SysML
+     *            model.
+     * @return The primitive type registry of the resource set.
+     */
+    public static ASEMSysMLPrimitiveTypeRegistry getInstance(final ResourceSet resourceSet) {
+
+        if (resourceSet == null) {
+            throw new IllegalArgumentException("Resource set must not be null.");
+        }
+
+        synchronized (resourceSet) {
+
+            ASEMSysMLPrimitiveTypeRegistry registry = (ASEMSysMLPrimitiveTypeRegistry) EcoreUtil
+                    .getExistingAdapter(resourceSet, ASEMSysMLPrimitiveTypeRegistry.class);
+
+            if (registry == null) {
+                registry = new ASEMSysMLPrimitiveTypeRegistry();
+                resourceSet.eAdapters().add(registry);
+            }
+
+            return registry;
+        }
+    }
+
+    @Override
+    public boolean isAdapterForType(final Object type) {
+        return (type == ASEMSysMLPrimitiveTypeRegistry.class);
+    }
+
+    /**
+     * @return <code>True</code> if the ASEM primitive type repository of the resource set is
+     *         initialized or its initialization was claimed, otherwise <code>false</code>.
+     */
+    public boolean isRepositoryInitialized() {
+        return this.repositoryInitialized.get();
+    }
+
+    /**
+     * Mark the ASEM primitive type repository of the resource set as initialized.
+     */
+    public void markRepositoryInitialized() {
+        this.repositoryInitialized.set(true);
+    }
+
+    /**
+     * Claim the initialization of the ASEM primitive type repository. Only one caller per resource
+     * set can claim the initialization until it is {@link #resetRepositoryInitialization() reset}.
+     * 
+     * @return <code>True</code> if the caller has claimed the initialization and has to initialize
+     *         the repository, <code>false</code> if the repository is already initialized or its
+     *         initialization was claimed by another caller.
+     */
+    public boolean claimRepositoryInitialization() {
+        return this.repositoryInitialized.compareAndSet(false, true);
+    }
+
+    /**
+     * Reset the initialization state of the ASEM primitive type repository to enable a new
+     * initialization. The registered repository is discarded, too.
+     */
+    public void resetRepositoryInitialization() {
+        this.repositoryInitialized.set(false);
+        this.setRepository(null);
+    }
+
+    /**
+     * Get the registered ASEM primitive type repository.
+     * 
+     * @return The registered primitive type repository or <code>null</code> if no repository is
+     *         registered or the registered repository is not contained in a resource anymore.
+     */
+    public synchronized PrimitiveTypeRepository getRepository() {
+
+        if (this.repository != null && this.repository.eResource() == null) {
+            setRepository(null);
+        }
+
+        return this.repository;
+    }
+
+    /**
+     * Register the ASEM primitive type repository of the resource set.
+     * 
+     * @param repository
+     *            The primitive type repository.
+     */
+    public synchronized void setRepository(final PrimitiveTypeRepository repository) {
+
+        if (this.repository == repository) {
+            return;
+        }
+
+        if (this.repository != null) {
+            this.repository.eAdapters().remove(this.repositoryAdapter);
+        }
+
+        this.repository = repository;
+        this.repositoryTypes.clear();
+
+        if (repository != null) {
+            repository.eAdapters().add(this.repositoryAdapter);
+        }
+    }
+
+    /**
+     * Get the primitive type instance of the registered ASEM primitive type repository.
+     * 
+     * @param type
+     *            Type of the primitive type which shall be returned.
+     * @return The first primitive type instance of the given type or <code>null</code> if no
+     *         repository is registered or no instance of this type exists.
+     */
+    public synchronized edu.kit.ipd.sdq.ASEM.primitivetypes.PrimitiveType getRepositoryPrimitiveType(
+            final Class<? extends edu.kit.ipd.sdq.ASEM.primitivetypes.PrimitiveType> type) {
+
+        if (type == null || getRepository() == null) {
+            return null;
+        }
+
+        if (this.repositoryTypes.containsKey(type)) {
+            return this.repositoryTypes.get(type);
+        }
+
+        edu.kit.ipd.sdq.ASEM.primitivetypes.PrimitiveType primitiveType = null;
+
+        for (edu.kit.ipd.sdq.ASEM.primitivetypes.PrimitiveType pType : this.repository.getPrimitiveTypes()) {
+            if (type.isInstance(pType)) {
+                primitiveType = pType;
+                break;
+            }
+        }
+
+        this.repositoryTypes.put(type, primitiveType);
+
+        return primitiveType;
+    }
+
+    /**
+     * Get the SysML model which is the root element of the given SysML model resource.
+     * 
+     * @param sysmlResource
+     *            SysML model resource.
+     * @return The SysML model or <code>null</code> if the resource does not contain a model.
+     */
+    public synchronized Model getSysMLModel(final Resource sysmlResource) {
+
+        if (this.sysmlModel == null || this.sysmlModel.eResource() != sysmlResource) {
+
+            Model model = null;
+
+            for (Object rootElement : sysmlResource.getContents()) {
+                if (rootElement instanceof Model) {
+                    model = (Model) rootElement;
+                    break;
+                }
+            }
+
+            setSysMLModel(model);
+        }
+
+        return this.sysmlModel;
+    }
+
+    /**
+     * Get the primitive type instance with the given name from the SysML model.
+     * 
+     * @param model
+     *            The SysML model which contains the primitive types.
+     * @param typeName
+     *            The name of the primitive type.
+     * @return The first primitive type instance with the given name or <code>null</code> if no
+     *         instance was found.
+     */
+    public synchronized PrimitiveType getSysMLPrimitiveType(final Model model, final String typeName) {
+
+        if (typeName == null) {
+            return null;
+        }
+
+        setSysMLModel(model);
+
+        return this.getIndexedSysMLPrimitiveType(typeName);
+    }
+
+    private PrimitiveType getIndexedSysMLPrimitiveType(final String typeName) {
+
+        if (this.sysmlModelTypes == null) {
+
+            this.sysmlModelTypes = new HashMap<String, PrimitiveType>();
+
+            for (PackageableElement packagedElement : this.sysmlModel.getPackagedElements()) {
+
+                if (!(packagedElement instanceof PrimitiveType)) {
+                    continue;
+                }
+
+                // All primitive types are observed, since a renamed type can shadow an indexed one.
+                final PrimitiveType primitiveType = (PrimitiveType) packagedElement;
+                primitiveType.eAdapters().add(this.sysmlModelTypeAdapter);
+                this.observedSysMLModelTypes.add(primitiveType);
+
+                if (!this.sysmlModelTypes.containsKey(primitiveType.getName())) {
+                    this.sysmlModelTypes.put(primitiveType.getName(), primitiveType);
+                }
+            }
+        }
+
+        return this.sysmlModelTypes.get(typeName);
+    }
+
+    private void setSysMLModel(final Model model) {
+
+        if (this.sysmlModel == model) {
+            return;
+        }
+
+        if (this.sysmlModel != null) {
+            this.sysmlModel.eAdapters().remove(this.sysmlModelAdapter);
+        }
+
+        this.sysmlModel = model;
+        invalidateSysMLModelTypes();
+
+        if (model != null) {
+            model.eAdapters().add(this.sysmlModelAdapter);
+        }
+    }
+
+    private synchronized void invalidateRepositoryTypes() {
+        this.repositoryTypes.clear();
+    }
+
+    private synchronized void invalidateSysMLModelTypes() {
+
+        for (PrimitiveType primitiveType : this.observedSysMLModelTypes) {
+            primitiveType.eAdapters().remove(this.sysmlModelTypeAdapter);
+        }
+
+        this.observedSysMLModelTypes.clear();
+        this.sysmlModelTypes = null;
+    }
+
+}
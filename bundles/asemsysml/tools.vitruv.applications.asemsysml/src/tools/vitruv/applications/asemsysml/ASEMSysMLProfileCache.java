@@ -0,0 +1,169 @@
+package tools.vitruv.applications.asemsysml;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.apache.log4j.Logger;
+import org.eclipse.emf.common.notify.impl.AdapterImpl;
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.papyrus.sysml14.util.SysMLResource;
+import org.eclipse.uml2.uml.Model;
+import org.eclipse.uml2.uml.Profile;
+import org.eclipse.uml2.uml.UMLPackage;
+import org.eclipse.uml2.uml.resource.UMLResource;
+
+/**
+ * A cache of the UML standard profile and the SysML profile per resource set. <br>
+ * <br>
+ * 
+ * Each profile is loaded and searched only once per resource set, i.e. once per virtual model,
+ * instead of each time a SysML model is initialized. The profiles are loaded into the resource set
+ * of the models they are applied to, so references to a profile (e.g. after a model was reloaded)
+ * are resolved by the resource set itself. <br>
+ * <br>
+ * 
+ * The profiles are not shared between resource sets, because UML modifies the profiles while
+ * stereotypes are applied and proxies are resolved, e.g. by its cache adapter. The models of a
+ * resource set have to be modified by one thread at a time anyway. <br>
+ * <br>
+ * 
+ * The cached profiles of a resource set are held by an adapter of the resource set. Since the
+ * profiles are contained in that resource set, a cache outside of the resource set would keep the
+ * resource set reachable after its virtual model was discarded.
+ * 
+ * @author Benjamin Rupp
+ * 
+ */
+public final class ASEMSysMLProfileCache extends AdapterImpl {
+
+    private static Logger logger = Logger.getLogger(ASEMSysMLProfileCache.class);
+
+    private final Map<URI, Profile> profiles;
+
+    private ASEMSysMLProfileCache() {
+        this.profiles = new HashMap<URI, Profile>();
+    }
+
+    /**
+     * @param resourceSet
+     *            The resource set the profile is loaded into.
+     * @return The cached UML standard profile of the resource set.
+     * 
+     * @see UMLResource#STANDARD_PROFILE_URI
+     */
+    public static Profile getUMLStandardProfile(final ResourceSet resourceSet) {
+        return getProfile(resourceSet, URI.createURI(UMLResource.STANDARD_PROFILE_URI));
+    }
+
+    /**
+     * @param resourceSet
+     *            The resource set the profile is loaded into.
+     * @return The cached SysML profile of the resource set.
+     * 
+     * @see SysMLResource#PROFILE_PATH
+     */
+    public static Profile getSysMLProfile(final ResourceSet resourceSet) {
+        return getProfile(resourceSet, URI.createURI(SysMLResource.PROFILE_PATH));
+    }
+
+    /**
+     * Get the profile which is the first package of the resource with the given URI. The resource
+     * is loaded into the given resource set with the first request of the profile.
+     * 
+     * @param resourceSet
+     *            The resource set the profile is loaded into.
+     * @param profileURI
+     *            The URI of the profile resource.
+     * @return The cached profile of the resource set.
+     */
+    public static Profile getProfile(final ResourceSet resourceSet, final URI profileURI) {
+
+        if (resourceSet == null) {
+            throw new IllegalArgumentException("Resource set must not be null.");
+        }
+
+        return getCache(resourceSet).lookUp(resourceSet, profileURI);
+    }
+
+    private static ASEMSysMLProfileCache getCache(final ResourceSet resourceSet) {
+
+        synchronized (resourceSet) {
+
+            ASEMSysMLProfileCache cache = (ASEMSysMLProfileCache) EcoreUtil.getExistingAdapter(resourceSet,
+                    ASEMSysMLProfileCache.class);
+
+            if (cache == null) {
+                cache = new ASEMSysMLProfileCache();
+                resourceSet.eAdapters().add(cache);
+            }
+
+            return cache;
+        }
+    }
+
+    @Override
+    public boolean isAdapterForType(final Object type) {
+        return (type == ASEMSysMLProfileCache.class);
+    }
+
+    private synchronized Profile lookUp(final ResourceSet resourceSet, final URI profileURI) {
+
+        Profile profile = this.profiles.get(profileURI);
+
+        if (profile == null || profile.eResource() == null || profile.eResource().getResourceSet() != resourceSet) {
+            // The profile was not loaded yet or its resource was removed from the resource set.
+            profile = loadProfile(resourceSet, profileURI);
+            this.profiles.put(profileURI, profile);
+        }
+
+        return profile;
+    }
+
+    /**
+     * Apply the UML standard profile and the SysML profile to the given model. The profiles are
+     * loaded into the given resource set if they were not loaded yet.
+     * 
+     * @param model
+     *            The model the profiles shall be applied to.
+     * @param resourceSet
+     *            The resource set the model is or will be contained in.
+     */
+    public static void applyUMLStandardAndSysMLProfiles(final Model model, final ResourceSet resourceSet) {
+
+        model.applyProfile(getUMLStandardProfile(resourceSet));
+        model.applyProfile(getSysMLProfile(resourceSet));
+    }
+
+    /**
+     * Load the UML standard profile and the SysML profile into the given resource set, so that
+     * references of SysML models to the profiles can be resolved.
+     * 
+     * @param resourceSet
+     *            The resource set.
+     */
+    public static void loadProfiles(final ResourceSet resourceSet) {
+        getUMLStandardProfile(resourceSet);
+        getSysMLProfile(resourceSet);
+    }
+
+    private static Profile loadProfile(final ResourceSet resourceSet, final URI profileURI) {
+
+        final long start = System.nanoTime();
+
+        final Resource profileResource = resourceSet.getResource(profileURI, true);
+        final Profile profile = (Profile) EcoreUtil.getObjectByType(profileResource.getContents(),
+                UMLPackage.Literals.PACKAGE);
+
+        if (profile == null) {
+            throw new IllegalArgumentException("The resource " + profileURI + " does not contain a profile.");
+        }
+
+        logger.debug("[ASEMSysML] Loaded profile " + profile.getName() + " in "
+                + ((System.nanoTime() - start) / 1000000) + " ms.");
+
+        return profile;
+    }
+}
@@ -0,0 +1,158 @@
+package tools.vitruv.applications.asemsysml;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.apache.log4j.Logger;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.uml2.uml.Model;
+import org.eclipse.uml2.uml.PrimitiveType;
+import org.eclipse.uml2.uml.UMLFactory;
+
+import edu.kit.ipd.sdq.ASEM.primitivetypes.PrimitiveTypeRepository;
+import tools.vitruv.domains.sysml.SysMlNamspace;
+
+/**
+ * Initializes the SysML model and the ASEM primitive type repository of a new project in one
+ * step. <br>
+ * <br>
+ * 
+ * Usually a project is initialized by the change propagation: The SysML model is created first and
+ * its primitive types are added afterwards as separate changes, which trigger the creation of the
+ * ASEM primitive type repository. The initializer instead creates the ASEM primitive type
+ * repository and the SysML model with the applied UML standard and SysML profiles and all its
+ * primitive types at once. Each model is created by a single change, so no transformation has to
+ * be executed. <br>
+ * <br>
+ * 
+ * The models are created through the virtual model by a {@link ModelCreator}, which persists them
+ * and propagates their creation. The result is the same as the initialization by the java
+ * transformations: The repository is created by
+ * {@link ASEMSysMLPrimitiveTypeHelper#createPrimitiveTypeRepository()} and no correspondences are
+ * created for the primitive types. Since the repository is created first, the transformations find
+ * it in the project and do not initialize it a second time.
+ * 
+ * @author Benjamin Rupp
+ * 
+ */
+public final class ASEMSysMLProjectInitializer {
+
+    private static Logger logger = Logger.getLogger(ASEMSysMLProjectInitializer.class);
+
+    /** The SysML primitive types in the order in which the SysML model is initialized. */
+    private static final List<PrimitiveType> SYSML_PRIMITIVE_TYPES = Arrays.asList(
+            ASEMSysMLPrimitiveTypeHelper.PRIMITIVE_TYPE_BOOLEAN, ASEMSysMLPrimitiveTypeHelper.PRIMITIVE_TYPE_INTEGER,
+            ASEMSysMLPrimitiveTypeHelper.PRIMITIVE_TYPE_REAL,
+            ASEMSysMLPrimitiveTypeHelper.PRIMITIVE_TYPE_UNLIMITED_NATURAL,
+            ASEMSysMLPrimitiveTypeHelper.PRIMITIVE_TYPE_STRING);
+
+    /** Utility classes should not have a public or default constructor. */
+    private ASEMSysMLProjectInitializer() {
+    }
+
+    /**
+     * Creates a model of a project through the virtual model, e.g. by recording the creation of
+     * the model resource and propagating the change.
+     * 
+     * @author Benjamin Rupp
+     * 
+     */
+    public interface ModelCreator {
+
+        /**
+         * Create the model with the given root element and propagate its creation.
+         * 
+         * @param projectModelPath
+         *            The path of the model in the project, which starts with
+         *            {@link ASEMSysMLConstants#MODEL_DIR_NAME} or the given project directory.
+         * @param rootElement
+         *            The root element of the model.
+         */
+        void createAndSynchronizeModel(String projectModelPath, EObject rootElement);
+    }
+
+    /**
+     * The models which were created by the {@link ASEMSysMLProjectInitializer}.
+     * 
+     * @author Benjamin Rupp
+     * 
+     */
+    public static final class InitializedProject {
+
+        private final Model sysmlModel;
+        private final PrimitiveTypeRepository primitiveTypeRepository;
+
+        private InitializedProject(final Model sysmlModel, final PrimitiveTypeRepository primitiveTypeRepository) {
+            this.sysmlModel = sysmlModel;
+            this.primitiveTypeRepository = primitiveTypeRepository;
+        }
+
+        public Model getSysMLModel() {
+            return this.sysmlModel;
+        }
+
+        public PrimitiveTypeRepository getPrimitiveTypeRepository() {
+            return this.primitiveTypeRepository;
+        }
+    }
+
+    /**
+     * Initialize the SysML model and the ASEM primitive type repository of a project.
+     * 
+     * @param resourceSet
+     *            The resource set of the virtual model, which the profiles are loaded into.
+     * @param projectDirectory
+     *            The directory of the project relative to the project of the virtual model. The
+     *            directory must be empty or end with a file separator. Use an empty directory to
+     *            initialize the project of the virtual model itself.
+     * @param modelCreator
+     *            Creates the models through the virtual model.
+     * @return The created models.
+     */
+    public static InitializedProject initialize(final ResourceSet resourceSet, final String projectDirectory,
+            final ModelCreator modelCreator) {
+
+        if (resourceSet == null || projectDirectory == null || modelCreator == null) {
+            throw new IllegalArgumentException("Resource set, project directory and model creator must not be null.");
+        }
+
+        final long start = System.nanoTime();
+
+        // The repository has to exist before the SysML model with its primitive types is created.
+        final PrimitiveTypeRepository repository = ASEMSysMLPrimitiveTypeHelper.createPrimitiveTypeRepository();
+        modelCreator.createAndSynchronizeModel(
+                projectDirectory + ASEMSysMLPrimitiveTypeHelper.getPrimitiveTypeProjectModelPath(), repository);
+
+        final Model sysmlModel = createSysMLModel(resourceSet);
+        modelCreator.createAndSynchronizeModel(projectDirectory + ASEMSysMLHelper
+                .getProjectModelPath(ASEMSysMLConstants.TEST_SYSML_MODEL_NAME, SysMlNamspace.FILE_EXTENSION),
+                sysmlModel);
+
+        logger.debug("[ASEMSysML] Initialized project " + projectDirectory + " in "
+                + ((System.nanoTime() - start) / 1000000) + " ms.");
+
+        return new InitializedProject(sysmlModel, repository);
+    }
+
+    /**
+     * Create the SysML model with the applied UML standard and SysML profiles and the SysML
+     * primitive types. The model is not contained in a resource yet.
+     * 
+     * @param resourceSet
+     *            The resource set the model will be contained in.
+     * @return The new SysML model.
+     */
+    public static Model createSysMLModel(final ResourceSet resourceSet) {
+
+        final Model sysmlModel = UMLFactory.eINSTANCE.createModel();
+        sysmlModel.setName(ASEMSysMLConstants.TEST_SYSML_MODEL_NAME);
+        ASEMSysMLProfileCache.applyUMLStandardAndSysMLProfiles(sysmlModel, resourceSet);
+
+        for (PrimitiveType primitiveType : SYSML_PRIMITIVE_TYPES) {
+            sysmlModel.createOwnedPrimitiveType(primitiveType.getName());
+        }
+
+        return sysmlModel;
+    }
+}
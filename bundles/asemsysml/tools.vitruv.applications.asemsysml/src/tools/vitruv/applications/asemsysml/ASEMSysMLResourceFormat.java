@@ -0,0 +1,320 @@
+package tools.vitruv.applications.asemsysml;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+
+import org.apache.log4j.Logger;
+import org.eclipse.emf.common.notify.Notification;
+import org.eclipse.emf.common.notify.impl.AdapterImpl;
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.resource.URIConverter;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.eclipse.emf.ecore.xmi.XMLResource;
+
+import tools.vitruv.domains.asem.AsemNamespace;
+import tools.vitruv.domains.sysml.SysMlNamspace;
+
+/**
+ * The serialization format of the ASEM models and the SysML model. <br>
+ * <br>
+ * 
+ * The models are XML resources. In {@link #BINARY binary} format the same resources are serialized
+ * with the EMF binary serialization (see {@link XMLResource#OPTION_BINARY}) instead of XMI, which
+ * is faster to load and save and results in smaller files. The file extensions of the models do not
+ * change, since the domains of the virtual model are identified by them. Therefore the format of a
+ * model file is detected by its content when it is loaded: Files which start with the signature of
+ * the EMF binary serialization are loaded as binary files, all other files as XMI files. <br>
+ * <br>
+ * 
+ * The format is configured with the system property {@value #PROPERTY_RESOURCE_FORMAT} and
+ * {@link #install(ResourceSet) installed} into the resource factory registry of a resource set for
+ * the ASEM and SysML file extensions. Each resource which is created afterwards in this resource
+ * set saves its contents in the installed format. The global resource factory registry is not
+ * changed. <br>
+ * <br>
+ * 
+ * The change propagation specifications of both directions, the java transformations as well as
+ * the reactions, install the configured format into the resource set of the virtual model before
+ * each propagation. Models which are created before the first propagation, e.g. the models which
+ * are created by a user to start a project, are only saved in the configured format if
+ * {@link #installConfiguredFormat(ResourceSet)} is called for the resource set beforehand. <br>
+ * <br>
+ * 
+ * Existing models can be converted between the formats with
+ * {@link #convert(URI, ASEMSysMLResourceFormat, URI, ASEMSysMLResourceFormat)}, e.g. to import or
+ * export XMI files.
+ * 
+ * @author Benjamin Rupp
+ * 
+ */
+public enum ASEMSysMLResourceFormat {
+
+    /** The XMI serialization. This is the default format. */
+    XMI(false),
+
+    /** The EMF binary serialization. */
+    BINARY(true);
+
+    /** System property which defines the format of the models. */
+    public static final String PROPERTY_RESOURCE_FORMAT = "asemsysml.resource.format";
+
+    private static final ASEMSysMLResourceFormat DEFAULT_FORMAT = XMI;
+
+    private static final String[] FILE_EXTENSIONS = { AsemNamespace.FILE_EXTENSION, SysMlNamspace.FILE_EXTENSION };
+
+    /** The first bytes of a file in the EMF binary serialization. */
+    private static final byte[] BINARY_SIGNATURE = { (byte) 0x89, 'e', 'm', 'f' };
+
+    private static Logger logger = Logger.getLogger(ASEMSysMLResourceFormat.class);
+
+    private final boolean binary;
+
+    private ASEMSysMLResourceFormat(final boolean binary) {
+        this.binary = binary;
+    }
+
+    /**
+     * @return The format which is configured by the system property
+     *         {@value #PROPERTY_RESOURCE_FORMAT}. If the property is not set or invalid, the
+     *         {@link #XMI} format is used.
+     */
+    public static ASEMSysMLResourceFormat getConfiguredFormat() {
+
+        final String configuredFormat = System.getProperty(PROPERTY_RESOURCE_FORMAT);
+
+        if (configuredFormat == null) {
+            return DEFAULT_FORMAT;
+        }
+
+        try {
+            return ASEMSysMLResourceFormat.valueOf(configuredFormat.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            logger.warn("[ASEMSysML] Unknown resource format " + configuredFormat + ", use " + DEFAULT_FORMAT);
+            return DEFAULT_FORMAT;
+        }
+    }
+
+    /**
+     * Install the {@link #getConfiguredFormat() configured format} for the ASEM and SysML file
+     * extensions in the given resource set.
+     * 
+     * @param resourceSet
+     *            The resource set, e.g. the resource set of a virtual model.
+     * 
+     * @see #install(ResourceSet)
+     */
+    public static void installConfiguredFormat(final ResourceSet resourceSet) {
+        getConfiguredFormat().install(resourceSet);
+    }
+
+    /**
+     * Install this format for the ASEM and SysML file extensions in the resource factory registry
+     * of the given resource set. The resources which are created afterwards in the resource set
+     * save their contents in this format and detect the format of their model files when they are
+     * loaded. Installing a format again replaces the format installed before.
+     * 
+     * @param resourceSet
+     *            The resource set, e.g. the resource set of a virtual model.
+     */
+    public void install(final ResourceSet resourceSet) {
+
+        if (resourceSet == null) {
+            throw new IllegalArgumentException("Resource set must not be null.");
+        }
+
+        synchronized (resourceSet) {
+
+            final Map<String, Object> extensionToFactoryMap = resourceSet.getResourceFactoryRegistry()
+                    .getExtensionToFactoryMap();
+
+            for (String fileExtension : FILE_EXTENSIONS) {
+
+                final Object installedFactory = extensionToFactoryMap.get(fileExtension);
+                final Resource.Factory delegate;
+
+                if (installedFactory instanceof FormatResourceFactory) {
+                    if (((FormatResourceFactory) installedFactory).format == this) {
+                        continue;
+                    }
+                    delegate = ((FormatResourceFactory) installedFactory).delegate;
+                } else if (installedFactory != null) {
+                    delegate = getFactory(installedFactory);
+                } else {
+                    delegate = Resource.Factory.Registry.INSTANCE
+                            .getFactory(URI.createURI("model." + fileExtension));
+                }
+
+                if (delegate == null) {
+                    logger.warn("[ASEMSysML] No resource factory registered for the file extension " + fileExtension
+                            + ", the " + this + " format cannot be installed.");
+                    continue;
+                }
+
+                extensionToFactoryMap.put(fileExtension, new FormatResourceFactory(delegate, this));
+                logger.debug("[ASEMSysML] Installed the " + this + " resource format for " + fileExtension + ".");
+            }
+        }
+    }
+
+    /**
+     * Apply this format to the given resource. The resource saves its contents in this format and
+     * loads its contents in the {@link #detectFormat(Resource) detected format} of its model file,
+     * unless the load or save options request another format explicitly.
+     * 
+     * @param resource
+     *            The resource.
+     */
+    public void applyTo(final Resource resource) {
+
+        if (!(resource instanceof XMLResource)) {
+            return;
+        }
+
+        final XMLResource xmlResource = (XMLResource) resource;
+
+        xmlResource.getDefaultSaveOptions().put(XMLResource.OPTION_BINARY, this.binary);
+        xmlResource.getDefaultLoadOptions().put(XMLResource.OPTION_BINARY, detectFormat(resource, this).binary);
+    }
+
+    /**
+     * Detect the format of the model file of the given resource by its content.
+     * 
+     * @param resource
+     *            The resource.
+     * @return The format of the model file or <code>null</code> if the file does not exist.
+     */
+    public static ASEMSysMLResourceFormat detectFormat(final Resource resource) {
+        return detectFormat(resource, null);
+    }
+
+    /**
+     * @return The options to load a resource in this format.
+     */
+    public Map<Object, Object> getLoadOptions() {
+        return Collections.<Object, Object> singletonMap(XMLResource.OPTION_BINARY, this.binary);
+    }
+
+    /**
+     * @return The options to save a resource in this format.
+     */
+    public Map<Object, Object> getSaveOptions() {
+        return Collections.<Object, Object> singletonMap(XMLResource.OPTION_BINARY, this.binary);
+    }
+
+    /**
+     * Convert a model file from one format to another, e.g. to import or export a model as XMI.
+     * The model is loaded into a separate resource set. References to other models are kept.
+     * Therefore the target file should be located in the same directory as the source file.
+     * 
+     * @param sourceURI
+     *            The URI of the model file to convert.
+     * @param sourceFormat
+     *            The format of the model file to convert.
+     * @param targetURI
+     *            The URI of the converted model file. The URI may be equal to the source URI.
+     * @param targetFormat
+     *            The format of the converted model file.
+     * @throws IOException
+     *             If the model could not be loaded or saved.
+     */
+    public static void convert(final URI sourceURI, final ASEMSysMLResourceFormat sourceFormat, final URI targetURI,
+            final ASEMSysMLResourceFormat targetFormat) throws IOException {
+
+        if (sourceURI == null || sourceFormat == null || targetURI == null || targetFormat == null) {
+            throw new IllegalArgumentException("Source and target URI and format must not be null.");
+        }
+
+        final ResourceSet resourceSet = new ResourceSetImpl();
+        // The SysML model references the profiles.
+        ASEMSysMLProfileCache.loadProfiles(resourceSet);
+
+        final Resource resource = resourceSet.createResource(sourceURI);
+        resource.load(sourceFormat.getLoadOptions());
+
+        resource.setURI(targetURI);
+        resource.save(targetFormat.getSaveOptions());
+
+        resource.unload();
+    }
+
+    private static ASEMSysMLResourceFormat detectFormat(final Resource resource,
+            final ASEMSysMLResourceFormat defaultFormat) {
+
+        final URIConverter uriConverter = (resource.getResourceSet() != null)
+                ? resource.getResourceSet().getURIConverter() : URIConverter.INSTANCE;
+
+        if (resource.getURI() == null || !uriConverter.exists(resource.getURI(), Collections.emptyMap())) {
+            // A new model file will be saved in the installed format.
+            return defaultFormat;
+        }
+
+        final byte[] signature = new byte[BINARY_SIGNATURE.length];
+        int length = 0;
+
+        try (InputStream inputStream = uriConverter.createInputStream(resource.getURI())) {
+            int read;
+            while (length < signature.length
+                    && (read = inputStream.read(signature, length, signature.length - length)) != -1) {
+                length += read;
+            }
+        } catch (IOException e) {
+            logger.warn("[ASEMSysML] Could not detect the format of " + resource.getURI() + ", use " + defaultFormat);
+            return defaultFormat;
+        }
+
+        return (length == signature.length && Arrays.equals(signature, BINARY_SIGNATURE)) ? BINARY : XMI;
+    }
+
+    private static Resource.Factory getFactory(final Object factory) {
+
+        if (factory instanceof Resource.Factory.Descriptor) {
+            return ((Resource.Factory.Descriptor) factory).createFactory();
+        }
+
+        return (Resource.Factory) factory;
+    }
+
+    /**
+     * A resource factory which applies a format to the resources of another resource factory. The
+     * format of the model file is detected again each time a resource was unloaded or moved, since
+     * the file could have been saved in another format in the meantime.
+     */
+    private static final class FormatResourceFactory implements Resource.Factory {
+
+        private final Resource.Factory delegate;
+        private final ASEMSysMLResourceFormat format;
+
+        private FormatResourceFactory(final Resource.Factory delegate, final ASEMSysMLResourceFormat format) {
+            this.delegate = delegate;
+            this.format = format;
+        }
+
+        @Override
+        public Resource createResource(final URI uri) {
+
+            final Resource resource = this.delegate.createResource(uri);
+            this.format.applyTo(resource);
+
+            resource.eAdapters().add(new AdapterImpl() {
+                @Override
+                public void notifyChanged(final Notification notification) {
+                    if (notification.isTouch()) {
+                        return;
+                    }
+                    if ((notification.getFeatureID(Resource.class) == Resource.RESOURCE__IS_LOADED
+                            && !notification.getNewBooleanValue())
+                            || notification.getFeatureID(Resource.class) == Resource.RESOURCE__URI) {
+                        format.applyTo(resource);
+                    }
+                }
+            });
+
+            return resource;
+        }
+    }
+}
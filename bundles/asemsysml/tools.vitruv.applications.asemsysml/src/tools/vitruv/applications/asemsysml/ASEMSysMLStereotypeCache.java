@@ -0,0 +1,213 @@
+package tools.vitruv.applications.asemsysml;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.eclipse.emf.common.notify.Notification;
+import org.eclipse.emf.common.notify.impl.AdapterImpl;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EReference;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.uml2.uml.Element;
+import org.eclipse.uml2.uml.Extension;
+import org.eclipse.uml2.uml.util.UMLUtil;
+
+/**
+ * A cache of the stereotype applications of the UML elements of a resource. <br>
+ * <br>
+ * 
+ * The stereotype applications of SysML are root elements of the resource which contains the
+ * stereotyped UML element. Therefore the cache is attached as an adapter to the resource and to all
+ * of its root elements which are not UML elements. The cache is invalidated as soon as the root
+ * elements of the resource change (a stereotype is applied or unapplied) or a stereotype
+ * application is moved to another base element.
+ * 
+ * @author Benjamin Rupp
+ * 
+ */
+public final class ASEMSysMLStereotypeCache extends AdapterImpl {
+
+    /**
+     * Marks a looked up stereotype application which does not exist.
+     */
+    private static final Object NO_STEREOTYPE_APPLICATION = new Object();
+
+    private final Resource resource;
+    private final Map<Element, Map<Class<?>, Object>> stereotypeApplications;
+
+    private ASEMSysMLStereotypeCache(final Resource resource) {
+        this.resource = resource;
+        this.stereotypeApplications = new HashMap<Element, Map<Class<?>, Object>>();
+    }
+
+    /**
+     * Get the stereotype application of the given type which is applied to the given element. <br>
+     * <br>
+     * 
+     * The result is cached for elements which are contained in a resource.
+     * 
+     * @param <T>
+     *            Type of the stereotype application.
+     * @param element
+     *            The UML element to which the stereotype is applied.
+     * @param stereotypeType
+     *            The type of the stereotype application, e.g. {@code Block.class}.
+     * @return The stereotype application or <code>null</code> if no stereotype of this type is
+     *         applied to the element.
+     * 
+     * @see UMLUtil#getStereotypeApplication(Element, Class)
+     */
+    public static <T extends EObject> T getStereotypeApplication(final Element element,
+            final Class<T> stereotypeType) {
+
+        if (element == null) {
+            return null;
+        }
+
+        final Resource elementResource = element.eResource();
+
+        if (elementResource == null) {
+            return UMLUtil.getStereotypeApplication(element, stereotypeType);
+        }
+
+        return getCache(elementResource).lookUp(element, stereotypeType);
+    }
+
+    private static ASEMSysMLStereotypeCache getCache(final Resource resource) {
+
+        synchronized (resource) {
+
+            ASEMSysMLStereotypeCache cache = (ASEMSysMLStereotypeCache) EcoreUtil.getExistingAdapter(resource,
+                    ASEMSysMLStereotypeCache.class);
+
+            if (cache == null) {
+                cache = new ASEMSysMLStereotypeCache(resource);
+                resource.eAdapters().add(cache);
+                cache.observeRootElements(resource.getContents());
+            }
+
+            return cache;
+        }
+    }
+
+    @Override
+    public boolean isAdapterForType(final Object type) {
+        return (type == ASEMSysMLStereotypeCache.class);
+    }
+
+    @Override
+    public synchronized void notifyChanged(final Notification notification) {
+
+        if (notification.isTouch()) {
+            return;
+        }
+
+        if (notification.getNotifier() == this.resource) {
+
+            switch (notification.getFeatureID(Resource.class)) {
+            case Resource.RESOURCE__CONTENTS:
+                this.updateObservedRootElements(notification);
+                break;
+            case Resource.RESOURCE__IS_LOADED:
+                break;
+            default:
+                // Other resource features (e.g. the modification state) do not affect the
+                // stereotype applications.
+                return;
+            }
+
+        } else if (!isBaseElementChange(notification)) {
+            // Only the base element of a stereotype application defines to which element the
+            // stereotype is applied.
+            return;
+        }
+
+        this.stereotypeApplications.clear();
+    }
+
+    private static boolean isBaseElementChange(final Notification notification) {
+
+        final Object feature = notification.getFeature();
+
+        return (feature instanceof EReference
+                && ((EReference) feature).getName().startsWith(Extension.METACLASS_ROLE_PREFIX));
+    }
+
+    @Override
+    public void setTarget(final Object newTarget) {
+        // The cache observes several notifiers, but it belongs to its resource only.
+    }
+
+    @Override
+    public void unsetTarget(final Object oldTarget) {
+        // The cache observes several notifiers, but it belongs to its resource only.
+    }
+
+    @SuppressWarnings("unchecked")
+    private synchronized <T extends EObject> T lookUp(final Element element, final Class<T> stereotypeType) {
+
+        Map<Class<?>, Object> applicationsPerType = this.stereotypeApplications.get(element);
+
+        if (applicationsPerType == null) {
+            applicationsPerType = new HashMap<Class<?>, Object>();
+            this.stereotypeApplications.put(element, applicationsPerType);
+        }
+
+        Object stereotypeApplication = applicationsPerType.get(stereotypeType);
+
+        if (stereotypeApplication == null) {
+            stereotypeApplication = UMLUtil.getStereotypeApplication(element, stereotypeType);
+            applicationsPerType.put(stereotypeType,
+                    stereotypeApplication != null ? stereotypeApplication : NO_STEREOTYPE_APPLICATION);
+        }
+
+        return (stereotypeApplication != NO_STEREOTYPE_APPLICATION ? (T) stereotypeApplication : null);
+    }
+
+    private void updateObservedRootElements(final Notification notification) {
+
+        switch (notification.getEventType()) {
+        case Notification.ADD:
+        case Notification.SET:
+            this.unobserveRootElement(notification.getOldValue());
+            this.observeRootElement(notification.getNewValue());
+            break;
+        case Notification.ADD_MANY:
+            this.observeRootElements((Collection<?>) notification.getNewValue());
+            break;
+        case Notification.REMOVE:
+            this.unobserveRootElement(notification.getOldValue());
+            break;
+        case Notification.REMOVE_MANY:
+            for (Object rootElement : (Collection<?>) notification.getOldValue()) {
+                this.unobserveRootElement(rootElement);
+            }
+            break;
+        default:
+            break;
+        }
+    }
+
+    private void observeRootElements(final Collection<?> rootElements) {
+        for (Object rootElement : rootElements) {
+            this.observeRootElement(rootElement);
+        }
+    }
+
+    private void observeRootElement(final Object rootElement) {
+        // Only the stereotype applications are observed, not the UML model itself.
+        if (rootElement instanceof EObject && !(rootElement instanceof Element)
+                && !((EObject) rootElement).eAdapters().contains(this)) {
+            ((EObject) rootElement).eAdapters().add(this);
+        }
+    }
+
+    private void unobserveRootElement(final Object rootElement) {
+        if (rootElement instanceof EObject) {
+            ((EObject) rootElement).eAdapters().remove(this);
+        }
+    }
+
+}
@@ -0,0 +1,29 @@
+package tools.vitruv.applications.asemsysml.logging;
+
+/**
+ * The types of events which are logged by the transformations.
+ * 
+ * @author Benjamin Rupp
+ * 
+ * @see TransformationEventLog
+ */
+public enum TransformationEvent {
+    /** A corresponding element was created. */
+    ELEMENT_CREATED,
+    /** A corresponding element was deleted. */
+    ELEMENT_DELETED,
+    /** A corresponding element was renamed. */
+    ELEMENT_RENAMED,
+    /** The type of a corresponding element was changed. */
+    TYPE_CHANGED,
+    /** The access properties of a corresponding element were changed. */
+    ACCESS_CHANGED,
+    /** The direction of a port or the access properties of a message were changed. */
+    DIRECTION_CHANGED,
+    /** A decision of the user was applied. */
+    USER_DECISION,
+    /** No corresponding element was found, so the change was not propagated. */
+    NO_CORRESPONDENCE,
+    /** A model was initialized. */
+    MODEL_INITIALIZED
+}
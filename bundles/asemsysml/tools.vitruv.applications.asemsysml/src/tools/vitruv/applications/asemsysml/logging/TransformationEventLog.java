@@ -0,0 +1,268 @@
+package tools.vitruv.applications.asemsysml.logging;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apache.log4j.Logger;
+
+/**
+ * The structured event log of the transformations. <br>
+ * <br>
+ * 
+ * The transformations report their steps as {@link TransformationEvent events} with a subject
+ * (usually the name of the changed element) and an optional detail, instead of building a log
+ * message for each change. The message is only built if the event is actually written, so logging
+ * an event does not allocate if the log is {@link TransformationEventLogMode#OFF switched off} or
+ * the event is not sampled. Therefore callers must pass the subject and the detail as they are and
+ * must not concatenate strings themselves. <br>
+ * <br>
+ * 
+ * The {@link TransformationEventLogMode mode} is read from the system property
+ * {@value #PROPERTY_MODE} and can be changed at runtime, e.g. to
+ * {@link TransformationEventLogMode#SUMMARY} during a bulk import. By default, each event is
+ * {@link TransformationEventLogMode#FULL logged}. The events are written at level INFO to the
+ * logger of this class. Warnings are not events and are still logged by the transformations
+ * themselves.
+ * 
+ * @author Benjamin Rupp
+ * 
+ */
+public final class TransformationEventLog {
+
+    /** The system property which sets the initial mode, e.g. <i>FULL</i>. */
+    public static final String PROPERTY_MODE = "asemsysml.eventlog.mode";
+
+    /** The system property which sets the initial sampling interval. */
+    public static final String PROPERTY_SAMPLING_INTERVAL = "asemsysml.eventlog.sampling";
+
+    private static final TransformationEventLogMode DEFAULT_MODE = TransformationEventLogMode.FULL;
+    private static final int DEFAULT_SAMPLING_INTERVAL = 100;
+
+    private static final Logger logger = Logger.getLogger(TransformationEventLog.class);
+
+    private static final AtomicLong SAMPLING_COUNTER = new AtomicLong();
+    private static final ConcurrentMap<String, LongAdder[]> EVENT_COUNTS = new ConcurrentHashMap<String, LongAdder[]>();
+
+    private static volatile TransformationEventLogMode mode = getConfiguredMode();
+    private static volatile int samplingInterval = getConfiguredSamplingInterval();
+
+    /** Utility classes should not have a public or default constructor. */
+    private TransformationEventLog() {
+    }
+
+    /**
+     * Log an event without detail.
+     * 
+     * @param transformationName
+     *            The name of the transformation which caused the event, see
+     *            {@link tools.vitruv.applications.asemsysml.metrics.TransformationMetricsRegistry}.
+     * @param event
+     *            The event type.
+     * @param subject
+     *            The subject of the event, e.g. the name of the changed element.
+     */
+    public static void log(final String transformationName, final TransformationEvent event, final Object subject) {
+        log(transformationName, event, subject, null);
+    }
+
+    /**
+     * Log an event.
+     * 
+     * @param transformationName
+     *            The name of the transformation which caused the event, see
+     *            {@link tools.vitruv.applications.asemsysml.metrics.TransformationMetricsRegistry}.
+     * @param event
+     *            The event type.
+     * @param subject
+     *            The subject of the event, e.g. the name of the changed element.
+     * @param detail
+     *            The detail of the event, e.g. the new name of a renamed element, or
+     *            <code>null</code>.
+     */
+    public static void log(final String transformationName, final TransformationEvent event, final Object subject,
+            final Object detail) {
+
+        switch (mode) {
+        case OFF:
+            return;
+        case SUMMARY:
+            countEvent(transformationName, event);
+            return;
+        case SAMPLED:
+            if (SAMPLING_COUNTER.incrementAndGet() % samplingInterval != 0) {
+                return;
+            }
+            write(transformationName, event, subject, detail);
+            return;
+        case FULL:
+            write(transformationName, event, subject, detail);
+            return;
+        default:
+            throw new IllegalStateException("Unknown event log mode " + mode);
+        }
+    }
+
+    /**
+     * @return <code>True</code> if events are written or counted, otherwise <code>false</code>.
+     */
+    public static boolean isEnabled() {
+        return mode != TransformationEventLogMode.OFF;
+    }
+
+    /**
+     * @return The current mode.
+     */
+    public static TransformationEventLogMode getMode() {
+        return mode;
+    }
+
+    /**
+     * Change the mode. If the {@link TransformationEventLogMode#SUMMARY summary mode} is left, the
+     * summary of the counted events is logged.
+     * 
+     * @param newMode
+     *            The new mode.
+     */
+    public static synchronized void setMode(final TransformationEventLogMode newMode) {
+
+        if (newMode == null) {
+            throw new IllegalArgumentException("The event log mode must not be null.");
+        }
+
+        final TransformationEventLogMode oldMode = mode;
+        mode = newMode;
+
+        if (oldMode == TransformationEventLogMode.SUMMARY && newMode != TransformationEventLogMode.SUMMARY) {
+            logSummary();
+        }
+    }
+
+    /**
+     * Set the sampling interval of the {@link TransformationEventLogMode#SAMPLED sampled mode}.
+     * 
+     * @param interval
+     *            Only every <i>interval</i>-th event is logged. Must be positive.
+     */
+    public static void setSamplingInterval(final int interval) {
+
+        if (interval <= 0) {
+            throw new IllegalArgumentException("The sampling interval must be positive: " + interval);
+        }
+
+        samplingInterval = interval;
+    }
+
+    /**
+     * Log the number of events per transformation and event type which were counted in the
+     * {@link TransformationEventLogMode#SUMMARY summary mode} and reset the counts.
+     */
+    public static void logSummary() {
+
+        for (Map.Entry<String, LongAdder[]> transformationCounts : new TreeMap<String, LongAdder[]>(EVENT_COUNTS)
+                .entrySet()) {
+
+            final StringBuilder summary = new StringBuilder("[ASEMSysML][Event] ")
+                    .append(transformationCounts.getKey()).append(" SUMMARY");
+
+            long numberOfEvents = 0;
+            for (TransformationEvent event : TransformationEvent.values()) {
+
+                final long count = transformationCounts.getValue()[event.ordinal()].sumThenReset();
+
+                if (count > 0) {
+                    summary.append(' ').append(event).append('=').append(count);
+                    numberOfEvents += count;
+                }
+            }
+
+            if (numberOfEvents > 0) {
+                logger.info(summary);
+            }
+        }
+    }
+
+    private static void countEvent(final String transformationName, final TransformationEvent event) {
+
+        LongAdder[] counts = EVENT_COUNTS.get(transformationName);
+
+        if (counts == null) {
+            final LongAdder[] newCounts = new LongAdder[TransformationEvent.values().length];
+            for (int e = 0; e < newCounts.length; e++) {
+                newCounts[e] = new LongAdder();
+            }
+
+            counts = EVENT_COUNTS.putIfAbsent(transformationName, newCounts);
+            if (counts == null) {
+                counts = newCounts;
+            }
+        }
+
+        counts[event.ordinal()].increment();
+    }
+
+    private static void write(final String transformationName, final TransformationEvent event, final Object subject,
+            final Object detail) {
+
+        if (!logger.isInfoEnabled()) {
+            return;
+        }
+
+        final StringBuilder message = new StringBuilder("[ASEMSysML][Event] ").append(transformationName).append(' ')
+                .append(event).append(" subject=").append(subject);
+
+        if (detail != null) {
+            message.append(" detail=").append(detail);
+        }
+
+        logger.info(message);
+    }
+
+    /**
+     * Get the mode which is set by the system property {@value #PROPERTY_MODE}. If the property is
+     * not set or invalid, each event is {@link TransformationEventLogMode#FULL logged}.
+     * 
+     * @return The configured mode.
+     */
+    public static TransformationEventLogMode getConfiguredMode() {
+
+        final String configuredMode = System.getProperty(PROPERTY_MODE);
+
+        if (configuredMode == null) {
+            return DEFAULT_MODE;
+        }
+
+        try {
+            return TransformationEventLogMode.valueOf(configuredMode.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            logger.warn("[ASEMSysML][Event] Unknown event log mode " + configuredMode + ", use " + DEFAULT_MODE);
+            return DEFAULT_MODE;
+        }
+    }
+
+    /**
+     * Get the sampling interval which is set by the system property
+     * {@value #PROPERTY_SAMPLING_INTERVAL}. A sampling interval which is not positive is raised to
+     * <i>1</i>, i.e. each event is logged.
+     * 
+     * @return The configured sampling interval.
+     */
+    public static int getConfiguredSamplingInterval() {
+
+        final Integer configuredInterval = Integer.getInteger(PROPERTY_SAMPLING_INTERVAL);
+
+        if (configuredInterval == null) {
+            return DEFAULT_SAMPLING_INTERVAL;
+        }
+
+        if (configuredInterval < 1) {
+            logger.warn("[ASEMSysML][Event] Invalid sampling interval " + configuredInterval + ", use 1");
+            return 1;
+        }
+
+        return configuredInterval;
+    }
+}
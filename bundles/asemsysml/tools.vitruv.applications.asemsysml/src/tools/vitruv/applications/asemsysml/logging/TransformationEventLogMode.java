@@ -0,0 +1,21 @@
+package tools.vitruv.applications.asemsysml.logging;
+
+/**
+ * The output modes of the {@link TransformationEventLog}.
+ * 
+ * @author Benjamin Rupp
+ * 
+ */
+public enum TransformationEventLogMode {
+    /** No events are logged. */
+    OFF,
+    /** Each event is logged. */
+    FULL,
+    /** Only every n-th event is logged, see {@link TransformationEventLog#setSamplingInterval(int)}. */
+    SAMPLED,
+    /**
+     * The events are only counted per transformation and event type. The counts are logged by
+     * {@link TransformationEventLog#logSummary()}.
+     */
+    SUMMARY
+}
@@ -0,0 +1,8 @@
+/**
+ * This package contains the structured event log of the transformations, which replaces the log
+ * messages of the single transformation steps.
+ * 
+ * @author Benjamin Rupp
+ * 
+ */
+package tools.vitruv.applications.asemsysml.logging;
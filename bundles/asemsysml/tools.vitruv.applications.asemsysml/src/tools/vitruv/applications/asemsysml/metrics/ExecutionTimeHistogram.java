@@ -0,0 +1,197 @@
+package tools.vitruv.applications.asemsysml.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A histogram of execution times with exponentially growing buckets. <br>
+ * <br>
+ * 
+ * The upper bound of the first bucket is {@value #FIRST_BUCKET_UPPER_BOUND_NANOS} ns, the upper
+ * bound of each following bucket is twice the upper bound of its predecessor. The last bucket
+ * contains all execution times which exceed the upper bound of its predecessor. Recording an
+ * execution time does not allocate and does not block, so the histogram can be updated by
+ * concurrent change propagations.
+ * 
+ * @author Benjamin Rupp
+ * 
+ */
+public final class ExecutionTimeHistogram {
+
+    /** The upper bound of the first bucket (1 µs). */
+    public static final long FIRST_BUCKET_UPPER_BOUND_NANOS = 1000;
+
+    /** The number of buckets. The upper bound of the second to last bucket is about 67 s. */
+    public static final int NUMBER_OF_BUCKETS = 28;
+
+    private final LongAdder[] buckets;
+    private final LongAdder count;
+    private final LongAdder totalNanos;
+    private final AtomicLong maxNanos;
+
+    ExecutionTimeHistogram() {
+
+        this.buckets = new LongAdder[NUMBER_OF_BUCKETS];
+        for (int b = 0; b < NUMBER_OF_BUCKETS; b++) {
+            this.buckets[b] = new LongAdder();
+        }
+
+        this.count = new LongAdder();
+        this.totalNanos = new LongAdder();
+        this.maxNanos = new AtomicLong();
+    }
+
+    /**
+     * Record an execution time.
+     * 
+     * @param nanos
+     *            The execution time in nanoseconds.
+     */
+    public void record(final long nanos) {
+
+        final long executionTime = Math.max(0, nanos);
+
+        this.buckets[getBucketIndex(executionTime)].increment();
+        this.count.increment();
+        this.totalNanos.add(executionTime);
+
+        long currentMax = this.maxNanos.get();
+        while (executionTime > currentMax && !this.maxNanos.compareAndSet(currentMax, executionTime)) {
+            currentMax = this.maxNanos.get();
+        }
+    }
+
+    /**
+     * @return The number of recorded execution times.
+     */
+    public long getCount() {
+        return this.count.sum();
+    }
+
+    /**
+     * @return The sum of all recorded execution times in nanoseconds.
+     */
+    public long getTotalNanos() {
+        return this.totalNanos.sum();
+    }
+
+    /**
+     * @return The mean execution time in nanoseconds or <code>0</code> if no execution time was
+     *         recorded.
+     */
+    public double getMeanNanos() {
+
+        final long numberOfExecutions = this.getCount();
+        return (numberOfExecutions == 0) ? 0 : (double) this.getTotalNanos() / numberOfExecutions;
+    }
+
+    /**
+     * @return The maximum recorded execution time in nanoseconds.
+     */
+    public long getMaxNanos() {
+        return this.maxNanos.get();
+    }
+
+    /**
+     * Get the upper bound of the bucket which contains the given percentile. Since the bucket
+     * bounds grow exponentially, the returned value is at most twice the exact percentile. The
+     * value never exceeds the {@link #getMaxNanos() maximum execution time}.
+     * 
+     * @param percentile
+     *            The percentile, e.g. <code>99</code>.
+     * @return The approximated percentile in nanoseconds or <code>0</code> if no execution time
+     *         was recorded.
+     */
+    public long getPercentileNanos(final double percentile) {
+
+        if (percentile <= 0 || percentile > 100) {
+            throw new IllegalArgumentException("Invalid percentile: " + percentile);
+        }
+
+        final long[] bucketCounts = this.getBucketCounts();
+
+        long numberOfExecutions = 0;
+        for (long bucketCount : bucketCounts) {
+            numberOfExecutions += bucketCount;
+        }
+
+        if (numberOfExecutions == 0) {
+            return 0;
+        }
+
+        final long rank = (long) Math.ceil(percentile / 100.0 * numberOfExecutions);
+        long cumulatedCount = 0;
+
+        for (int b = 0; b < bucketCounts.length - 1; b++) {
+            cumulatedCount += bucketCounts[b];
+            if (cumulatedCount >= rank) {
+                return Math.min(getBucketUpperBoundNanos(b), this.getMaxNanos());
+            }
+        }
+
+        return this.getMaxNanos();
+    }
+
+    /**
+     * @return The number of execution times of each bucket.
+     * 
+     * @see #getBucketUpperBoundNanos(int)
+     */
+    public long[] getBucketCounts() {
+
+        final long[] bucketCounts = new long[NUMBER_OF_BUCKETS];
+        for (int b = 0; b < NUMBER_OF_BUCKETS; b++) {
+            bucketCounts[b] = this.buckets[b].sum();
+        }
+
+        return bucketCounts;
+    }
+
+    /**
+     * Get the upper bound of a bucket.
+     * 
+     * @param bucketIndex
+     *            The index of the bucket.
+     * @return The (inclusive) upper bound of the bucket in nanoseconds or {@link Long#MAX_VALUE}
+     *         for the last bucket.
+     */
+    public static long getBucketUpperBoundNanos(final int bucketIndex) {
+
+        if (bucketIndex < 0 || bucketIndex >= NUMBER_OF_BUCKETS) {
+            throw new IllegalArgumentException("Invalid bucket index: " + bucketIndex);
+        }
+
+        if (bucketIndex == NUMBER_OF_BUCKETS - 1) {
+            return Long.MAX_VALUE;
+        }
+
+        return FIRST_BUCKET_UPPER_BOUND_NANOS << bucketIndex;
+    }
+
+    /**
+     * Reset the histogram. Execution times which are recorded concurrently may get lost.
+     */
+    void reset() {
+
+        for (LongAdder bucket : this.buckets) {
+            bucket.reset();
+        }
+
+        this.count.reset();
+        this.totalNanos.reset();
+        this.maxNanos.set(0);
+    }
+
+    private static int getBucketIndex(final long nanos) {
+
+        if (nanos <= FIRST_BUCKET_UPPER_BOUND_NANOS) {
+            return 0;
+        }
+
+        // The smallest index b with nanos <= FIRST_BUCKET_UPPER_BOUND_NANOS * 2^b.
+        final long quotient = (nanos - 1) / FIRST_BUCKET_UPPER_BOUND_NANOS;
+        final int bucketIndex = 64 - Long.numberOfLeadingZeros(quotient);
+
+        return Math.min(bucketIndex, NUMBER_OF_BUCKETS - 1);
+    }
+}
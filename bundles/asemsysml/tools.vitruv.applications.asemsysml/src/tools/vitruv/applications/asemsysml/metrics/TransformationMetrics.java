@@ -0,0 +1,180 @@
+package tools.vitruv.applications.asemsysml.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The metrics of a single transformation, i.e. a java transformation class or a reaction. <br>
+ * <br>
+ * 
+ * The metrics count the invocations, the failed invocations, the changes which were rejected by
+ * the preconditions of the transformation, the elements which were registered for persistence and
+ * the persistence requests which were skipped because the model was not modified. Additionally, the execution times of the invocations are recorded in a histogram. All counters
+ * can be updated by concurrent change propagations.
+ * 
+ * @author Benjamin Rupp
+ * 
+ * @see TransformationMetricsRegistry
+ */
+public final class TransformationMetrics {
+
+    private final String transformationName;
+    private final LongAdder invocations;
+    private final LongAdder failures;
+    private final LongAdder preconditionRejections;
+    private final LongAdder persistedElements;
+    private final LongAdder skippedPersistences;
+    private final ExecutionTimeHistogram executionTimes;
+
+    TransformationMetrics(final String transformationName) {
+        this.transformationName = transformationName;
+        this.invocations = new LongAdder();
+        this.failures = new LongAdder();
+        this.preconditionRejections = new LongAdder();
+        this.persistedElements = new LongAdder();
+        this.skippedPersistences = new LongAdder();
+        this.executionTimes = new ExecutionTimeHistogram();
+    }
+
+    /**
+     * Start the measurement of an invocation of the transformation. The invocation is counted when
+     * the returned timer is {@link TransformationTimer#stop() stopped}.
+     * 
+     * @return The started timer.
+     */
+    public TransformationTimer startExecution() {
+        return new TransformationTimer(this);
+    }
+
+    /**
+     * Execute the given transformation and measure its invocation. The invocation is recorded as
+     * failed if the transformation throws an exception.
+     *
+     * @param transformation
+     *            The transformation to execute, e.g. the body of a reaction.
+     */
+    public void measure(final Runnable transformation) {
+
+        final TransformationTimer timer = this.startExecution();
+
+        try {
+            transformation.run();
+            timer.succeeded();
+        } finally {
+            timer.stop();
+        }
+    }
+
+    /**
+     * Record an invocation of the transformation.
+     * 
+     * @param executionTimeNanos
+     *            The execution time of the invocation in nanoseconds.
+     * @param failed
+     *            <code>True</code> if the invocation was aborted by an exception, otherwise
+     *            <code>false</code>.
+     */
+    public void recordExecution(final long executionTimeNanos, final boolean failed) {
+
+        this.invocations.increment();
+        this.executionTimes.record(executionTimeNanos);
+
+        if (failed) {
+            this.failures.increment();
+        }
+    }
+
+    /**
+     * Record a change of the expected change type which was rejected by the preconditions of the
+     * transformation.
+     */
+    public void recordPreconditionRejection() {
+        this.preconditionRejections.increment();
+    }
+
+    /**
+     * Record an element which was registered for persistence by the transformation.
+     */
+    public void recordPersistedElement() {
+        this.persistedElements.increment();
+    }
+
+    /**
+     * Record a persistence request of the transformation which was skipped, because the model of
+     * the element was not modified since it was saved the last time.
+     */
+    public void recordSkippedPersistence() {
+        this.skippedPersistences.increment();
+    }
+
+    /**
+     * @return The name of the transformation.
+     */
+    public String getTransformationName() {
+        return this.transformationName;
+    }
+
+    /**
+     * @return The number of invocations, including the failed invocations.
+     */
+    public long getInvocations() {
+        return this.invocations.sum();
+    }
+
+    /**
+     * @return The number of invocations which were aborted by an exception.
+     */
+    public long getFailures() {
+        return this.failures.sum();
+    }
+
+    /**
+     * @return The number of changes which were rejected by the preconditions.
+     */
+    public long getPreconditionRejections() {
+        return this.preconditionRejections.sum();
+    }
+
+    /**
+     * @return The number of elements which were registered for persistence.
+     */
+    public long getPersistedElements() {
+        return this.persistedElements.sum();
+    }
+
+    /**
+     * @return The number of persistence requests which were skipped, because the model was not
+     *         modified.
+     */
+    public long getSkippedPersistences() {
+        return this.skippedPersistences.sum();
+    }
+
+    /**
+     * @return The histogram of the execution times of all invocations.
+     */
+    public ExecutionTimeHistogram getExecutionTimes() {
+        return this.executionTimes;
+    }
+
+    /**
+     * Reset all counters and the histogram.
+     */
+    void reset() {
+        this.invocations.reset();
+        this.failures.reset();
+        this.preconditionRejections.reset();
+        this.persistedElements.reset();
+        this.skippedPersistences.reset();
+        this.executionTimes.reset();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s: invocations=%d, failures=%d, preconditionRejections=%d, persistedElements=%d, "
+                + "skippedPersistences=%d, meanMs=%.3f, p99Ms=%.3f, maxMs=%.3f", this.transformationName, this.getInvocations(),
+                this.getFailures(), this.getPreconditionRejections(), this.getPersistedElements(),
+                this.getSkippedPersistences(), this.executionTimes.getMeanNanos() / 1e6,
+                this.executionTimes.getCount() == 0 ? 0 : this.executionTimes.getPercentileNanos(99) / 1e6,
+                this.executionTimes.getMaxNanos() / 1e6);
+    }
+}
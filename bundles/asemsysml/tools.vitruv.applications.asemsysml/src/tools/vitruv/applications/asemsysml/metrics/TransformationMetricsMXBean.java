@@ -0,0 +1,92 @@
+package tools.vitruv.applications.asemsysml.metrics;
+
+/**
+ * The JMX management interface of the {@link TransformationMetricsRegistry}. <br>
+ * <br>
+ * 
+ * The interface is registered with the object name {@value TransformationMetricsRegistry#MBEAN_NAME}
+ * by {@link TransformationMetricsRegistry#registerMBean()}.
+ * 
+ * @author Benjamin Rupp
+ * 
+ */
+public interface TransformationMetricsMXBean {
+
+    /**
+     * @return The names of all transformations with recorded metrics in alphabetical order.
+     */
+    public String[] getTransformationNames();
+
+    /**
+     * @return A summary line of the metrics of each transformation.
+     */
+    public String[] getSummary();
+
+    /**
+     * @param transformationName
+     *            The name of the transformation.
+     * @return The number of invocations of the transformation.
+     */
+    public long getInvocations(final String transformationName);
+
+    /**
+     * @param transformationName
+     *            The name of the transformation.
+     * @return The number of failed invocations of the transformation.
+     */
+    public long getFailures(final String transformationName);
+
+    /**
+     * @param transformationName
+     *            The name of the transformation.
+     * @return The number of changes which were rejected by the preconditions of the
+     *         transformation.
+     */
+    public long getPreconditionRejections(final String transformationName);
+
+    /**
+     * @param transformationName
+     *            The name of the transformation.
+     * @return The number of elements which were registered for persistence by the transformation.
+     */
+    public long getPersistedElements(final String transformationName);
+
+    /**
+     * @param transformationName
+     *            The name of the transformation.
+     * @return The number of persistence requests of the transformation which were skipped, because
+     *         the model was not modified.
+     */
+    public long getSkippedPersistences(final String transformationName);
+
+    /**
+     * @param transformationName
+     *            The name of the transformation.
+     * @return The total execution time of the transformation in milliseconds.
+     */
+    public double getTotalExecutionTimeMillis(final String transformationName);
+
+    /**
+     * @param transformationName
+     *            The name of the transformation.
+     * @return The mean execution time of the transformation in milliseconds.
+     */
+    public double getMeanExecutionTimeMillis(final String transformationName);
+
+    /**
+     * @param transformationName
+     *            The name of the transformation.
+     * @param percentile
+     *            The percentile, e.g. <code>99</code>.
+     * @return The approximated percentile of the execution times of the transformation in
+     *         milliseconds.
+     * 
+     * @see ExecutionTimeHistogram#getPercentileNanos(double)
+     */
+    public double getExecutionTimePercentileMillis(final String transformationName, final double percentile);
+
+    /**
+     * Reset the metrics of all transformations.
+     */
+    public void reset();
+}
@@ -0,0 +1,250 @@
+package tools.vitruv.applications.asemsysml.metrics;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.InstanceNotFoundException;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.StandardMBean;
+
+import org.apache.log4j.Logger;
+
+/**
+ * The registry of the metrics of all transformations. <br>
+ * <br>
+ * 
+ * The metrics of a transformation are created on the first request and identified by the name of
+ * the transformation. The java transformations use the name
+ * <i>java.&lt;direction&gt;.&lt;transformation class&gt;</i>, the reactions use the name
+ * <i>reactions.&lt;direction&gt;.&lt;reaction&gt;</i>, e.g. <i>reactions.sysml2asem.PortTransformation</i>.
+ * <br>
+ * <br>
+ * 
+ * The metrics can be queried with {@link #getAllMetrics()} or, after calling
+ * {@link #registerMBean()}, via JMX. If the system property {@value #PROPERTY_JMX_ENABLED} is
+ * <code>true</code>, the MBean is registered as soon as the registry is used.
+ * 
+ * @author Benjamin Rupp
+ * 
+ */
+public final class TransformationMetricsRegistry {
+
+    /** The system property which enables the JMX registration of the metrics. */
+    public static final String PROPERTY_JMX_ENABLED = "asemsysml.metrics.jmx";
+
+    /** The object name of the MBean of the metrics. */
+    public static final String MBEAN_NAME = "tools.vitruv.applications.asemsysml:type=TransformationMetrics";
+
+    /** The name prefix of the metrics of the java transformations. */
+    public static final String JAVA_PREFIX = "java.";
+
+    /** The name prefix of the metrics of the reactions. */
+    public static final String REACTIONS_PREFIX = "reactions.";
+
+    private static final Logger logger = Logger.getLogger(TransformationMetricsRegistry.class);
+
+    private static final ConcurrentMap<String, TransformationMetrics> METRICS = new ConcurrentHashMap<String, TransformationMetrics>();
+
+    static {
+        if (Boolean.getBoolean(PROPERTY_JMX_ENABLED)) {
+            registerMBean();
+        }
+    }
+
+    /** Utility classes should not have a public or default constructor. */
+    private TransformationMetricsRegistry() {
+    }
+
+    /**
+     * Get the metrics of a transformation. The metrics are created if they do not exist yet.
+     * 
+     * @param transformationName
+     *            The name of the transformation.
+     * @return The metrics of the transformation.
+     */
+    public static TransformationMetrics getMetrics(final String transformationName) {
+
+        if (transformationName == null) {
+            throw new IllegalArgumentException("The transformation name must not be null.");
+        }
+
+        TransformationMetrics metrics = METRICS.get(transformationName);
+
+        if (metrics == null) {
+            final TransformationMetrics newMetrics = new TransformationMetrics(transformationName);
+            metrics = METRICS.putIfAbsent(transformationName, newMetrics);
+            if (metrics == null) {
+                metrics = newMetrics;
+            }
+        }
+
+        return metrics;
+    }
+
+    /**
+     * Get the metrics of a reaction.
+     * 
+     * @param direction
+     *            The transformation direction, e.g. <i>sysml2asem</i>.
+     * @param reactionName
+     *            The name of the reaction.
+     * @return The metrics of the reaction.
+     */
+    public static TransformationMetrics getReactionMetrics(final String direction, final String reactionName) {
+        return getMetrics(REACTIONS_PREFIX + direction + "." + reactionName);
+    }
+
+    /**
+     * @return A snapshot of the metrics of all transformations, sorted by the transformation
+     *         names.
+     */
+    public static SortedMap<String, TransformationMetrics> getAllMetrics() {
+        return Collections.unmodifiableSortedMap(new TreeMap<String, TransformationMetrics>(METRICS));
+    }
+
+    /**
+     * Reset the metrics of all transformations. Invocations which are recorded concurrently may
+     * get lost.
+     */
+    public static void reset() {
+        for (TransformationMetrics metrics : METRICS.values()) {
+            metrics.reset();
+        }
+    }
+
+    /**
+     * Log the metrics of all transformations which were invoked at least once.
+     */
+    public static void logMetrics() {
+        for (TransformationMetrics metrics : getAllMetrics().values()) {
+            if (metrics.getInvocations() > 0 || metrics.getPreconditionRejections() > 0) {
+                logger.info("[ASEMSysML][Metrics] " + metrics);
+            }
+        }
+    }
+
+    /**
+     * Register the metrics MBean at the platform MBean server. Nothing happens if the MBean is
+     * already registered.
+     */
+    public static synchronized void registerMBean() {
+
+        try {
+            final MBeanServer mbeanServer = ManagementFactory.getPlatformMBeanServer();
+            final ObjectName objectName = new ObjectName(MBEAN_NAME);
+
+            if (!mbeanServer.isRegistered(objectName)) {
+                final StandardMBean mbean = new StandardMBean(new MetricsMXBean(), TransformationMetricsMXBean.class,
+                        true);
+                mbeanServer.registerMBean(mbean, objectName);
+            }
+        } catch (InstanceAlreadyExistsException e) {
+            // Registered concurrently by another class loader.
+        } catch (JMException e) {
+            logger.warn("[ASEMSysML][Metrics] The metrics MBean could not be registered.", e);
+        }
+    }
+
+    /**
+     * Unregister the metrics MBean from the platform MBean server. Nothing happens if the MBean is
+     * not registered.
+     */
+    public static synchronized void unregisterMBean() {
+
+        try {
+            ManagementFactory.getPlatformMBeanServer().unregisterMBean(new ObjectName(MBEAN_NAME));
+        } catch (InstanceNotFoundException e) {
+            // Not registered.
+        } catch (JMException e) {
+            logger.warn("[ASEMSysML][Metrics] The metrics MBean could not be unregistered.", e);
+        }
+    }
+
+    /**
+     * The MBean implementation which reads the metrics of the registry.
+     */
+    private static final class MetricsMXBean implements TransformationMetricsMXBean {
+
+        @Override
+        public String[] getTransformationNames() {
+            return getAllMetrics().keySet().toArray(new String[0]);
+        }
+
+        @Override
+        public String[] getSummary() {
+
+            final List<String> summary = new ArrayList<String>();
+            for (Map.Entry<String, TransformationMetrics> metrics : getAllMetrics().entrySet()) {
+                summary.add(metrics.getValue().toString());
+            }
+
+            return summary.toArray(new String[summary.size()]);
+        }
+
+        @Override
+        public long getInvocations(final String transformationName) {
+            return lookUp(transformationName).getInvocations();
+        }
+
+        @Override
+        public long getFailures(final String transformationName) {
+            return lookUp(transformationName).getFailures();
+        }
+
+        @Override
+        public long getPreconditionRejections(final String transformationName) {
+            return lookUp(transformationName).getPreconditionRejections();
+        }
+
+        @Override
+        public long getPersistedElements(final String transformationName) {
+            return lookUp(transformationName).getPersistedElements();
+        }
+
+        @Override
+        public long getSkippedPersistences(final String transformationName) {
+            return lookUp(transformationName).getSkippedPersistences();
+        }
+
+        @Override
+        public double getTotalExecutionTimeMillis(final String transformationName) {
+            return lookUp(transformationName).getExecutionTimes().getTotalNanos() / 1e6;
+        }
+
+        @Override
+        public double getMeanExecutionTimeMillis(final String transformationName) {
+            return lookUp(transformationName).getExecutionTimes().getMeanNanos() / 1e6;
+        }
+
+        @Override
+        public double getExecutionTimePercentileMillis(final String transformationName, final double percentile) {
+            return lookUp(transformationName).getExecutionTimes().getPercentileNanos(percentile) / 1e6;
+        }
+
+        @Override
+        public void reset() {
+            TransformationMetricsRegistry.reset();
+        }
+
+        private static TransformationMetrics lookUp(final String transformationName) {
+
+            final TransformationMetrics metrics = METRICS.get(transformationName);
+
+            if (metrics == null) {
+                throw new IllegalArgumentException("No metrics found for transformation " + transformationName);
+            }
+
+            return metrics;
+        }
+    }
+}
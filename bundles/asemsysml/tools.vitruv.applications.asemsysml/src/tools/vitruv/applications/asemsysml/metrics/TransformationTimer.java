@@ -0,0 +1,57 @@
+package tools.vitruv.applications.asemsysml.metrics;
+
+/**
+ * Measures a single invocation of a transformation. <br>
+ * <br>
+ * 
+ * Usage example: <br>
+ * <code>
+ * final TransformationTimer timer = metrics.startExecution();<br>
+ * try {<br>
+ * &nbsp;&nbsp;&nbsp;&nbsp;// execute the transformation<br>
+ * &nbsp;&nbsp;&nbsp;&nbsp;timer.succeeded();<br>
+ * } finally {<br>
+ * &nbsp;&nbsp;&nbsp;&nbsp;timer.stop();<br>
+ * }
+ * </code> <br>
+ * <br>
+ * 
+ * If the timer is stopped without calling {@link #succeeded()} before, e.g. because the
+ * transformation threw an exception, the invocation is recorded as failed. A timer records at
+ * most one invocation.
+ * 
+ * @author Benjamin Rupp
+ * 
+ */
+public final class TransformationTimer {
+
+    private final TransformationMetrics metrics;
+    private final long startNanos;
+    private boolean succeeded;
+    private boolean stopped;
+
+    TransformationTimer(final TransformationMetrics metrics) {
+        this.metrics = metrics;
+        this.startNanos = System.nanoTime();
+    }
+
+    /**
+     * Mark the invocation as successfully executed.
+     */
+    public void succeeded() {
+        this.succeeded = true;
+    }
+
+    /**
+     * Stop the timer and record the invocation. Further calls have no effect.
+     */
+    public void stop() {
+
+        if (this.stopped) {
+            return;
+        }
+
+        this.stopped = true;
+        this.metrics.recordExecution(System.nanoTime() - this.startNanos, !this.succeeded);
+    }
+}
@@ -0,0 +1,8 @@
+/**
+ * This package contains the metrics of the transformation executions, which are recorded by the
+ * java transformations and the reactions.
+ * 
+ * @author Benjamin Rupp
+ * 
+ */
+package tools.vitruv.applications.asemsysml.metrics;
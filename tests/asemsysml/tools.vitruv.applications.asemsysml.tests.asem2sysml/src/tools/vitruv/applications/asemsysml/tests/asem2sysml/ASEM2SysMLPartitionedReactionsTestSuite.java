@@ -0,0 +1,45 @@
+package tools.vitruv.applications.asemsysml.tests.asem2sysml;
+
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.runner.RunWith;
+import org.junit.runners.Suite;
+import org.junit.runners.Suite.SuiteClasses;
+
+import tools.vitruv.applications.asemsysml.ASEMSysMLModelPartitioning;
+import tools.vitruv.applications.asemsysml.tests.ASEMSysMLTest;
+import tools.vitruv.applications.asemsysml.tests.asem2sysml.testcases.ASEMElementToPortMappingTransformationTest;
+import tools.vitruv.applications.asemsysml.tests.asem2sysml.testcases.ComponentMappingTransformationTest;
+import tools.vitruv.applications.asemsysml.tests.asem2sysml.testcases.ConstantMappingTransformationTest;
+import tools.vitruv.applications.asemsysml.tests.asem2sysml.testcases.InitializationTest;
+import tools.vitruv.applications.asemsysml.tests.util.ASEMSysMLTestHelper.TransformationType;
+
+/**
+ * Runs the ASEM2SysML test cases of the <b>reactions transformations</b> with a SysML model which
+ * is partitioned per block (see {@link ASEMSysMLModelPartitioning#BLOCK}). The partitioning must
+ * lead to the same mapping as the single SysML model resource.
+ * 
+ * @author Benjamin Rupp
+ */
+@RunWith(Suite.class)
+@SuiteClasses({ InitializationTest.class, ComponentMappingTransformationTest.class,
+        ASEMElementToPortMappingTransformationTest.class, ConstantMappingTransformationTest.class })
+public final class ASEM2SysMLPartitionedReactionsTestSuite {
+
+    /**
+     * Set up the transformation type and partition the SysML model for all test cases.
+     */
+    @BeforeClass
+    public static void setUpTestCases() {
+        ASEMSysMLTest.setTransformationType(TransformationType.REACTIONS);
+        ASEMSysMLModelPartitioning.setPartitioning(ASEMSysMLModelPartitioning.BLOCK);
+    }
+
+    /**
+     * Restore the configured partitioning.
+     */
+    @AfterClass
+    public static void tearDownTestCases() {
+        ASEMSysMLModelPartitioning.setPartitioning(ASEMSysMLModelPartitioning.getConfiguredPartitioning());
+    }
+}
@@ -10,6 +10,8 @@ import tools.vitruv.applications.asemsysml.tests.asem2sysml.testcases.ComponentM
 import tools.vitruv.applications.asemsysml.tests.asem2sysml.testcases.ConstantMappingTransformationTest;
 import tools.vitruv.applications.asemsysml.tests.asem2sysml.testcases.InitializationTest;
 import tools.vitruv.applications.asemsysml.tests.asem2sysml.testcases.ASEMElementToPortMappingTransformationTest;
+import tools.vitruv.applications.asemsysml.tests.asem2sysml.testcases.PartitionedSysMLModelTest;
+import tools.vitruv.applications.asemsysml.tests.asem2sysml.testcases.ResourceFormatInstallationTest;
 import tools.vitruv.applications.asemsysml.tests.util.ASEMSysMLTestHelper.TransformationType;
 
 /**
@@ -18,7 +20,8 @@ import tools.vitruv.applications.asemsysml.tests.util.ASEMSysMLTestHelper.Transf
  */
 @RunWith(Suite.class)
 @SuiteClasses({ InitializationTest.class, ComponentMappingTransformationTest.class,
-        ASEMElementToPortMappingTransformationTest.class, ConstantMappingTransformationTest.class })
+        ASEMElementToPortMappingTransformationTest.class, ConstantMappingTransformationTest.class,
+        PartitionedSysMLModelTest.class, ResourceFormatInstallationTest.class })
 public class ASEM2SysMLReactionsTestSuite {
 
     /**
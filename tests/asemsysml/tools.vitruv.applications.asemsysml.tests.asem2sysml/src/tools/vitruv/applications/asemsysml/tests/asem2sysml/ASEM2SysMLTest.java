@@ -35,6 +35,8 @@ public class ASEM2SysMLTest extends ASEMSysMLTest {
     @Override
     protected void setup() {
 
+        installResourceFormat();
+
         final String primitiveTypesProjectModelPath = ASEMSysMLPrimitiveTypeHelper.getPrimitiveTypeProjectModelPath();
 
         try {
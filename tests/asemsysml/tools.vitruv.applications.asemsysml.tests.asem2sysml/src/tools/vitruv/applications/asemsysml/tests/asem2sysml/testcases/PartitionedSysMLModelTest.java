@@ -0,0 +1,176 @@
+package tools.vitruv.applications.asemsysml.tests.asem2sysml.testcases;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.papyrus.sysml14.blocks.Block;
+import org.eclipse.uml2.uml.Model;
+import org.eclipse.uml2.uml.PackageableElement;
+import org.eclipse.uml2.uml.UMLPackage;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import edu.kit.ipd.sdq.ASEM.classifiers.Class;
+import edu.kit.ipd.sdq.ASEM.classifiers.Module;
+import tools.vitruv.applications.asemsysml.ASEMSysMLHelper;
+import tools.vitruv.applications.asemsysml.ASEMSysMLModelPartitioning;
+import tools.vitruv.applications.asemsysml.ASEMSysMLProfileCache;
+import tools.vitruv.applications.asemsysml.ASEMSysMLResourceFormat;
+import tools.vitruv.applications.asemsysml.tests.asem2sysml.ASEM2SysMLTest;
+import tools.vitruv.applications.asemsysml.tests.util.ASEMSysMLTestHelper;
+import tools.vitruv.domains.sysml.SysMlNamspace;
+
+/**
+ * Class for all test cases checking the SysML model which is
+ * {@link ASEMSysMLModelPartitioning#BLOCK partitioned per block}.
+ *
+ * @author Benjamin Rupp
+ *
+ */
+public class PartitionedSysMLModelTest extends ASEM2SysMLTest {
+
+    private static final String MODULE_NAME = "PartitionedModule";
+    private static final String CLASS_NAME = "PartitionedClass";
+
+    private ASEMSysMLModelPartitioning partitioningBefore;
+
+    @Before
+    public void partitionSysMLModel() {
+        this.partitioningBefore = ASEMSysMLModelPartitioning.getPartitioning();
+        ASEMSysMLModelPartitioning.setPartitioning(ASEMSysMLModelPartitioning.BLOCK);
+    }
+
+    @After
+    public void restorePartitioning() {
+        ASEMSysMLModelPartitioning.setPartitioning(this.partitioningBefore);
+    }
+
+    /**
+     * Each block must be persisted in its own resource together with its base class, while the
+     * base class stays contained in the SysML model.
+     */
+    @Test
+    public void testIfEachBlockIsPersistedInItsOwnResource() {
+
+        final Module asemModule = ASEMSysMLTestHelper.createASEMComponentAsModelRootAndSync(MODULE_NAME, Module.class,
+                this);
+        final Class asemClass = ASEMSysMLTestHelper.createASEMComponentAsModelRootAndSync(CLASS_NAME, Class.class,
+                this);
+
+        final Resource sysmlModelResource = this.getModelResource(sysmlProjectModelPath);
+        final Block moduleBlock = this.getCorrespondingBlock(asemModule);
+        final Block classBlock = this.getCorrespondingBlock(asemClass);
+
+        for (Block block : Arrays.asList(moduleBlock, classBlock)) {
+
+            final String blockName = block.getBase_Class().getName();
+            final Resource blockResource = block.getBase_Class().eResource();
+
+            assertEquals("The block is not persisted in its own resource!",
+                    ASEMSysMLHelper.getSysMLModelFragmentName(blockName) + "." + SysMlNamspace.FILE_EXTENSION,
+                    URI.decode(blockResource.getURI().lastSegment()));
+            assertSame("The stereotype application is not persisted with its base class!", blockResource,
+                    block.eResource());
+            assertSame("The base class is not contained in the SysML model!",
+                    sysmlModelResource.getContents().get(0), block.getBase_Class().getOwner());
+        }
+
+        assertFalse("The blocks are persisted in the same resource!",
+                moduleBlock.eResource() == classBlock.eResource());
+    }
+
+    /**
+     * The cross-resource containment of the base classes must be resolvable when the SysML model is
+     * loaded again from its model files.
+     */
+    @Test
+    public void testIfPartitionedModelCanBeLoaded() {
+
+        ASEMSysMLTestHelper.createASEMComponentAsModelRootAndSync(MODULE_NAME, Module.class, this);
+        final URI sysmlModelURI = this.getModelResource(sysmlProjectModelPath).getURI();
+
+        final ResourceSet resourceSet = new ResourceSetImpl();
+        ASEMSysMLProfileCache.loadProfiles(resourceSet);
+        ASEMSysMLResourceFormat.installConfiguredFormat(resourceSet);
+
+        final Resource loadedModelResource = resourceSet.getResource(sysmlModelURI, true);
+        final Model loadedModel = (Model) EcoreUtil.getObjectByType(loadedModelResource.getContents(),
+                UMLPackage.Literals.MODEL);
+        final PackageableElement loadedBaseClass = loadedModel.getPackagedElement(MODULE_NAME);
+
+        assertNotNull("The base class of the block could not be resolved!", loadedBaseClass);
+        assertFalse("The base class is still a proxy!", loadedBaseClass.eIsProxy());
+        assertFalse("The base class was loaded from the SysML model resource!",
+                loadedBaseClass.eResource() == loadedModelResource);
+        assertNotNull("The block of the base class could not be resolved!",
+                ASEMSysMLHelper.getStereotypeApplication(loadedBaseClass, Block.class));
+    }
+
+    /**
+     * Renaming a component must only change the resource of the corresponding block, but neither
+     * the SysML model resource nor the resources of other blocks.
+     */
+    @Test
+    public void testIfChangeOnlyAffectsTheResourceOfTheBlock() throws IOException {
+
+        final Module asemModule = ASEMSysMLTestHelper.createASEMComponentAsModelRootAndSync(MODULE_NAME, Module.class,
+                this);
+        final Class asemClass = ASEMSysMLTestHelper.createASEMComponentAsModelRootAndSync(CLASS_NAME, Class.class,
+                this);
+
+        final Resource sysmlModelResource = this.getModelResource(sysmlProjectModelPath);
+        final Resource moduleBlockResource = this.getCorrespondingBlock(asemModule).eResource();
+        final Resource classBlockResource = this.getCorrespondingBlock(asemClass).eResource();
+
+        final byte[] sysmlModelContent = readModelFile(sysmlModelResource);
+        final byte[] moduleBlockContent = readModelFile(moduleBlockResource);
+        final byte[] classBlockContent = readModelFile(classBlockResource);
+
+        asemModule.setName("Renamed" + MODULE_NAME);
+        this.saveAndSynchronizeChanges(asemModule);
+
+        assertEquals("The block was not renamed!", asemModule.getName(),
+                this.getCorrespondingBlock(asemModule).getBase_Class().getName());
+        assertFalse("The resource of the renamed block was not changed!",
+                Arrays.equals(moduleBlockContent, readModelFile(moduleBlockResource)));
+        assertArrayEquals("The SysML model resource was changed!", sysmlModelContent,
+                readModelFile(sysmlModelResource));
+        assertArrayEquals("The resource of another block was changed!", classBlockContent,
+                readModelFile(classBlockResource));
+    }
+
+    private Block getCorrespondingBlock(final EObject asemComponent) {
+        return ASEMSysMLHelper.getFirstCorrespondingSysMLElement(this.getCorrespondenceModel(), asemComponent,
+                Block.class);
+    }
+
+    private static byte[] readModelFile(final Resource resource) throws IOException {
+
+        final ByteArrayOutputStream content = new ByteArrayOutputStream();
+
+        try (InputStream input = resource.getResourceSet().getURIConverter().createInputStream(resource.getURI())) {
+            final byte[] buffer = new byte[4096];
+            int length;
+            while ((length = input.read(buffer)) != -1) {
+                content.write(buffer, 0, length);
+            }
+        }
+
+        return content.toByteArray();
+    }
+}
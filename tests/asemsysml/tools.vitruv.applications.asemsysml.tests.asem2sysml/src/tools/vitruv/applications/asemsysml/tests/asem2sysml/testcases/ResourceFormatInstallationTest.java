@@ -0,0 +1,64 @@
+package tools.vitruv.applications.asemsysml.tests.asem2sysml.testcases;
+
+import static org.junit.Assert.assertSame;
+
+import org.eclipse.emf.ecore.resource.Resource;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import tools.vitruv.applications.asemsysml.ASEMSysMLResourceFormat;
+import tools.vitruv.applications.asemsysml.tests.asem2sysml.ASEM2SysMLTest;
+
+/**
+ * Class for all test cases checking that the reactions install the configured
+ * {@link ASEMSysMLResourceFormat resource format} without the help of the test case.
+ * 
+ * @author Benjamin Rupp
+ *
+ */
+public class ResourceFormatInstallationTest extends ASEM2SysMLTest {
+
+    private static String configuredFormat;
+
+    /**
+     * Configure the binary format, which is not the default format, before the change propagation
+     * specification is created.
+     */
+    @BeforeClass
+    public static void configureBinaryFormat() {
+        configuredFormat = System.setProperty(ASEMSysMLResourceFormat.PROPERTY_RESOURCE_FORMAT,
+                ASEMSysMLResourceFormat.BINARY.name());
+    }
+
+    /**
+     * Restore the configured format of the other test cases.
+     */
+    @AfterClass
+    public static void restoreConfiguredFormat() {
+        if (configuredFormat == null) {
+            System.clearProperty(ASEMSysMLResourceFormat.PROPERTY_RESOURCE_FORMAT);
+        } else {
+            System.setProperty(ASEMSysMLResourceFormat.PROPERTY_RESOURCE_FORMAT, configuredFormat);
+        }
+    }
+
+    @Override
+    protected void installResourceFormat() {
+        // The format has to be installed by the change propagation specification.
+    }
+
+    /**
+     * The SysML model which is created by the initialization reaction must be saved in the
+     * configured format.
+     */
+    @Test
+    public void testIfInitializedSysMLModelIsSavedInConfiguredFormat() {
+
+        final Resource sysmlModelResource = this.getModelResource(this.sysmlProjectModelPath);
+
+        this.assertModelExists(this.sysmlProjectModelPath);
+        assertSame("The SysML model was not saved in the configured format!", ASEMSysMLResourceFormat.BINARY,
+                ASEMSysMLResourceFormat.detectFormat(sysmlModelResource));
+    }
+}
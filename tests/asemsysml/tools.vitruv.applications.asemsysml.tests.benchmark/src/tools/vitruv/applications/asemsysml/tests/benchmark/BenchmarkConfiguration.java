@@ -0,0 +1,126 @@
+package tools.vitruv.applications.asemsysml.tests.benchmark;
+
+/**
+ * The configuration of the transformation benchmarks. <br>
+ * <br>
+ * 
+ * The size of the synthetic models and the number of warmup changes can be configured using
+ * system properties, e.g. <code>-Dasemsysml.benchmark.blocks=1000</code>. If a property is not set,
+ * a default value is used which keeps a benchmark run short enough for a development machine.
+ * 
+ * @author Benjamin Rupp
+ * 
+ */
+public final class BenchmarkConfiguration {
+
+    /** Number of SysML blocks or ASEM components (N). */
+    public static final String PROPERTY_BLOCKS = "asemsysml.benchmark.blocks";
+    /** Number of ports per block or messages per ASEM module (M). */
+    public static final String PROPERTY_PORTS = "asemsysml.benchmark.ports";
+    /** Number of parts per block or constants per ASEM component (K). */
+    public static final String PROPERTY_PARTS = "asemsysml.benchmark.parts";
+    /** Depth of the generated part hierarchies. */
+    public static final String PROPERTY_PART_DEPTH = "asemsysml.benchmark.depth";
+    /** Number of methods per ASEM class. */
+    public static final String PROPERTY_METHODS = "asemsysml.benchmark.methods";
+    /** Number of model elements of the serialization benchmarks. */
+    public static final String PROPERTY_SERIALIZED_ELEMENTS = "asemsysml.benchmark.elements";
+    /** Number of measured changes which are ignored to warm up the JVM. */
+    public static final String PROPERTY_WARMUP_CHANGES = "asemsysml.benchmark.warmup";
+    /** Seed of the model generator. */
+    public static final String PROPERTY_SEED = "asemsysml.benchmark.seed";
+    /** Path of a CSV file to which the benchmark results are appended. */
+    public static final String PROPERTY_REPORT_FILE = "asemsysml.benchmark.report";
+
+    private static final int DEFAULT_BLOCKS = 20;
+    private static final int DEFAULT_PORTS = 5;
+    private static final int DEFAULT_PARTS = 3;
+    private static final int DEFAULT_PART_DEPTH = 3;
+    private static final int DEFAULT_METHODS = 3;
+    private static final int DEFAULT_SERIALIZED_ELEMENTS = 10000;
+    private static final int DEFAULT_WARMUP_CHANGES = 10;
+    private static final long DEFAULT_SEED = 42;
+
+    /** Utility classes should not have a public or default constructor. */
+    private BenchmarkConfiguration() {
+    }
+
+    /**
+     * @return The number of SysML blocks or ASEM components which shall be created.
+     */
+    public static int getNumberOfBlocks() {
+        return getPositiveInteger(PROPERTY_BLOCKS, DEFAULT_BLOCKS);
+    }
+
+    /**
+     * @return The number of ports per SysML block or messages per ASEM module which shall be
+     *         created.
+     */
+    public static int getNumberOfPorts() {
+        return getPositiveInteger(PROPERTY_PORTS, DEFAULT_PORTS);
+    }
+
+    /**
+     * @return The number of part references per SysML block or constants per ASEM component which
+     *         shall be created.
+     */
+    public static int getNumberOfParts() {
+        return getPositiveInteger(PROPERTY_PARTS, DEFAULT_PARTS);
+    }
+
+    /**
+     * @return The number of levels of a generated part hierarchy.
+     */
+    public static int getPartHierarchyDepth() {
+        return getPositiveInteger(PROPERTY_PART_DEPTH, DEFAULT_PART_DEPTH);
+    }
+
+    /**
+     * @return The number of methods per ASEM class which shall be created.
+     */
+    public static int getNumberOfMethods() {
+        return getPositiveInteger(PROPERTY_METHODS, DEFAULT_METHODS);
+    }
+
+    /**
+     * @return The approximate number of ports or messages of the models which are loaded and saved
+     *         by the serialization benchmarks.
+     */
+    public static int getNumberOfSerializedElements() {
+        return getPositiveInteger(PROPERTY_SERIALIZED_ELEMENTS, DEFAULT_SERIALIZED_ELEMENTS);
+    }
+
+    /**
+     * @return The number of changes at the beginning of a benchmark whose measurements are
+     *         ignored.
+     */
+    public static int getNumberOfWarmupChanges() {
+        return Math.max(0, Integer.getInteger(PROPERTY_WARMUP_CHANGES, DEFAULT_WARMUP_CHANGES));
+    }
+
+    /**
+     * @return The seed of the model generator. The same seed generates the same models.
+     */
+    public static long getSeed() {
+        return Long.getLong(PROPERTY_SEED, DEFAULT_SEED);
+    }
+
+    /**
+     * @return The path of the CSV report file or <code>null</code> if no report file shall be
+     *         written.
+     */
+    public static String getReportFile() {
+        return System.getProperty(PROPERTY_REPORT_FILE);
+    }
+
+    private static int getPositiveInteger(final String property, final int defaultValue) {
+
+        final int value = Integer.getInteger(property, defaultValue);
+
+        if (value <= 0) {
+            throw new IllegalArgumentException("The benchmark property " + property + " must be positive.");
+        }
+
+        return value;
+    }
+}
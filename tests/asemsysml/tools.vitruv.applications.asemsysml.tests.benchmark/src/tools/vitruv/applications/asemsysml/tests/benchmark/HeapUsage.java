@@ -0,0 +1,49 @@
+package tools.vitruv.applications.asemsysml.tests.benchmark;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+
+/**
+ * Measures the heap which is retained by the models and the virtual model of a benchmark. <br>
+ * <br>
+ * 
+ * The used heap is read after requesting several garbage collections, so that the measured value
+ * approximates the reachable objects. The measurement is only comparable between runs with the
+ * same JVM and garbage collector settings.
+ * 
+ * @author Benjamin Rupp
+ * 
+ */
+public final class HeapUsage {
+
+    private static final int GARBAGE_COLLECTIONS = 5;
+    private static final long GARBAGE_COLLECTION_PAUSE_MILLIS = 50;
+
+    /** Utility classes should not have a public or default constructor. */
+    private HeapUsage() {
+    }
+
+    /**
+     * Request garbage collections and get the used heap afterwards.
+     * 
+     * @return The used heap in bytes.
+     */
+    public static long getUsedHeapAfterGarbageCollection() {
+
+        final MemoryMXBean memoryBean = ManagementFactory.getMemoryMXBean();
+
+        for (int i = 0; i < GARBAGE_COLLECTIONS; i++) {
+
+            memoryBean.gc();
+
+            try {
+                Thread.sleep(GARBAGE_COLLECTION_PAUSE_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+
+        return memoryBean.getHeapMemoryUsage().getUsed();
+    }
+}
@@ -0,0 +1,140 @@
+package tools.vitruv.applications.asemsysml.tests.benchmark;
+
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * Measures the propagation of single changes during a benchmark. <br>
+ * <br>
+ * 
+ * For each change the latency and the number of bytes allocated by the current thread are
+ * recorded. The first changes of a measurement are used to warm up the JVM and are not recorded.
+ * The allocated bytes are read from the platform threading MBean. If the JVM does not support the
+ * measurement of thread allocations, the allocation rate is not reported.
+ * 
+ * @author Benjamin Rupp
+ * 
+ */
+public final class PropagationMeasurement {
+
+    private static final String THREADING_MBEAN_NAME = ManagementFactory.THREAD_MXBEAN_NAME;
+    private static final String ALLOCATED_BYTES_OPERATION = "getThreadAllocatedBytes";
+    private static final String ALLOCATED_MEMORY_SUPPORTED_ATTRIBUTE = "ThreadAllocatedMemorySupported";
+    private static final String ALLOCATED_MEMORY_ENABLED_ATTRIBUTE = "ThreadAllocatedMemoryEnabled";
+
+    private final String benchmarkName;
+    private final int warmupChanges;
+    private final boolean allocationSupported;
+
+    private int executedChanges;
+    private long[] latencies;
+    private int recordedChanges;
+    private long totalLatency;
+    private long totalAllocatedBytes;
+
+    /**
+     * Create a new measurement.
+     * 
+     * @param benchmarkName
+     *            The name of the benchmark which is used in the report.
+     * @param warmupChanges
+     *            The number of changes at the beginning of the measurement which are not recorded.
+     */
+    public PropagationMeasurement(final String benchmarkName, final int warmupChanges) {
+
+        if (benchmarkName == null) {
+            throw new IllegalArgumentException("Benchmark name must not be null.");
+        }
+
+        this.benchmarkName = benchmarkName;
+        this.warmupChanges = Math.max(0, warmupChanges);
+        this.allocationSupported = isAllocationMeasurementSupported();
+        this.latencies = new long[64];
+    }
+
+    /**
+     * Execute and measure the propagation of a single change.
+     * 
+     * @param change
+     *            The change and its propagation, e.g. the modification of a model followed by
+     *            saving and synchronizing the model.
+     */
+    public void measure(final Runnable change) {
+
+        final long allocatedBytesBefore = this.getAllocatedBytes();
+        final long start = System.nanoTime();
+
+        change.run();
+
+        final long latency = System.nanoTime() - start;
+        final long allocatedBytes = this.getAllocatedBytes() - allocatedBytesBefore;
+
+        this.executedChanges++;
+
+        if (this.executedChanges > this.warmupChanges) {
+            this.record(latency, allocatedBytes);
+        }
+    }
+
+    /**
+     * Finish the measurement and compute its statistics.
+     * 
+     * @return The statistics of all recorded changes.
+     */
+    public PropagationStatistics finish() {
+
+        final long[] recordedLatencies = Arrays.copyOf(this.latencies, this.recordedChanges);
+        Arrays.sort(recordedLatencies);
+
+        return new PropagationStatistics(this.benchmarkName, recordedLatencies, this.totalLatency,
+                this.allocationSupported ? this.totalAllocatedBytes : PropagationStatistics.UNKNOWN);
+    }
+
+    private void record(final long latency, final long allocatedBytes) {
+
+        if (this.recordedChanges == this.latencies.length) {
+            this.latencies = Arrays.copyOf(this.latencies, this.latencies.length * 2);
+        }
+
+        this.latencies[this.recordedChanges++] = latency;
+        this.totalLatency += latency;
+        this.totalAllocatedBytes += allocatedBytes;
+    }
+
+    private long getAllocatedBytes() {
+
+        if (!this.allocationSupported) {
+            return 0;
+        }
+
+        try {
+            final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            final Object allocatedBytes = server.invoke(new ObjectName(THREADING_MBEAN_NAME),
+                    ALLOCATED_BYTES_OPERATION, new Object[] { Thread.currentThread().getId() },
+                    new String[] { long.class.getName() });
+
+            return (Long) allocatedBytes;
+
+        } catch (Exception e) {
+            throw new IllegalStateException("Could not measure the allocated bytes of the current thread.", e);
+        }
+    }
+
+    private static boolean isAllocationMeasurementSupported() {
+
+        try {
+            final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            final ObjectName threading = new ObjectName(THREADING_MBEAN_NAME);
+
+            return Boolean.TRUE.equals(server.getAttribute(threading, ALLOCATED_MEMORY_SUPPORTED_ATTRIBUTE))
+                    && Boolean.TRUE.equals(server.getAttribute(threading, ALLOCATED_MEMORY_ENABLED_ATTRIBUTE));
+
+        } catch (Exception e) {
+            // The threading MBean of this JVM does not provide the allocation attributes.
+            return false;
+        }
+    }
+}
@@ -0,0 +1,189 @@
+package tools.vitruv.applications.asemsysml.tests.benchmark;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.Locale;
+
+import org.apache.log4j.Logger;
+
+/**
+ * The statistics of a {@link PropagationMeasurement}. <br>
+ * <br>
+ * 
+ * The statistics are published to the log and, if configured, appended to the CSV report file of
+ * the benchmark run (see {@link BenchmarkConfiguration#PROPERTY_REPORT_FILE}). The report file can
+ * be used to compare the results of several benchmark runs and to detect regressions.
+ * 
+ * @author Benjamin Rupp
+ * 
+ */
+public final class PropagationStatistics {
+
+    /** Marks a value which could not be measured. */
+    public static final long UNKNOWN = -1;
+
+    private static final Logger LOGGER = Logger.getLogger(PropagationStatistics.class);
+
+    private static final String CSV_HEADER = "benchmark;changes;changesPerSecond;meanLatencyMs;minLatencyMs;"
+            + "medianLatencyMs;p99LatencyMs;maxLatencyMs;allocatedBytesPerChange;allocationRateMBPerSecond";
+
+    private static final double NANOS_PER_MILLI = 1000000.0;
+    private static final double NANOS_PER_SECOND = 1000000000.0;
+    private static final double BYTES_PER_MEGABYTE = 1024.0 * 1024.0;
+
+    private final String benchmarkName;
+    private final long[] sortedLatencies;
+    private final long totalLatency;
+    private final long totalAllocatedBytes;
+
+    PropagationStatistics(final String benchmarkName, final long[] sortedLatencies, final long totalLatency,
+            final long totalAllocatedBytes) {
+        this.benchmarkName = benchmarkName;
+        this.sortedLatencies = sortedLatencies;
+        this.totalLatency = totalLatency;
+        this.totalAllocatedBytes = totalAllocatedBytes;
+    }
+
+    /**
+     * @return The name of the measured benchmark.
+     */
+    public String getBenchmarkName() {
+        return this.benchmarkName;
+    }
+
+    /**
+     * @return The number of recorded changes.
+     */
+    public int getNumberOfChanges() {
+        return this.sortedLatencies.length;
+    }
+
+    /**
+     * @return The number of propagated changes per second.
+     */
+    public double getChangesPerSecond() {
+        return (this.totalLatency > 0 ? this.getNumberOfChanges() * NANOS_PER_SECOND / this.totalLatency : 0);
+    }
+
+    /**
+     * @return The mean latency of a change propagation in milliseconds.
+     */
+    public double getMeanLatencyMillis() {
+        return (this.getNumberOfChanges() > 0 ? this.totalLatency / NANOS_PER_MILLI / this.getNumberOfChanges() : 0);
+    }
+
+    /**
+     * @return The minimum latency of a change propagation in milliseconds.
+     */
+    public double getMinLatencyMillis() {
+        return this.getLatencyMillis(0);
+    }
+
+    /**
+     * @return The median latency of a change propagation in milliseconds.
+     */
+    public double getMedianLatencyMillis() {
+        return this.getLatencyPercentileMillis(50);
+    }
+
+    /**
+     * Get the latency percentile of the change propagations using the nearest rank method.
+     * 
+     * @param percentile
+     *            The percentile, e.g. 99 for the 99th percentile.
+     * @return The latency in milliseconds which is not exceeded by the given percentage of the
+     *         changes.
+     */
+    public double getLatencyPercentileMillis(final double percentile) {
+
+        if (percentile <= 0 || percentile > 100) {
+            throw new IllegalArgumentException("Invalid percentile " + percentile);
+        }
+
+        final int rank = (int) Math.ceil(percentile / 100 * this.getNumberOfChanges());
+
+        return this.getLatencyMillis(Math.max(0, rank - 1));
+    }
+
+    /**
+     * @return The maximum latency of a change propagation in milliseconds.
+     */
+    public double getMaxLatencyMillis() {
+        return this.getLatencyMillis(this.getNumberOfChanges() - 1);
+    }
+
+    /**
+     * @return The mean number of bytes allocated during a change propagation or {@link #UNKNOWN}
+     *         if the allocations could not be measured.
+     */
+    public long getAllocatedBytesPerChange() {
+
+        if (this.totalAllocatedBytes == UNKNOWN || this.getNumberOfChanges() == 0) {
+            return UNKNOWN;
+        }
+
+        return this.totalAllocatedBytes / this.getNumberOfChanges();
+    }
+
+    /**
+     * @return The allocation rate during the change propagations in megabytes per second or
+     *         {@link #UNKNOWN} if the allocations could not be measured.
+     */
+    public double getAllocationRateMBPerSecond() {
+
+        if (this.totalAllocatedBytes == UNKNOWN || this.totalLatency == 0) {
+            return UNKNOWN;
+        }
+
+        return this.totalAllocatedBytes / BYTES_PER_MEGABYTE * NANOS_PER_SECOND / this.totalLatency;
+    }
+
+    /**
+     * Publish the statistics to the log and append them to the report file, if a report file is
+     * configured.
+     */
+    public void publish() {
+
+        LOGGER.info(String.format(Locale.ROOT,
+                "[ASEMSysML][Benchmark] %s: %d changes, %.1f changes/s, latency mean %.3f ms "
+                        + "(min %.3f ms, median %.3f ms, p99 %.3f ms, max %.3f ms), %d bytes/change, "
+                        + "%.1f MB/s allocated",
+                this.benchmarkName, this.getNumberOfChanges(), this.getChangesPerSecond(),
+                this.getMeanLatencyMillis(), this.getMinLatencyMillis(), this.getMedianLatencyMillis(),
+                this.getLatencyPercentileMillis(99), this.getMaxLatencyMillis(), this.getAllocatedBytesPerChange(),
+                this.getAllocationRateMBPerSecond()));
+
+        final String reportFile = BenchmarkConfiguration.getReportFile();
+
+        if (reportFile != null) {
+            this.appendToReportFile(new File(reportFile));
+        }
+    }
+
+    private void appendToReportFile(final File reportFile) {
+
+        final boolean writeHeader = !reportFile.exists() || reportFile.length() == 0;
+
+        try (PrintWriter writer = new PrintWriter(new FileWriter(reportFile, true))) {
+
+            if (writeHeader) {
+                writer.println(CSV_HEADER);
+            }
+
+            writer.println(String.format(Locale.ROOT, "%s;%d;%.3f;%.4f;%.4f;%.4f;%.4f;%.4f;%d;%.3f",
+                    this.benchmarkName, this.getNumberOfChanges(), this.getChangesPerSecond(),
+                    this.getMeanLatencyMillis(), this.getMinLatencyMillis(), this.getMedianLatencyMillis(),
+                    this.getLatencyPercentileMillis(99), this.getMaxLatencyMillis(),
+                    this.getAllocatedBytesPerChange(), this.getAllocationRateMBPerSecond()));
+
+        } catch (IOException e) {
+            LOGGER.warn("[ASEMSysML][Benchmark] Could not write the benchmark report " + reportFile, e);
+        }
+    }
+
+    private double getLatencyMillis(final int index) {
+        return (this.getNumberOfChanges() > 0 ? this.sortedLatencies[index] / NANOS_PER_MILLI : 0);
+    }
+}
@@ -0,0 +1,237 @@
+package tools.vitruv.applications.asemsysml.tests.benchmark.asem2sysml;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.log4j.Level;
+import org.apache.log4j.Logger;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.junit.Test;
+
+import edu.kit.ipd.sdq.ASEM.classifiers.Class;
+import edu.kit.ipd.sdq.ASEM.classifiers.Component;
+import edu.kit.ipd.sdq.ASEM.classifiers.Module;
+import edu.kit.ipd.sdq.ASEM.primitivetypes.BooleanType;
+import edu.kit.ipd.sdq.ASEM.primitivetypes.PrimitiveType;
+import edu.kit.ipd.sdq.ASEM.primitivetypes.PrimitiveTypeRepository;
+import tools.vitruv.applications.asemsysml.ASEMSysMLHelper;
+import tools.vitruv.applications.asemsysml.ASEMSysMLPrimitiveTypeHelper;
+import tools.vitruv.applications.asemsysml.tests.asem2sysml.ASEM2SysMLTest;
+import tools.vitruv.applications.asemsysml.tests.benchmark.BenchmarkConfiguration;
+import tools.vitruv.applications.asemsysml.tests.benchmark.PropagationMeasurement;
+import tools.vitruv.applications.asemsysml.tests.benchmark.PropagationStatistics;
+import tools.vitruv.applications.asemsysml.tests.util.ASEMSysMLModelGenerator;
+import tools.vitruv.applications.asemsysml.tests.util.ASEMSysMLTestHelper;
+
+/**
+ * Benchmarks for the transformation of synthetic ASEM models to a SysML model. <br>
+ * <br>
+ * 
+ * The synthetic models consist of N components, M messages per module, a number of methods per
+ * class and K constants per component, see {@link BenchmarkConfiguration}. Each benchmark measures
+ * the propagation of one kind of change.
+ * 
+ * @author Benjamin Rupp
+ * 
+ */
+public class ASEM2SysMLBenchmark extends ASEM2SysMLTest {
+
+    @Override
+    protected void setup() {
+        super.setup();
+
+        // The info messages of the transformations would dominate the measured latencies.
+        Logger.getRootLogger().setLevel(Level.WARN);
+        Logger.getLogger(PropagationStatistics.class).setLevel(Level.INFO);
+    }
+
+    /**
+     * Measure the creation of ASEM components. Each component is the root element of its own ASEM
+     * model and is mapped to a SysML block.
+     */
+    @Test
+    public void benchmarkComponentCreation() {
+
+        final PropagationMeasurement measurement = this.createMeasurement("ASEM2SysML.ComponentCreation");
+        this.createComponents(Class.class, "Component", measurement);
+
+        measurement.finish().publish();
+    }
+
+    /**
+     * Measure the creation of ASEM messages in ASEM modules. Each message is mapped to a port.
+     */
+    @Test
+    public void benchmarkMessageCreation() {
+
+        final List<Module> modules = this.createComponents(Module.class, "MessageModule", null);
+        final int numberOfMessages = BenchmarkConfiguration.getNumberOfPorts();
+        final PrimitiveType messageType = this.getASEMPrimitiveType(modules.get(0));
+
+        final PropagationMeasurement measurement = this.createMeasurement("ASEM2SysML.MessageCreation");
+
+        for (final Module module : modules) {
+            for (int m = 0; m < numberOfMessages; m++) {
+
+                final String messageName = "Message" + m;
+                final boolean writable = (m % 2 == 0);
+
+                measurement.measure(new Runnable() {
+                    @Override
+                    public void run() {
+                        ASEMSysMLTestHelper.createASEMMessageAddToModuleAndSync(messageName, !writable, writable,
+                                messageType, module, ASEM2SysMLBenchmark.this);
+                    }
+                });
+            }
+        }
+
+        measurement.finish().publish();
+    }
+
+    /**
+     * Measure the creation of ASEM methods in ASEM classes.
+     */
+    @Test
+    public void benchmarkMethodCreation() {
+
+        final List<Class> classes = this.createComponents(Class.class, "MethodClass", null);
+        final int numberOfMethods = BenchmarkConfiguration.getNumberOfMethods();
+
+        final PropagationMeasurement measurement = this.createMeasurement("ASEM2SysML.MethodCreation");
+
+        for (final Class asemClass : classes) {
+            for (int m = 0; m < numberOfMethods; m++) {
+
+                final String methodName = "Method" + m;
+
+                measurement.measure(new Runnable() {
+                    @Override
+                    public void run() {
+                        ASEMSysMLTestHelper.createASEMMethodAddToComponentAndSync(methodName, asemClass,
+                                ASEM2SysMLBenchmark.this);
+                    }
+                });
+            }
+        }
+
+        measurement.finish().publish();
+    }
+
+    /**
+     * Measure the creation of ASEM constants which reference other ASEM classes. Each constant is
+     * mapped to a part reference.
+     */
+    @Test
+    public void benchmarkConstantCreation() {
+
+        final List<Class> classes = this.createComponents(Class.class, "ConstantClass", null);
+        // A class must not reference itself as constant type.
+        final int numberOfConstants = Math.min(BenchmarkConfiguration.getNumberOfParts(), classes.size() - 1);
+
+        final PropagationMeasurement measurement = this.createMeasurement("ASEM2SysML.ConstantCreation");
+
+        for (int c = 0; c < classes.size(); c++) {
+            for (int k = 1; k <= numberOfConstants; k++) {
+
+                final Class component = classes.get(c);
+                final Class constantType = classes.get((c + k) % classes.size());
+                final String constantName = "Constant" + k;
+
+                measurement.measure(new Runnable() {
+                    @Override
+                    public void run() {
+                        ASEMSysMLTestHelper.createASEMConstantAddToComponentAndSync(constantName, constantType,
+                                component, ASEM2SysMLBenchmark.this);
+                    }
+                });
+            }
+        }
+
+        measurement.finish().publish();
+    }
+
+    /**
+     * Measure the propagation of generated ASEM models. Each generated component is the root
+     * element of its own ASEM model, so the creation of each model is measured as one change.
+     */
+    @Test
+    public void benchmarkGeneratedModelsPropagation() {
+
+        final ASEMSysMLModelGenerator generator = new ASEMSysMLModelGenerator(BenchmarkConfiguration.getSeed());
+        final List<PrimitiveType> types = this.getASEMPrimitiveTypes();
+
+        final List<Component> components = new ArrayList<Component>();
+        components.addAll(generator.createASEMModules("GeneratedModule", BenchmarkConfiguration.getNumberOfBlocks(),
+                BenchmarkConfiguration.getNumberOfPorts(), types));
+        components.addAll(generator.createASEMClasses("GeneratedClass", BenchmarkConfiguration.getNumberOfBlocks(),
+                BenchmarkConfiguration.getNumberOfMethods(), BenchmarkConfiguration.getNumberOfPorts(), types));
+
+        final PropagationMeasurement measurement = this.createMeasurement("ASEM2SysML.GeneratedModelsPropagation");
+
+        for (final Component component : components) {
+            measurement.measure(new Runnable() {
+                @Override
+                public void run() {
+                    createAndSynchronizeModelWrapper(ASEMSysMLHelper.getASEMProjectModelPath(component.getName()),
+                            component);
+                }
+            });
+        }
+
+        measurement.finish().publish();
+    }
+
+    private PropagationMeasurement createMeasurement(final String benchmarkName) {
+        return new PropagationMeasurement(benchmarkName, BenchmarkConfiguration.getNumberOfWarmupChanges());
+    }
+
+    private List<PrimitiveType> getASEMPrimitiveTypes() {
+
+        final String primitiveTypesProjectModelPath = ASEMSysMLPrimitiveTypeHelper.getPrimitiveTypeProjectModelPath();
+        final PrimitiveTypeRepository repository = (PrimitiveTypeRepository) this
+                .getFirstRootElement(primitiveTypesProjectModelPath);
+
+        return new ArrayList<PrimitiveType>(repository.getPrimitiveTypes());
+    }
+
+    private PrimitiveType getASEMPrimitiveType(final Component component) {
+
+        final String primitiveTypesProjectModelPath = ASEMSysMLPrimitiveTypeHelper.getPrimitiveTypeProjectModelPath();
+        final Resource primitiveTypesResource = this.getModelResource(primitiveTypesProjectModelPath);
+
+        return ASEMSysMLPrimitiveTypeHelper.getASEMPrimitiveTypeFromRepository(BooleanType.class, component,
+                primitiveTypesResource.getResourceSet());
+    }
+
+    /**
+     * Create the configured number of ASEM components. If a measurement is given, the creation of
+     * each component is measured.
+     */
+    private <T extends Component> List<T> createComponents(final java.lang.Class<T> componentType,
+            final String namePrefix, final PropagationMeasurement measurement) {
+
+        final int numberOfComponents = BenchmarkConfiguration.getNumberOfBlocks();
+        final List<T> components = new ArrayList<T>(numberOfComponents);
+
+        for (int c = 0; c < numberOfComponents; c++) {
+
+            final String componentName = namePrefix + c;
+            final Runnable componentCreation = new Runnable() {
+                @Override
+                public void run() {
+                    components.add(ASEMSysMLTestHelper.createASEMComponentAsModelRootAndSync(componentName,
+                            componentType, ASEM2SysMLBenchmark.this));
+                }
+            };
+
+            if (measurement != null) {
+                measurement.measure(componentCreation);
+            } else {
+                componentCreation.run();
+            }
+        }
+
+        return components;
+    }
+}
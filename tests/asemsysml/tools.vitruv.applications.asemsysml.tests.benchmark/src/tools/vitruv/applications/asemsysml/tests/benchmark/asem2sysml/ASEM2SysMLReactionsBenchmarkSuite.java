@@ -0,0 +1,28 @@
+package tools.vitruv.applications.asemsysml.tests.benchmark.asem2sysml;
+
+import org.junit.BeforeClass;
+import org.junit.runner.RunWith;
+import org.junit.runners.Suite;
+import org.junit.runners.Suite.SuiteClasses;
+
+import tools.vitruv.applications.asemsysml.tests.ASEMSysMLTest;
+import tools.vitruv.applications.asemsysml.tests.util.ASEMSysMLTestHelper.TransformationType;
+
+/**
+ * Unifies all ASEM2SysML benchmarks. Use this benchmark suite to measure the <b>reactions
+ * transformations</b>. There are no java transformations for this transformation direction.
+ * 
+ * @author Benjamin Rupp
+ */
+@RunWith(Suite.class)
+@SuiteClasses({ ASEM2SysMLBenchmark.class })
+public final class ASEM2SysMLReactionsBenchmarkSuite {
+
+    /**
+     * Set up the transformation type for all benchmarks.
+     */
+    @BeforeClass
+    public static void setUpBenchmarks() {
+        ASEMSysMLTest.setTransformationType(TransformationType.REACTIONS);
+    }
+}
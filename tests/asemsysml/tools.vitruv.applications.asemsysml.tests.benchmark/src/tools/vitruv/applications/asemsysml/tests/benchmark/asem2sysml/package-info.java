@@ -0,0 +1,7 @@
+/**
+ * This package contains the benchmarks and benchmark suites for transformations from <b>ASEM to
+ * SysML</b> models.
+ * 
+ * @author Benjamin Rupp
+ */
+package tools.vitruv.applications.asemsysml.tests.benchmark.asem2sysml;
@@ -0,0 +1,7 @@
+/**
+ * This package contains the measurement infrastructure of the benchmarks for the ASEM <-> SysML
+ * transformations. The benchmarks themselves are located in the direction specific sub packages.
+ * 
+ * @author Benjamin Rupp
+ */
+package tools.vitruv.applications.asemsysml.tests.benchmark;
@@ -0,0 +1,298 @@
+package tools.vitruv.applications.asemsysml.tests.benchmark.persistence;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import org.apache.log4j.Level;
+import org.apache.log4j.Logger;
+import org.eclipse.emf.common.util.TreeIterator;
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.papyrus.sysml14.blocks.Block;
+import org.eclipse.uml2.uml.Model;
+import org.eclipse.uml2.uml.PrimitiveType;
+import org.eclipse.uml2.uml.UMLFactory;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import edu.kit.ipd.sdq.ASEM.classifiers.Module;
+import edu.kit.ipd.sdq.ASEM.primitivetypes.PrimitiveTypeRepository;
+import edu.kit.ipd.sdq.ASEM.primitivetypes.PrimitivetypesFactory;
+import tools.vitruv.applications.asemsysml.ASEMSysMLConstants;
+import tools.vitruv.applications.asemsysml.ASEMSysMLHelper;
+import tools.vitruv.applications.asemsysml.ASEMSysMLProfileCache;
+import tools.vitruv.applications.asemsysml.ASEMSysMLResourceFormat;
+import tools.vitruv.applications.asemsysml.tests.benchmark.BenchmarkConfiguration;
+import tools.vitruv.applications.asemsysml.tests.benchmark.PropagationMeasurement;
+import tools.vitruv.applications.asemsysml.tests.benchmark.PropagationStatistics;
+import tools.vitruv.applications.asemsysml.tests.util.ASEMSysMLModelGenerator;
+import tools.vitruv.domains.asem.AsemNamespace;
+import tools.vitruv.domains.sysml.SysMlNamspace;
+
+/**
+ * Benchmarks for the load and save times and the file sizes of the {@link ASEMSysMLResourceFormat
+ * resource formats}. <br>
+ * <br>
+ * 
+ * The benchmarks generate a SysML model with about the configured number of ports (see
+ * {@link BenchmarkConfiguration#getNumberOfSerializedElements()}) and ASEM models with the same
+ * number of messages. Each ASEM module is saved in its own model file. The models are saved and
+ * loaded repeatedly in each format without a virtual model, so only the serialization is measured.
+ * 
+ * @author Benjamin Rupp
+ * 
+ */
+public class ResourceFormatBenchmark {
+
+    private static final int MEASURED_ITERATIONS = 10;
+    private static final int PORTS_PER_BLOCK = 20;
+    private static final int BYTES_PER_KILOBYTE = 1024;
+
+    private static Logger logger = Logger.getLogger(ResourceFormatBenchmark.class);
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Before
+    public void setUp() {
+        Logger.getRootLogger().setLevel(Level.WARN);
+        Logger.getLogger(PropagationStatistics.class).setLevel(Level.INFO);
+        logger.setLevel(Level.INFO);
+    }
+
+    /**
+     * Measure saving and loading the SysML model in each format.
+     */
+    @Test
+    public void benchmarkSysMLModelSerialization() throws IOException {
+
+        final ResourceSet resourceSet = createResourceSet();
+        final Resource sysmlResource = this.generateSysMLModel(resourceSet);
+
+        for (ASEMSysMLResourceFormat format : ASEMSysMLResourceFormat.values()) {
+            this.benchmarkSerialization("SysML", format, asList(sysmlResource));
+        }
+    }
+
+    /**
+     * Measure saving and loading the ASEM models in each format.
+     */
+    @Test
+    public void benchmarkASEMModelsSerialization() throws IOException {
+
+        final ResourceSet resourceSet = createResourceSet();
+        final List<Resource> asemResources = this.generateASEMModels(resourceSet);
+
+        for (ASEMSysMLResourceFormat format : ASEMSysMLResourceFormat.values()) {
+            this.benchmarkSerialization("ASEM", format, asemResources);
+        }
+    }
+
+    /**
+     * Convert the SysML model to the binary format and back to XMI. The converted model must
+     * contain the same number of elements.
+     */
+    @Test
+    public void testConversionBetweenFormats() throws IOException {
+
+        final Resource sysmlResource = this.generateSysMLModel(createResourceSet());
+        sysmlResource.save(ASEMSysMLResourceFormat.XMI.getSaveOptions());
+        final int numberOfElements = countElements(asList(sysmlResource));
+
+        final URI xmiURI = sysmlResource.getURI();
+        final URI binaryURI = xmiURI.trimFileExtension().appendFileExtension("bin." + SysMlNamspace.FILE_EXTENSION);
+        final URI reimportedURI = xmiURI.trimFileExtension()
+                .appendFileExtension("xmi." + SysMlNamspace.FILE_EXTENSION);
+
+        ASEMSysMLResourceFormat.convert(xmiURI, ASEMSysMLResourceFormat.XMI, binaryURI,
+                ASEMSysMLResourceFormat.BINARY);
+        ASEMSysMLResourceFormat.convert(binaryURI, ASEMSysMLResourceFormat.BINARY, reimportedURI,
+                ASEMSysMLResourceFormat.XMI);
+
+        final Resource reimportedResource = loadResource(createResourceSet(), reimportedURI,
+                ASEMSysMLResourceFormat.XMI);
+        assertEquals("The converted model has a different size!", numberOfElements,
+                countElements(asList(reimportedResource)));
+    }
+
+    private void benchmarkSerialization(final String modelName, final ASEMSysMLResourceFormat format,
+            final List<Resource> resources) {
+
+        final List<URI> uris = new ArrayList<URI>(resources.size());
+
+        for (Resource resource : resources) {
+            uris.add(resource.getURI());
+        }
+
+        final int warmupIterations = BenchmarkConfiguration.getNumberOfWarmupChanges();
+        final String benchmarkName = "Serialization." + modelName + "." + format;
+
+        final PropagationMeasurement saveMeasurement = new PropagationMeasurement(benchmarkName + ".Save",
+                warmupIterations);
+        final PropagationMeasurement loadMeasurement = new PropagationMeasurement(benchmarkName + ".Load",
+                warmupIterations);
+
+        for (int i = 0; i < warmupIterations + MEASURED_ITERATIONS; i++) {
+
+            saveMeasurement.measure(new Runnable() {
+                @Override
+                public void run() {
+                    for (Resource resource : resources) {
+                        saveResource(resource, format);
+                    }
+                }
+            });
+
+            loadMeasurement.measure(new Runnable() {
+                @Override
+                public void run() {
+                    final ResourceSet resourceSet = createResourceSet();
+                    for (URI uri : uris) {
+                        loadResource(resourceSet, uri, format);
+                    }
+                }
+            });
+        }
+
+        saveMeasurement.finish().publish();
+        loadMeasurement.finish().publish();
+
+        long fileSize = 0;
+
+        for (URI uri : uris) {
+            fileSize += new File(uri.toFileString()).length();
+        }
+
+        logger.info(String.format(Locale.ROOT, "[ASEMSysML][Benchmark] %s: %d elements in %d files, %d KB",
+                benchmarkName, countElements(resources), uris.size(), fileSize / BYTES_PER_KILOBYTE));
+    }
+
+    private Resource generateSysMLModel(final ResourceSet resourceSet) throws IOException {
+
+        final File directory = this.temporaryFolder.newFolder();
+        final URI uri = URI.createFileURI(new File(directory,
+                ASEMSysMLConstants.TEST_SYSML_MODEL_NAME + "." + SysMlNamspace.FILE_EXTENSION).getAbsolutePath());
+
+        final Resource sysmlResource = resourceSet.createResource(uri);
+        final Model sysmlModel = UMLFactory.eINSTANCE.createModel();
+        sysmlModel.setName(ASEMSysMLConstants.TEST_SYSML_MODEL_NAME);
+        sysmlResource.getContents().add(sysmlModel);
+        ASEMSysMLProfileCache.applyUMLStandardAndSysMLProfiles(sysmlModel, resourceSet);
+
+        final List<PrimitiveType> primitiveTypes = new ArrayList<PrimitiveType>();
+        primitiveTypes.add(sysmlModel.createOwnedPrimitiveType("Boolean"));
+        primitiveTypes.add(sysmlModel.createOwnedPrimitiveType("Integer"));
+        primitiveTypes.add(sysmlModel.createOwnedPrimitiveType("Real"));
+
+        final ASEMSysMLModelGenerator generator = new ASEMSysMLModelGenerator(BenchmarkConfiguration.getSeed());
+        final List<Block> blocks = generator.createSysMLBlocks(sysmlModel, "Block", getNumberOfComponents());
+
+        for (Block block : blocks) {
+            generator.createSysMLPorts(block, "Port", PORTS_PER_BLOCK, primitiveTypes);
+        }
+
+        return sysmlResource;
+    }
+
+    private List<Resource> generateASEMModels(final ResourceSet resourceSet) throws IOException {
+
+        final File directory = this.temporaryFolder.newFolder();
+        final List<Resource> asemResources = new ArrayList<Resource>();
+
+        final PrimitiveTypeRepository repository = PrimitivetypesFactory.eINSTANCE.createPrimitiveTypeRepository();
+        repository.setName("PrimitiveTypeRepo");
+        repository.getPrimitiveTypes().add(PrimitivetypesFactory.eINSTANCE.createBooleanType());
+        repository.getPrimitiveTypes().add(PrimitivetypesFactory.eINSTANCE.createSignedDiscreteType());
+        repository.getPrimitiveTypes().add(PrimitivetypesFactory.eINSTANCE.createContinuousType());
+        asemResources.add(createASEMResource(resourceSet, directory, "PrimitiveTypes", repository));
+
+        final ASEMSysMLModelGenerator generator = new ASEMSysMLModelGenerator(BenchmarkConfiguration.getSeed());
+
+        for (Module module : generator.createASEMModules("Module", getNumberOfComponents(), PORTS_PER_BLOCK,
+                repository.getPrimitiveTypes())) {
+            asemResources.add(createASEMResource(resourceSet, directory,
+                    ASEMSysMLHelper.getASEMModelName(module.getName()), module));
+        }
+
+        return asemResources;
+    }
+
+    private static Resource createASEMResource(final ResourceSet resourceSet, final File directory,
+            final String modelName, final EObject rootElement) {
+
+        final URI uri = URI.createFileURI(
+                new File(directory, modelName + "." + AsemNamespace.FILE_EXTENSION).getAbsolutePath());
+        final Resource resource = resourceSet.createResource(uri);
+        resource.getContents().add(rootElement);
+
+        return resource;
+    }
+
+    private static ResourceSet createResourceSet() {
+
+        final ResourceSet resourceSet = new ResourceSetImpl();
+        ASEMSysMLProfileCache.loadProfiles(resourceSet);
+
+        return resourceSet;
+    }
+
+    private static void saveResource(final Resource resource, final ASEMSysMLResourceFormat format) {
+        try {
+            resource.save(format.getSaveOptions());
+        } catch (IOException e) {
+            fail("Could not save the model " + resource.getURI() + "!");
+        }
+    }
+
+    private static Resource loadResource(final ResourceSet resourceSet, final URI uri,
+            final ASEMSysMLResourceFormat format) {
+
+        final Resource resource = resourceSet.createResource(uri);
+
+        try {
+            resource.load(format.getLoadOptions());
+        } catch (IOException e) {
+            fail("Could not load the model " + uri + "!");
+        }
+
+        return resource;
+    }
+
+    private static int countElements(final List<Resource> resources) {
+
+        int numberOfElements = 0;
+
+        for (Resource resource : resources) {
+            final TreeIterator<EObject> contents = EcoreUtil.getAllContents(resource, false);
+
+            while (contents.hasNext()) {
+                contents.next();
+                numberOfElements++;
+            }
+        }
+
+        return numberOfElements;
+    }
+
+    private static int getNumberOfComponents() {
+        return Math.max(1, BenchmarkConfiguration.getNumberOfSerializedElements() / PORTS_PER_BLOCK);
+    }
+
+    private static List<Resource> asList(final Resource resource) {
+        final List<Resource> resources = new ArrayList<Resource>(1);
+        resources.add(resource);
+        return resources;
+    }
+}
@@ -0,0 +1,7 @@
+/**
+ * This package contains the benchmarks for the persistence of the ASEM and SysML models, which do
+ * not depend on a transformation direction.
+ * 
+ * @author Benjamin Rupp
+ */
+package tools.vitruv.applications.asemsysml.tests.benchmark.persistence;
@@ -0,0 +1,259 @@
+package tools.vitruv.applications.asemsysml.tests.benchmark.sysml2asem;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.apache.log4j.Level;
+import org.apache.log4j.Logger;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.papyrus.sysml14.blocks.Block;
+import org.eclipse.papyrus.sysml14.portsandflows.FlowDirection;
+import org.eclipse.uml2.uml.Model;
+import org.eclipse.uml2.uml.PrimitiveType;
+import org.junit.Test;
+
+import edu.kit.ipd.sdq.ASEM.classifiers.Component;
+import edu.kit.ipd.sdq.ASEM.classifiers.Module;
+import tools.vitruv.applications.asemsysml.ASEMSysMLPrimitiveTypeHelper;
+import tools.vitruv.applications.asemsysml.ASEMSysMLProjectInitializer.ModelCreator;
+import tools.vitruv.applications.asemsysml.java.sysml2asem.bulk.SysML2ASEMBulkTransformer;
+import tools.vitruv.applications.asemsysml.java.sysml2asem.bulk.SysML2ASEMDefaultDecisionPolicy;
+import tools.vitruv.applications.asemsysml.tests.benchmark.BenchmarkConfiguration;
+import tools.vitruv.applications.asemsysml.tests.benchmark.PropagationMeasurement;
+import tools.vitruv.applications.asemsysml.tests.benchmark.PropagationStatistics;
+import tools.vitruv.applications.asemsysml.tests.sysml2asem.SysML2ASEMTest;
+import tools.vitruv.applications.asemsysml.tests.util.ASEMSysMLModelGenerator;
+import tools.vitruv.applications.asemsysml.tests.util.ASEMSysMLTestHelper;
+
+/**
+ * Benchmarks for the transformation of a synthetic SysML model to ASEM models. <br>
+ * <br>
+ * 
+ * The synthetic model consists of N blocks with M ports and K part references each, see
+ * {@link BenchmarkConfiguration}. Each benchmark measures the propagation of one kind of change.
+ * The transformation type is set by the benchmark suite which runs this class.
+ * 
+ * @author Benjamin Rupp
+ * 
+ */
+public class SysML2ASEMBenchmark extends SysML2ASEMTest {
+
+    @Override
+    protected void setup() {
+        super.setup();
+
+        // The info messages of the transformations would dominate the measured latencies.
+        Logger.getRootLogger().setLevel(Level.WARN);
+        Logger.getLogger(PropagationStatistics.class).setLevel(Level.INFO);
+    }
+
+    /**
+     * Measure the creation of blocks which are mapped to ASEM classes.
+     */
+    @Test
+    public void benchmarkBlockCreation() {
+
+        final PropagationMeasurement measurement = this.createMeasurement("SysML2ASEM.BlockCreation");
+        this.createBlocks(edu.kit.ipd.sdq.ASEM.classifiers.Class.class, "Block", measurement);
+
+        measurement.finish().publish();
+    }
+
+    /**
+     * Measure the creation of ports of blocks which are mapped to ASEM modules. Each port is mapped
+     * to an ASEM message.
+     */
+    @Test
+    public void benchmarkPortCreation() {
+
+        final List<Block> blocks = this.createBlocks(Module.class, "PortBlock", null);
+        final int numberOfPorts = BenchmarkConfiguration.getNumberOfPorts();
+        final PrimitiveType portType = ASEMSysMLPrimitiveTypeHelper.PRIMITIVE_TYPE_INTEGER;
+
+        final PropagationMeasurement measurement = this.createMeasurement("SysML2ASEM.PortCreation");
+
+        for (final Block block : blocks) {
+            for (int p = 0; p < numberOfPorts; p++) {
+
+                final String portName = "Port" + p;
+                final FlowDirection direction = (p % 2 == 0 ? FlowDirection.IN : FlowDirection.OUT);
+
+                measurement.measure(new Runnable() {
+                    @Override
+                    public void run() {
+                        ASEMSysMLTestHelper.createUMLPortAddToBlockAndSync(block, portName, direction, portType,
+                                SysML2ASEMBenchmark.this);
+                    }
+                });
+            }
+        }
+
+        measurement.finish().publish();
+    }
+
+    /**
+     * Measure the creation of part references between blocks which are mapped to ASEM classes.
+     * Each part reference is mapped to an ASEM constant.
+     */
+    @Test
+    public void benchmarkPartCreation() {
+
+        final List<Block> blocks = this.createBlocks(edu.kit.ipd.sdq.ASEM.classifiers.Class.class, "PartBlock",
+                null);
+        // A block must not reference itself as part.
+        final int numberOfParts = Math.min(BenchmarkConfiguration.getNumberOfParts(), blocks.size() - 1);
+
+        final PropagationMeasurement measurement = this.createMeasurement("SysML2ASEM.PartCreation");
+
+        for (int b = 0; b < blocks.size(); b++) {
+            for (int k = 1; k <= numberOfParts; k++) {
+
+                final Block blockWithPart = blocks.get(b);
+                final Block referencedBlock = blocks.get((b + k) % blocks.size());
+                final String partName = "part" + k;
+
+                measurement.measure(new Runnable() {
+                    @Override
+                    public void run() {
+                        ASEMSysMLTestHelper.createPartReferenceForBlockAndSync(partName, blockWithPart,
+                                referencedBlock, SysML2ASEMBenchmark.this);
+                    }
+                });
+            }
+        }
+
+        measurement.finish().publish();
+    }
+
+    /**
+     * Measure the propagation of a generated SysML model which is synchronized at once. The model
+     * consists of a part hierarchy of blocks which are mapped to ASEM classes and of blocks with
+     * ports which are mapped to ASEM modules.
+     */
+    @Test
+    public void benchmarkGeneratedModelPropagation() {
+
+        final Model sysmlModel = (Model) this.getModelResource(sysmlProjectModelPath).getContents().get(0);
+        final List<Block> moduleBlocks = new ArrayList<Block>();
+        final List<Block> partBlocks = this.generateModel(sysmlModel, moduleBlocks);
+
+        // The ASEM component types are selected in the order of the block creations.
+        for (int b = 0; b < partBlocks.size(); b++) {
+            this.setNextUserInteractorSelection(edu.kit.ipd.sdq.ASEM.classifiers.Class.class);
+        }
+        for (int b = 0; b < moduleBlocks.size(); b++) {
+            this.setNextUserInteractorSelection(Module.class);
+        }
+
+        // The whole model is propagated by a single change, so there is nothing to warm up.
+        final PropagationMeasurement measurement = new PropagationMeasurement(
+                "SysML2ASEM.GeneratedModelPropagation", 0);
+        measurement.measure(new Runnable() {
+            @Override
+            public void run() {
+                saveAndSynchronizeChangesWrapper(sysmlModel);
+            }
+        });
+
+        measurement.finish().publish();
+    }
+
+    /**
+     * Measure the bulk transformation of the same generated SysML model as
+     * {@link #benchmarkGeneratedModelPropagation()}. The ASEM models are created and saved through
+     * the virtual model.
+     */
+    @Test
+    public void benchmarkGeneratedModelBulkTransformation() {
+
+        final Model sysmlModel = (Model) this.getModelResource(sysmlProjectModelPath).getContents().get(0);
+        final List<Block> moduleBlocks = new ArrayList<Block>();
+        this.generateModel(sysmlModel, moduleBlocks);
+
+        final SysML2ASEMBulkTransformer transformer = new SysML2ASEMBulkTransformer(this.getCorrespondenceModel(),
+                new SysML2ASEMDefaultDecisionPolicy() {
+                    @Override
+                    public Class<? extends Component> selectComponentType(final Block block) {
+                        return (moduleBlocks.contains(block) ? Module.class
+                                : edu.kit.ipd.sdq.ASEM.classifiers.Class.class);
+                    }
+                }, new ModelCreator() {
+                    @Override
+                    public void createAndSynchronizeModel(final String projectModelPath, final EObject rootElement) {
+                        createAndSynchronizeModelWrapper(projectModelPath, rootElement);
+                    }
+                });
+
+        final PropagationMeasurement measurement = new PropagationMeasurement(
+                "SysML2ASEM.GeneratedModelBulkTransformation", 0);
+        measurement.measure(new Runnable() {
+            @Override
+            public void run() {
+                transformer.transform(sysmlModel);
+            }
+        });
+
+        measurement.finish().publish();
+    }
+
+    /**
+     * Generate a part hierarchy and the configured number of blocks with ports.
+     * 
+     * @return The blocks of the part hierarchy. The blocks with ports are added to the given list.
+     */
+    private List<Block> generateModel(final Model sysmlModel, final List<Block> moduleBlocks) {
+
+        final ASEMSysMLModelGenerator generator = new ASEMSysMLModelGenerator(BenchmarkConfiguration.getSeed());
+        final List<PrimitiveType> portTypes = Arrays.asList(ASEMSysMLPrimitiveTypeHelper.PRIMITIVE_TYPE_BOOLEAN,
+                ASEMSysMLPrimitiveTypeHelper.PRIMITIVE_TYPE_INTEGER, ASEMSysMLPrimitiveTypeHelper.PRIMITIVE_TYPE_REAL);
+
+        final List<Block> partBlocks = generator.createSysMLPartHierarchy(sysmlModel, "GeneratedBlock",
+                BenchmarkConfiguration.getPartHierarchyDepth(), BenchmarkConfiguration.getNumberOfParts());
+        moduleBlocks.addAll(generator.createSysMLBlocks(sysmlModel, "GeneratedModule",
+                BenchmarkConfiguration.getNumberOfBlocks()));
+
+        for (Block moduleBlock : moduleBlocks) {
+            generator.createSysMLPorts(moduleBlock, "Port", BenchmarkConfiguration.getNumberOfPorts(), portTypes);
+        }
+
+        return partBlocks;
+    }
+
+    private PropagationMeasurement createMeasurement(final String benchmarkName) {
+        return new PropagationMeasurement(benchmarkName, BenchmarkConfiguration.getNumberOfWarmupChanges());
+    }
+
+    /**
+     * Create the configured number of blocks. If a measurement is given, the creation of each
+     * block is measured.
+     */
+    private List<Block> createBlocks(final Class<? extends Component> asemComponentType, final String namePrefix,
+            final PropagationMeasurement measurement) {
+
+        final Resource sysmlModelResource = this.getModelResource(sysmlProjectModelPath);
+        final int numberOfBlocks = BenchmarkConfiguration.getNumberOfBlocks();
+        final List<Block> blocks = new ArrayList<Block>(numberOfBlocks);
+
+        for (int b = 0; b < numberOfBlocks; b++) {
+
+            final String blockName = namePrefix + b;
+            final Runnable blockCreation = new Runnable() {
+                @Override
+                public void run() {
+                    blocks.add(ASEMSysMLTestHelper.createSysMLBlockAddToModelAndSync(sysmlModelResource, blockName,
+                            true, asemComponentType, SysML2ASEMBenchmark.this));
+                }
+            };
+
+            if (measurement != null) {
+                measurement.measure(blockCreation);
+            } else {
+                blockCreation.run();
+            }
+        }
+
+        return blocks;
+    }
+}
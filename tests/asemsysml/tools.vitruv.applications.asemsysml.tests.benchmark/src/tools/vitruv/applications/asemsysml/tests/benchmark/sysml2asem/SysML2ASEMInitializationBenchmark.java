@@ -0,0 +1,132 @@
+package tools.vitruv.applications.asemsysml.tests.benchmark.sysml2asem;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.File;
+
+import org.apache.log4j.Level;
+import org.apache.log4j.Logger;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.uml2.uml.Model;
+import org.eclipse.uml2.uml.PrimitiveType;
+import org.eclipse.uml2.uml.UMLFactory;
+import org.junit.Test;
+
+import edu.kit.ipd.sdq.ASEM.primitivetypes.PrimitiveTypeRepository;
+import tools.vitruv.applications.asemsysml.ASEMSysMLConstants;
+import tools.vitruv.applications.asemsysml.ASEMSysMLPrimitiveTypeHelper;
+import tools.vitruv.applications.asemsysml.ASEMSysMLProfileCache;
+import tools.vitruv.applications.asemsysml.ASEMSysMLProjectInitializer;
+import tools.vitruv.applications.asemsysml.ASEMSysMLProjectInitializer.InitializedProject;
+import tools.vitruv.applications.asemsysml.ASEMSysMLProjectInitializer.ModelCreator;
+import tools.vitruv.applications.asemsysml.tests.benchmark.BenchmarkConfiguration;
+import tools.vitruv.applications.asemsysml.tests.benchmark.PropagationMeasurement;
+import tools.vitruv.applications.asemsysml.tests.benchmark.PropagationStatistics;
+import tools.vitruv.applications.asemsysml.tests.sysml2asem.SysML2ASEMTest;
+
+/**
+ * Benchmark for the initialization of a project. <br>
+ * <br>
+ * 
+ * Compares the initialization by the transformations, which create the ASEM primitive type
+ * repository when the primitive types are added to the SysML model, with the
+ * {@link ASEMSysMLProjectInitializer}, which creates both models at once. Each initialization
+ * creates a new project in a directory of the test project. Both variants are measured
+ * alternately with the same number of warm-up initializations, so that they run in a comparably
+ * warmed-up JVM. The transformation type is set by the benchmark suite which runs this class.
+ * 
+ * @author Benjamin Rupp
+ * 
+ */
+public class SysML2ASEMInitializationBenchmark extends SysML2ASEMTest {
+
+    @Override
+    protected void setup() {
+        super.setup();
+
+        // The info messages of the transformations would dominate the measured latencies.
+        Logger.getRootLogger().setLevel(Level.WARN);
+        Logger.getLogger(PropagationStatistics.class).setLevel(Level.INFO);
+    }
+
+    /**
+     * Measure the initialization of projects by the transformations and by the
+     * {@link ASEMSysMLProjectInitializer}.
+     */
+    @Test
+    public void benchmarkProjectInitialization() {
+
+        final int warmupInitializations = BenchmarkConfiguration.getNumberOfWarmupChanges();
+        final int numberOfProjects = warmupInitializations + BenchmarkConfiguration.getNumberOfBlocks();
+        final ResourceSet resourceSet = this.getCorrespondenceModel().getResource().getResourceSet();
+
+        final PropagationMeasurement transformationMeasurement = new PropagationMeasurement(
+                "SysML2ASEM.TransformationInitialization", warmupInitializations);
+        final PropagationMeasurement initializerMeasurement = new PropagationMeasurement(
+                "SysML2ASEM.ProjectInitializer", warmupInitializations);
+
+        for (int p = 0; p < numberOfProjects; p++) {
+
+            final String transformedProjectDirectory = "transformed" + p + File.separatorChar;
+            final String initializedProjectDirectory = "initialized" + p + File.separatorChar;
+
+            // Let the transformations initialize the primitive type repository of the new project.
+            ASEMSysMLPrimitiveTypeHelper.resetRepoInitializationFlag(resourceSet);
+
+            transformationMeasurement.measure(new Runnable() {
+                @Override
+                public void run() {
+                    initializeByTransformations(resourceSet, transformedProjectDirectory);
+                }
+            });
+
+            initializerMeasurement.measure(new Runnable() {
+                @Override
+                public void run() {
+                    final InitializedProject project = ASEMSysMLProjectInitializer.initialize(resourceSet,
+                            initializedProjectDirectory, new ModelCreator() {
+                                @Override
+                                public void createAndSynchronizeModel(final String projectModelPath,
+                                        final EObject rootElement) {
+                                    createAndSynchronizeModelWrapper(projectModelPath, rootElement);
+                                }
+                            });
+
+                    assertEquals("Wrong number of ASEM primitive types!", 4,
+                            project.getPrimitiveTypeRepository().getPrimitiveTypes().size());
+                }
+            });
+
+            final String transformedRepositoryPath = transformedProjectDirectory
+                    + ASEMSysMLPrimitiveTypeHelper.getPrimitiveTypeProjectModelPath();
+            final PrimitiveTypeRepository transformedRepository = (PrimitiveTypeRepository) this
+                    .getModelResource(transformedRepositoryPath).getContents().get(0);
+            assertEquals("Wrong number of ASEM primitive types!", 4, transformedRepository.getPrimitiveTypes().size());
+        }
+
+        transformationMeasurement.finish().publish();
+        initializerMeasurement.finish().publish();
+    }
+
+    /**
+     * Initialize a project like the test setup does: Create the SysML model and add the primitive
+     * types afterwards, which lets the transformations create the ASEM primitive type repository.
+     */
+    private void initializeByTransformations(final ResourceSet resourceSet, final String projectDirectory) {
+
+        final Model sysmlModel = UMLFactory.eINSTANCE.createModel();
+        sysmlModel.setName(ASEMSysMLConstants.TEST_SYSML_MODEL_NAME);
+        ASEMSysMLProfileCache.applyUMLStandardAndSysMLProfiles(sysmlModel, resourceSet);
+        this.createAndSynchronizeModelWrapper(projectDirectory + sysmlProjectModelPath, sysmlModel);
+
+        for (PrimitiveType primitiveType : new PrimitiveType[] { ASEMSysMLPrimitiveTypeHelper.PRIMITIVE_TYPE_BOOLEAN,
+                ASEMSysMLPrimitiveTypeHelper.PRIMITIVE_TYPE_INTEGER, ASEMSysMLPrimitiveTypeHelper.PRIMITIVE_TYPE_REAL,
+                ASEMSysMLPrimitiveTypeHelper.PRIMITIVE_TYPE_UNLIMITED_NATURAL,
+                ASEMSysMLPrimitiveTypeHelper.PRIMITIVE_TYPE_STRING }) {
+            sysmlModel.createOwnedPrimitiveType(primitiveType.getName());
+        }
+
+        this.saveAndSynchronizeChangesWrapper(sysmlModel);
+    }
+}
@@ -0,0 +1,28 @@
+package tools.vitruv.applications.asemsysml.tests.benchmark.sysml2asem;
+
+import org.junit.BeforeClass;
+import org.junit.runner.RunWith;
+import org.junit.runners.Suite;
+import org.junit.runners.Suite.SuiteClasses;
+
+import tools.vitruv.applications.asemsysml.tests.ASEMSysMLTest;
+import tools.vitruv.applications.asemsysml.tests.util.ASEMSysMLTestHelper.TransformationType;
+
+/**
+ * Unifies all SysML2ASEM benchmarks. Use this benchmark suite to measure the <b>java
+ * transformations</b>.
+ * 
+ * @author Benjamin Rupp
+ */
+@RunWith(Suite.class)
+@SuiteClasses({ SysML2ASEMBenchmark.class, SysML2ASEMInitializationBenchmark.class })
+public final class SysML2ASEMJavaBenchmarkSuite {
+
+    /**
+     * Set up the transformation type for all benchmarks.
+     */
+    @BeforeClass
+    public static void setUpBenchmarks() {
+        ASEMSysMLTest.setTransformationType(TransformationType.JAVA);
+    }
+}
@@ -0,0 +1,314 @@
+package tools.vitruv.applications.asemsysml.tests.benchmark.sysml2asem;
+
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+import org.apache.log4j.Level;
+import org.apache.log4j.Logger;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.papyrus.sysml14.blocks.Block;
+import org.eclipse.papyrus.sysml14.portsandflows.FlowDirection;
+import org.eclipse.uml2.uml.Port;
+import org.eclipse.uml2.uml.PrimitiveType;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+
+import edu.kit.ipd.sdq.ASEM.dataexchange.Method;
+import edu.kit.ipd.sdq.ASEM.dataexchange.Parameter;
+import edu.kit.ipd.sdq.ASEM.dataexchange.ReturnType;
+import edu.kit.ipd.sdq.ASEM.primitivetypes.ContinuousType;
+import tools.vitruv.applications.asemsysml.ASEMSysMLHelper;
+import tools.vitruv.applications.asemsysml.ASEMSysMLPrimitiveTypeHelper;
+import tools.vitruv.applications.asemsysml.ASEMSysMLUserInteractionHelper;
+import tools.vitruv.applications.asemsysml.ASEMSysMLUserInteractionHelper.ASEMMethodMode;
+import tools.vitruv.applications.asemsysml.tests.benchmark.BenchmarkConfiguration;
+import tools.vitruv.applications.asemsysml.tests.benchmark.HeapUsage;
+import tools.vitruv.applications.asemsysml.tests.benchmark.PropagationMeasurement;
+import tools.vitruv.applications.asemsysml.tests.benchmark.PropagationStatistics;
+import tools.vitruv.applications.asemsysml.tests.benchmark.trace.ChangeTrace;
+import tools.vitruv.applications.asemsysml.tests.benchmark.trace.ChangeTraceStep;
+import tools.vitruv.applications.asemsysml.tests.benchmark.trace.ChangeTraceStep.ChangeType;
+import tools.vitruv.applications.asemsysml.tests.sysml2asem.SysML2ASEMTest;
+import tools.vitruv.applications.asemsysml.tests.util.ASEMSysMLTestHelper;
+import tools.vitruv.applications.asemsysml.tests.util.ASEMSysMLTestHelper.TransformationType;
+import tools.vitruv.framework.change.processing.ChangePropagationSpecification;
+
+/**
+ * Head-to-head benchmark of the java and the reactions transformations from SysML to ASEM. <br>
+ * <br>
+ * 
+ * A {@link ChangeTrace} is recorded once and replayed on a new virtual model for each
+ * transformation type. For each change type the throughput and the latency percentiles are
+ * reported. Additionally, the heap which is retained after the replay of the trace is reported.
+ * After all transformation types were measured, a comparison of the results is logged.
+ * 
+ * @author Benjamin Rupp
+ * 
+ */
+@RunWith(Parameterized.class)
+public class SysML2ASEMTraceBenchmark extends SysML2ASEMTest {
+
+    private static final Logger LOGGER = Logger.getLogger(SysML2ASEMTraceBenchmark.class);
+    private static final double BYTES_PER_MEGABYTE = 1024.0 * 1024.0;
+
+    private static final Map<TransformationType, Map<ChangeType, PropagationStatistics>> RESULTS = new EnumMap<TransformationType, Map<ChangeType, PropagationStatistics>>(
+            TransformationType.class);
+    private static final Map<TransformationType, Long> RETAINED_HEAP = new EnumMap<TransformationType, Long>(
+            TransformationType.class);
+
+    private static ChangeTrace trace;
+
+    private final TransformationType transformationType;
+    private final Map<String, Block> blocks;
+    private final Map<String, Port> ports;
+    private PrimitiveType portType;
+
+    /**
+     * Create a benchmark for the given transformation type.
+     * 
+     * @param transformationType
+     *            The transformation type which shall be measured.
+     */
+    public SysML2ASEMTraceBenchmark(final TransformationType transformationType) {
+        this.transformationType = transformationType;
+        this.blocks = new HashMap<String, Block>();
+        this.ports = new HashMap<String, Port>();
+    }
+
+    /**
+     * @return The transformation types which are compared.
+     */
+    @Parameters(name = "{0}")
+    public static Collection<Object[]> getTransformationTypes() {
+        return Arrays.asList(new Object[][] { { TransformationType.JAVA }, { TransformationType.REACTIONS } });
+    }
+
+    /**
+     * Record the change trace which is replayed for all transformation types.
+     */
+    @BeforeClass
+    public static void recordChangeTrace() {
+        trace = ChangeTrace.recordAdditionScenario(BenchmarkConfiguration.getNumberOfBlocks(),
+                BenchmarkConfiguration.getNumberOfPorts(), BenchmarkConfiguration.getNumberOfParts());
+        RESULTS.clear();
+        RETAINED_HEAP.clear();
+    }
+
+    /**
+     * Log the comparison of all measured transformation types.
+     */
+    @AfterClass
+    public static void publishComparison() {
+
+        for (ChangeType changeType : ChangeType.values()) {
+
+            final StringBuilder comparison = new StringBuilder("[ASEMSysML][Benchmark] " + changeType + ":");
+
+            for (Map.Entry<TransformationType, Map<ChangeType, PropagationStatistics>> result : RESULTS.entrySet()) {
+
+                final PropagationStatistics statistics = result.getValue().get(changeType);
+                comparison.append(String.format(Locale.ROOT, " %s %.1f changes/s (p50 %.3f ms, p99 %.3f ms);",
+                        result.getKey(), statistics.getChangesPerSecond(), statistics.getMedianLatencyMillis(),
+                        statistics.getLatencyPercentileMillis(99)));
+            }
+
+            LOGGER.info(comparison);
+        }
+
+        for (Map.Entry<TransformationType, Long> retainedHeap : RETAINED_HEAP.entrySet()) {
+            LOGGER.info(String.format(Locale.ROOT, "[ASEMSysML][Benchmark] %s retained heap: %.1f MB",
+                    retainedHeap.getKey(), retainedHeap.getValue() / BYTES_PER_MEGABYTE));
+        }
+    }
+
+    @Override
+    protected Iterable<ChangePropagationSpecification> createChangePropagationSpecifications() {
+        // The transformation type is a parameter of this benchmark and not set by a suite.
+        return this.createDirectionSpecificChangePropagationSpecifications(this.transformationType);
+    }
+
+    @Override
+    protected void setup() {
+        super.setup();
+
+        // The info messages of the transformations would dominate the measured latencies.
+        Logger.getRootLogger().setLevel(Level.WARN);
+        Logger.getLogger(PropagationStatistics.class).setLevel(Level.INFO);
+        LOGGER.setLevel(Level.INFO);
+
+        final PrimitiveType sysmlType = ASEMSysMLPrimitiveTypeHelper.getSysMLTypeByASEMType(ContinuousType.class);
+        this.portType = ASEMSysMLPrimitiveTypeHelper
+                .getSysMLPrimitiveTypeFromSysMLModel(this.getModelResource(sysmlProjectModelPath), sysmlType);
+    }
+
+    /**
+     * Replay the recorded change trace and measure the propagation of each change.
+     */
+    @Test
+    public void benchmarkTraceReplay() {
+
+        final Map<ChangeType, PropagationMeasurement> measurements = new EnumMap<ChangeType, PropagationMeasurement>(
+                ChangeType.class);
+
+        for (ChangeType changeType : ChangeType.values()) {
+            final String benchmarkName = "SysML2ASEM.Trace." + this.transformationType + "." + changeType;
+            // Use at most half of the changes of each type to warm up.
+            final int warmupChanges = Math.min(BenchmarkConfiguration.getNumberOfWarmupChanges(),
+                    trace.getNumberOfSteps(changeType) / 2);
+            measurements.put(changeType, new PropagationMeasurement(benchmarkName, warmupChanges));
+        }
+
+        final long usedHeapBeforeReplay = HeapUsage.getUsedHeapAfterGarbageCollection();
+
+        for (ChangeTraceStep step : trace.getSteps()) {
+            measurements.get(step.getChangeType()).measure(this.prepareStep(step));
+        }
+
+        RETAINED_HEAP.put(this.transformationType,
+                HeapUsage.getUsedHeapAfterGarbageCollection() - usedHeapBeforeReplay);
+
+        final Map<ChangeType, PropagationStatistics> statistics = new EnumMap<ChangeType, PropagationStatistics>(
+                ChangeType.class);
+
+        for (Map.Entry<ChangeType, PropagationMeasurement> measurement : measurements.entrySet()) {
+            final PropagationStatistics stepStatistics = measurement.getValue().finish();
+            stepStatistics.publish();
+            statistics.put(measurement.getKey(), stepStatistics);
+        }
+
+        RESULTS.put(this.transformationType, statistics);
+    }
+
+    /**
+     * Prepare the user interactions of the given step and create the change which is measured.
+     */
+    private Runnable prepareStep(final ChangeTraceStep step) {
+
+        switch (step.getChangeType()) {
+        case BLOCK_CREATION:
+            return this.prepareBlockCreation(step);
+        case PORT_CREATION:
+            return this.preparePortCreation(step);
+        case PART_CREATION:
+            return this.preparePartCreation(step);
+        case BLOCK_RENAMING:
+            return this.prepareBlockRenaming(step);
+        default:
+            throw new IllegalArgumentException("Unsupported change type " + step.getChangeType());
+        }
+    }
+
+    private Runnable prepareBlockCreation(final ChangeTraceStep step) {
+
+        final Resource sysmlModelResource = this.getModelResource(sysmlProjectModelPath);
+
+        return new Runnable() {
+            @Override
+            public void run() {
+                blocks.put(step.getBlockName(), ASEMSysMLTestHelper.createSysMLBlockAddToModelAndSync(
+                        sysmlModelResource, step.getBlockName(), true, step.getASEMComponentType(),
+                        SysML2ASEMTraceBenchmark.this));
+            }
+        };
+    }
+
+    private Runnable preparePortCreation(final ChangeTraceStep step) {
+
+        final Block block = this.getBlock(step.getBlockName());
+        final ASEMMethodMode methodMode = step.getMethodMode();
+
+        if (methodMode != null) {
+
+            final int methodModeSelection = ASEMSysMLUserInteractionHelper
+                    .getNextUserInteractionSelectionForASEMMethodMode(methodMode);
+
+            if (methodMode == ASEMMethodMode.CREATE_NEW) {
+                getUserInteractor().addNextSelections(methodModeSelection);
+                getUserInteractor().addNextSelections(step.getReferencedElementName());
+            } else {
+                final Method method = this.getMethodOfPort(step.getBlockName(), step.getReferencedElementName());
+                assertTrue("No ASEM method found for port " + step.getReferencedElementName(), method != null);
+
+                final int methodSelection = ASEMSysMLUserInteractionHelper
+                        .getNextUserInteractionSelectionForASEMMethodSelection(method, step.getFlowDirection(),
+                                this.getCorrespondenceModel());
+                getUserInteractor().addNextSelections(methodModeSelection, methodSelection);
+            }
+        }
+
+        return new Runnable() {
+            @Override
+            public void run() {
+                ports.put(getPortKey(step.getBlockName(), step.getElementName()),
+                        ASEMSysMLTestHelper.createUMLPortAddToBlockAndSync(block, step.getElementName(),
+                                step.getFlowDirection(), portType, SysML2ASEMTraceBenchmark.this));
+            }
+        };
+    }
+
+    private Runnable preparePartCreation(final ChangeTraceStep step) {
+
+        final Block blockWithPart = this.getBlock(step.getBlockName());
+        final Block referencedBlock = this.getBlock(step.getReferencedElementName());
+
+        return new Runnable() {
+            @Override
+            public void run() {
+                ASEMSysMLTestHelper.createPartReferenceForBlockAndSync(step.getElementName(), blockWithPart,
+                        referencedBlock, SysML2ASEMTraceBenchmark.this);
+            }
+        };
+    }
+
+    private Runnable prepareBlockRenaming(final ChangeTraceStep step) {
+
+        final Block block = this.getBlock(step.getBlockName());
+
+        return new Runnable() {
+            @Override
+            public void run() {
+                block.getBase_Class().setName(step.getElementName());
+                saveAndSynchronizeChangesWrapper(block.getBase_Class());
+                blocks.put(step.getElementName(), blocks.remove(step.getBlockName()));
+            }
+        };
+    }
+
+    private Block getBlock(final String blockName) {
+
+        final Block block = this.blocks.get(blockName);
+        assertTrue("The change trace refers to the unknown block " + blockName, block != null);
+
+        return block;
+    }
+
+    private Method getMethodOfPort(final String blockName, final String portName) {
+
+        final Port port = this.ports.get(getPortKey(blockName, portName));
+        assertTrue("The change trace refers to the unknown port " + portName, port != null);
+
+        if (ASEMSysMLTestHelper.getPortDirection(port) == FlowDirection.OUT) {
+            final ReturnType returnType = ASEMSysMLHelper.getFirstCorrespondingASEMElement(
+                    this.getCorrespondenceModel(), port, ReturnType.class);
+            return (returnType != null ? returnType.getMethod() : null);
+        }
+
+        final Parameter parameter = ASEMSysMLHelper.getFirstCorrespondingASEMElement(this.getCorrespondenceModel(),
+                port, Parameter.class);
+        return (parameter != null ? parameter.getMethod() : null);
+    }
+
+    private static String getPortKey(final String blockName, final String portName) {
+        return blockName + "." + portName;
+    }
+}
@@ -0,0 +1,7 @@
+/**
+ * This package contains the benchmarks and benchmark suites for transformations from <b>SysML to
+ * ASEM</b> models.
+ * 
+ * @author Benjamin Rupp
+ */
+package tools.vitruv.applications.asemsysml.tests.benchmark.sysml2asem;
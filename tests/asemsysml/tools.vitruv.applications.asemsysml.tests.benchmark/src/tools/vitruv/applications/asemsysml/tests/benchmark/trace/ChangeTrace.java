@@ -0,0 +1,117 @@
+package tools.vitruv.applications.asemsysml.tests.benchmark.trace;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.eclipse.papyrus.sysml14.portsandflows.FlowDirection;
+
+import edu.kit.ipd.sdq.ASEM.classifiers.Class;
+import edu.kit.ipd.sdq.ASEM.classifiers.Module;
+import tools.vitruv.applications.asemsysml.tests.benchmark.trace.ChangeTraceStep.ChangeType;
+
+/**
+ * An immutable sequence of SysML changes which can be replayed against different transformation
+ * realizations. <br>
+ * <br>
+ * 
+ * A trace is recorded once and then replayed on a new virtual model for each realization, so that
+ * all realizations propagate exactly the same changes.
+ * 
+ * @author Benjamin Rupp
+ * 
+ */
+public final class ChangeTrace {
+
+    private final List<ChangeTraceStep> steps;
+
+    private ChangeTrace(final List<ChangeTraceStep> steps) {
+        this.steps = Collections.unmodifiableList(new ArrayList<ChangeTraceStep>(steps));
+    }
+
+    /**
+     * Record the trace of a scaled up addition example. <br>
+     * <br>
+     * 
+     * For each addition block, an ASEM class with the method <i>doAddition</i> is created, which
+     * has two input ports and a return port (see <i>SysMLAdditionExample</i>). Additionally, a
+     * module block with several message ports is created for each addition block. The addition
+     * blocks reference each other as parts and are renamed at the end of the trace.
+     * 
+     * @param numberOfBlocks
+     *            The number of addition blocks.
+     * @param portsPerModule
+     *            The number of ports of each module block.
+     * @param partsPerBlock
+     *            The number of part references of each addition block.
+     * @return The recorded trace.
+     */
+    public static ChangeTrace recordAdditionScenario(final int numberOfBlocks, final int portsPerModule,
+            final int partsPerBlock) {
+
+        final List<ChangeTraceStep> steps = new ArrayList<ChangeTraceStep>();
+
+        for (int b = 0; b < numberOfBlocks; b++) {
+
+            final String additionBlock = "Addition" + b;
+            steps.add(ChangeTraceStep.createBlock(additionBlock, Class.class));
+            steps.add(ChangeTraceStep.createClassPortWithNewMethod(additionBlock, "input1", FlowDirection.IN,
+                    "doAddition"));
+            steps.add(ChangeTraceStep.createClassPortWithExistingMethod(additionBlock, "input2", FlowDirection.IN,
+                    "input1"));
+            steps.add(ChangeTraceStep.createClassPortWithExistingMethod(additionBlock, "return", FlowDirection.OUT,
+                    "input1"));
+
+            final String moduleBlock = "AdditionModule" + b;
+            steps.add(ChangeTraceStep.createBlock(moduleBlock, Module.class));
+
+            for (int p = 0; p < portsPerModule; p++) {
+                steps.add(ChangeTraceStep.createModulePort(moduleBlock, "Signal" + p,
+                        p % 2 == 0 ? FlowDirection.IN : FlowDirection.OUT));
+            }
+        }
+
+        // A block must not reference itself as part.
+        final int numberOfParts = Math.min(partsPerBlock, numberOfBlocks - 1);
+
+        for (int b = 0; b < numberOfBlocks; b++) {
+            for (int k = 1; k <= numberOfParts; k++) {
+                steps.add(ChangeTraceStep.createPart("Addition" + b, "summand" + k,
+                        "Addition" + ((b + k) % numberOfBlocks)));
+            }
+        }
+
+        for (int b = 0; b < numberOfBlocks; b++) {
+            steps.add(ChangeTraceStep.renameBlock("Addition" + b, "RenamedAddition" + b));
+        }
+
+        return new ChangeTrace(steps);
+    }
+
+    /**
+     * @return The steps of the trace in the order of their recording.
+     */
+    public List<ChangeTraceStep> getSteps() {
+        return this.steps;
+    }
+
+    /**
+     * Count the steps of the given change type.
+     * 
+     * @param changeType
+     *            The change type.
+     * @return The number of steps of this change type.
+     */
+    public int getNumberOfSteps(final ChangeType changeType) {
+
+        int numberOfSteps = 0;
+
+        for (ChangeTraceStep step : this.steps) {
+            if (step.getChangeType() == changeType) {
+                numberOfSteps++;
+            }
+        }
+
+        return numberOfSteps;
+    }
+}
@@ -0,0 +1,212 @@
+package tools.vitruv.applications.asemsysml.tests.benchmark.trace;
+
+import org.eclipse.papyrus.sysml14.portsandflows.FlowDirection;
+
+import edu.kit.ipd.sdq.ASEM.classifiers.Component;
+import tools.vitruv.applications.asemsysml.ASEMSysMLUserInteractionHelper.ASEMMethodMode;
+
+/**
+ * A single step of a {@link ChangeTrace}. <br>
+ * <br>
+ * 
+ * The elements a step refers to are identified by their names, so that the step can be replayed
+ * on any model which was built by the previous steps of the trace. A step contains the user
+ * decisions of its change, too, e.g. the ASEM component type of a block or the method mode of a
+ * port.
+ * 
+ * @author Benjamin Rupp
+ * 
+ */
+public final class ChangeTraceStep {
+
+    /**
+     * The types of changes a change trace consists of.
+     * 
+     * @author Benjamin Rupp
+     * 
+     */
+    public static enum ChangeType {
+        /** Creation of a SysML block. */
+        BLOCK_CREATION,
+        /** Creation of a port of a SysML block. */
+        PORT_CREATION,
+        /** Creation of a part reference between two SysML blocks. */
+        PART_CREATION,
+        /** Renaming of a SysML block. */
+        BLOCK_RENAMING
+    }
+
+    private final ChangeType changeType;
+    private final String blockName;
+    private final String elementName;
+    private final String referencedElementName;
+    private final Class<? extends Component> asemComponentType;
+    private final FlowDirection flowDirection;
+    private final ASEMMethodMode methodMode;
+
+    private ChangeTraceStep(final ChangeType changeType, final String blockName, final String elementName,
+            final String referencedElementName, final Class<? extends Component> asemComponentType,
+            final FlowDirection flowDirection, final ASEMMethodMode methodMode) {
+        this.changeType = changeType;
+        this.blockName = blockName;
+        this.elementName = elementName;
+        this.referencedElementName = referencedElementName;
+        this.asemComponentType = asemComponentType;
+        this.flowDirection = flowDirection;
+        this.methodMode = methodMode;
+    }
+
+    /**
+     * Create a step which creates a SysML block.
+     * 
+     * @param blockName
+     *            The name of the block.
+     * @param asemComponentType
+     *            The ASEM component type the block shall be mapped to.
+     * @return The trace step.
+     */
+    public static ChangeTraceStep createBlock(final String blockName,
+            final Class<? extends Component> asemComponentType) {
+        return new ChangeTraceStep(ChangeType.BLOCK_CREATION, blockName, blockName, null, asemComponentType, null,
+                null);
+    }
+
+    /**
+     * Create a step which adds a port to a block which is mapped to an ASEM module.
+     * 
+     * @param blockName
+     *            The name of the block.
+     * @param portName
+     *            The name of the port.
+     * @param flowDirection
+     *            The flow direction of the port.
+     * @return The trace step.
+     */
+    public static ChangeTraceStep createModulePort(final String blockName, final String portName,
+            final FlowDirection flowDirection) {
+        return new ChangeTraceStep(ChangeType.PORT_CREATION, blockName, portName, null, null, flowDirection, null);
+    }
+
+    /**
+     * Create a step which adds a port to a block which is mapped to an ASEM class. The port will
+     * be mapped to a parameter or return type of a new ASEM method.
+     * 
+     * @param blockName
+     *            The name of the block.
+     * @param portName
+     *            The name of the port.
+     * @param flowDirection
+     *            The flow direction of the port.
+     * @param methodName
+     *            The name of the new ASEM method.
+     * @return The trace step.
+     */
+    public static ChangeTraceStep createClassPortWithNewMethod(final String blockName, final String portName,
+            final FlowDirection flowDirection, final String methodName) {
+        return new ChangeTraceStep(ChangeType.PORT_CREATION, blockName, portName, methodName, null, flowDirection,
+                ASEMMethodMode.CREATE_NEW);
+    }
+
+    /**
+     * Create a step which adds a port to a block which is mapped to an ASEM class. The port will
+     * be mapped to a parameter or return type of the ASEM method of another port.
+     * 
+     * @param blockName
+     *            The name of the block.
+     * @param portName
+     *            The name of the port.
+     * @param flowDirection
+     *            The flow direction of the port.
+     * @param methodPortName
+     *            The name of the port of the same block whose ASEM method shall be used.
+     * @return The trace step.
+     */
+    public static ChangeTraceStep createClassPortWithExistingMethod(final String blockName, final String portName,
+            final FlowDirection flowDirection, final String methodPortName) {
+        return new ChangeTraceStep(ChangeType.PORT_CREATION, blockName, portName, methodPortName, null,
+                flowDirection, ASEMMethodMode.USE_EXISTING);
+    }
+
+    /**
+     * Create a step which adds a part reference to a block.
+     * 
+     * @param blockName
+     *            The name of the block which contains the part reference.
+     * @param partName
+     *            The name of the part reference.
+     * @param referencedBlockName
+     *            The name of the referenced block.
+     * @return The trace step.
+     */
+    public static ChangeTraceStep createPart(final String blockName, final String partName,
+            final String referencedBlockName) {
+        return new ChangeTraceStep(ChangeType.PART_CREATION, blockName, partName, referencedBlockName, null, null,
+                null);
+    }
+
+    /**
+     * Create a step which renames a block.
+     * 
+     * @param blockName
+     *            The current name of the block.
+     * @param newBlockName
+     *            The new name of the block.
+     * @return The trace step.
+     */
+    public static ChangeTraceStep renameBlock(final String blockName, final String newBlockName) {
+        return new ChangeTraceStep(ChangeType.BLOCK_RENAMING, blockName, newBlockName, null, null, null, null);
+    }
+
+    /**
+     * @return The type of the change.
+     */
+    public ChangeType getChangeType() {
+        return this.changeType;
+    }
+
+    /**
+     * @return The name of the block which is created or changed.
+     */
+    public String getBlockName() {
+        return this.blockName;
+    }
+
+    /**
+     * @return The name of the created element, e.g. the port name, or the new name of a renamed
+     *         block.
+     */
+    public String getElementName() {
+        return this.elementName;
+    }
+
+    /**
+     * @return The name of the referenced block of a part, the name of the new method or the name
+     *         of the port whose method is used, depending on the {@link #getChangeType() change
+     *         type} and the {@link #getMethodMode() method mode}.
+     */
+    public String getReferencedElementName() {
+        return this.referencedElementName;
+    }
+
+    /**
+     * @return The ASEM component type of a created block.
+     */
+    public Class<? extends Component> getASEMComponentType() {
+        return this.asemComponentType;
+    }
+
+    /**
+     * @return The flow direction of a created port.
+     */
+    public FlowDirection getFlowDirection() {
+        return this.flowDirection;
+    }
+
+    /**
+     * @return The method mode of a port of a block which is mapped to an ASEM class or
+     *         <code>null</code> if the block is mapped to an ASEM module.
+     */
+    public ASEMMethodMode getMethodMode() {
+        return this.methodMode;
+    }
+}
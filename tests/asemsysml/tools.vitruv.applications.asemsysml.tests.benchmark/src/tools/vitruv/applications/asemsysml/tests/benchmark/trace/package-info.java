@@ -0,0 +1,7 @@
+/**
+ * This package contains the change traces which are recorded once and replayed against different
+ * transformation realizations.
+ * 
+ * @author Benjamin Rupp
+ */
+package tools.vitruv.applications.asemsysml.tests.benchmark.trace;
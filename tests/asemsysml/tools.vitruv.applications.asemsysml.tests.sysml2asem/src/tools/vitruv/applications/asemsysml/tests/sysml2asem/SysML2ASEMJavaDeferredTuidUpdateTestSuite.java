@@ -0,0 +1,50 @@
+package tools.vitruv.applications.asemsysml.tests.sysml2asem;
+
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.runner.RunWith;
+import org.junit.runners.Suite;
+import org.junit.runners.Suite.SuiteClasses;
+
+import tools.vitruv.applications.asemsysml.java.sysml2asem.global.SysML2ASEMJavaChangePropagationSpecification;
+import tools.vitruv.applications.asemsysml.java.sysml2asem.global.TuidUpdateMode;
+import tools.vitruv.applications.asemsysml.tests.ASEMSysMLTest;
+import tools.vitruv.applications.asemsysml.tests.sysml2asem.testcases.BlockMappingTransformationTest;
+import tools.vitruv.applications.asemsysml.tests.sysml2asem.testcases.GeneratedModelMappingTest;
+import tools.vitruv.applications.asemsysml.tests.sysml2asem.testcases.PartMappingTransformationTest;
+import tools.vitruv.applications.asemsysml.tests.sysml2asem.testcases.PortMappingTransformationTest;
+import tools.vitruv.applications.asemsysml.tests.sysml2asem.testcases.PropertyMappingTest;
+import tools.vitruv.applications.asemsysml.tests.sysml2asem.testcases.RenameTransformationTest;
+import tools.vitruv.applications.asemsysml.tests.util.ASEMSysMLTestHelper.TransformationType;
+
+/**
+ * Runs the mapping test cases of the <b>java transformations</b> with TUID updates which are
+ * deferred to the end of each propagated change (see {@link TuidUpdateMode#PER_BATCH}). The
+ * deferred TUID updates must lead to the same mapping as the immediate updates.
+ * 
+ * @author Benjamin Rupp
+ */
+@RunWith(Suite.class)
+@SuiteClasses({ BlockMappingTransformationTest.class, PartMappingTransformationTest.class,
+        PortMappingTransformationTest.class, RenameTransformationTest.class, PropertyMappingTest.class,
+        GeneratedModelMappingTest.class })
+public final class SysML2ASEMJavaDeferredTuidUpdateTestSuite {
+
+    /**
+     * Set up the transformation type and the TUID update mode for all test cases.
+     */
+    @BeforeClass
+    public static void setUpTestCases() {
+        ASEMSysMLTest.setTransformationType(TransformationType.JAVA);
+        System.setProperty(SysML2ASEMJavaChangePropagationSpecification.PROPERTY_TUID_UPDATE_MODE,
+                TuidUpdateMode.PER_BATCH.name());
+    }
+
+    /**
+     * Restore the default TUID update mode.
+     */
+    @AfterClass
+    public static void tearDownTestCases() {
+        System.clearProperty(SysML2ASEMJavaChangePropagationSpecification.PROPERTY_TUID_UPDATE_MODE);
+    }
+}
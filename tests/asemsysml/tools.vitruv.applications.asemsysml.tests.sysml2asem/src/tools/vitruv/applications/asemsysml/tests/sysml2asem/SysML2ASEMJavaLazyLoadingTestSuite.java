@@ -0,0 +1,53 @@
+package tools.vitruv.applications.asemsysml.tests.sysml2asem;
+
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.runner.RunWith;
+import org.junit.runners.Suite;
+import org.junit.runners.Suite.SuiteClasses;
+
+import tools.vitruv.applications.asemsysml.ASEMModelResourceCache;
+import tools.vitruv.applications.asemsysml.tests.ASEMSysMLTest;
+import tools.vitruv.applications.asemsysml.tests.sysml2asem.testcases.ASEMModelResourceCacheTest;
+import tools.vitruv.applications.asemsysml.tests.sysml2asem.testcases.BlockMappingTransformationTest;
+import tools.vitruv.applications.asemsysml.tests.sysml2asem.testcases.GeneratedModelMappingTest;
+import tools.vitruv.applications.asemsysml.tests.sysml2asem.testcases.PartMappingTransformationTest;
+import tools.vitruv.applications.asemsysml.tests.sysml2asem.testcases.PortMappingTransformationTest;
+import tools.vitruv.applications.asemsysml.tests.sysml2asem.testcases.PropertyMappingTest;
+import tools.vitruv.applications.asemsysml.tests.sysml2asem.testcases.RenameTransformationTest;
+import tools.vitruv.applications.asemsysml.tests.util.ASEMSysMLTestHelper.TransformationType;
+
+/**
+ * Runs the mapping test cases of the <b>java transformations</b> with lazily loaded ASEM component
+ * models (see {@link ASEMModelResourceCache}). Only a single component model is kept loaded, so
+ * that the models accessed by the previous propagations are unloaded at the end of nearly each
+ * propagation. The unloaded models must be loaded again transparently and lead to the same
+ * mapping. The {@link ASEMModelResourceCacheTest} checks the loads and evictions of the cache.
+ * 
+ * @author Benjamin Rupp
+ */
+@RunWith(Suite.class)
+@SuiteClasses({ BlockMappingTransformationTest.class, PartMappingTransformationTest.class,
+        PortMappingTransformationTest.class, RenameTransformationTest.class, PropertyMappingTest.class,
+        GeneratedModelMappingTest.class, ASEMModelResourceCacheTest.class })
+public final class SysML2ASEMJavaLazyLoadingTestSuite {
+
+    /**
+     * Set up the transformation type and enable the lazy loading for all test cases.
+     */
+    @BeforeClass
+    public static void setUpTestCases() {
+        ASEMSysMLTest.setTransformationType(TransformationType.JAVA);
+        System.setProperty(ASEMModelResourceCache.PROPERTY_LAZY_LOADING, Boolean.TRUE.toString());
+        System.setProperty(ASEMModelResourceCache.PROPERTY_MAX_LOADED_MODELS, "1");
+    }
+
+    /**
+     * Restore the default loading of the ASEM models.
+     */
+    @AfterClass
+    public static void tearDownTestCases() {
+        System.clearProperty(ASEMModelResourceCache.PROPERTY_LAZY_LOADING);
+        System.clearProperty(ASEMModelResourceCache.PROPERTY_MAX_LOADED_MODELS);
+    }
+}
@@ -0,0 +1,49 @@
+package tools.vitruv.applications.asemsysml.tests.sysml2asem;
+
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.runner.RunWith;
+import org.junit.runners.Suite;
+import org.junit.runners.Suite.SuiteClasses;
+
+import tools.vitruv.applications.asemsysml.ASEMSysMLProjectInitializer;
+import tools.vitruv.applications.asemsysml.tests.ASEMSysMLTest;
+import tools.vitruv.applications.asemsysml.tests.sysml2asem.testcases.BlockMappingTransformationTest;
+import tools.vitruv.applications.asemsysml.tests.sysml2asem.testcases.GeneratedModelMappingTest;
+import tools.vitruv.applications.asemsysml.tests.sysml2asem.testcases.ModelInitializationTest;
+import tools.vitruv.applications.asemsysml.tests.sysml2asem.testcases.PartMappingTransformationTest;
+import tools.vitruv.applications.asemsysml.tests.sysml2asem.testcases.PortMappingTransformationTest;
+import tools.vitruv.applications.asemsysml.tests.sysml2asem.testcases.PropertyMappingTest;
+import tools.vitruv.applications.asemsysml.tests.sysml2asem.testcases.RenameTransformationTest;
+import tools.vitruv.applications.asemsysml.tests.util.ASEMSysMLTestHelper.TransformationType;
+
+/**
+ * Runs the mapping test cases of the <b>java transformations</b> on test projects which were
+ * initialized by the {@link ASEMSysMLProjectInitializer}. The initialized projects must lead to the
+ * same mapping as the projects which were initialized by the transformations.
+ * 
+ * @author Benjamin Rupp
+ */
+@RunWith(Suite.class)
+@SuiteClasses({ ModelInitializationTest.class, BlockMappingTransformationTest.class,
+        PartMappingTransformationTest.class, PortMappingTransformationTest.class, RenameTransformationTest.class,
+        PropertyMappingTest.class, GeneratedModelMappingTest.class })
+public final class SysML2ASEMJavaProjectInitializerTestSuite {
+
+    /**
+     * Set up the transformation type and the project initializer for all test cases.
+     */
+    @BeforeClass
+    public static void setUpTestCases() {
+        ASEMSysMLTest.setTransformationType(TransformationType.JAVA);
+        SysML2ASEMTest.setProjectInitializerUsed(true);
+    }
+
+    /**
+     * Restore the initialization by the transformations.
+     */
+    @AfterClass
+    public static void tearDownTestCases() {
+        SysML2ASEMTest.setProjectInitializerUsed(false);
+    }
+}
@@ -6,12 +6,29 @@ import org.junit.runners.Suite;
 import org.junit.runners.Suite.SuiteClasses;
 
 import tools.vitruv.applications.asemsysml.tests.ASEMSysMLTest;
+import tools.vitruv.applications.asemsysml.tests.sysml2asem.testcases.ASEMMethodIndexTest;
+import tools.vitruv.applications.asemsysml.tests.sysml2asem.testcases.ASEMSysMLConnectorIndexTest;
+import tools.vitruv.applications.asemsysml.tests.sysml2asem.testcases.ASEMSysMLCorrespondenceIndexTest;
+import tools.vitruv.applications.asemsysml.tests.sysml2asem.testcases.ASEMSysMLPrimitiveTypeRegistryTest;
+import tools.vitruv.applications.asemsysml.tests.sysml2asem.testcases.ASEMSysMLProfileCacheTest;
+import tools.vitruv.applications.asemsysml.tests.sysml2asem.testcases.ASEMSysMLResourceFormatTest;
+import tools.vitruv.applications.asemsysml.tests.sysml2asem.testcases.ASEMSysMLStereotypeCacheTest;
 import tools.vitruv.applications.asemsysml.tests.sysml2asem.testcases.BlockMappingTransformationTest;
+import tools.vitruv.applications.asemsysml.tests.sysml2asem.testcases.BulkTransformationTest;
+import tools.vitruv.applications.asemsysml.tests.sysml2asem.testcases.ConcurrentTransformationExecutionTest;
+import tools.vitruv.applications.asemsysml.tests.sysml2asem.testcases.GeneratedModelMappingTest;
 import tools.vitruv.applications.asemsysml.tests.sysml2asem.testcases.ModelInitializationTest;
 import tools.vitruv.applications.asemsysml.tests.sysml2asem.testcases.PartMappingTransformationTest;
 import tools.vitruv.applications.asemsysml.tests.sysml2asem.testcases.PortMappingTransformationTest;
+import tools.vitruv.applications.asemsysml.tests.sysml2asem.testcases.PreconditionEvaluationTest;
+import tools.vitruv.applications.asemsysml.tests.sysml2asem.testcases.ProjectInitializerTest;
 import tools.vitruv.applications.asemsysml.tests.sysml2asem.testcases.PropertyMappingTest;
 import tools.vitruv.applications.asemsysml.tests.sysml2asem.testcases.RenameTransformationTest;
+import tools.vitruv.applications.asemsysml.tests.sysml2asem.testcases.ResourceFormatInstallationTest;
+import tools.vitruv.applications.asemsysml.tests.sysml2asem.testcases.TransformationEventLogTest;
+import tools.vitruv.applications.asemsysml.tests.sysml2asem.testcases.TransformationMetricsTest;
+import tools.vitruv.applications.asemsysml.tests.sysml2asem.testcases.TuidUpdateModeTest;
+import tools.vitruv.applications.asemsysml.tests.sysml2asem.testcases.UnmodifiedModelPersistenceTest;
 import tools.vitruv.applications.asemsysml.tests.util.ASEMSysMLTestHelper.TransformationType;
 
 /**
@@ -23,7 +40,13 @@ import tools.vitruv.applications.asemsysml.tests.util.ASEMSysMLTestHelper.Transf
 @RunWith(Suite.class)
 @SuiteClasses({ ModelInitializationTest.class, BlockMappingTransformationTest.class,
         PartMappingTransformationTest.class, PortMappingTransformationTest.class, RenameTransformationTest.class,
-        PropertyMappingTest.class })
+        PropertyMappingTest.class, ConcurrentTransformationExecutionTest.class, GeneratedModelMappingTest.class,
+        TransformationMetricsTest.class, TransformationEventLogTest.class, BulkTransformationTest.class,
+        TuidUpdateModeTest.class, ASEMMethodIndexTest.class, ASEMSysMLConnectorIndexTest.class,
+        ASEMSysMLProfileCacheTest.class, ProjectInitializerTest.class,
+        UnmodifiedModelPersistenceTest.class, ASEMSysMLResourceFormatTest.class, PreconditionEvaluationTest.class,
+        ASEMSysMLCorrespondenceIndexTest.class, ASEMSysMLPrimitiveTypeRegistryTest.class,
+        ASEMSysMLStereotypeCacheTest.class, ResourceFormatInstallationTest.class })
 public final class SysML2ASEMJavaTestSuite {
 
     /**
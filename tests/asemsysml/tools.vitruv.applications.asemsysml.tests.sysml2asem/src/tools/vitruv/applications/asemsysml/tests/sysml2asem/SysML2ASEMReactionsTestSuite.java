@@ -7,11 +7,15 @@ import org.junit.runners.Suite.SuiteClasses;
 
 import tools.vitruv.applications.asemsysml.tests.ASEMSysMLTest;
 import tools.vitruv.applications.asemsysml.tests.sysml2asem.testcases.BlockMappingTransformationTest;
+import tools.vitruv.applications.asemsysml.tests.sysml2asem.testcases.GeneratedModelMappingTest;
 import tools.vitruv.applications.asemsysml.tests.sysml2asem.testcases.ModelInitializationTest;
 import tools.vitruv.applications.asemsysml.tests.sysml2asem.testcases.PartMappingTransformationTest;
 import tools.vitruv.applications.asemsysml.tests.sysml2asem.testcases.PortMappingTransformationTest;
 import tools.vitruv.applications.asemsysml.tests.sysml2asem.testcases.PropertyMappingTest;
 import tools.vitruv.applications.asemsysml.tests.sysml2asem.testcases.RenameTransformationTest;
+import tools.vitruv.applications.asemsysml.tests.sysml2asem.testcases.ResourceFormatInstallationTest;
+import tools.vitruv.applications.asemsysml.tests.sysml2asem.testcases.TransformationEventLogTest;
+import tools.vitruv.applications.asemsysml.tests.sysml2asem.testcases.TransformationMetricsTest;
 import tools.vitruv.applications.asemsysml.tests.util.ASEMSysMLTestHelper.TransformationType;
 
 /**
@@ -23,7 +27,8 @@ import tools.vitruv.applications.asemsysml.tests.util.ASEMSysMLTestHelper.Transf
 @RunWith(Suite.class)
 @SuiteClasses({ ModelInitializationTest.class, BlockMappingTransformationTest.class,
         PartMappingTransformationTest.class, PortMappingTransformationTest.class, RenameTransformationTest.class,
-        PropertyMappingTest.class })
+        PropertyMappingTest.class, GeneratedModelMappingTest.class, TransformationMetricsTest.class,
+        TransformationEventLogTest.class, ResourceFormatInstallationTest.class })
 public final class SysML2ASEMReactionsTestSuite {
 
     /**
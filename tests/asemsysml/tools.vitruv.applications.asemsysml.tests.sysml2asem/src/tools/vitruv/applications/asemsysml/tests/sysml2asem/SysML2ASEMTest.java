@@ -11,20 +11,16 @@ import java.util.List;
 
 import org.apache.log4j.Level;
 import org.apache.log4j.Logger;
-import org.eclipse.emf.common.util.URI;
 import org.eclipse.emf.ecore.EObject;
-import org.eclipse.emf.ecore.resource.Resource;
 import org.eclipse.emf.ecore.resource.ResourceSet;
-import org.eclipse.emf.ecore.util.EcoreUtil;
-import org.eclipse.papyrus.sysml14.util.SysMLResource;
 import org.eclipse.uml2.uml.Model;
-import org.eclipse.uml2.uml.Profile;
 import org.eclipse.uml2.uml.UMLFactory;
-import org.eclipse.uml2.uml.UMLPackage;
-import org.eclipse.uml2.uml.resource.UMLResource;
 
 import tools.vitruv.applications.asemsysml.ASEMSysMLHelper;
 import tools.vitruv.applications.asemsysml.ASEMSysMLPrimitiveTypeHelper;
+import tools.vitruv.applications.asemsysml.ASEMSysMLProfileCache;
+import tools.vitruv.applications.asemsysml.ASEMSysMLProjectInitializer;
+import tools.vitruv.applications.asemsysml.ASEMSysMLProjectInitializer.ModelCreator;
 import tools.vitruv.applications.asemsysml.java.sysml2asem.global.SysML2ASEMJavaChangePropagationSpecification;
 import tools.vitruv.applications.asemsysml.reactions.sysml2asem.global.SysML2ASEMChangePropagationSpecification;
 import tools.vitruv.applications.asemsysml.tests.ASEMSysMLTest;
@@ -43,34 +39,53 @@ import tools.vitruv.framework.domains.VitruvDomain;
  */
 public class SysML2ASEMTest extends ASEMSysMLTest {
 
+    private static boolean projectInitializerUsed = false;
+
+    /**
+     * Set whether the test project is initialized by the {@link ASEMSysMLProjectInitializer}
+     * instead of the transformation of the SysML primitive types.
+     * 
+     * @param used
+     *            <code>True</code> if the project initializer shall be used, otherwise
+     *            <code>false</code>.
+     */
+    public static void setProjectInitializerUsed(final boolean used) {
+        projectInitializerUsed = used;
+    }
+
     @Override
     protected void setup() {
 
-        try {
+        Logger.getRootLogger().setLevel(Level.INFO);
 
-            Logger.getRootLogger().setLevel(Level.INFO);
+        installResourceFormat();
 
-            Model sysmlModel = UMLFactory.eINSTANCE.createModel();
-            sysmlModel.setName(TEST_SYSML_MODEL_NAME);
+        ResourceSet resourceSet = getCorrespondenceModel().getResource().getResourceSet();
 
-            ResourceSet resourceSet = getCorrespondenceModel().getResource().getResourceSet();
+        if (projectInitializerUsed) {
 
-            Resource umlStdProfileResource = resourceSet.getResource(URI.createURI(UMLResource.STANDARD_PROFILE_URI),
-                    true);
-            Profile umlStdProfile = (Profile) EcoreUtil.getObjectByType(umlStdProfileResource.getContents(),
-                    UMLPackage.Literals.PACKAGE);
-            sysmlModel.applyProfile(umlStdProfile);
+            ASEMSysMLPrimitiveTypeHelper.resetRepoInitializationFlag(resourceSet);
+            ASEMSysMLProjectInitializer.initialize(resourceSet, "", new ModelCreator() {
+                @Override
+                public void createAndSynchronizeModel(final String projectModelPath, final EObject rootElement) {
+                    createAndSynchronizeModelWrapper(projectModelPath, rootElement);
+                }
+            });
+            return;
+        }
+
+        try {
+
+            Model sysmlModel = UMLFactory.eINSTANCE.createModel();
+            sysmlModel.setName(TEST_SYSML_MODEL_NAME);
 
-            Resource sysmlProfileResource = resourceSet.getResource(URI.createURI(SysMLResource.PROFILE_PATH), true);
-            Profile sysmlProfile = (Profile) EcoreUtil.getObjectByType(sysmlProfileResource.getContents(),
-                    UMLPackage.Literals.PACKAGE);
-            sysmlModel.applyProfile(sysmlProfile);
+            ASEMSysMLProfileCache.applyUMLStandardAndSysMLProfiles(sysmlModel, resourceSet);
 
             String projectModelPath = ASEMSysMLHelper.getProjectModelPath(TEST_SYSML_MODEL_NAME,
                     SysMlNamspace.FILE_EXTENSION);
             createAndSynchronizeModel(projectModelPath, sysmlModel);
 
-            ASEMSysMLPrimitiveTypeHelper.resetRepoInitializationFlag();
+            ASEMSysMLPrimitiveTypeHelper.resetRepoInitializationFlag(resourceSet);
 
             // Add primitive types to SysML model after the model element was saved and
             // synchronized! This is necessary for VITRUV to detect the primitive type changes.
@@ -0,0 +1,165 @@
+package tools.vitruv.applications.asemsysml.tests.sysml2asem.testcases;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.emf.ecore.xmi.impl.XMIResourceFactoryImpl;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import edu.kit.ipd.sdq.ASEM.classifiers.Class;
+import edu.kit.ipd.sdq.ASEM.classifiers.ClassifiersFactory;
+import edu.kit.ipd.sdq.ASEM.dataexchange.DataexchangeFactory;
+import edu.kit.ipd.sdq.ASEM.dataexchange.Method;
+import tools.vitruv.applications.asemsysml.ASEMMethodIndex;
+import tools.vitruv.applications.asemsysml.ASEMSysMLHelper;
+
+/**
+ * Class for all test cases checking that the {@link ASEMMethodIndex} keeps track of the methods
+ * of an ASEM model resource.
+ *
+ * @author Benjamin Rupp
+ *
+ */
+public class ASEMMethodIndexTest {
+
+    private static final String ASEM_FILE_EXTENSION = "asem";
+
+    private File modelFile;
+    private Resource asemResource;
+    private Class asemClass;
+    private Method methodA;
+    private Method methodB;
+
+    @Before
+    public void setUpResource() throws IOException {
+
+        this.modelFile = File.createTempFile("ASEMMethodIndexTest", "." + ASEM_FILE_EXTENSION);
+
+        final ResourceSet resourceSet = new ResourceSetImpl();
+        resourceSet.getResourceFactoryRegistry().getExtensionToFactoryMap().put(ASEM_FILE_EXTENSION,
+                new XMIResourceFactoryImpl());
+        this.asemResource = resourceSet.createResource(URI.createFileURI(this.modelFile.getAbsolutePath()));
+
+        this.asemClass = ClassifiersFactory.eINSTANCE.createClass();
+        this.asemClass.setName("IndexedClass");
+        this.methodA = createMethod("methodA");
+        this.methodB = createMethod("methodB");
+        this.asemClass.getMethods().addAll(Arrays.asList(this.methodA, this.methodB));
+        this.asemResource.getContents().add(this.asemClass);
+    }
+
+    @After
+    public void deleteModelFile() {
+        this.modelFile.delete();
+    }
+
+    /**
+     * Setting and unsetting the return type of a method must update the methods without return
+     * type.
+     */
+    @Test
+    public void testIfReturnTypeChangesAreIndexed() {
+
+        final ASEMMethodIndex index = ASEMMethodIndex.getIndex(this.asemResource);
+        assertEquals("Unexpected methods without return type!", Arrays.asList(this.methodA, this.methodB),
+                index.getMethodsWithoutReturnType());
+
+        this.methodA.setReturnType(DataexchangeFactory.eINSTANCE.createReturnType());
+        this.methodB.setReturnType(DataexchangeFactory.eINSTANCE.createReturnType());
+
+        assertTrue("Methods were lost!", index.hasMethods());
+        assertFalse("Methods with return type are indexed as methods without return type!",
+                index.hasMethodsWithoutReturnType());
+        assertTrue("Methods with return type are listed as methods without return type!",
+                index.getMethodsWithoutReturnType().isEmpty());
+
+        this.methodB.setReturnType(null);
+
+        assertTrue("Unset return type was not indexed!", index.hasMethodsWithoutReturnType());
+        assertEquals("Unexpected methods without return type!", Collections.singletonList(this.methodB),
+                index.getMethodsWithoutReturnType());
+    }
+
+    /**
+     * Removing the root element from its resource and adding it again, as done by the java
+     * transformations when an ASEM element is persisted, must remove and restore its methods.
+     */
+    @Test
+    public void testIfRootElementRemovalIsIndexed() {
+
+        final ASEMMethodIndex index = ASEMMethodIndex.getIndex(this.asemResource);
+        assertTrue("Methods were not indexed!", index.hasMethods());
+
+        EcoreUtil.remove(this.asemClass);
+
+        assertFalse("Methods of the removed root element are still indexed!", index.hasMethods());
+        assertTrue("Methods of the removed root element are still listed!", index.getMethods().isEmpty());
+
+        // Changes of the removed root element must not affect the index.
+        this.asemClass.getMethods().add(createMethod("methodC"));
+        assertFalse("Method of the removed root element was indexed!", index.hasMethods());
+
+        this.asemResource.getContents().add(this.asemClass);
+
+        assertEquals("Methods of the added root element were not indexed!", this.asemClass.getMethods(),
+                index.getMethods());
+        assertTrue("Methods without return type were not indexed!", index.hasMethodsWithoutReturnType());
+    }
+
+    /**
+     * Unloading the resource must remove all methods and reloading it must index the loaded
+     * methods.
+     */
+    @Test
+    public void testIfUnloadAndReloadAreIndexed() throws IOException {
+
+        this.methodA.setReturnType(DataexchangeFactory.eINSTANCE.createReturnType());
+        this.asemResource.save(Collections.emptyMap());
+
+        final ASEMMethodIndex index = ASEMMethodIndex.getIndex(this.asemResource);
+        this.asemResource.unload();
+
+        assertFalse("Methods of the unloaded resource are still indexed!", index.hasMethods());
+        assertTrue("Methods of the unloaded resource are still listed!", index.getMethods().isEmpty());
+
+        this.asemResource.load(Collections.emptyMap());
+
+        final Class reloadedClass = (Class) this.asemResource.getContents().get(0);
+        assertEquals("Methods of the reloaded resource were not indexed!", reloadedClass.getMethods(),
+                index.getMethods());
+        assertEquals("Unexpected methods without return type!", 1, index.getMethodsWithoutReturnType().size());
+
+        // The reloaded methods must be observed again.
+        reloadedClass.getMethods().get(1).setReturnType(DataexchangeFactory.eINSTANCE.createReturnType());
+        assertFalse("Return type of a reloaded method was not indexed!", index.hasMethodsWithoutReturnType());
+    }
+
+    /**
+     * The method lists of the helper must not allow to modify the index.
+     */
+    @Test(expected = UnsupportedOperationException.class)
+    public void testIfMethodListIsUnmodifiable() {
+        ASEMSysMLHelper.getAllASEMMethods(this.asemResource).clear();
+    }
+
+    private static Method createMethod(final String name) {
+
+        final Method method = DataexchangeFactory.eINSTANCE.createMethod();
+        method.setName(name);
+
+        return method;
+    }
+}
@@ -0,0 +1,165 @@
+package tools.vitruv.applications.asemsysml.tests.sysml2asem.testcases;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Collections;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.eclipse.emf.ecore.xmi.impl.XMIResourceFactoryImpl;
+import org.eclipse.papyrus.sysml14.blocks.Block;
+import org.eclipse.papyrus.sysml14.portsandflows.FlowDirection;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import edu.kit.ipd.sdq.ASEM.classifiers.Class;
+import edu.kit.ipd.sdq.ASEM.classifiers.ClassifiersFactory;
+import edu.kit.ipd.sdq.ASEM.classifiers.Component;
+import edu.kit.ipd.sdq.ASEM.classifiers.Module;
+import tools.vitruv.applications.asemsysml.ASEMModelResourceCache;
+import tools.vitruv.applications.asemsysml.ASEMSysMLHelper;
+import tools.vitruv.applications.asemsysml.ASEMSysMLPrimitiveTypeHelper;
+import tools.vitruv.applications.asemsysml.java.sysml2asem.global.SysML2ASEMJavaChangePropagationSpecification;
+import tools.vitruv.applications.asemsysml.tests.sysml2asem.SysML2ASEMTest;
+import tools.vitruv.applications.asemsysml.tests.util.ASEMSysMLTestHelper;
+import tools.vitruv.domains.asem.AsemNamespace;
+import tools.vitruv.framework.change.processing.ChangePropagationSpecification;
+
+/**
+ * Class for all test cases checking that the {@link ASEMModelResourceCache} unloads the least
+ * recently used ASEM component models only at the end of a propagation and loads them again on
+ * their next access. Only a single component model is kept loaded.
+ *
+ * @author Benjamin Rupp
+ *
+ */
+public class ASEMModelResourceCacheTest extends SysML2ASEMTest {
+
+    private static final String BLOCK_NAME_A = "CachedBlockA";
+    private static final String BLOCK_NAME_B = "CachedBlockB";
+
+    private static String lazyLoadingBefore;
+    private static String maxLoadedModelsBefore;
+
+    @BeforeClass
+    public static void enableLazyLoading() {
+        lazyLoadingBefore = System.setProperty(ASEMModelResourceCache.PROPERTY_LAZY_LOADING,
+                Boolean.TRUE.toString());
+        maxLoadedModelsBefore = System.setProperty(ASEMModelResourceCache.PROPERTY_MAX_LOADED_MODELS, "1");
+    }
+
+    @AfterClass
+    public static void restoreLazyLoading() {
+        restoreProperty(ASEMModelResourceCache.PROPERTY_LAZY_LOADING, lazyLoadingBefore);
+        restoreProperty(ASEMModelResourceCache.PROPERTY_MAX_LOADED_MODELS, maxLoadedModelsBefore);
+    }
+
+    @Override
+    protected Iterable<ChangePropagationSpecification> createChangePropagationSpecifications() {
+        // The java transformations evict the unused models at the end of each propagation.
+        return Collections.<ChangePropagationSpecification> singletonList(
+                new SysML2ASEMJavaChangePropagationSpecification());
+    }
+
+    /**
+     * A part reference transformation accesses the component models of both blocks, although only
+     * one model can be kept loaded. Neither model must be unloaded while the transformation is
+     * executed. At the end of the propagation the unmodified model of the part block is unloaded,
+     * while the modified model of the block with the part stays loaded. The unloaded model is loaded
+     * again on its next access.
+     */
+    @Test
+    public void testIfModelsAreEvictedAfterPropagation() {
+
+        final ASEMModelResourceCache cache = ASEMModelResourceCache
+                .getInstance(this.getCorrespondenceModel().getResource().getResourceSet());
+        final Resource sysmlModelResource = this.getModelResource(sysmlProjectModelPath);
+
+        final Block blockA = ASEMSysMLTestHelper.createSysMLBlockAddToModelAndSync(sysmlModelResource, BLOCK_NAME_A,
+                true, Class.class, this);
+        final Block blockB = ASEMSysMLTestHelper.createSysMLBlockAddToModelAndSync(sysmlModelResource, BLOCK_NAME_B,
+                true, Class.class, this);
+        final Resource asemModelResourceA = this.getASEMModelResource(BLOCK_NAME_A);
+        final Resource asemModelResourceB = this.getASEMModelResource(BLOCK_NAME_B);
+
+        // Persisting the ports starts the modification tracking of the component models.
+        ASEMSysMLTestHelper.createUMLPortAddToBlockAndSync(blockA, "PortA", FlowDirection.IN,
+                ASEMSysMLPrimitiveTypeHelper.PRIMITIVE_TYPE_BOOLEAN, this);
+
+        long evictionsBefore = cache.getNumberOfEvictions();
+
+        ASEMSysMLTestHelper.createUMLPortAddToBlockAndSync(blockB, "PortB", FlowDirection.IN,
+                ASEMSysMLPrimitiveTypeHelper.PRIMITIVE_TYPE_BOOLEAN, this);
+
+        assertEquals("The least recently used model was not unloaded!", evictionsBefore + 1,
+                cache.getNumberOfEvictions());
+        assertFalse("The least recently used model is still loaded!", asemModelResourceA.isLoaded());
+        assertTrue("The modified model was unloaded!", asemModelResourceB.isLoaded());
+
+        evictionsBefore = cache.getNumberOfEvictions();
+
+        ASEMSysMLTestHelper.createPartReferenceForBlockAndSync("partB", blockA, blockB, this);
+
+        assertEquals("Unexpected number of unloaded models!", evictionsBefore + 1, cache.getNumberOfEvictions());
+        assertEquals("Unexpected number of loaded models!", 1, cache.getNumberOfLoadedModels());
+        assertTrue("The modified model was unloaded!", asemModelResourceA.isLoaded());
+        assertFalse("The unmodified model is still loaded!", asemModelResourceB.isLoaded());
+
+        final long loadsBefore = cache.getNumberOfLoads();
+
+        final Resource loadedResourceB = ASEMSysMLHelper.getModelResource(this.getCorrespondenceModel(), blockB,
+                ASEMSysMLHelper.getASEMProjectModelPath(BLOCK_NAME_B));
+
+        assertSame("The unloaded model was not reused!", asemModelResourceB, loadedResourceB);
+        assertTrue("The unloaded model was not loaded again!", loadedResourceB.isLoaded());
+        assertEquals("Unexpected number of loads!", loadsBefore + 1, cache.getNumberOfLoads());
+
+        final Component componentA = ASEMSysMLHelper.getFirstCorrespondingASEMElement(this.getCorrespondenceModel(),
+                blockA, Component.class);
+        final Component componentB = ASEMSysMLHelper.getFirstCorrespondingASEMElement(this.getCorrespondenceModel(),
+                blockB, Component.class);
+
+        assertTrue("The part reference was not added to the component!",
+                ASEMSysMLTestHelper.doesPartReferenceExists(componentA, componentB));
+    }
+
+    /**
+     * The cache must be attached to its resource set and must forget the component models which
+     * are removed from the resource set.
+     */
+    @Test
+    public void testIfRemovedModelsAreForgotten() {
+
+        final ResourceSet resourceSet = new ResourceSetImpl();
+        resourceSet.getResourceFactoryRegistry().getExtensionToFactoryMap().put(AsemNamespace.FILE_EXTENSION,
+                new XMIResourceFactoryImpl());
+
+        final ASEMModelResourceCache cache = ASEMModelResourceCache.getInstance(resourceSet);
+        assertTrue("The cache is not attached to its resource set!", resourceSet.eAdapters().contains(cache));
+
+        final Resource asemModelResource = resourceSet.createResource(URI.createURI(
+                ASEMSysMLHelper.getASEMModelName(BLOCK_NAME_A) + "." + AsemNamespace.FILE_EXTENSION));
+        final Module module = ClassifiersFactory.eINSTANCE.createModule();
+        asemModelResource.getContents().add(module);
+
+        cache.accessElements(Collections.singletonList(module));
+        assertEquals("The accessed model was not cached!", 1, cache.getNumberOfLoadedModels());
+
+        resourceSet.getResources().remove(asemModelResource);
+        assertEquals("The removed model is still cached!", 0, cache.getNumberOfLoadedModels());
+    }
+
+    private static void restoreProperty(final String key, final String value) {
+        if (value == null) {
+            System.clearProperty(key);
+        } else {
+            System.setProperty(key, value);
+        }
+    }
+}
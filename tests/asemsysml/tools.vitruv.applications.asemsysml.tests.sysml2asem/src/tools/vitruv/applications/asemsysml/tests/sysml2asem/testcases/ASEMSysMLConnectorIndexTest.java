@@ -0,0 +1,186 @@
+package tools.vitruv.applications.asemsysml.tests.sysml2asem.testcases;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.uml2.uml.Class;
+import org.eclipse.uml2.uml.ConnectableElement;
+import org.eclipse.uml2.uml.Connector;
+import org.eclipse.uml2.uml.ConnectorEnd;
+import org.eclipse.uml2.uml.Model;
+import org.eclipse.uml2.uml.Port;
+import org.eclipse.uml2.uml.Property;
+import org.eclipse.uml2.uml.UMLFactory;
+import org.eclipse.uml2.uml.resource.UMLResource;
+import org.junit.Before;
+import org.junit.Test;
+
+import tools.vitruv.applications.asemsysml.ASEMSysMLConnectorIndex;
+import tools.vitruv.applications.asemsysml.ASEMSysMLHelper;
+
+/**
+ * Class for all test cases checking the connector queries of the {@link ASEMSysMLHelper} which use
+ * the {@link ASEMSysMLConnectorIndex}.
+ *
+ * @author Benjamin Rupp
+ *
+ */
+public class ASEMSysMLConnectorIndexTest {
+
+    private ResourceSet resourceSet;
+    private Model model;
+    private Class blockClass;
+    private Port port;
+    private Property property;
+    private Property otherProperty;
+
+    @Before
+    public void setUpModel() {
+
+        this.resourceSet = new ResourceSetImpl();
+        this.resourceSet.getResourceFactoryRegistry().getExtensionToFactoryMap().put(UMLResource.FILE_EXTENSION,
+                UMLResource.Factory.INSTANCE);
+
+        this.model = UMLFactory.eINSTANCE.createModel();
+        this.createResource("ConnectorModel").getContents().add(this.model);
+
+        this.blockClass = (Class) this.model.createPackagedElement("ConnectedBlock",
+                UMLFactory.eINSTANCE.getUMLPackage().getClass_());
+        this.port = this.blockClass.createOwnedPort("Port", null);
+        this.property = this.blockClass.createOwnedAttribute("Property", null);
+        this.otherProperty = this.blockClass.createOwnedAttribute("OtherProperty", null);
+    }
+
+    /**
+     * The connector ends of an element must follow added and removed connectors and changed roles.
+     */
+    @Test
+    public void testIfConnectorEndsAreIndexed() {
+
+        final Connector portConnector = connect(this.blockClass, this.property, this.port);
+        final ConnectorEnd propertyEnd = portConnector.getEnds().get(0);
+        final Connector propertyConnector = connect(this.blockClass, this.property, this.otherProperty);
+
+        assertEquals("Unexpected connector ends of the property!",
+                Arrays.asList(propertyEnd, propertyConnector.getEnds().get(0)),
+                ASEMSysMLHelper.getConnectorEnds(this.property));
+        assertEquals("Unexpected connector ends of the port!", portConnector.getEnds().subList(1, 2),
+                ASEMSysMLHelper.getConnectorEnds(this.port));
+
+        propertyEnd.setRole(this.otherProperty);
+
+        assertEquals("Changed role was not indexed!", propertyConnector.getEnds().subList(0, 1),
+                ASEMSysMLHelper.getConnectorEnds(this.property));
+        assertEquals("Changed role was not indexed!", 2, ASEMSysMLHelper.getConnectorEnds(this.otherProperty).size());
+
+        EcoreUtil.delete(portConnector);
+
+        assertTrue("Ends of the removed connector are still indexed!",
+                ASEMSysMLHelper.getConnectorEnds(this.port).isEmpty());
+        assertEquals("Ends of the removed connector are still indexed!", 1,
+                ASEMSysMLHelper.getConnectorEnds(this.otherProperty).size());
+    }
+
+    /**
+     * The connected elements of an element must be the roles of the other ends of its connectors.
+     */
+    @Test
+    public void testIfConnectedElementsAreFound() {
+
+        connect(this.blockClass, this.property, this.port);
+        connect(this.blockClass, this.otherProperty, this.property);
+
+        assertEquals("Unexpected connected elements!", Arrays.<ConnectableElement> asList(this.port, this.otherProperty),
+                ASEMSysMLHelper.getConnectedElements(this.property));
+        assertEquals("Unexpected connected elements!", Collections.<ConnectableElement> singletonList(this.property),
+                ASEMSysMLHelper.getConnectedElements(this.port));
+    }
+
+    /**
+     * Only elements which have a connector to a port must be treated as connected to a port.
+     */
+    @Test
+    public void testIfConnectionToPortIsDetected() {
+
+        connect(this.blockClass, this.otherProperty, this.property);
+
+        assertFalse("Property is not connected to a port!", ASEMSysMLHelper.isConnectedToPort(this.property));
+
+        connect(this.blockClass, this.property, this.port);
+
+        assertTrue("Property is connected to a port!", ASEMSysMLHelper.isConnectedToPort(this.property));
+        assertTrue("Property is connected to a port!", ASEMSysMLHelper.isPropertyAPortProperty(this.property));
+        assertFalse("Property is not connected to a port!", ASEMSysMLHelper.isConnectedToPort(this.otherProperty));
+    }
+
+    /**
+     * A connector which connects elements of different resources of a partitioned model must be
+     * found for both elements.
+     */
+    @Test
+    public void testIfConnectorsAcrossResourcesAreIndexed() {
+
+        final Class partClass = (Class) this.model.createPackagedElement("PartBlock",
+                UMLFactory.eINSTANCE.getUMLPackage().getClass_());
+        final Port partPort = partClass.createOwnedPort("PartPort", null);
+
+        // Cross resource containment as used by the partitioned SysML model.
+        this.createResource("PartBlock").getContents().add(partClass);
+        assertTrue("The part block is not stored in its own resource!",
+                partClass.eResource() != this.blockClass.eResource());
+
+        // Index the model before the connector is added.
+        assertTrue("Unexpected connector ends!", ASEMSysMLHelper.getConnectorEnds(partPort).isEmpty());
+
+        final Connector connector = connect(this.blockClass, this.port, partPort);
+
+        assertEquals("The connector end of the other resource was not found!", connector.getEnds().subList(1, 2),
+                ASEMSysMLHelper.getConnectorEnds(partPort));
+        assertEquals("Unexpected connected elements!", Collections.<ConnectableElement> singletonList(this.port),
+                ASEMSysMLHelper.getConnectedElements(partPort));
+
+        final Connector partConnector = connect(partClass, partPort, this.property);
+
+        assertEquals("The connector of the other resource was not found!", partConnector.getEnds().subList(1, 2),
+                ASEMSysMLHelper.getConnectorEnds(this.property));
+    }
+
+    /**
+     * The index must not observe the elements which cannot contain connectors.
+     */
+    @Test
+    public void testIfOnlyConnectorContainersAreObserved() {
+
+        connect(this.blockClass, this.property, this.port);
+        ASEMSysMLHelper.getConnectorEnds(this.port);
+
+        assertNull("The index observes a port!",
+                EcoreUtil.getExistingAdapter(this.port, ASEMSysMLConnectorIndex.class));
+        assertNull("The index observes a property!",
+                EcoreUtil.getExistingAdapter(this.property, ASEMSysMLConnectorIndex.class));
+    }
+
+    private Resource createResource(final String name) {
+        return this.resourceSet.createResource(URI.createURI(name + "." + UMLResource.FILE_EXTENSION));
+    }
+
+    private static Connector connect(final Class owner, final ConnectableElement first,
+            final ConnectableElement second) {
+
+        final Connector connector = owner.createOwnedConnector(first.getName() + "To" + second.getName());
+        connector.createEnd().setRole(first);
+        connector.createEnd().setRole(second);
+
+        return connector;
+    }
+}
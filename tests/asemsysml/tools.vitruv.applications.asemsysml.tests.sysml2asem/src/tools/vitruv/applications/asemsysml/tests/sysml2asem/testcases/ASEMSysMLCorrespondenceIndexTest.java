@@ -0,0 +1,114 @@
+package tools.vitruv.applications.asemsysml.tests.sysml2asem.testcases;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Collections;
+
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.papyrus.sysml14.blocks.Block;
+import org.junit.Test;
+
+import edu.kit.ipd.sdq.ASEM.classifiers.Component;
+import edu.kit.ipd.sdq.ASEM.classifiers.Module;
+import tools.vitruv.applications.asemsysml.ASEMSysMLCorrespondenceIndex;
+import tools.vitruv.applications.asemsysml.ASEMSysMLHelper;
+import tools.vitruv.applications.asemsysml.tests.sysml2asem.SysML2ASEMTest;
+import tools.vitruv.applications.asemsysml.tests.util.ASEMSysMLTestHelper;
+import tools.vitruv.framework.correspondence.CorrespondenceModel;
+
+/**
+ * Class for all test cases checking that the {@link ASEMSysMLCorrespondenceIndex} is kept up to
+ * date while it is active.
+ *
+ * @author Benjamin Rupp
+ *
+ */
+public class ASEMSysMLCorrespondenceIndexTest extends SysML2ASEMTest {
+
+    private static final String BLOCK_NAME = "IndexedBlock";
+
+    /**
+     * Removing and adding a correspondence with the helper methods while the index is active must
+     * invalidate the indexed lookups of the affected elements.
+     */
+    @Test
+    public void testIfCorrespondenceChangesAreIndexed() {
+
+        final Resource sysmlModelResource = this.getModelResource(sysmlProjectModelPath);
+        final Block block = ASEMSysMLTestHelper.createSysMLBlockAddToModelAndSync(sysmlModelResource, BLOCK_NAME,
+                true, Module.class, this);
+
+        final CorrespondenceModel correspondenceModel = this.getCorrespondenceModel();
+
+        ASEMSysMLCorrespondenceIndex.activate(correspondenceModel);
+
+        try {
+
+            final Component component = ASEMSysMLHelper.getFirstCorrespondingASEMElement(correspondenceModel, block,
+                    Component.class);
+            assertNotNull("No corresponding ASEM component found!", component);
+            assertEquals("Unexpected corresponding ASEM elements!", Collections.<EObject> singletonList(component),
+                    ASEMSysMLHelper.getCorrespondingASEMElements(correspondenceModel, block));
+
+            ASEMSysMLHelper.removeCorrespondences(correspondenceModel, block);
+
+            assertNull("Removed correspondence is still indexed!",
+                    ASEMSysMLHelper.getFirstCorrespondingASEMElement(correspondenceModel, block, Component.class));
+            assertTrue("Removed correspondence is still listed!",
+                    ASEMSysMLHelper.getCorrespondingASEMElements(correspondenceModel, block).isEmpty());
+            assertNull("Removed correspondence is still indexed for the ASEM element!", ASEMSysMLHelper
+                    .getFirstCorrespondingSysMLElement(correspondenceModel, component, Block.class));
+
+            ASEMSysMLHelper.addCorrespondence(correspondenceModel, block, component);
+
+            assertEquals("Added correspondence was not indexed!", component,
+                    ASEMSysMLHelper.getFirstCorrespondingASEMElement(correspondenceModel, block, Component.class));
+            assertEquals("Added correspondence is not listed!", Collections.<EObject> singletonList(component),
+                    ASEMSysMLHelper.getCorrespondingASEMElements(correspondenceModel, block));
+            assertEquals("Added correspondence was not indexed for the ASEM element!", block, ASEMSysMLHelper
+                    .getFirstCorrespondingSysMLElement(correspondenceModel, component, Block.class));
+
+        } finally {
+            ASEMSysMLCorrespondenceIndex.deactivate(correspondenceModel);
+        }
+    }
+
+    /**
+     * Nested activations must be balanced by the same number of deactivations before the index is
+     * discarded. Additional deactivations must not affect a following activation.
+     */
+    @Test
+    public void testIfNestedActivationsAreBalanced() {
+
+        final CorrespondenceModel correspondenceModel = this.getCorrespondenceModel();
+        assertFalse("The index is active before its activation!",
+                ASEMSysMLCorrespondenceIndex.isActive(correspondenceModel));
+
+        ASEMSysMLCorrespondenceIndex.activate(correspondenceModel);
+        ASEMSysMLCorrespondenceIndex.activate(correspondenceModel);
+        ASEMSysMLCorrespondenceIndex.deactivate(correspondenceModel);
+
+        assertTrue("The index was discarded by an inner deactivation!",
+                ASEMSysMLCorrespondenceIndex.isActive(correspondenceModel));
+
+        ASEMSysMLCorrespondenceIndex.deactivate(correspondenceModel);
+
+        assertFalse("The index was not discarded by the outer deactivation!",
+                ASEMSysMLCorrespondenceIndex.isActive(correspondenceModel));
+
+        ASEMSysMLCorrespondenceIndex.deactivate(correspondenceModel);
+        ASEMSysMLCorrespondenceIndex.activate(correspondenceModel);
+
+        assertTrue("An additional deactivation affected the following activation!",
+                ASEMSysMLCorrespondenceIndex.isActive(correspondenceModel));
+
+        ASEMSysMLCorrespondenceIndex.deactivate(correspondenceModel);
+
+        assertFalse("The index was not discarded!", ASEMSysMLCorrespondenceIndex.isActive(correspondenceModel));
+    }
+}
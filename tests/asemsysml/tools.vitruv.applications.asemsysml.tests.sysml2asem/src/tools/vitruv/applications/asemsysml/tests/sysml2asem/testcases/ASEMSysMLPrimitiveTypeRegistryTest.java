@@ -0,0 +1,125 @@
+package tools.vitruv.applications.asemsysml.tests.sysml2asem.testcases;
+
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.eclipse.emf.ecore.xmi.impl.XMIResourceFactoryImpl;
+import org.eclipse.uml2.uml.Model;
+import org.eclipse.uml2.uml.PrimitiveType;
+import org.eclipse.uml2.uml.UMLFactory;
+import org.eclipse.uml2.uml.resource.UMLResource;
+import org.junit.Before;
+import org.junit.Test;
+
+import tools.vitruv.applications.asemsysml.ASEMSysMLPrimitiveTypeRegistry;
+
+/**
+ * Class for all test cases checking that the {@link ASEMSysMLPrimitiveTypeRegistry} keeps track
+ * of the primitive types of a SysML model.
+ *
+ * @author Benjamin Rupp
+ *
+ */
+public class ASEMSysMLPrimitiveTypeRegistryTest {
+
+    private ResourceSet resourceSet;
+    private Model sysmlModel;
+    private PrimitiveType integerType;
+    private PrimitiveType realType;
+
+    @Before
+    public void setUpModel() {
+
+        this.resourceSet = new ResourceSetImpl();
+        this.resourceSet.getResourceFactoryRegistry().getExtensionToFactoryMap().put(UMLResource.FILE_EXTENSION,
+                new XMIResourceFactoryImpl());
+        final Resource sysmlResource = this.resourceSet
+                .createResource(URI.createURI("ASEMSysMLPrimitiveTypeRegistryTest." + UMLResource.FILE_EXTENSION));
+
+        this.sysmlModel = UMLFactory.eINSTANCE.createModel();
+        this.integerType = this.sysmlModel.createOwnedPrimitiveType("Integer");
+        this.realType = this.sysmlModel.createOwnedPrimitiveType("Real");
+        sysmlResource.getContents().add(this.sysmlModel);
+    }
+
+    /**
+     * Each resource set must have its own registry, which is attached to the resource set.
+     */
+    @Test
+    public void testIfRegistryIsAttachedToResourceSet() {
+
+        final ASEMSysMLPrimitiveTypeRegistry registry = ASEMSysMLPrimitiveTypeRegistry.getInstance(this.resourceSet);
+
+        assertSame("The registry was not reused!", registry,
+                ASEMSysMLPrimitiveTypeRegistry.getInstance(this.resourceSet));
+        assertTrue("The registry is not attached to its resource set!",
+                this.resourceSet.eAdapters().contains(registry));
+        assertNotSame("The registry is shared between resource sets!", registry,
+                ASEMSysMLPrimitiveTypeRegistry.getInstance(new ResourceSetImpl()));
+    }
+
+    /**
+     * Renaming a primitive type must be indexed, even if the type is looked up by its new name
+     * only.
+     */
+    @Test
+    public void testIfRenamedPrimitiveTypeIsIndexed() {
+
+        final ASEMSysMLPrimitiveTypeRegistry registry = ASEMSysMLPrimitiveTypeRegistry.getInstance(this.resourceSet);
+        assertSame("Primitive type was not indexed!", this.integerType,
+                registry.getSysMLPrimitiveType(this.sysmlModel, "Integer"));
+        assertNull("Unknown primitive type was found!", registry.getSysMLPrimitiveType(this.sysmlModel, "Int"));
+
+        this.integerType.setName("Int");
+
+        assertSame("Renamed primitive type was not found by its new name!", this.integerType,
+                registry.getSysMLPrimitiveType(this.sysmlModel, "Int"));
+        assertNull("Renamed primitive type was found by its old name!",
+                registry.getSysMLPrimitiveType(this.sysmlModel, "Integer"));
+    }
+
+    /**
+     * Renaming a primitive type to the name of another type must not shadow the other type, and
+     * renaming the other type must reveal the renamed type.
+     */
+    @Test
+    public void testIfShadowedPrimitiveTypeIsIndexed() {
+
+        final ASEMSysMLPrimitiveTypeRegistry registry = ASEMSysMLPrimitiveTypeRegistry.getInstance(this.resourceSet);
+        assertSame("Primitive type was not indexed!", this.integerType,
+                registry.getSysMLPrimitiveType(this.sysmlModel, "Integer"));
+
+        this.realType.setName("Integer");
+
+        assertSame("The first primitive type with the name was not found!", this.integerType,
+                registry.getSysMLPrimitiveType(this.sysmlModel, "Integer"));
+
+        this.integerType.setName("Int");
+
+        assertSame("The renamed second primitive type was not found!", this.realType,
+                registry.getSysMLPrimitiveType(this.sysmlModel, "Integer"));
+        assertNull("The renamed primitive type was found by its old name!",
+                registry.getSysMLPrimitiveType(this.sysmlModel, "Real"));
+    }
+
+    /**
+     * Removing a primitive type from the model must remove it from the index.
+     */
+    @Test
+    public void testIfRemovedPrimitiveTypeIsIndexed() {
+
+        final ASEMSysMLPrimitiveTypeRegistry registry = ASEMSysMLPrimitiveTypeRegistry.getInstance(this.resourceSet);
+        assertSame("Primitive type was not indexed!", this.realType,
+                registry.getSysMLPrimitiveType(this.sysmlModel, "Real"));
+
+        this.sysmlModel.getPackagedElements().remove(this.realType);
+
+        assertNull("Removed primitive type was found!", registry.getSysMLPrimitiveType(this.sysmlModel, "Real"));
+    }
+}
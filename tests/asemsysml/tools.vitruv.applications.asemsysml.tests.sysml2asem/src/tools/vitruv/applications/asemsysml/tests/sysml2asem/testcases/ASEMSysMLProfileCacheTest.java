@@ -0,0 +1,127 @@
+package tools.vitruv.applications.asemsysml.tests.sysml2asem.testcases;
+
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.papyrus.sysml14.blocks.Block;
+import org.eclipse.papyrus.sysml14.blocks.BlocksPackage;
+import org.eclipse.uml2.uml.Class;
+import org.eclipse.uml2.uml.Model;
+import org.eclipse.uml2.uml.Profile;
+import org.eclipse.uml2.uml.UMLFactory;
+import org.eclipse.uml2.uml.resource.UMLResource;
+import org.eclipse.uml2.uml.util.UMLUtil.StereotypeApplicationHelper;
+import org.junit.After;
+import org.junit.Test;
+
+import tools.vitruv.applications.asemsysml.ASEMSysMLConstants;
+import tools.vitruv.applications.asemsysml.ASEMSysMLHelper;
+import tools.vitruv.applications.asemsysml.ASEMSysMLProfileCache;
+
+/**
+ * Class for all test cases checking that the {@link ASEMSysMLProfileCache} provides working
+ * profiles for the models of several projects.
+ *
+ * @author Benjamin Rupp
+ *
+ */
+public class ASEMSysMLProfileCacheTest {
+
+    private final List<File> modelFiles = new ArrayList<File>();
+
+    @After
+    public void deleteModelFiles() {
+        for (File modelFile : this.modelFiles) {
+            modelFile.delete();
+        }
+    }
+
+    /**
+     * The profiles must be loaded once per resource set and must not be shared between the
+     * resource sets.
+     */
+    @Test
+    public void testIfProfilesAreCachedPerResourceSet() {
+
+        final ResourceSet firstResourceSet = new ResourceSetImpl();
+        final ResourceSet secondResourceSet = new ResourceSetImpl();
+
+        final Profile sysmlProfile = ASEMSysMLProfileCache.getSysMLProfile(firstResourceSet);
+
+        assertSame("The profile was not cached!", sysmlProfile,
+                ASEMSysMLProfileCache.getSysMLProfile(firstResourceSet));
+        assertSame("The profile was not loaded into the resource set!", firstResourceSet,
+                sysmlProfile.eResource().getResourceSet());
+        assertNotSame("The profile is shared between resource sets!", sysmlProfile,
+                ASEMSysMLProfileCache.getSysMLProfile(secondResourceSet));
+        assertNotNull("The profiles are not cached by an adapter of the resource set!",
+                EcoreUtil.getExistingAdapter(firstResourceSet, ASEMSysMLProfileCache.class));
+    }
+
+    /**
+     * The SysML models of two projects must both be able to apply and resolve the block
+     * stereotype, also after the models were reloaded.
+     */
+    @Test
+    public void testIfTwoProjectsGetWorkingStereotypeApplications() throws IOException {
+
+        final Class firstBlockClass = this.createBlockInNewProject("FirstProjectBlock");
+        final Class secondBlockClass = this.createBlockInNewProject("SecondProjectBlock");
+
+        for (Class blockClass : new Class[] { firstBlockClass, secondBlockClass }) {
+
+            final ResourceSet resourceSet = blockClass.eResource().getResourceSet();
+            final Resource modelResource = blockClass.eResource();
+            modelResource.save(Collections.emptyMap());
+            modelResource.unload();
+            modelResource.load(Collections.emptyMap());
+
+            final Model reloadedModel = (Model) modelResource.getContents().get(0);
+            final Class reloadedBlockClass = (Class) reloadedModel.getOwnedType(blockClass.getName());
+
+            assertNotNull("Block stereotype of the reloaded model is not applied!",
+                    reloadedBlockClass.getAppliedStereotype(ASEMSysMLConstants.QUALIFIED_BLOCK_NAME));
+            assertNotNull("Block stereotype application of the reloaded model was not found!",
+                    ASEMSysMLHelper.getStereotypeApplication(reloadedBlockClass, Block.class));
+            assertSame("The reloaded model does not use the profile of its resource set!",
+                    ASEMSysMLProfileCache.getSysMLProfile(resourceSet),
+                    reloadedModel.getAppliedProfile(ASEMSysMLProfileCache.getSysMLProfile(resourceSet)
+                            .getQualifiedName()));
+        }
+    }
+
+    private Class createBlockInNewProject(final String blockName) throws IOException {
+
+        final File modelFile = File.createTempFile(blockName, "." + UMLResource.FILE_EXTENSION);
+        this.modelFiles.add(modelFile);
+
+        final ResourceSet resourceSet = new ResourceSetImpl();
+        final Resource modelResource = resourceSet.createResource(URI.createFileURI(modelFile.getAbsolutePath()));
+
+        final Model model = UMLFactory.eINSTANCE.createModel();
+        model.setName(blockName + "Model");
+        modelResource.getContents().add(model);
+        ASEMSysMLProfileCache.applyUMLStandardAndSysMLProfiles(model, resourceSet);
+
+        final Class blockClass = model.createOwnedClass(blockName, false);
+        final Block block = (Block) StereotypeApplicationHelper.getInstance(null).applyStereotype(blockClass,
+                BlocksPackage.eINSTANCE.getBlock());
+
+        assertNotNull("Block stereotype could not be applied!", block);
+        assertSame("Unexpected base class of the block!", blockClass, block.getBase_Class());
+
+        return blockClass;
+    }
+}
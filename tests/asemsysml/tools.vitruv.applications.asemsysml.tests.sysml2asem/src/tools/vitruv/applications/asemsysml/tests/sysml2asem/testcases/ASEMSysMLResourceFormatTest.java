@@ -0,0 +1,141 @@
+package tools.vitruv.applications.asemsysml.tests.sysml2asem.testcases;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.Map;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.eclipse.emf.ecore.xmi.XMLResource;
+import org.eclipse.emf.ecore.xmi.impl.XMIResourceFactoryImpl;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import edu.kit.ipd.sdq.ASEM.classifiers.ClassifiersFactory;
+import edu.kit.ipd.sdq.ASEM.classifiers.Module;
+import tools.vitruv.applications.asemsysml.ASEMSysMLResourceFormat;
+import tools.vitruv.domains.asem.AsemNamespace;
+
+/**
+ * Class for all test cases checking that the {@link ASEMSysMLResourceFormat resource formats} are
+ * installed per resource set and that the format of a model file is detected when it is loaded.
+ *
+ * @author Benjamin Rupp
+ *
+ */
+public class ASEMSysMLResourceFormatTest {
+
+    private static final String MODULE_NAME = "SerializedModule";
+
+    private File modelFile;
+    private URI modelURI;
+
+    @Before
+    public void createModelFile() throws IOException {
+        this.modelFile = File.createTempFile("ASEMSysMLResourceFormatTest", "." + AsemNamespace.FILE_EXTENSION);
+        this.modelFile.delete();
+        this.modelURI = URI.createFileURI(this.modelFile.getAbsolutePath());
+    }
+
+    @After
+    public void deleteModelFile() {
+        this.modelFile.delete();
+    }
+
+    /**
+     * Installing a format must only change the resource factories of the given resource set, not
+     * the global registry or other resource sets.
+     */
+    @Test
+    public void testIfFormatIsInstalledPerResourceSet() {
+
+        final Object globalFactory = Resource.Factory.Registry.INSTANCE.getExtensionToFactoryMap()
+                .get(AsemNamespace.FILE_EXTENSION);
+
+        final ResourceSet binaryResourceSet = createResourceSet(ASEMSysMLResourceFormat.BINARY);
+        final ResourceSet otherResourceSet = createResourceSet(null);
+
+        assertSame("The global resource factory registry was changed!", globalFactory,
+                Resource.Factory.Registry.INSTANCE.getExtensionToFactoryMap().get(AsemNamespace.FILE_EXTENSION));
+        assertEquals("The format was not installed in the resource set!", Boolean.TRUE,
+                getDefaultSaveOptions(binaryResourceSet.createResource(this.modelURI))
+                        .get(XMLResource.OPTION_BINARY));
+        assertNull("The format was installed in another resource set!",
+                getDefaultSaveOptions(otherResourceSet.createResource(this.modelURI)).get(XMLResource.OPTION_BINARY));
+    }
+
+    /**
+     * A model file must be loaded in the format it was saved in, regardless of the format which is
+     * installed in the loading resource set.
+     */
+    @Test
+    public void testIfFormatIsDetectedOnLoad() throws IOException {
+
+        for (ASEMSysMLResourceFormat savedFormat : ASEMSysMLResourceFormat.values()) {
+
+            this.saveModule(savedFormat);
+
+            for (ASEMSysMLResourceFormat installedFormat : ASEMSysMLResourceFormat.values()) {
+
+                final Resource resource = createResourceSet(installedFormat).getResource(this.modelURI, true);
+
+                assertSame("Unexpected detected format!", savedFormat, ASEMSysMLResourceFormat.detectFormat(resource));
+                assertEquals("The " + savedFormat + " file was not loaded in the " + installedFormat + " format!",
+                        MODULE_NAME, ((Module) resource.getContents().get(0)).getName());
+            }
+        }
+    }
+
+    /**
+     * A resource which is unloaded and loaded again must detect the format of its model file
+     * again, since the file could have been saved in another format in the meantime.
+     */
+    @Test
+    public void testIfFormatIsDetectedAgainAfterUnload() throws IOException {
+
+        this.saveModule(ASEMSysMLResourceFormat.XMI);
+        final Resource resource = createResourceSet(ASEMSysMLResourceFormat.XMI).getResource(this.modelURI, true);
+        resource.unload();
+
+        this.saveModule(ASEMSysMLResourceFormat.BINARY);
+        resource.load(Collections.emptyMap());
+
+        assertEquals("The binary file was not loaded after the unload!", MODULE_NAME,
+                ((Module) resource.getContents().get(0)).getName());
+    }
+
+    private void saveModule(final ASEMSysMLResourceFormat format) throws IOException {
+
+        final Module module = ClassifiersFactory.eINSTANCE.createModule();
+        module.setName(MODULE_NAME);
+
+        final Resource resource = createResourceSet(format).createResource(this.modelURI);
+        resource.getContents().add(module);
+        resource.save(Collections.emptyMap());
+    }
+
+    private static ResourceSet createResourceSet(final ASEMSysMLResourceFormat format) {
+
+        final ResourceSet resourceSet = new ResourceSetImpl();
+        resourceSet.getResourceFactoryRegistry().getExtensionToFactoryMap().put(AsemNamespace.FILE_EXTENSION,
+                new XMIResourceFactoryImpl());
+
+        if (format != null) {
+            format.install(resourceSet);
+        }
+
+        return resourceSet;
+    }
+
+    private static Map<Object, Object> getDefaultSaveOptions(final Resource resource) {
+        return ((XMLResource) resource).getDefaultSaveOptions();
+    }
+}
@@ -0,0 +1,155 @@
+package tools.vitruv.applications.asemsysml.tests.sysml2asem.testcases;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Collections;
+
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.eclipse.papyrus.sysml14.blocks.Block;
+import org.eclipse.uml2.uml.Class;
+import org.eclipse.uml2.uml.Model;
+import org.eclipse.uml2.uml.Stereotype;
+import org.eclipse.uml2.uml.UMLFactory;
+import org.eclipse.uml2.uml.resource.UMLResource;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import tools.vitruv.applications.asemsysml.ASEMSysMLConstants;
+import tools.vitruv.applications.asemsysml.ASEMSysMLHelper;
+import tools.vitruv.applications.asemsysml.ASEMSysMLProfileCache;
+import tools.vitruv.applications.asemsysml.ASEMSysMLStereotypeCache;
+
+/**
+ * Class for all test cases checking that the {@link ASEMSysMLStereotypeCache} keeps track of the
+ * stereotype applications of a SysML model resource.
+ *
+ * @author Benjamin Rupp
+ *
+ */
+public class ASEMSysMLStereotypeCacheTest {
+
+    private File modelFile;
+    private Resource modelResource;
+    private Model model;
+    private Class blockClass;
+    private Stereotype blockStereotype;
+
+    @Before
+    public void setUpModel() throws IOException {
+
+        this.modelFile = File.createTempFile("ASEMSysMLStereotypeCacheTest", "." + UMLResource.FILE_EXTENSION);
+
+        final ResourceSet resourceSet = new ResourceSetImpl();
+        this.modelResource = resourceSet.createResource(URI.createFileURI(this.modelFile.getAbsolutePath()));
+
+        this.model = UMLFactory.eINSTANCE.createModel();
+        this.model.setName("StereotypeCacheModel");
+        this.modelResource.getContents().add(this.model);
+        ASEMSysMLProfileCache.applyUMLStandardAndSysMLProfiles(this.model, resourceSet);
+
+        this.blockClass = this.model.createOwnedClass("CachedBlock", false);
+        this.blockStereotype = this.blockClass.getApplicableStereotype(ASEMSysMLConstants.QUALIFIED_BLOCK_NAME);
+        assertNotNull("Block stereotype is not applicable!", this.blockStereotype);
+    }
+
+    @After
+    public void deleteModelFile() {
+        this.modelFile.delete();
+    }
+
+    /**
+     * Applying, unapplying and applying the block stereotype again to the same element must be
+     * reflected by the cached stereotype applications.
+     */
+    @Test
+    public void testIfReappliedStereotypeIsCached() {
+
+        assertFalse("Element without stereotype is a block!", ASEMSysMLHelper.isBlock(this.blockClass));
+        assertNull("Stereotype application was found before it was applied!",
+                ASEMSysMLHelper.getStereotypeApplication(this.blockClass, Block.class));
+
+        final Block block = (Block) this.blockClass.applyStereotype(this.blockStereotype);
+
+        assertTrue("Applied stereotype was not found!", ASEMSysMLHelper.isBlock(this.blockClass));
+        assertSame("Unexpected stereotype application!", block,
+                ASEMSysMLHelper.getStereotypeApplication(this.blockClass, Block.class));
+
+        this.blockClass.unapplyStereotype(this.blockStereotype);
+
+        assertFalse("Unapplied stereotype is still cached!", ASEMSysMLHelper.isBlock(this.blockClass));
+        assertNull("Unapplied stereotype application is still cached!",
+                ASEMSysMLHelper.getStereotypeApplication(this.blockClass, Block.class));
+
+        final Block reappliedBlock = (Block) this.blockClass.applyStereotype(this.blockStereotype);
+
+        assertNotSame("The stereotype application was not created again!", block, reappliedBlock);
+        assertTrue("Reapplied stereotype was not found!", ASEMSysMLHelper.isBlock(this.blockClass));
+        assertSame("The former stereotype application is still cached!", reappliedBlock,
+                ASEMSysMLHelper.getStereotypeApplication(this.blockClass, Block.class));
+    }
+
+    /**
+     * Moving a stereotype application to another base element must be reflected by the cached
+     * stereotype applications of both elements.
+     */
+    @Test
+    public void testIfMovedStereotypeApplicationIsCached() {
+
+        final Block block = (Block) this.blockClass.applyStereotype(this.blockStereotype);
+        final Class otherClass = this.model.createOwnedClass("OtherBlock", false);
+
+        assertTrue("Applied stereotype was not found!", ASEMSysMLHelper.isBlock(this.blockClass));
+        assertFalse("Element without stereotype is a block!", ASEMSysMLHelper.isBlock(otherClass));
+
+        block.setBase_Class(otherClass);
+
+        assertFalse("Moved stereotype application is still cached for its former base element!",
+                ASEMSysMLHelper.isBlock(this.blockClass));
+        assertSame("Moved stereotype application was not found for its new base element!", block,
+                ASEMSysMLHelper.getStereotypeApplication(otherClass, Block.class));
+    }
+
+    /**
+     * Unloading and reloading the resource must not return the stereotype applications of the
+     * unloaded resource. The stereotype applications of the reloaded resource must be observed
+     * again.
+     */
+    @Test
+    public void testIfReloadedStereotypeApplicationIsCached() throws IOException {
+
+        final Block block = (Block) this.blockClass.applyStereotype(this.blockStereotype);
+        assertSame("Unexpected stereotype application!", block,
+                ASEMSysMLHelper.getStereotypeApplication(this.blockClass, Block.class));
+
+        this.modelResource.save(Collections.emptyMap());
+        this.modelResource.unload();
+        this.modelResource.load(Collections.emptyMap());
+
+        final Model reloadedModel = (Model) this.modelResource.getContents().get(0);
+        final Class reloadedBlockClass = (Class) reloadedModel.getOwnedType(this.blockClass.getName());
+        final Block reloadedBlock = ASEMSysMLHelper.getStereotypeApplication(reloadedBlockClass, Block.class);
+
+        assertTrue("Stereotype of the reloaded element was not found!", ASEMSysMLHelper.isBlock(reloadedBlockClass));
+        assertNotSame("The stereotype application of the unloaded resource is still cached!", block,
+                reloadedBlock);
+        assertSame("Unexpected base class of the reloaded stereotype application!", reloadedBlockClass,
+                reloadedBlock.getBase_Class());
+
+        reloadedBlockClass.unapplyStereotype(reloadedBlockClass.getAppliedStereotype(
+                ASEMSysMLConstants.QUALIFIED_BLOCK_NAME));
+
+        assertFalse("Unapplied stereotype of the reloaded element is still cached!",
+                ASEMSysMLHelper.isBlock(reloadedBlockClass));
+    }
+}
@@ -0,0 +1,314 @@
+package tools.vitruv.applications.asemsysml.tests.sysml2asem.testcases;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.emf.common.util.TreeIterator;
+import org.eclipse.emf.ecore.EAttribute;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EReference;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.papyrus.sysml14.blocks.Block;
+import org.eclipse.uml2.uml.Model;
+import org.eclipse.uml2.uml.Port;
+import org.eclipse.uml2.uml.PrimitiveType;
+import org.eclipse.uml2.uml.Property;
+import org.junit.Test;
+
+import edu.kit.ipd.sdq.ASEM.base.Named;
+import edu.kit.ipd.sdq.ASEM.classifiers.Class;
+import edu.kit.ipd.sdq.ASEM.classifiers.Component;
+import edu.kit.ipd.sdq.ASEM.classifiers.Module;
+import tools.vitruv.applications.asemsysml.ASEMSysMLHelper;
+import tools.vitruv.applications.asemsysml.ASEMSysMLPrimitiveTypeHelper;
+import tools.vitruv.applications.asemsysml.ASEMSysMLProjectInitializer.ModelCreator;
+import tools.vitruv.applications.asemsysml.java.sysml2asem.bulk.SysML2ASEMBulkTransformer;
+import tools.vitruv.applications.asemsysml.java.sysml2asem.bulk.SysML2ASEMDefaultDecisionPolicy;
+import tools.vitruv.applications.asemsysml.tests.sysml2asem.SysML2ASEMTest;
+import tools.vitruv.applications.asemsysml.tests.util.ASEMSysMLAssertionHelper;
+import tools.vitruv.applications.asemsysml.tests.util.ASEMSysMLModelGenerator;
+
+/**
+ * Class for all test cases checking the bulk transformation of a whole SysML model.
+ * 
+ * @author Benjamin Rupp
+ * 
+ */
+public class BulkTransformationTest extends SysML2ASEMTest {
+
+    private static final long SEED = 4711;
+
+    private static final String INCREMENTAL_PREFIX = "Incremental";
+    private static final String BULK_PREFIX = "Bulk";
+
+    private final List<EObject> synchronizedRootElements = new ArrayList<EObject>();
+    private final Map<Component, Integer> synchronizedTypedElements = new LinkedHashMap<Component, Integer>();
+
+    /**
+     * The ports of all blocks of a generated model must be mapped to the messages of ASEM modules.
+     */
+    @Test
+    public void testIfGeneratedModelIsTransformedToModules() {
+
+        final Resource sysmlResource = this.getModelResource(sysmlProjectModelPath);
+        final Model sysmlModel = (Model) sysmlResource.getContents().get(0);
+
+        final ASEMSysMLModelGenerator generator = new ASEMSysMLModelGenerator(SEED);
+        final List<Block> blocks = generator.createSysMLBlocks(sysmlModel, "BulkBlock", 5);
+
+        for (Block block : blocks) {
+            generator.createSysMLPorts(block, "Port", 4, getPortTypes());
+        }
+
+        final SysML2ASEMBulkTransformer.Result result = this
+                .transform(new SysML2ASEMDefaultDecisionPolicy(Module.class), sysmlModel);
+
+        assertEquals("Unexpected number of created components!", blocks.size(),
+                result.getCreatedComponents().size());
+        assertEquals("Unexpected number of created elements!", blocks.size() * 5, result.getNumberOfCreatedElements());
+
+        for (Block block : blocks) {
+
+            assertTrue("No corresponding ASEM module found for block " + block.getBase_Class().getName(),
+                    ASEMSysMLHelper.getFirstCorrespondingASEMElement(this.getCorrespondenceModel(), block,
+                            Module.class) != null);
+
+            for (Property property : block.getBase_Class().getOwnedAttributes()) {
+                ASEMSysMLAssertionHelper.assertPortWasTransformedAsExpected((Port) property, sysmlResource,
+                        this.getCorrespondenceModel());
+            }
+        }
+    }
+
+    /**
+     * The model of each created component must be created and synchronized once, after all
+     * features of its component were added.
+     */
+    @Test
+    public void testIfEachModelIsSynchronizedOnce() {
+
+        final Model sysmlModel = (Model) this.getModelResource(sysmlProjectModelPath).getContents().get(0);
+
+        final ASEMSysMLModelGenerator generator = new ASEMSysMLModelGenerator(SEED);
+        final List<Block> blocks = generator.createSysMLBlocks(sysmlModel, "BulkBlock", 3);
+
+        for (Block block : blocks) {
+            generator.createSysMLPorts(block, "Port", 4, getPortTypes());
+        }
+
+        final SysML2ASEMBulkTransformer.Result result = this
+                .transform(new SysML2ASEMDefaultDecisionPolicy(Module.class), sysmlModel);
+
+        for (Component component : result.getCreatedComponents()) {
+
+            assertEquals("The model of component " + component.getName() + " was not synchronized once!", 1,
+                    Collections.frequency(this.synchronizedRootElements, component));
+            assertEquals("The model of component " + component.getName()
+                    + " was synchronized before all features were added!", component.getTypedElements().size(),
+                    this.synchronizedTypedElements.get(component).intValue());
+        }
+    }
+
+    /**
+     * All blocks and part references of a generated part hierarchy must be mapped to ASEM classes
+     * and their constants.
+     */
+    @Test
+    public void testIfPartHierarchyIsTransformedToClasses() {
+
+        final Model sysmlModel = (Model) this.getModelResource(sysmlProjectModelPath).getContents().get(0);
+        final List<Block> blocks = new ASEMSysMLModelGenerator(SEED).createSysMLPartHierarchy(sysmlModel,
+                "BulkHierarchyBlock", 3, 2);
+
+        this.transform(new SysML2ASEMDefaultDecisionPolicy(Class.class), sysmlModel);
+
+        for (Block block : blocks) {
+
+            assertTrue("No corresponding ASEM class found for block " + block.getBase_Class().getName(),
+                    ASEMSysMLHelper.getFirstCorrespondingASEMElement(this.getCorrespondenceModel(), block,
+                            Class.class) != null);
+
+            for (Property part : block.getBase_Class().getOwnedAttributes()) {
+                final Block partBlock = ASEMSysMLHelper.getStereotypeApplication(part.getType(), Block.class);
+                ASEMSysMLAssertionHelper.assertPartReferenceBetweenBlocksExists(block, Class.class, partBlock,
+                        Class.class, this.getCorrespondenceModel());
+            }
+        }
+    }
+
+    /**
+     * Blocks which already correspond to an ASEM component must not be transformed again.
+     */
+    @Test
+    public void testIfMappedBlocksAreSkipped() {
+
+        final Model sysmlModel = (Model) this.getModelResource(sysmlProjectModelPath).getContents().get(0);
+        final List<Block> blocks = new ASEMSysMLModelGenerator(SEED).createSysMLBlocks(sysmlModel, "BulkBlock", 3);
+
+        this.transform(new SysML2ASEMDefaultDecisionPolicy(), sysmlModel);
+        final SysML2ASEMBulkTransformer.Result result = this.transform(new SysML2ASEMDefaultDecisionPolicy(),
+                sysmlModel);
+
+        assertTrue("Mapped blocks were transformed again!", result.getCreatedComponents().isEmpty());
+        assertEquals("Unexpected number of skipped blocks!", blocks.size(), result.getNumberOfSkippedBlocks());
+    }
+
+    /**
+     * The bulk transformation of a generated model must create the same ASEM components as the
+     * propagation of the same model by the java transformations. The generated models only differ
+     * in the name prefixes of their blocks.
+     */
+    @Test
+    public void testIfBulkOutputEqualsIncrementalOutput() {
+
+        final Model sysmlModel = (Model) this.getModelResource(sysmlProjectModelPath).getContents().get(0);
+
+        final List<Block> incrementalModuleBlocks = new ArrayList<Block>();
+        final List<Block> incrementalBlocks = generateModel(sysmlModel, INCREMENTAL_PREFIX, incrementalModuleBlocks);
+
+        // The ASEM component types are selected in the order of the block creations.
+        for (Block block : incrementalBlocks) {
+            this.setNextUserInteractorSelection(incrementalModuleBlocks.contains(block) ? Module.class : Class.class);
+        }
+        this.saveAndSynchronizeChangesWrapper(sysmlModel);
+
+        final List<Block> bulkModuleBlocks = new ArrayList<Block>();
+        final List<Block> bulkBlocks = generateModel(sysmlModel, BULK_PREFIX, bulkModuleBlocks);
+
+        this.transform(new SysML2ASEMDefaultDecisionPolicy() {
+            @Override
+            public java.lang.Class<? extends Component> selectComponentType(final Block block) {
+                return (bulkModuleBlocks.contains(block) ? Module.class : Class.class);
+            }
+        }, sysmlModel);
+
+        assertEquals("Unexpected number of generated blocks!", incrementalBlocks.size(), bulkBlocks.size());
+
+        for (int b = 0; b < incrementalBlocks.size(); b++) {
+
+            final Component incrementalComponent = this.getCorrespondingComponent(incrementalBlocks.get(b));
+            final Component bulkComponent = this.getCorrespondingComponent(bulkBlocks.get(b));
+
+            assertEquals("The bulk output differs from the incremental output!",
+                    describeComponent(incrementalComponent, INCREMENTAL_PREFIX),
+                    describeComponent(bulkComponent, BULK_PREFIX));
+        }
+    }
+
+    private SysML2ASEMBulkTransformer.Result transform(final SysML2ASEMDefaultDecisionPolicy decisionPolicy,
+            final Model sysmlModel) {
+
+        return new SysML2ASEMBulkTransformer(this.getCorrespondenceModel(), decisionPolicy,
+                new ModelCreator() {
+                    @Override
+                    public void createAndSynchronizeModel(final String projectModelPath, final EObject rootElement) {
+
+                        synchronizedRootElements.add(rootElement);
+
+                        if (rootElement instanceof Component) {
+                            synchronizedTypedElements.put((Component) rootElement,
+                                    ((Component) rootElement).getTypedElements().size());
+                        }
+
+                        createAndSynchronizeModelWrapper(projectModelPath, rootElement);
+                    }
+                }).transform(sysmlModel);
+    }
+
+    private Component getCorrespondingComponent(final Block block) {
+
+        final Component component = ASEMSysMLHelper.getFirstCorrespondingASEMElement(this.getCorrespondenceModel(),
+                block, Component.class);
+        assertNotNull("No corresponding ASEM component found for block " + block.getBase_Class().getName(),
+                component);
+
+        return component;
+    }
+
+    /**
+     * Generate a part hierarchy and blocks with ports.
+     * 
+     * @return All generated blocks in the order of their creation. The blocks with ports are added
+     *         to the given list.
+     */
+    private static List<Block> generateModel(final Model sysmlModel, final String namePrefix,
+            final List<Block> moduleBlocks) {
+
+        final ASEMSysMLModelGenerator generator = new ASEMSysMLModelGenerator(SEED);
+        final List<Block> blocks = new ArrayList<Block>(
+                generator.createSysMLPartHierarchy(sysmlModel, namePrefix + "Block", 2, 2));
+        moduleBlocks.addAll(generator.createSysMLBlocks(sysmlModel, namePrefix + "Module", 2));
+        blocks.addAll(moduleBlocks);
+
+        for (Block moduleBlock : moduleBlocks) {
+            generator.createSysMLPorts(moduleBlock, "Port", 3, getPortTypes());
+        }
+
+        return blocks;
+    }
+
+    /**
+     * Describe a component and all its contents independently of the name prefix of the blocks.
+     * The generated IDs of the ASEM elements are ignored.
+     * 
+     * @return The sorted descriptions of the component and its contents.
+     */
+    private static List<String> describeComponent(final Component component, final String namePrefix) {
+
+        final List<String> descriptions = new ArrayList<String>();
+        descriptions.add(describeElement(component, namePrefix));
+
+        final TreeIterator<EObject> contents = component.eAllContents();
+        while (contents.hasNext()) {
+            descriptions.add(describeElement(contents.next(), namePrefix));
+        }
+
+        Collections.sort(descriptions);
+
+        return descriptions;
+    }
+
+    private static String describeElement(final EObject element, final String namePrefix) {
+
+        final StringBuilder description = new StringBuilder(element.eClass().getName());
+
+        for (EAttribute attribute : element.eClass().getEAllAttributes()) {
+
+            if (attribute.isID() || "id".equals(attribute.getName())) {
+                continue;
+            }
+
+            description.append(' ').append(attribute.getName()).append('=')
+                    .append(String.valueOf(element.eGet(attribute)).replace(namePrefix, ""));
+        }
+
+        for (EReference reference : element.eClass().getEAllReferences()) {
+
+            if (reference.isContainment() || reference.isContainer() || reference.isMany()) {
+                continue;
+            }
+
+            final Object target = element.eGet(reference);
+            final String targetName = (target instanceof Named) ? ((Named) target).getName()
+                    : ((target != null) ? ((EObject) target).eClass().getName() : null);
+
+            description.append(' ').append(reference.getName()).append('=')
+                    .append(String.valueOf(targetName).replace(namePrefix, ""));
+        }
+
+        return description.toString();
+    }
+
+    private static List<PrimitiveType> getPortTypes() {
+        return Arrays.asList(ASEMSysMLPrimitiveTypeHelper.PRIMITIVE_TYPE_BOOLEAN,
+                ASEMSysMLPrimitiveTypeHelper.PRIMITIVE_TYPE_INTEGER, ASEMSysMLPrimitiveTypeHelper.PRIMITIVE_TYPE_REAL);
+    }
+}
@@ -0,0 +1,130 @@
+package tools.vitruv.applications.asemsysml.tests.sysml2asem.testcases;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.papyrus.sysml14.blocks.Block;
+import org.eclipse.uml2.uml.Model;
+import org.eclipse.uml2.uml.Port;
+import org.eclipse.uml2.uml.PrimitiveType;
+import org.junit.Test;
+import org.junit.experimental.ParallelComputer;
+import org.junit.runner.JUnitCore;
+import org.junit.runner.Result;
+
+import edu.kit.ipd.sdq.ASEM.base.Named;
+import edu.kit.ipd.sdq.ASEM.classifiers.Module;
+import tools.vitruv.applications.asemsysml.ASEMSysMLHelper;
+import tools.vitruv.applications.asemsysml.ASEMSysMLPrimitiveTypeHelper;
+import tools.vitruv.applications.asemsysml.java.sysml2asem.global.SysML2ASEMJavaChangePropagationSpecification;
+import tools.vitruv.applications.asemsysml.tests.sysml2asem.SysML2ASEMTest;
+import tools.vitruv.applications.asemsysml.tests.util.ASEMSysMLAssertionHelper;
+import tools.vitruv.applications.asemsysml.tests.util.ASEMSysMLModelGenerator;
+import tools.vitruv.framework.change.processing.ChangePropagationSpecification;
+
+/**
+ * Class for the test of the concurrent change propagation of several virtual models with the java
+ * transformations. Each virtual model has its own {@link SysML2ASEMJavaChangePropagationSpecification
+ * specification}, but all of them share the TUID manager of the framework.
+ *
+ * @author Benjamin Rupp
+ *
+ */
+public class ConcurrentTransformationExecutionTest {
+
+    private static final int NUMBER_OF_MODELS = 4;
+
+    /**
+     * The models of several virtual models, which propagate their changes on different threads
+     * concurrently, must be mapped as if they were propagated one after another.
+     */
+    @Test
+    public void testConcurrentPropagationOfIndependentModels() {
+
+        final Result result = JUnitCore.runClasses(new ParallelComputer(false, true),
+                ConcurrentlyPropagatedModels.class);
+
+        assertEquals("Not all models were propagated!", NUMBER_OF_MODELS, result.getRunCount());
+        assertTrue("Concurrent propagations failed: " + result.getFailures(), result.wasSuccessful());
+    }
+
+    /**
+     * The virtual models which are propagated concurrently. Each test method uses its own virtual
+     * model and is run on its own thread by
+     * {@link ConcurrentTransformationExecutionTest#testConcurrentPropagationOfIndependentModels()}.
+     */
+    public static class ConcurrentlyPropagatedModels extends SysML2ASEMTest {
+
+        private static final int NUMBER_OF_BLOCKS = 3;
+        private static final int NUMBER_OF_PORTS = 4;
+
+        @Override
+        protected Iterable<ChangePropagationSpecification> createChangePropagationSpecifications() {
+            // Independent of the transformation type of the current test suite.
+            return Collections.<ChangePropagationSpecification> singletonList(
+                    new SysML2ASEMJavaChangePropagationSpecification());
+        }
+
+        @Test
+        public void propagateFirstModel() {
+            this.propagateGeneratedModel(1);
+        }
+
+        @Test
+        public void propagateSecondModel() {
+            this.propagateGeneratedModel(2);
+        }
+
+        @Test
+        public void propagateThirdModel() {
+            this.propagateGeneratedModel(3);
+        }
+
+        @Test
+        public void propagateFourthModel() {
+            this.propagateGeneratedModel(4);
+        }
+
+        /**
+         * Create blocks with ports and rename the ports afterwards. The renaming updates the TUIDs
+         * of the ASEM messages, which are registered at the TUID manager of the framework.
+         */
+        private void propagateGeneratedModel(final long seed) {
+
+            final Resource sysmlResource = this.getModelResource(sysmlProjectModelPath);
+            final Model sysmlModel = (Model) sysmlResource.getContents().get(0);
+            final List<PrimitiveType> portTypes = Arrays.asList(ASEMSysMLPrimitiveTypeHelper.PRIMITIVE_TYPE_BOOLEAN,
+                    ASEMSysMLPrimitiveTypeHelper.PRIMITIVE_TYPE_INTEGER,
+                    ASEMSysMLPrimitiveTypeHelper.PRIMITIVE_TYPE_REAL);
+
+            final ASEMSysMLModelGenerator generator = new ASEMSysMLModelGenerator(seed);
+            final List<Block> blocks = generator.createSysMLBlocks(sysmlModel, "ConcurrentBlock", NUMBER_OF_BLOCKS);
+
+            for (Block block : blocks) {
+                generator.createSysMLPorts(block, "Port", NUMBER_OF_PORTS, portTypes);
+                this.setNextUserInteractorSelection(Module.class);
+            }
+
+            this.saveAndSynchronizeChangesWrapper(sysmlModel);
+
+            for (Block block : blocks) {
+                for (Port port : block.getBase_Class().getOwnedPorts()) {
+
+                    port.setName(port.getName() + "-Renamed");
+                    this.saveAndSynchronizeChangesWrapper(port);
+
+                    ASEMSysMLAssertionHelper.assertPortWasTransformedAsExpected(port, sysmlResource,
+                            this.getCorrespondenceModel());
+                    assertEquals("ASEM message was not renamed!", port.getName(), ASEMSysMLHelper
+                            .getFirstCorrespondingASEMElement(this.getCorrespondenceModel(), port, Named.class)
+                            .getName());
+                }
+            }
+        }
+    }
+}
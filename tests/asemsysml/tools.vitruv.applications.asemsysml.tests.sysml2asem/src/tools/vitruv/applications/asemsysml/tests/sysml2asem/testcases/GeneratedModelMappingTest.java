@@ -0,0 +1,91 @@
+package tools.vitruv.applications.asemsysml.tests.sysml2asem.testcases;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.eclipse.papyrus.sysml14.blocks.Block;
+import org.eclipse.uml2.uml.Model;
+import org.eclipse.uml2.uml.Port;
+import org.eclipse.uml2.uml.PrimitiveType;
+import org.eclipse.uml2.uml.Property;
+import org.junit.Test;
+
+import edu.kit.ipd.sdq.ASEM.classifiers.Class;
+import tools.vitruv.applications.asemsysml.ASEMSysMLHelper;
+import tools.vitruv.applications.asemsysml.ASEMSysMLPrimitiveTypeHelper;
+import tools.vitruv.applications.asemsysml.tests.sysml2asem.SysML2ASEMTest;
+import tools.vitruv.applications.asemsysml.tests.util.ASEMSysMLAssertionHelper;
+import tools.vitruv.applications.asemsysml.tests.util.ASEMSysMLModelGenerator;
+
+/**
+ * Class for all test cases checking the mapping of generated SysML models which are synchronized
+ * at once.
+ * 
+ * @author Benjamin Rupp
+ * 
+ */
+public class GeneratedModelMappingTest extends SysML2ASEMTest {
+
+    private static final long SEED = 4711;
+
+    /**
+     * All blocks and part references of a generated part hierarchy must be mapped, even if the
+     * whole hierarchy is synchronized with a single change propagation.
+     */
+    @Test
+    public void testIfGeneratedPartHierarchyIsMapped() {
+
+        final Model sysmlModel = (Model) this.getModelResource(sysmlProjectModelPath).getContents().get(0);
+        final List<Block> blocks = new ASEMSysMLModelGenerator(SEED).createSysMLPartHierarchy(sysmlModel,
+                "HierarchyBlock", 3, 2);
+
+        assertEquals("Unexpected number of generated blocks!", 7, blocks.size());
+
+        for (int b = 0; b < blocks.size(); b++) {
+            this.setNextUserInteractorSelection(Class.class);
+        }
+
+        this.saveAndSynchronizeChangesWrapper(sysmlModel);
+
+        for (Block block : blocks) {
+
+            assertTrue("No corresponding ASEM class found for block " + block.getBase_Class().getName(),
+                    ASEMSysMLHelper.getFirstCorrespondingASEMElement(this.getCorrespondenceModel(), block,
+                            Class.class) != null);
+
+            for (Property part : block.getBase_Class().getOwnedAttributes()) {
+                final Block partBlock = ASEMSysMLHelper.getStereotypeApplication(part.getType(), Block.class);
+                assertTrue("Part " + part.getName() + " is not typed by a block!", partBlock != null);
+                ASEMSysMLAssertionHelper.assertPartReferenceBetweenBlocksExists(block, Class.class, partBlock,
+                        Class.class, this.getCorrespondenceModel());
+            }
+        }
+    }
+
+    /**
+     * The same seed must generate the same model.
+     */
+    @Test
+    public void testIfGeneratorIsDeterministic() {
+
+        final Model sysmlModel = (Model) this.getModelResource(sysmlProjectModelPath).getContents().get(0);
+        final Block blockA = new ASEMSysMLModelGenerator(SEED).createSysMLBlocks(sysmlModel, "BlockA", 1).get(0);
+        final Block blockB = new ASEMSysMLModelGenerator(SEED).createSysMLBlocks(sysmlModel, "BlockB", 1).get(0);
+
+        final List<PrimitiveType> portTypes = Arrays.asList(ASEMSysMLPrimitiveTypeHelper.PRIMITIVE_TYPE_BOOLEAN,
+                ASEMSysMLPrimitiveTypeHelper.PRIMITIVE_TYPE_INTEGER, ASEMSysMLPrimitiveTypeHelper.PRIMITIVE_TYPE_REAL);
+
+        final List<Port> portsA = new ASEMSysMLModelGenerator(SEED).createSysMLPorts(blockA, "Port", 10, portTypes);
+        final List<Port> portsB = new ASEMSysMLModelGenerator(SEED).createSysMLPorts(blockB, "Port", 10, portTypes);
+
+        for (int p = 0; p < portsA.size(); p++) {
+            assertEquals("Port types differ for the same seed!", portsA.get(p).getType(), portsB.get(p).getType());
+            assertEquals("Port directions differ for the same seed!",
+                    ASEMSysMLHelper.getFlowProperty(portsA.get(p)).getDirection(),
+                    ASEMSysMLHelper.getFlowProperty(portsB.get(p)).getDirection());
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package tools.vitruv.applications.asemsysml.tests.sysml2asem.testcases;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Collections;
+
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.papyrus.sysml14.blocks.Block;
+import org.eclipse.uml2.uml.Property;
+import org.junit.Test;
+
+import edu.kit.ipd.sdq.ASEM.classifiers.Module;
+import tools.vitruv.applications.asemsysml.ASEMSysMLPrimitiveTypeHelper;
+import tools.vitruv.applications.asemsysml.java.sysml2asem.global.SysML2ASEMJavaChangePropagationSpecification;
+import tools.vitruv.applications.asemsysml.metrics.TransformationMetrics;
+import tools.vitruv.applications.asemsysml.metrics.TransformationMetricsRegistry;
+import tools.vitruv.applications.asemsysml.tests.sysml2asem.SysML2ASEMTest;
+import tools.vitruv.applications.asemsysml.tests.util.ASEMSysMLTestHelper;
+import tools.vitruv.framework.change.processing.ChangePropagationSpecification;
+
+/**
+ * Class for all test cases checking that the preconditions of the java transformations are
+ * evaluated exactly once per change.
+ *
+ * @author Benjamin Rupp
+ *
+ */
+public class PreconditionEvaluationTest extends SysML2ASEMTest {
+
+    private static final String BLOCK_NAME = "PreconditionBlock";
+
+    @Override
+    protected Iterable<ChangePropagationSpecification> createChangePropagationSpecifications() {
+        // The precondition evaluation is a feature of the java transformations only.
+        return Collections.<ChangePropagationSpecification> singletonList(
+                new SysML2ASEMJavaChangePropagationSpecification());
+    }
+
+    /**
+     * Changing the read only flag of a part reference is rejected by the preconditions of the
+     * property access transformation. The rejection must be recorded exactly once, i.e. the
+     * preconditions must not be evaluated again when the change is applied.
+     */
+    @Test
+    public void testIfRejectedChangeIsCheckedOnce() {
+
+        final TransformationMetrics accessMetrics = getPropertyAccessTransformationMetrics();
+
+        final Resource sysmlModelResource = this.getModelResource(sysmlProjectModelPath);
+        final Block block = ASEMSysMLTestHelper.createSysMLBlockAddToModelAndSync(sysmlModelResource, BLOCK_NAME,
+                true, Module.class, this);
+        final Property partReference = ASEMSysMLTestHelper.createUMLPropertyAddToBlockAndSync(block, "partValue",
+                ASEMSysMLPrimitiveTypeHelper.PRIMITIVE_TYPE_INTEGER, this);
+
+        final long invocationsBefore = accessMetrics.getInvocations();
+        final long rejectionsBefore = accessMetrics.getPreconditionRejections();
+
+        partReference.setIsReadOnly(true);
+        this.saveAndSynchronizeChangesWrapper(partReference);
+
+        assertEquals("The preconditions were not evaluated exactly once!", rejectionsBefore + 1,
+                accessMetrics.getPreconditionRejections());
+        assertEquals("A rejected change was applied!", invocationsBefore, accessMetrics.getInvocations());
+    }
+
+    /**
+     * Changing the read only flag of a property is accepted by the preconditions of the property
+     * access transformation. The change must be applied exactly once without a rejection being
+     * recorded.
+     */
+    @Test
+    public void testIfAcceptedChangeIsAppliedOnce() {
+
+        final TransformationMetrics accessMetrics = getPropertyAccessTransformationMetrics();
+
+        final Resource sysmlModelResource = this.getModelResource(sysmlProjectModelPath);
+        final Block block = ASEMSysMLTestHelper.createSysMLBlockAddToModelAndSync(sysmlModelResource, BLOCK_NAME,
+                true, Module.class, this);
+        final Property property = ASEMSysMLTestHelper.createUMLPropertyAddToBlockAndSync(block, "Value",
+                ASEMSysMLPrimitiveTypeHelper.PRIMITIVE_TYPE_INTEGER, this);
+
+        final long invocationsBefore = accessMetrics.getInvocations();
+        final long rejectionsBefore = accessMetrics.getPreconditionRejections();
+
+        property.setIsReadOnly(true);
+        this.saveAndSynchronizeChangesWrapper(property);
+
+        assertEquals("The accepted change was not applied exactly once!", invocationsBefore + 1,
+                accessMetrics.getInvocations());
+        assertEquals("An accepted change was rejected!", rejectionsBefore, accessMetrics.getPreconditionRejections());
+    }
+
+    private static TransformationMetrics getPropertyAccessTransformationMetrics() {
+        return TransformationMetricsRegistry
+                .getMetrics(TransformationMetricsRegistry.JAVA_PREFIX + "sysml2asem.PropertyAccessTransformation");
+    }
+}
@@ -0,0 +1,137 @@
+package tools.vitruv.applications.asemsysml.tests.sysml2asem.testcases;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.uml2.uml.Model;
+import org.eclipse.uml2.uml.NamedElement;
+import org.eclipse.uml2.uml.Profile;
+import org.junit.Test;
+
+import edu.kit.ipd.sdq.ASEM.primitivetypes.PrimitiveType;
+import edu.kit.ipd.sdq.ASEM.primitivetypes.PrimitiveTypeRepository;
+import tools.vitruv.applications.asemsysml.ASEMSysMLHelper;
+import tools.vitruv.applications.asemsysml.ASEMSysMLPrimitiveTypeHelper;
+import tools.vitruv.applications.asemsysml.ASEMSysMLProjectInitializer;
+import tools.vitruv.applications.asemsysml.ASEMSysMLProjectInitializer.InitializedProject;
+import tools.vitruv.applications.asemsysml.ASEMSysMLProjectInitializer.ModelCreator;
+import tools.vitruv.applications.asemsysml.java.sysml2asem.global.SysML2ASEMJavaChangePropagationSpecification;
+import tools.vitruv.applications.asemsysml.tests.sysml2asem.SysML2ASEMTest;
+import tools.vitruv.framework.change.processing.ChangePropagationSpecification;
+
+/**
+ * Class for all test cases checking that the {@link ASEMSysMLProjectInitializer} initializes a
+ * project like the java transformations do. <br>
+ * <br>
+ * 
+ * The test project is initialized by the transformations. The initializer initializes a second
+ * project in a directory of the test project, so both results can be compared.
+ *
+ * @author Benjamin Rupp
+ *
+ */
+public class ProjectInitializerTest extends SysML2ASEMTest {
+
+    private static final String INITIALIZED_PROJECT_DIRECTORY = "initialized" + File.separatorChar;
+
+    @Override
+    protected Iterable<ChangePropagationSpecification> createChangePropagationSpecifications() {
+        // The initializer mirrors the initialization by the java transformations.
+        return Collections.<ChangePropagationSpecification> singletonList(
+                new SysML2ASEMJavaChangePropagationSpecification());
+    }
+
+    /**
+     * The initialized SysML model and primitive type repository must equal the models which were
+     * initialized by the transformations.
+     */
+    @Test
+    public void testIfInitializedModelsEqualTransformedModels() {
+
+        final InitializedProject project = this.initializeProject();
+
+        final Model transformedSysMLModel = (Model) this.getModelResource(sysmlProjectModelPath).getContents()
+                .get(0);
+        final PrimitiveTypeRepository transformedRepository = (PrimitiveTypeRepository) this
+                .getModelResource(ASEMSysMLPrimitiveTypeHelper.getPrimitiveTypeProjectModelPath()).getContents()
+                .get(0);
+
+        assertEquals("Unexpected SysML model name!", transformedSysMLModel.getName(),
+                project.getSysMLModel().getName());
+        assertEquals("Unexpected SysML primitive types!", getNames(transformedSysMLModel.getPackagedElements()),
+                getNames(project.getSysMLModel().getPackagedElements()));
+        assertEquals("Unexpected applied profiles!", getNames(transformedSysMLModel.getAllAppliedProfiles()),
+                getNames(project.getSysMLModel().getAllAppliedProfiles()));
+
+        assertEquals("Unexpected repository name!", transformedRepository.getName(),
+                project.getPrimitiveTypeRepository().getName());
+        assertEquals("Unexpected ASEM primitive types!", getTypeDescriptions(transformedRepository),
+                getTypeDescriptions(project.getPrimitiveTypeRepository()));
+    }
+
+    /**
+     * The initializer must create the models through the virtual model and, like the
+     * transformations, no correspondences for the primitive types.
+     */
+    @Test
+    public void testIfModelsAreCreatedThroughTheVirtualModel() {
+
+        final InitializedProject project = this.initializeProject();
+
+        final Resource sysmlResource = this
+                .getModelResource(INITIALIZED_PROJECT_DIRECTORY + sysmlProjectModelPath);
+        final Resource repositoryResource = this.getModelResource(
+                INITIALIZED_PROJECT_DIRECTORY + ASEMSysMLPrimitiveTypeHelper.getPrimitiveTypeProjectModelPath());
+
+        assertEquals("The SysML model was not created through the virtual model!", project.getSysMLModel(),
+                sysmlResource.getContents().get(0));
+        assertEquals("The repository was not created through the virtual model!",
+                project.getPrimitiveTypeRepository(), repositoryResource.getContents().get(0));
+
+        for (PrimitiveType asemType : project.getPrimitiveTypeRepository().getPrimitiveTypes()) {
+            assertTrue("The ASEM primitive type " + asemType.getName() + " has a correspondence!", ASEMSysMLHelper
+                    .getCorrespondingSysMLElements(this.getCorrespondenceModel(), asemType).isEmpty());
+        }
+    }
+
+    private InitializedProject initializeProject() {
+
+        return ASEMSysMLProjectInitializer.initialize(this.getCorrespondenceModel().getResource().getResourceSet(),
+                INITIALIZED_PROJECT_DIRECTORY, new ModelCreator() {
+                    @Override
+                    public void createAndSynchronizeModel(final String projectModelPath,
+                            final EObject rootElement) {
+                        createAndSynchronizeModelWrapper(projectModelPath, rootElement);
+                    }
+                });
+    }
+
+    private static List<String> getNames(final List<? extends NamedElement> elements) {
+
+        final List<String> names = new ArrayList<String>();
+
+        for (NamedElement element : elements) {
+            names.add((element instanceof Profile) ? ((Profile) element).getQualifiedName() : element.getName());
+        }
+
+        return names;
+    }
+
+    private static List<String> getTypeDescriptions(final PrimitiveTypeRepository repository) {
+
+        final List<String> descriptions = new ArrayList<String>();
+
+        for (PrimitiveType primitiveType : repository.getPrimitiveTypes()) {
+            descriptions.add(primitiveType.eClass().getName() + ":" + primitiveType.getName());
+        }
+
+        return descriptions;
+    }
+}
@@ -0,0 +1,70 @@
+package tools.vitruv.applications.asemsysml.tests.sysml2asem.testcases;
+
+import static org.junit.Assert.assertSame;
+
+import org.eclipse.emf.ecore.resource.Resource;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import edu.kit.ipd.sdq.ASEM.classifiers.Module;
+import tools.vitruv.applications.asemsysml.ASEMSysMLResourceFormat;
+import tools.vitruv.applications.asemsysml.tests.sysml2asem.SysML2ASEMTest;
+import tools.vitruv.applications.asemsysml.tests.util.ASEMSysMLTestHelper;
+
+/**
+ * Class for all test cases checking that the transformations install the configured
+ * {@link ASEMSysMLResourceFormat resource format} without the help of the test case.
+ * 
+ * @author Benjamin Rupp
+ *
+ */
+public class ResourceFormatInstallationTest extends SysML2ASEMTest {
+
+    private static final String BLOCK_NAME = "FormattedBlock";
+
+    private static String configuredFormat;
+
+    /**
+     * Configure the binary format, which is not the default format, before the change propagation
+     * specification is created.
+     */
+    @BeforeClass
+    public static void configureBinaryFormat() {
+        configuredFormat = System.setProperty(ASEMSysMLResourceFormat.PROPERTY_RESOURCE_FORMAT,
+                ASEMSysMLResourceFormat.BINARY.name());
+    }
+
+    /**
+     * Restore the configured format of the other test cases.
+     */
+    @AfterClass
+    public static void restoreConfiguredFormat() {
+        if (configuredFormat == null) {
+            System.clearProperty(ASEMSysMLResourceFormat.PROPERTY_RESOURCE_FORMAT);
+        } else {
+            System.setProperty(ASEMSysMLResourceFormat.PROPERTY_RESOURCE_FORMAT, configuredFormat);
+        }
+    }
+
+    @Override
+    protected void installResourceFormat() {
+        // The format has to be installed by the change propagation specification.
+    }
+
+    /**
+     * The ASEM model which is created for a block must be saved in the configured format.
+     */
+    @Test
+    public void testIfCreatedASEMModelIsSavedInConfiguredFormat() {
+
+        final Resource sysmlModelResource = this.getModelResource(sysmlProjectModelPath);
+        ASEMSysMLTestHelper.createSysMLBlockAddToModelAndSync(sysmlModelResource, BLOCK_NAME, true, Module.class,
+                this);
+
+        final Resource asemModelResource = this.getASEMModelResource(BLOCK_NAME);
+
+        assertSame("The ASEM model was not saved in the configured format!", ASEMSysMLResourceFormat.BINARY,
+                ASEMSysMLResourceFormat.detectFormat(asemModelResource));
+    }
+}
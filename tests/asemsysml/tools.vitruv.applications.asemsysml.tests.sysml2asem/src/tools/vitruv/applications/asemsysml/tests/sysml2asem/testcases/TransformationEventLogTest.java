@@ -0,0 +1,197 @@
+package tools.vitruv.applications.asemsysml.tests.sysml2asem.testcases;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.log4j.AppenderSkeleton;
+import org.apache.log4j.Level;
+import org.apache.log4j.Logger;
+import org.apache.log4j.spi.LoggingEvent;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import edu.kit.ipd.sdq.ASEM.classifiers.Module;
+import tools.vitruv.applications.asemsysml.logging.TransformationEvent;
+import tools.vitruv.applications.asemsysml.logging.TransformationEventLog;
+import tools.vitruv.applications.asemsysml.logging.TransformationEventLogMode;
+import tools.vitruv.applications.asemsysml.tests.sysml2asem.SysML2ASEMTest;
+import tools.vitruv.applications.asemsysml.tests.util.ASEMSysMLTestHelper;
+
+/**
+ * Class for all test cases checking the output of the transformation event log in its different
+ * modes.
+ *
+ * @author Benjamin Rupp
+ *
+ */
+public class TransformationEventLogTest extends SysML2ASEMTest {
+
+    private static final String TRANSFORMATION_NAME = "test.TransformationEventLogTest";
+
+    private final Logger eventLogger = Logger.getLogger(TransformationEventLog.class);
+    private final List<String> messages = new ArrayList<String>();
+    private final AppenderSkeleton messageRecorder = new AppenderSkeleton() {
+
+        @Override
+        protected void append(final LoggingEvent event) {
+            messages.add(event.getRenderedMessage());
+        }
+
+        @Override
+        public boolean requiresLayout() {
+            return false;
+        }
+
+        @Override
+        public void close() {
+        }
+    };
+
+    private TransformationEventLogMode modeBefore;
+    private Level levelBefore;
+
+    @Before
+    public void recordEventLogMessages() {
+
+        this.modeBefore = TransformationEventLog.getMode();
+        this.levelBefore = this.eventLogger.getLevel();
+
+        this.eventLogger.setLevel(Level.INFO);
+        this.eventLogger.addAppender(this.messageRecorder);
+    }
+
+    @After
+    public void restoreEventLog() {
+
+        this.eventLogger.removeAppender(this.messageRecorder);
+        this.eventLogger.setLevel(this.levelBefore);
+
+        TransformationEventLog.setMode(this.modeBefore);
+        TransformationEventLog.setSamplingInterval(TransformationEventLog.getConfiguredSamplingInterval());
+    }
+
+    /**
+     * Without configuration, each event must be logged as the transformations did before the
+     * event log existed.
+     */
+    @Test
+    public void testIfEachEventIsLoggedByDefault() {
+
+        final String configuredMode = System.clearProperty(TransformationEventLog.PROPERTY_MODE);
+
+        try {
+            assertEquals("Unexpected default mode!", TransformationEventLogMode.FULL,
+                    TransformationEventLog.getConfiguredMode());
+        } finally {
+            if (configuredMode != null) {
+                System.setProperty(TransformationEventLog.PROPERTY_MODE, configuredMode);
+            }
+        }
+    }
+
+    /**
+     * In the full mode, the creation of a SysML block must be logged with the name of the block.
+     */
+    @Test
+    public void testIfFullModeLogsTransformationEvents() {
+
+        TransformationEventLog.setMode(TransformationEventLogMode.FULL);
+
+        final Resource sysmlModelResource = this.getModelResource(sysmlProjectModelPath);
+        ASEMSysMLTestHelper.createSysMLBlockAddToModelAndSync(sysmlModelResource, "LoggedBlock", true, Module.class,
+                this);
+
+        assertTrue("The block creation was not logged: " + this.messages,
+                this.containsMessage(TransformationEvent.ELEMENT_CREATED + " subject=LoggedBlock"));
+    }
+
+    /**
+     * In the off mode, the transformations must not log any event.
+     */
+    @Test
+    public void testIfOffModeLogsNothing() {
+
+        TransformationEventLog.setMode(TransformationEventLogMode.OFF);
+
+        final Resource sysmlModelResource = this.getModelResource(sysmlProjectModelPath);
+        ASEMSysMLTestHelper.createSysMLBlockAddToModelAndSync(sysmlModelResource, "SilentBlock", true, Module.class,
+                this);
+
+        assertTrue("Events were logged in the off mode: " + this.messages, this.messages.isEmpty());
+    }
+
+    /**
+     * In the sampled mode, only every n-th event must be logged.
+     */
+    @Test
+    public void testIfSampledModeLogsEveryNthEvent() {
+
+        TransformationEventLog.setMode(TransformationEventLogMode.SAMPLED);
+        TransformationEventLog.setSamplingInterval(3);
+
+        for (int i = 0; i < 12; i++) {
+            TransformationEventLog.log(TRANSFORMATION_NAME, TransformationEvent.ELEMENT_CREATED, i);
+        }
+
+        assertEquals("Unexpected number of sampled events!", 4, this.messages.size());
+    }
+
+    /**
+     * In the summary mode, the events must only be counted and logged as summary when the mode is
+     * left.
+     */
+    @Test
+    public void testIfSummaryModeLogsCountsOnly() {
+
+        TransformationEventLog.setMode(TransformationEventLogMode.SUMMARY);
+
+        for (int i = 0; i < 3; i++) {
+            TransformationEventLog.log(TRANSFORMATION_NAME, TransformationEvent.ELEMENT_DELETED, i);
+        }
+
+        assertTrue("Events were logged in the summary mode: " + this.messages, this.messages.isEmpty());
+
+        TransformationEventLog.setMode(TransformationEventLogMode.OFF);
+
+        assertTrue("The summary was not logged: " + this.messages, this.containsMessage(
+                TRANSFORMATION_NAME + " SUMMARY " + TransformationEvent.ELEMENT_DELETED + "=3"));
+    }
+
+    /**
+     * A sampling interval which is not positive must be raised to 1 instead of breaking the
+     * sampled mode.
+     */
+    @Test
+    public void testIfInvalidSamplingIntervalIsRaised() {
+
+        final String configuredInterval = System.setProperty(TransformationEventLog.PROPERTY_SAMPLING_INTERVAL,
+                "0");
+
+        try {
+            assertEquals("Invalid sampling interval was not raised!", 1,
+                    TransformationEventLog.getConfiguredSamplingInterval());
+        } finally {
+            if (configuredInterval == null) {
+                System.clearProperty(TransformationEventLog.PROPERTY_SAMPLING_INTERVAL);
+            } else {
+                System.setProperty(TransformationEventLog.PROPERTY_SAMPLING_INTERVAL, configuredInterval);
+            }
+        }
+    }
+
+    private boolean containsMessage(final String part) {
+
+        for (String message : this.messages) {
+            if (message.contains(part)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+}
@@ -0,0 +1,64 @@
+package tools.vitruv.applications.asemsysml.tests.sysml2asem.testcases;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.eclipse.emf.ecore.resource.Resource;
+import org.junit.Test;
+
+import edu.kit.ipd.sdq.ASEM.classifiers.Module;
+import tools.vitruv.applications.asemsysml.metrics.TransformationMetrics;
+import tools.vitruv.applications.asemsysml.metrics.TransformationMetricsRegistry;
+import tools.vitruv.applications.asemsysml.tests.ASEMSysMLTest;
+import tools.vitruv.applications.asemsysml.tests.sysml2asem.SysML2ASEMTest;
+import tools.vitruv.applications.asemsysml.tests.util.ASEMSysMLTestHelper;
+import tools.vitruv.applications.asemsysml.tests.util.ASEMSysMLTestHelper.TransformationType;
+
+/**
+ * Class for all test cases checking the metrics which are recorded during the transformation
+ * executions.
+ * 
+ * @author Benjamin Rupp
+ * 
+ */
+public class TransformationMetricsTest extends SysML2ASEMTest {
+
+    /**
+     * The creation of a SysML block must be recorded as invocation of the block transformation,
+     * which persists exactly one ASEM model.
+     */
+    @Test
+    public void testIfBlockTransformationIsRecorded() {
+
+        final TransformationMetrics blockMetrics = getBlockTransformationMetrics();
+        final long invocationsBefore = blockMetrics.getInvocations();
+        final long failuresBefore = blockMetrics.getFailures();
+        final long persistedElementsBefore = blockMetrics.getPersistedElements();
+        final long executionTimesBefore = blockMetrics.getExecutionTimes().getCount();
+
+        final Resource sysmlModelResource = this.getModelResource(sysmlProjectModelPath);
+        ASEMSysMLTestHelper.createSysMLBlockAddToModelAndSync(sysmlModelResource, "MeasuredBlock", true,
+                Module.class, this);
+
+        assertEquals("Unexpected number of block transformation invocations!", invocationsBefore + 1,
+                blockMetrics.getInvocations());
+        assertEquals("Unexpected number of failed block transformations!", failuresBefore,
+                blockMetrics.getFailures());
+        assertEquals("Unexpected number of persisted elements!", persistedElementsBefore + 1,
+                blockMetrics.getPersistedElements());
+        assertEquals("The execution time was not recorded!", executionTimesBefore + 1,
+                blockMetrics.getExecutionTimes().getCount());
+        assertTrue("The block transformation metrics are not queryable!",
+                TransformationMetricsRegistry.getAllMetrics().containsValue(blockMetrics));
+    }
+
+    private static TransformationMetrics getBlockTransformationMetrics() {
+
+        if (ASEMSysMLTest.getTransformationType() == TransformationType.JAVA) {
+            return TransformationMetricsRegistry
+                    .getMetrics(TransformationMetricsRegistry.JAVA_PREFIX + "sysml2asem.BlockTransformation");
+        }
+
+        return TransformationMetricsRegistry.getReactionMetrics("sysml2asem", "SysMLBlockIsEncapsulatedChanged");
+    }
+}
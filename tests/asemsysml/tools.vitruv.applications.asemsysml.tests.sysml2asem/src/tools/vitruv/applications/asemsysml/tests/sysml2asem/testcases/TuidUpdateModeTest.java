@@ -0,0 +1,141 @@
+package tools.vitruv.applications.asemsysml.tests.sysml2asem.testcases;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.papyrus.sysml14.blocks.Block;
+import org.eclipse.uml2.uml.Model;
+import org.eclipse.uml2.uml.Port;
+import org.eclipse.uml2.uml.PrimitiveType;
+import org.junit.Test;
+
+import edu.kit.ipd.sdq.ASEM.base.Named;
+import edu.kit.ipd.sdq.ASEM.classifiers.Module;
+import tools.vitruv.applications.asemsysml.ASEMSysMLHelper;
+import tools.vitruv.applications.asemsysml.ASEMSysMLPrimitiveTypeHelper;
+import tools.vitruv.applications.asemsysml.java.sysml2asem.global.SysML2ASEMJavaChangePropagationSpecification;
+import tools.vitruv.applications.asemsysml.java.sysml2asem.global.TuidUpdateMode;
+import tools.vitruv.applications.asemsysml.tests.sysml2asem.SysML2ASEMTest;
+import tools.vitruv.applications.asemsysml.tests.util.ASEMSysMLAssertionHelper;
+import tools.vitruv.applications.asemsysml.tests.util.ASEMSysMLModelGenerator;
+import tools.vitruv.framework.change.processing.ChangePropagationSpecification;
+
+/**
+ * Class for all test cases checking when the java transformations update the TUIDs in the
+ * different {@link TuidUpdateMode TUID update modes}.
+ *
+ * @author Benjamin Rupp
+ *
+ */
+public class TuidUpdateModeTest extends SysML2ASEMTest {
+
+    private static final long SEED = 1234;
+    private static final int NUMBER_OF_PORTS = 4;
+
+    private SysML2ASEMJavaChangePropagationSpecification specification;
+
+    @Override
+    protected Iterable<ChangePropagationSpecification> createChangePropagationSpecifications() {
+        // The TUID update modes are a feature of the java transformations only.
+        this.specification = new SysML2ASEMJavaChangePropagationSpecification();
+        return Collections.<ChangePropagationSpecification> singletonList(this.specification);
+    }
+
+    /**
+     * In immediate mode, the TUIDs must be updated as soon as a transformation modified an object.
+     */
+    @Test
+    public void testIfImmediateModeUpdatesImmediately() {
+
+        final long deferredUpdatesBefore = this.specification.getNumberOfDeferredTuidUpdates();
+        final long immediateUpdatesBefore = this.specification.getNumberOfImmediateTuidUpdates();
+
+        this.propagateBlockWithPorts(TuidUpdateMode.IMMEDIATE, "ImmediateBlock");
+
+        // At least the block and each port got a correspondence.
+        assertTrue("The TUIDs were not updated immediately!",
+                this.specification.getNumberOfImmediateTuidUpdates() - immediateUpdatesBefore > NUMBER_OF_PORTS);
+        assertEquals("TUID updates were deferred!", deferredUpdatesBefore,
+                this.specification.getNumberOfDeferredTuidUpdates());
+    }
+
+    /**
+     * In per transformation mode, the TUIDs must be updated once at the end of each
+     * transformation which modified an object.
+     */
+    @Test
+    public void testIfPerTransformationModeDefersUpdates() {
+
+        final long immediateUpdatesBefore = this.specification.getNumberOfImmediateTuidUpdates();
+        final long deferredUpdatesBefore = this.specification.getNumberOfDeferredTuidUpdates();
+
+        this.propagateBlockWithPorts(TuidUpdateMode.PER_TRANSFORMATION, "PerTransformationBlock");
+
+        assertEquals("TUID updates were not deferred!", immediateUpdatesBefore,
+                this.specification.getNumberOfImmediateTuidUpdates());
+        assertTrue("The TUIDs were not updated per transformation!",
+                this.specification.getNumberOfDeferredTuidUpdates() - deferredUpdatesBefore > NUMBER_OF_PORTS);
+    }
+
+    /**
+     * In per batch mode, the TUIDs must be updated once at the end of each propagated change, i.e.
+     * less often than at the end of each transformation.
+     */
+    @Test
+    public void testIfPerBatchModeDefersUpdatesToTheEndOfTheChange() {
+
+        final long immediateUpdatesBefore = this.specification.getNumberOfImmediateTuidUpdates();
+
+        long deferredUpdatesBefore = this.specification.getNumberOfDeferredTuidUpdates();
+        this.propagateBlockWithPorts(TuidUpdateMode.PER_TRANSFORMATION, "PerTransformationBlock");
+        final long perTransformationUpdates = this.specification.getNumberOfDeferredTuidUpdates()
+                - deferredUpdatesBefore;
+
+        deferredUpdatesBefore = this.specification.getNumberOfDeferredTuidUpdates();
+        this.propagateBlockWithPorts(TuidUpdateMode.PER_BATCH, "PerBatchBlock");
+        final long perBatchUpdates = this.specification.getNumberOfDeferredTuidUpdates() - deferredUpdatesBefore;
+
+        assertEquals("TUID updates were not deferred!", immediateUpdatesBefore,
+                this.specification.getNumberOfImmediateTuidUpdates());
+        assertTrue("The TUIDs were not updated per batch!", perBatchUpdates > 0);
+        assertTrue("The TUIDs were updated per transformation instead of per batch!",
+                perBatchUpdates < perTransformationUpdates);
+    }
+
+    /**
+     * Create a block with ports in one change and rename the ports afterwards. The renaming only
+     * succeeds if the TUIDs of the ASEM messages were updated correctly.
+     */
+    private void propagateBlockWithPorts(final TuidUpdateMode mode, final String blockName) {
+
+        this.specification.setTuidUpdateMode(mode);
+
+        final Resource sysmlResource = this.getModelResource(sysmlProjectModelPath);
+        final Model sysmlModel = (Model) sysmlResource.getContents().get(0);
+        final List<PrimitiveType> portTypes = Arrays.asList(ASEMSysMLPrimitiveTypeHelper.PRIMITIVE_TYPE_BOOLEAN,
+                ASEMSysMLPrimitiveTypeHelper.PRIMITIVE_TYPE_INTEGER);
+
+        final ASEMSysMLModelGenerator generator = new ASEMSysMLModelGenerator(SEED);
+        final Block block = generator.createSysMLBlocks(sysmlModel, blockName, 1).get(0);
+        generator.createSysMLPorts(block, "Port", NUMBER_OF_PORTS, portTypes);
+
+        this.setNextUserInteractorSelection(Module.class);
+        this.saveAndSynchronizeChangesWrapper(sysmlModel);
+
+        for (Port port : block.getBase_Class().getOwnedPorts()) {
+
+            port.setName(port.getName() + "-Renamed");
+            this.saveAndSynchronizeChangesWrapper(port);
+
+            ASEMSysMLAssertionHelper.assertPortWasTransformedAsExpected(port, sysmlResource,
+                    this.getCorrespondenceModel());
+            assertEquals("ASEM message was not renamed!", port.getName(), ASEMSysMLHelper
+                    .getFirstCorrespondingASEMElement(this.getCorrespondenceModel(), port, Named.class).getName());
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package tools.vitruv.applications.asemsysml.tests.sysml2asem.testcases;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.papyrus.sysml14.blocks.Block;
+import org.eclipse.papyrus.sysml14.portsandflows.FlowDirection;
+import org.eclipse.uml2.uml.Port;
+import org.junit.Test;
+
+import edu.kit.ipd.sdq.ASEM.base.TypedElement;
+import edu.kit.ipd.sdq.ASEM.classifiers.Module;
+import tools.vitruv.applications.asemsysml.ASEMSysMLHelper;
+import tools.vitruv.applications.asemsysml.ASEMSysMLPrimitiveTypeHelper;
+import tools.vitruv.applications.asemsysml.java.sysml2asem.global.SysML2ASEMJavaChangePropagationSpecification;
+import tools.vitruv.applications.asemsysml.metrics.TransformationMetrics;
+import tools.vitruv.applications.asemsysml.metrics.TransformationMetricsRegistry;
+import tools.vitruv.applications.asemsysml.tests.sysml2asem.SysML2ASEMTest;
+import tools.vitruv.applications.asemsysml.tests.util.ASEMSysMLTestHelper;
+import tools.vitruv.framework.change.processing.ChangePropagationSpecification;
+
+/**
+ * Class for all test cases checking that the java transformations skip the persistence of ASEM
+ * models which were not modified since they were saved the last time.
+ *
+ * @author Benjamin Rupp
+ *
+ */
+public class UnmodifiedModelPersistenceTest extends SysML2ASEMTest {
+
+    private static final String BLOCK_NAME = "PersistedBlock";
+
+    @Override
+    protected Iterable<ChangePropagationSpecification> createChangePropagationSpecifications() {
+        // Skipping the persistence of unmodified models is a feature of the java transformations only.
+        return Collections.<ChangePropagationSpecification> singletonList(
+                new SysML2ASEMJavaChangePropagationSpecification());
+    }
+
+    /**
+     * Changing the type of a port between two SysML types without ASEM counterpart (string and
+     * unlimited natural) does not modify the ASEM message. The persistence of the ASEM model must
+     * be skipped and the model file must not change. A following type change which modifies the
+     * message must be persisted through the virtual model again.
+     */
+    @Test
+    public void testIfUnmodifiedModelIsNotPersisted() throws IOException {
+
+        final TransformationMetrics portTypeMetrics = TransformationMetricsRegistry
+                .getMetrics(TransformationMetricsRegistry.JAVA_PREFIX + "sysml2asem.PortTypeTransformation");
+
+        final Resource sysmlModelResource = this.getModelResource(sysmlProjectModelPath);
+        final Block block = ASEMSysMLTestHelper.createSysMLBlockAddToModelAndSync(sysmlModelResource, BLOCK_NAME,
+                true, Module.class, this);
+        final Port port = ASEMSysMLTestHelper.createUMLPortAddToBlockAndSync(block, "Port", FlowDirection.IN,
+                ASEMSysMLPrimitiveTypeHelper.PRIMITIVE_TYPE_STRING, this);
+
+        final Resource asemModelResource = this.getASEMModelResource(BLOCK_NAME);
+        final byte[] savedContent = readModelFile(asemModelResource);
+
+        long persistedElementsBefore = portTypeMetrics.getPersistedElements();
+        long skippedPersistencesBefore = portTypeMetrics.getSkippedPersistences();
+
+        port.setType(ASEMSysMLPrimitiveTypeHelper.PRIMITIVE_TYPE_UNLIMITED_NATURAL);
+        this.saveAndSynchronizeChangesWrapper(port);
+
+        assertNull("Unexpected type of the ASEM message!", this.getCorrespondingMessage(port).getType());
+        assertEquals("The persistence of the unmodified model was not skipped!", skippedPersistencesBefore + 1,
+                portTypeMetrics.getSkippedPersistences());
+        assertEquals("The unmodified model was persisted!", persistedElementsBefore,
+                portTypeMetrics.getPersistedElements());
+        assertArrayEquals("The unmodified model file was changed!", savedContent, readModelFile(asemModelResource));
+
+        persistedElementsBefore = portTypeMetrics.getPersistedElements();
+        skippedPersistencesBefore = portTypeMetrics.getSkippedPersistences();
+
+        port.setType(ASEMSysMLPrimitiveTypeHelper.PRIMITIVE_TYPE_BOOLEAN);
+        this.saveAndSynchronizeChangesWrapper(port);
+
+        assertEquals("The modified model was not persisted!", persistedElementsBefore + 1,
+                portTypeMetrics.getPersistedElements());
+        assertEquals("The persistence of the modified model was skipped!", skippedPersistencesBefore,
+                portTypeMetrics.getSkippedPersistences());
+        assertFalse("The modified model was not saved!", asemModelResource.isModified());
+        assertFalse("The modified model file was not changed!",
+                Arrays.equals(savedContent, readModelFile(asemModelResource)));
+    }
+
+    private TypedElement getCorrespondingMessage(final Port port) {
+        return ASEMSysMLHelper.getFirstCorrespondingASEMElement(this.getCorrespondenceModel(), port,
+                TypedElement.class);
+    }
+
+    private static byte[] readModelFile(final Resource resource) throws IOException {
+
+        final ByteArrayOutputStream content = new ByteArrayOutputStream();
+
+        try (InputStream input = resource.getResourceSet().getURIConverter().createInputStream(resource.getURI())) {
+            final byte[] buffer = new byte[4096];
+            int length;
+            while ((length = input.read(buffer)) != -1) {
+                content.write(buffer, 0, length);
+            }
+        }
+
+        return content.toByteArray();
+    }
+}
@@ -9,6 +9,7 @@ import org.eclipse.emf.ecore.resource.Resource;
 
 import edu.kit.ipd.sdq.ASEM.classifiers.Component;
 import tools.vitruv.applications.asemsysml.ASEMSysMLHelper;
+import tools.vitruv.applications.asemsysml.ASEMSysMLResourceFormat;
 import tools.vitruv.applications.asemsysml.ASEMSysMLUserInteractionHelper;
 import tools.vitruv.applications.asemsysml.tests.util.ASEMSysMLTestHelper;
 import tools.vitruv.applications.asemsysml.tests.util.ASEMSysMLTestHelper.TransformationType;
@@ -33,6 +34,16 @@ public abstract class ASEMSysMLTest extends VitruviusApplicationTest {
     protected final String sysmlProjectModelPath = ASEMSysMLHelper.getProjectModelPath(TEST_SYSML_MODEL_NAME,
             SysMlNamspace.FILE_EXTENSION);
 
+    /**
+     * Install the {@link ASEMSysMLResourceFormat#getConfiguredFormat() configured format} of the
+     * models into the resource set of the virtual model. Call this method in the setup of the test
+     * case before the test models are created. The change propagation specifications install the
+     * format themselves, but only when the first change is propagated.
+     */
+    protected void installResourceFormat() {
+        ASEMSysMLResourceFormat.installConfiguredFormat(this.getCorrespondenceModel().getResource().getResourceSet());
+    }
+
     /*
      * TEST CASE methods. -------------------------------------------------------------------------
      * VitruviusEMFCasestudyTest methods which should be implemented.
@@ -83,6 +94,13 @@ public abstract class ASEMSysMLTest extends VitruviusApplicationTest {
         transformationType = type;
     }
 
+    /**
+     * @return The transformation type which is tested during the test execution.
+     */
+    public static TransformationType getTransformationType() {
+        return transformationType;
+    }
+
     /*
      * HELPER methods. -------------------------------------------------------------------------
      * Helper methods which are useful for all test cases and need information of the parent test
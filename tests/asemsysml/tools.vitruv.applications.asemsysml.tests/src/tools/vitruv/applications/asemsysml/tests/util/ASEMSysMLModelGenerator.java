@@ -0,0 +1,328 @@
+package tools.vitruv.applications.asemsysml.tests.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.eclipse.papyrus.sysml14.blocks.Block;
+import org.eclipse.papyrus.sysml14.blocks.BlocksPackage;
+import org.eclipse.papyrus.sysml14.portsandflows.FlowDirection;
+import org.eclipse.uml2.uml.AggregationKind;
+import org.eclipse.uml2.uml.Class;
+import org.eclipse.uml2.uml.Model;
+import org.eclipse.uml2.uml.Port;
+import org.eclipse.uml2.uml.Property;
+import org.eclipse.uml2.uml.Type;
+import org.eclipse.uml2.uml.util.UMLUtil.StereotypeApplicationHelper;
+
+import edu.kit.ipd.sdq.ASEM.classifiers.Classifier;
+import edu.kit.ipd.sdq.ASEM.classifiers.ClassifiersFactory;
+import edu.kit.ipd.sdq.ASEM.classifiers.Component;
+import edu.kit.ipd.sdq.ASEM.classifiers.Module;
+import edu.kit.ipd.sdq.ASEM.dataexchange.Constant;
+import edu.kit.ipd.sdq.ASEM.dataexchange.DataexchangeFactory;
+import edu.kit.ipd.sdq.ASEM.dataexchange.Message;
+import edu.kit.ipd.sdq.ASEM.dataexchange.Method;
+import edu.kit.ipd.sdq.ASEM.dataexchange.Parameter;
+import edu.kit.ipd.sdq.ASEM.dataexchange.ReturnType;
+
+/**
+ * A generator for large SysML and ASEM models which can be used for load and scale tests. <br>
+ * <br>
+ * 
+ * In contrast to the {@link ASEMSysMLTestHelper}, the generator does <i>not</i> save and
+ * synchronize the models after adding an element. The caller is responsible for synchronizing the
+ * generated elements, e.g. by saving and synchronizing the SysML model once or by creating an ASEM
+ * model for each generated ASEM component. Since the transformations ask the user for some
+ * decisions (e.g. the ASEM component type of a block), the caller has to prepare the user
+ * interactions for the generated elements, too. <br>
+ * <br>
+ * 
+ * All random decisions (e.g. port directions and types) are taken with a random number generator
+ * with the given seed. Therefore the same sequence of generator calls with the same seed always
+ * generates the same models.
+ * 
+ * @author Benjamin Rupp
+ * 
+ */
+public final class ASEMSysMLModelGenerator {
+
+    private final Random random;
+
+    /**
+     * Create a new model generator.
+     * 
+     * @param seed
+     *            The seed for all random decisions of the generator.
+     */
+    public ASEMSysMLModelGenerator(final long seed) {
+        this.random = new Random(seed);
+    }
+
+    /**
+     * Create SysML blocks and add them to the given SysML model.
+     * 
+     * @param sysmlModel
+     *            The SysML model the blocks shall be added to. The SysML profile must be applied.
+     * @param namePrefix
+     *            The name prefix of the blocks. The blocks are numbered consecutively.
+     * @param numberOfBlocks
+     *            The number of blocks to create.
+     * @return The created blocks in the order of their creation.
+     */
+    public List<Block> createSysMLBlocks(final Model sysmlModel, final String namePrefix, final int numberOfBlocks) {
+
+        final List<Block> blocks = new ArrayList<Block>(numberOfBlocks);
+
+        for (int b = 0; b < numberOfBlocks; b++) {
+            blocks.add(createSysMLBlock(sysmlModel, namePrefix + b));
+        }
+
+        return blocks;
+    }
+
+    /**
+     * Create a hierarchy of SysML blocks which are connected by part references. Each block of the
+     * hierarchy, except the blocks of the lowest level, has the given number of parts which are
+     * typed by blocks of the next level.
+     * 
+     * @param sysmlModel
+     *            The SysML model the blocks shall be added to. The SysML profile must be applied.
+     * @param namePrefix
+     *            The name prefix of the blocks. The name of a block contains its path in the
+     *            hierarchy, e.g. <i>prefix_0_2</i>.
+     * @param depth
+     *            The number of levels of the hierarchy. A depth of <code>1</code> creates the root
+     *            block only.
+     * @param partsPerBlock
+     *            The number of parts of each block.
+     * @return All blocks of the hierarchy in pre-order. The first block is the root block.
+     */
+    public List<Block> createSysMLPartHierarchy(final Model sysmlModel, final String namePrefix, final int depth,
+            final int partsPerBlock) {
+
+        if (depth < 1 || partsPerBlock < 0) {
+            throw new IllegalArgumentException("Invalid part hierarchy: depth " + depth + ", parts per block "
+                    + partsPerBlock);
+        }
+
+        final List<Block> blocks = new ArrayList<Block>();
+        this.createSysMLPartHierarchy(sysmlModel, namePrefix, depth, partsPerBlock, blocks);
+
+        return blocks;
+    }
+
+    /**
+     * Create ports with random flow directions and random types and add them to the given block.
+     * 
+     * @param block
+     *            The block the ports shall be added to.
+     * @param namePrefix
+     *            The name prefix of the ports. The ports are numbered consecutively.
+     * @param numberOfPorts
+     *            The number of ports to create.
+     * @param portTypes
+     *            The types the port types are chosen from, e.g. the primitive types of the SysML
+     *            model or the base classes of blocks.
+     * @return The created ports in the order of their creation.
+     */
+    public List<Port> createSysMLPorts(final Block block, final String namePrefix, final int numberOfPorts,
+            final List<? extends Type> portTypes) {
+
+        final List<Port> ports = new ArrayList<Port>(numberOfPorts);
+
+        for (int p = 0; p < numberOfPorts; p++) {
+            final FlowDirection flowDirection = this.random.nextBoolean() ? FlowDirection.IN : FlowDirection.OUT;
+            ports.add(ASEMSysMLTestHelper.addPortToBlock(block, namePrefix + p, flowDirection,
+                    this.chooseType(portTypes)));
+        }
+
+        return ports;
+    }
+
+    /**
+     * Create ASEM modules with messages of random types and random access properties.
+     * 
+     * @param namePrefix
+     *            The name prefix of the modules. The modules are numbered consecutively.
+     * @param numberOfModules
+     *            The number of modules to create.
+     * @param messagesPerModule
+     *            The number of messages of each module.
+     * @param messageTypes
+     *            The types the message types are chosen from, e.g. ASEM primitive types.
+     * @return The created modules. Each module has to be added to its own ASEM model.
+     */
+    public List<Module> createASEMModules(final String namePrefix, final int numberOfModules,
+            final int messagesPerModule, final List<? extends Classifier> messageTypes) {
+
+        final List<Module> modules = new ArrayList<Module>(numberOfModules);
+
+        for (int m = 0; m < numberOfModules; m++) {
+
+            final Module module = ClassifiersFactory.eINSTANCE.createModule();
+            module.setName(namePrefix + m);
+
+            for (int i = 0; i < messagesPerModule; i++) {
+
+                final boolean writable = this.random.nextBoolean();
+
+                final Message message = DataexchangeFactory.eINSTANCE.createMessage();
+                message.setName("Message" + i);
+                message.setReadable(!writable);
+                message.setWritable(writable);
+                message.setType(this.chooseType(messageTypes));
+                module.getTypedElements().add(message);
+            }
+
+            modules.add(module);
+        }
+
+        return modules;
+    }
+
+    /**
+     * Create ASEM classes with methods. Each method has the given number of parameters and, by
+     * chance, a return type. The types of the parameters and return types are chosen randomly.
+     * 
+     * @param namePrefix
+     *            The name prefix of the classes. The classes are numbered consecutively.
+     * @param numberOfClasses
+     *            The number of classes to create.
+     * @param methodsPerClass
+     *            The number of methods of each class.
+     * @param parametersPerMethod
+     *            The number of parameters of each method.
+     * @param types
+     *            The types the parameter and return types are chosen from.
+     * @return The created classes. Each class has to be added to its own ASEM model.
+     */
+    public List<edu.kit.ipd.sdq.ASEM.classifiers.Class> createASEMClasses(final String namePrefix,
+            final int numberOfClasses, final int methodsPerClass, final int parametersPerMethod,
+            final List<? extends Classifier> types) {
+
+        final List<edu.kit.ipd.sdq.ASEM.classifiers.Class> classes = new ArrayList<edu.kit.ipd.sdq.ASEM.classifiers.Class>(
+                numberOfClasses);
+
+        for (int c = 0; c < numberOfClasses; c++) {
+
+            final edu.kit.ipd.sdq.ASEM.classifiers.Class asemClass = ClassifiersFactory.eINSTANCE.createClass();
+            asemClass.setName(namePrefix + c);
+
+            for (int m = 0; m < methodsPerClass; m++) {
+                asemClass.getMethods().add(this.createASEMMethod("Method" + m, parametersPerMethod, types));
+            }
+
+            classes.add(asemClass);
+        }
+
+        return classes;
+    }
+
+    /**
+     * Add constants to the given ASEM components. Each constant references a randomly chosen ASEM
+     * class, but never the component which contains the constant.
+     * 
+     * @param components
+     *            The components the constants shall be added to.
+     * @param constantsPerComponent
+     *            The number of constants of each component.
+     * @param constantTypes
+     *            The ASEM classes the constants can reference.
+     * @return All created constants.
+     */
+    public List<Constant> createASEMConstants(final List<? extends Component> components,
+            final int constantsPerComponent, final List<edu.kit.ipd.sdq.ASEM.classifiers.Class> constantTypes) {
+
+        final List<Constant> constants = new ArrayList<Constant>();
+
+        for (Component component : components) {
+
+            final List<edu.kit.ipd.sdq.ASEM.classifiers.Class> possibleTypes = new ArrayList<edu.kit.ipd.sdq.ASEM.classifiers.Class>(
+                    constantTypes);
+            possibleTypes.remove(component);
+
+            if (possibleTypes.isEmpty()) {
+                continue;
+            }
+
+            for (int k = 0; k < constantsPerComponent; k++) {
+
+                final Constant constant = DataexchangeFactory.eINSTANCE.createConstant();
+                constant.setName("Constant" + k);
+                constant.setType(this.chooseType(possibleTypes));
+                component.getTypedElements().add(constant);
+
+                constants.add(constant);
+            }
+        }
+
+        return constants;
+    }
+
+    private Method createASEMMethod(final String methodName, final int numberOfParameters,
+            final List<? extends Classifier> types) {
+
+        final Method method = DataexchangeFactory.eINSTANCE.createMethod();
+        method.setName(methodName);
+
+        for (int p = 0; p < numberOfParameters; p++) {
+
+            final Parameter parameter = DataexchangeFactory.eINSTANCE.createParameter();
+            parameter.setName("parameter" + p);
+            parameter.setType(this.chooseType(types));
+            method.getParameters().add(parameter);
+        }
+
+        if (this.random.nextBoolean()) {
+
+            final ReturnType returnType = DataexchangeFactory.eINSTANCE.createReturnType();
+            returnType.setName("return");
+            returnType.setType(this.chooseType(types));
+            method.setReturnType(returnType);
+        }
+
+        return method;
+    }
+
+    private void createSysMLPartHierarchy(final Model sysmlModel, final String blockName, final int depth,
+            final int partsPerBlock, final List<Block> blocks) {
+
+        final Block block = createSysMLBlock(sysmlModel, blockName);
+        blocks.add(block);
+
+        if (depth == 1) {
+            return;
+        }
+
+        for (int k = 0; k < partsPerBlock; k++) {
+
+            final String partBlockName = blockName + "_" + k;
+            final int partBlockIndex = blocks.size();
+            this.createSysMLPartHierarchy(sysmlModel, partBlockName, depth - 1, partsPerBlock, blocks);
+
+            final Property partProperty = block.getBase_Class().createOwnedAttribute("part" + k,
+                    blocks.get(partBlockIndex).getBase_Class());
+            partProperty.setAggregation(AggregationKind.COMPOSITE_LITERAL);
+        }
+    }
+
+    private static Block createSysMLBlock(final Model sysmlModel, final String blockName) {
+
+        final Class baseClass = sysmlModel.createOwnedClass(blockName, false);
+        final Block block = (Block) StereotypeApplicationHelper.getInstance(null).applyStereotype(baseClass,
+                BlocksPackage.eINSTANCE.getBlock());
+        block.setIsEncapsulated(true);
+
+        return block;
+    }
+
+    private <T> T chooseType(final List<? extends T> types) {
+
+        if (types == null || types.isEmpty()) {
+            throw new IllegalArgumentException("At least one type must be given.");
+        }
+
+        return types.get(this.random.nextInt(types.size()));
+    }
+}
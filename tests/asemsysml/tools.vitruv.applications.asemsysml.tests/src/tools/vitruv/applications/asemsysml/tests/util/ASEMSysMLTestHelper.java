@@ -512,7 +512,11 @@ public final class ASEMSysMLTestHelper {
         return sysmlRootModel;
     }
 
-    private static Port addPortToBlock(final Block block, final String portName, final FlowDirection flowDirection,
+    /**
+     * Add a port with its flow property and the property it is bound to to the given block. The
+     * model is <i>not</i> synchronized.
+     */
+    static Port addPortToBlock(final Block block, final String portName, final FlowDirection flowDirection,
             final Type portType) {
 
         // A) Property with and SysML FlowProperty stereotype.